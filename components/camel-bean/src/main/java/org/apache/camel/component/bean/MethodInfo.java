@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -63,12 +66,15 @@ import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.util.ObjectHelper.asList;
 import static org.apache.camel.util.ObjectHelper.asString;
+import static org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType;
 
 /**
  * Information about a method to be used for invocation.
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -77,11 +83,18 @@ public class MethodInfo {
     private final List<ParameterInfo> bodyParameters;
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
-    private Expression parametersExpression;
+    private final Expression parametersExpression;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile boolean parametersExpressionInitialized;
+    // the method handle to invoke the method (created on first invocation), or null if reflection must be used
+    private volatile MethodHandle invoker;
+    private volatile boolean invokerCreated;
+    // the parameter types (and where primitive types are boxed), to check the arguments before using the method handle
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] boxedParameterTypes;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -121,6 +134,11 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.parameterTypes = method.getParameterTypes();
+        this.boxedParameterTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.boxedParameterTypes[i] = convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -258,7 +276,15 @@ public class MethodInfo {
     private Object[] initializeArguments(boolean hasParameters, Exchange exchange) {
         if (hasParameters) {
             if (parametersExpression != null) {
-                parametersExpression.init(camelContext);
+                // the parameter expressions are created once per method, so only init them once
+                if (!parametersExpressionInitialized) {
+                    synchronized (this) {
+                        if (!parametersExpressionInitialized) {
+                            parametersExpression.init(camelContext);
+                            parametersExpressionInitialized = true;
+                        }
+                    }
+                }
 
                 return parametersExpression.evaluate(exchange, Object[].class);
             }
@@ -490,6 +516,16 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        MethodHandle handle = mth == method ? getInvoker() : null;
+        if (handle != null && isInvokable(pojo, arguments)) {
+            Object[] args = arguments != null ? arguments : NO_ARGUMENTS;
+            try {
+                return handle.invokeExact(pojo, args);
+            } catch (Throwable e) {
+                // the arguments has been checked, so the exception is thrown by the method
+                throw new InvocationTargetException(e);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +539,63 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle to invoke the method, which is much faster than reflection, as the JVM can inline the
+     * method invocation. The method handle is created on first use, as most methods of a bean are never invoked.
+     */
+    private MethodHandle getInvoker() {
+        if (!invokerCreated) {
+            synchronized (this) {
+                if (!invokerCreated) {
+                    invoker = createInvoker();
+                    invokerCreated = true;
+                }
+            }
+        }
+        return invoker;
+    }
+
+    private MethodHandle createInvoker() {
+        try {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (isStaticMethod()) {
+                // ignore the bean instance as the method is static
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            // adapt to (Object bean, Object[] arguments) -> Object
+            return handle.asSpreader(Object[].class, boxedParameterTypes.length).asType(INVOKER_TYPE);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {} due to: {}. Reflection is used to invoke the method.",
+                    method, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the bean and arguments can be passed to the method handle as-is, otherwise reflection is used, which
+     * converts the arguments (such as widening primitive numbers), and reports invalid arguments the same way as
+     * before.
+     */
+    private boolean isInvokable(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != boxedParameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object argument = arguments[i];
+            if (argument == null ? parameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -161,6 +161,12 @@ public class CaffeineAggregationRepository extends ServiceSupport implements Rec
         return Collections.unmodifiableSet(keys);
     }
 
+    @Override
+    public boolean isLockStripingSupported() {
+        // the caffeine cache is thread-safe
+        return true;
+    }
+
     @Override
     public Set<String> scan(CamelContext camelContext) {
         LOG.trace("Scanning for exchanges to recover in {} context", camelContext.getName());
@@ -182,6 +182,12 @@ public class EhcacheAggregationRepository extends ServiceSupport implements Reco
         return Collections.unmodifiableSet(keys);
     }
 
+    @Override
+    public boolean isLockStripingSupported() {
+        // the ehcache cache is thread-safe
+        return true;
+    }
+
     @Override
     public Set<String> scan(CamelContext camelContext) {
         LOG.trace("Scanning for exchanges to recover in {} context", camelContext.getName());
@@ -18,8 +18,12 @@ package org.apache.camel.component.headersmap;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
-import org.junit.jupiter.api.Test;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -28,9 +32,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FastHeadersMapFactoryTest {
 
-    @Test
-    public void testLookupCaseAgnostic() {
-        Map<String, Object> map = new FastHeadersMapFactory().newMap();
+    private static Stream<HeadersMapFactory> factories() {
+        return Stream.of(new FastHeadersMapFactory(), new OpenAddressingHeadersMapFactory());
+    }
+
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testLookupCaseAgnostic(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -40,13 +49,14 @@ public class FastHeadersMapFactoryTest {
         assertEquals("cheese", map.get("FOO"));
     }
 
-    @Test
-    public void testConstructFromOther() {
-        Map<String, Object> other = new FastHeadersMapFactory().newMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testConstructFromOther(HeadersMapFactory factory) {
+        Map<String, Object> other = factory.newMap();
         other.put("Foo", "cheese");
         other.put("bar", 123);
 
-        Map<String, Object> map = new FastHeadersMapFactory().newMap(other);
+        Map<String, Object> map = factory.newMap(other);
 
         assertEquals("cheese", map.get("FOO"));
         assertEquals("cheese", map.get("foo"));
@@ -57,17 +67,18 @@ public class FastHeadersMapFactoryTest {
         assertEquals(123, map.get("BaR"));
     }
 
-    @Test
-    public void testIsInstance() {
-        Map<String, Object> map = new FastHeadersMapFactory().newMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testIsInstance(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
 
-        Map<String, Object> other = new FastHeadersMapFactory().newMap(map);
+        Map<String, Object> other = factory.newMap(map);
         other.put("Foo", "cheese");
         other.put("bar", 123);
 
-        assertTrue(new FastHeadersMapFactory().isInstanceOf(map));
-        assertTrue(new FastHeadersMapFactory().isInstanceOf(other));
-        assertFalse(new FastHeadersMapFactory().isInstanceOf(new HashMap<>()));
+        assertTrue(factory.isInstanceOf(map));
+        assertTrue(factory.isInstanceOf(other));
+        assertFalse(factory.isInstanceOf(new HashMap<>()));
     }
 
 }
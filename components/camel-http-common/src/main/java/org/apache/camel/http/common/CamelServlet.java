@@ -398,15 +398,17 @@ public class CamelServlet extends HttpServlet implements HttpRegistryProvider {
     }
 
     @Override
-    public void connect(HttpConsumer consumer) {
+    public synchronized void connect(HttpConsumer consumer) {
         log.debug("Connecting consumer: {}", consumer);
         consumers.put(consumer.getEndpoint().getEndpointUri(), consumer);
+        getServletResolveConsumerStrategy().onConsumersChanged(getConsumers());
     }
 
     @Override
-    public void disconnect(HttpConsumer consumer) {
+    public synchronized void disconnect(HttpConsumer consumer) {
         log.debug("Disconnecting consumer: {}", consumer);
         consumers.remove(consumer.getEndpoint().getEndpointUri());
+        getServletResolveConsumerStrategy().onConsumersChanged(getConsumers());
     }
 
     @Override
@@ -422,8 +424,12 @@ public class CamelServlet extends HttpServlet implements HttpRegistryProvider {
         return servletResolveConsumerStrategy;
     }
 
-    public void setServletResolveConsumerStrategy(ServletResolveConsumerStrategy servletResolveConsumerStrategy) {
+    public synchronized void setServletResolveConsumerStrategy(
+            ServletResolveConsumerStrategy servletResolveConsumerStrategy) {
         this.servletResolveConsumerStrategy = servletResolveConsumerStrategy;
+        if (!consumers.isEmpty()) {
+            servletResolveConsumerStrategy.onConsumersChanged(getConsumers());
+        }
     }
 
     public boolean isAsync() {
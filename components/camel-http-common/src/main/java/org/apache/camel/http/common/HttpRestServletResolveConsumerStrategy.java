@@ -17,18 +17,31 @@
 package org.apache.camel.http.common;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathTrie;
 
 /**
  * A {@link org.apache.camel.http.common.HttpServletResolveConsumerStrategy} that supports the Rest DSL.
+ * <p/>
+ * The context paths of the consumers are matched using a trie, which is built when the consumers have changed. The
+ * trie is also rebuilt when resolving with another map of consumers, or when the number of consumers has changed
+ * without being notified.
  */
 public class HttpRestServletResolveConsumerStrategy extends HttpServletResolveConsumerStrategy {
 
+    private volatile ConsumersTrie trie = new ConsumersTrie(Collections.emptyMap());
+
+    @Override
+    public void onConsumersChanged(Map<String, HttpConsumer> consumers) {
+        trie = new ConsumersTrie(consumers);
+    }
+
     @Override
     protected HttpConsumer doResolve(HttpServletRequest request, String method, Map<String, HttpConsumer> consumers) {
         HttpConsumer answer = null;
@@ -37,13 +50,15 @@ public class HttpRestServletResolveConsumerStrategy extends HttpServletResolveCo
         if (path == null) {
             return null;
         }
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final Map.Entry<String, HttpConsumer> entry : consumers.entrySet()) {
-            paths.add(new HttpRestConsumerPath(entry.getValue()));
+
+        ConsumersTrie current = trie;
+        if (current.consumers != consumers || current.size != consumers.size()) {
+            // the trie was built from other consumers
+            current = new ConsumersTrie(consumers);
+            trie = current;
         }
 
-        RestConsumerContextPathMatcher.ConsumerPath<HttpConsumer> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+        RestConsumerContextPathMatcher.ConsumerPath<HttpConsumer> best = current.trie.matchBestPath(method, path);
         if (best != null) {
             answer = best.getConsumer();
         }
@@ -55,4 +70,24 @@ public class HttpRestServletResolveConsumerStrategy extends HttpServletResolveCo
 
         return answer;
     }
+
+    /**
+     * The trie of the context paths, and the consumers it was built from.
+     */
+    private static final class ConsumersTrie {
+
+        private final Map<String, HttpConsumer> consumers;
+        private final int size;
+        private final RestConsumerContextPathTrie<HttpConsumer> trie;
+
+        ConsumersTrie(Map<String, HttpConsumer> consumers) {
+            List<HttpRestConsumerPath> paths = new ArrayList<>(consumers.size());
+            for (HttpConsumer consumer : consumers.values()) {
+                paths.add(new HttpRestConsumerPath(consumer));
+            }
+            this.consumers = consumers;
+            this.size = paths.size();
+            this.trie = new RestConsumerContextPathTrie<>(paths);
+        }
+    }
 }
@@ -46,4 +46,18 @@ public interface ServletResolveConsumerStrategy {
      */
     boolean isHttpMethodAllowed(HttpServletRequest request, String method, Map<String, HttpConsumer> consumers);
 
+    /**
+     * Callback when the registered consumers have changed, such as when a consumer has been added or removed.
+     * <p/>
+     * Implementations may use this callback to build state derived from the consumers, such as an index of their
+     * context paths, which is used by {@link #resolve(HttpServletRequest, Map)}. Therefore the callback must be invoked
+     * whenever the map of consumers is changed, as otherwise a stale index may be in use. The servlet invokes this
+     * callback when a consumer is connected or disconnected.
+     *
+     * @param consumers the map of registered consumers
+     */
+    default void onConsumersChanged(Map<String, HttpConsumer> consumers) {
+        // noop
+    }
+
 }
@@ -21,6 +21,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": target.setAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "authdomain":
         case "authDomain": target.setAuthDomain(property(camelContext, java.lang.String.class, value)); return true;
         case "authhost":
@@ -129,6 +131,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": return boolean.class;
         case "authdomain":
         case "authDomain": return java.lang.String.class;
         case "authhost":
@@ -238,6 +242,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": return target.isAsyncClient();
         case "authdomain":
         case "authDomain": return target.getAuthDomain();
         case "authhost":
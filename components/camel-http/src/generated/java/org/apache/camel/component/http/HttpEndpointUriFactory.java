@@ -22,7 +22,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(52);
+        Set<String> props = new HashSet<>(53);
         props.add("clientBuilder");
         props.add("authMethodPriority");
         props.add("ignoreResponseBody");
@@ -38,6 +38,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("authenticationPreemptive");
         props.add("throwExceptionOnFailure");
         props.add("httpBinding");
+        props.add("asyncClient");
         props.add("authHost");
         props.add("proxyAuthUsername");
         props.add("connectionClose");
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.http.client.methods.HttpRequestBase;
+
+/**
+ * Non blocking HTTP producer which sends the requests using the {@link JdkHttpAsyncClient}.
+ * <p/>
+ * The request and response are mapped the same way as the {@link HttpProducer}, however the calling thread is not
+ * blocked while waiting for the response, as the exchange is continued when the response is received.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private JdkHttpAsyncClient client;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        client = getEndpoint().getJdkHttpAsyncClient();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = exchange.getContext().adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        try {
+            httpRequest = createRequest(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        client.execute(httpRequest, (httpResponse, error) -> {
+            try {
+                if (error != null) {
+                    exchange.setException(error);
+                } else {
+                    handleResponse(exchange, httpRequest, httpResponse);
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            } finally {
+                callback.done(false);
+            }
+        });
+        return false;
+    }
+
+}
@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -150,6 +151,15 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should send requests using the non blocking JDK HttpClient, instead of the blocking Apache HttpClient."
+                            + " The producer then completes the exchange asynchronously when the response is received, so no thread is"
+                            + " blocked while waiting for slow servers. The number of concurrent requests is limited by maxTotalConnections."
+                            + " Notice the Apache HttpClient specific options such as httpClientConfigurer, httpContext and cookieStore are not"
+                            + " in use.")
+    private boolean asyncClient;
+
+    private volatile JdkHttpAsyncClient jdkHttpAsyncClient;
 
     public HttpEndpoint() {
     }
@@ -180,6 +190,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (asyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -270,6 +283,20 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized JdkHttpAsyncClient getJdkHttpAsyncClient() throws Exception {
+        if (jdkHttpAsyncClient == null) {
+            ExecutorService executorService
+                    = getCamelContext().getExecutorServiceManager().newCachedThreadPool(this, "HttpAsyncClient");
+            try {
+                jdkHttpAsyncClient = new JdkHttpAsyncClient(this, executorService);
+            } catch (Exception e) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
+                throw e;
+            }
+        }
+        return jdkHttpAsyncClient;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -284,6 +311,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable) httpClient);
         }
+        synchronized (this) {
+            if (jdkHttpAsyncClient != null) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(jdkHttpAsyncClient.getExecutorService());
+                jdkHttpAsyncClient = null;
+            }
+        }
     }
 
     // Properties
@@ -587,8 +620,27 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    public boolean isAsyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * Whether the producer should send requests using the non blocking JDK HttpClient, instead of the blocking Apache
+     * HttpClient. The producer then completes the exchange asynchronously when the response is received, so no thread
+     * is blocked while waiting for slow servers. The number of concurrent requests is limited by maxTotalConnections.
+     * Notice the Apache HttpClient specific options such as httpClientConfigurer, httpContext and cookieStore are not
+     * in use.
+     */
+    public void setAsyncClient(boolean asyncClient) {
+        this.asyncClient = asyncClient;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
+        JdkHttpAsyncClient asyncPool = jdkHttpAsyncClient;
+        if (asyncPool != null) {
+            return asyncPool.getMax();
+        }
         ConnPoolControl<?> pool = null;
         if (clientConnectionManager instanceof ConnPoolControl) {
             pool = (ConnPoolControl<?>) clientConnectionManager;
@@ -604,6 +656,10 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
+        JdkHttpAsyncClient asyncPool = jdkHttpAsyncClient;
+        if (asyncPool != null) {
+            return asyncPool.getAvailable();
+        }
         ConnPoolControl<?> pool = null;
         if (clientConnectionManager instanceof ConnPoolControl) {
             pool = (ConnPoolControl<?>) clientConnectionManager;
@@ -619,6 +675,10 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
+        JdkHttpAsyncClient asyncPool = jdkHttpAsyncClient;
+        if (asyncPool != null) {
+            return asyncPool.getLeased();
+        }
         ConnPoolControl<?> pool = null;
         if (clientConnectionManager instanceof ConnPoolControl) {
             pool = (ConnPoolControl<?>) clientConnectionManager;
@@ -635,6 +695,10 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
                                     + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
+        JdkHttpAsyncClient asyncPool = jdkHttpAsyncClient;
+        if (asyncPool != null) {
+            return asyncPool.getPending();
+        }
         ConnPoolControl<?> pool = null;
         if (clientConnectionManager instanceof ConnPoolControl) {
             pool = (ConnPoolControl<?>) clientConnectionManager;
@@ -149,6 +149,26 @@ public class HttpProducer extends DefaultProducer {
             getEndpoint().getCookieStore().clearExpired(new Date());
         }
 
+        HttpRequestBase httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest, exchange);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+        }
+        HttpResponse httpResponse = executeMethod(httpHost, httpRequest);
+
+        // lets store the result in the output message.
+        handleResponse(exchange, httpRequest, httpResponse);
+    }
+
+    /**
+     * Creates the request to send to the remote server, with the message headers, cookies and host header applied.
+     *
+     * @param  exchange  the exchange
+     * @return           the request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpRequestBase createRequest(Exchange exchange) throws Exception {
         // if we bridge endpoint then we need to skip matching headers with the HTTP_QUERY to avoid sending
         // duplicated headers to the receiver, so use this skipRequestHeaders as the list of headers to skip
         Map<String, Object> skipRequestHeaders = null;
@@ -162,7 +182,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpRequestBase httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest, exchange);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(Exchange.HTTP_PROTOCOL_VERSION, String.class);
@@ -266,13 +285,24 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
-        // lets store the result in the output message.
-        HttpResponse httpResponse = null;
+        return httpRequest;
+    }
+
+    /**
+     * Handles the response from the remote server, by populating the response on the exchange or throwing a
+     * {@link HttpOperationFailedException}, and then consumes the response entity.
+     *
+     * @param  exchange     the exchange
+     * @param  httpRequest  the request which was sent
+     * @param  httpResponse the response from the remote server
+     * @throws Exception    is thrown if the response is not within the ok status code range, or error reading the
+     *                      response
+     */
+    protected void handleResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse)
+            throws Exception {
+        Message in = exchange.getIn();
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
         try {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpHost, httpRequest);
             int responseCode = httpResponse.getStatusLine().getStatusCode();
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Http responseCode: {}", responseCode);
@@ -297,23 +327,22 @@ public class HttpProducer extends DefaultProducer {
                 }
             }
         } finally {
-            final HttpResponse response = httpResponse;
-            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+            if (getEndpoint().isDisableStreamCache()) {
                 // close the stream at the end of the exchange to ensure it gets eventually closed later
                 exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
                     @Override
                     public void onDone(Exchange exchange) {
                         try {
-                            EntityUtils.consume(response.getEntity());
+                            EntityUtils.consume(httpResponse.getEntity());
                         } catch (Exception e) {
                             // ignore
                         }
                     }
                 });
-            } else if (httpResponse != null) {
+            } else {
                 // close the stream now
                 try {
-                    EntityUtils.consume(response.getEntity());
+                    EntityUtils.consume(httpResponse.getEntity());
                 } catch (Exception e) {
                     // ignore
                 }
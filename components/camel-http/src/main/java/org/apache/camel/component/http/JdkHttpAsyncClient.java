@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.Authenticator;
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import javax.net.ssl.HostnameVerifier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.http.base.HttpHelper;
+import org.apache.camel.support.jsse.SSLContextParameters;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non blocking HTTP client used by the {@link HttpAsyncProducer}, which sends the requests using the JDK
+ * {@link HttpClient}.
+ * <p/>
+ * The number of requests in flight is limited to the maximum number of connections of the endpoint, and requests
+ * exceeding the limit are pending until a connection is released. A connection is leased until the response body has
+ * been closed, which allows to stream large response bodies without buffering them, and to report pool statistics
+ * similar to the connection manager used by the blocking {@link HttpProducer}.
+ */
+public class JdkHttpAsyncClient {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdkHttpAsyncClient.class);
+
+    // headers the JDK client does not allow to be set, as it sets them itself
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpEndpoint endpoint;
+    private final ExecutorService executorService;
+    private final HttpClient client;
+    private final int maxConnections;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private int leased;
+
+    public JdkHttpAsyncClient(HttpEndpoint endpoint, ExecutorService executorService) throws Exception {
+        this.endpoint = endpoint;
+        this.executorService = executorService;
+        // a negative value means no limit, and zero to use the limit from the connection manager or component
+        int max = endpoint.getMaxTotalConnections();
+        if (max == 0 && endpoint.getClientConnectionManager() instanceof ConnPoolControl) {
+            // use the same limit as the connection manager configured for the endpoint
+            max = ((ConnPoolControl<?>) endpoint.getClientConnectionManager()).getMaxTotal();
+        }
+        if (max == 0 && endpoint.getComponent() != null) {
+            max = endpoint.getComponent().getMaxTotalConnections();
+        }
+        this.maxConnections = max;
+        this.client = createClient();
+    }
+
+    protected HttpClient createClient() throws Exception {
+        CamelContext camelContext = endpoint.getCamelContext();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executorService);
+
+        if (endpoint.getConnectTimeout() > 0) {
+            builder.connectTimeout(Duration.ofMillis(endpoint.getConnectTimeout()));
+        }
+        boolean redirect = endpoint.getComponent() == null || !endpoint.getComponent().isRedirectHandlingDisabled();
+        builder.followRedirects(redirect ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
+
+        if (endpoint.isUseSystemProperties()) {
+            builder.proxy(ProxySelector.getDefault());
+        } else if (ObjectHelper.isNotEmpty(camelContext.getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(camelContext.getGlobalOption("http.proxyPort"))) {
+            String host = camelContext.getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(camelContext.getGlobalOption("http.proxyPort"));
+            builder.proxy(ProxySelector.of(new InetSocketAddress(host, port)));
+        } else if (endpoint.getProxyAuthHost() != null && endpoint.getProxyAuthPort() > 0) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(endpoint.getProxyAuthHost(), endpoint.getProxyAuthPort())));
+        } else if (endpoint.getProxyHost() != null && endpoint.getProxyPort() > 0) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(endpoint.getProxyHost(), endpoint.getProxyPort())));
+        } else if (endpoint.getComponent() != null && endpoint.getComponent().getProxyAuthHost() != null
+                && endpoint.getComponent().getProxyAuthPort() != null) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(
+                    endpoint.getComponent().getProxyAuthHost(), endpoint.getComponent().getProxyAuthPort())));
+        }
+
+        HostnameVerifier hostnameVerifier = endpoint.getX509HostnameVerifier();
+        if (hostnameVerifier == null && endpoint.getComponent() != null) {
+            hostnameVerifier = endpoint.getComponent().getX509HostnameVerifier();
+        }
+        if (hostnameVerifier != null && !(hostnameVerifier instanceof DefaultHostnameVerifier)) {
+            // the JDK client always verifies the host name, the same way as the default hostname verifier
+            throw new IllegalArgumentException(
+                    "The asyncClient option does not support a custom x509HostnameVerifier, was: " + hostnameVerifier);
+        }
+
+        SSLContextParameters sslContextParameters = endpoint.getSslContextParameters();
+        if (sslContextParameters == null && endpoint.getComponent() != null) {
+            sslContextParameters = endpoint.getComponent().getSslContextParameters();
+            if (sslContextParameters == null) {
+                sslContextParameters = endpoint.getComponent().retrieveGlobalSslContextParameters();
+            }
+        }
+        if (sslContextParameters != null) {
+            builder.sslContext(sslContextParameters.createSSLContext(camelContext));
+        } else if (!endpoint.isUseSystemProperties()) {
+            // same as the blocking producer, and avoids initializing the default SSLContext of the JVM
+            builder.sslContext(SSLContexts.createDefault());
+        }
+
+        PasswordAuthentication server = null;
+        if (endpoint.getAuthUsername() != null && endpoint.getAuthPassword() != null
+                && !endpoint.isAuthenticationPreemptive()) {
+            server = new PasswordAuthentication(endpoint.getAuthUsername(), endpoint.getAuthPassword().toCharArray());
+        }
+        PasswordAuthentication proxy = createProxyAuthentication();
+        if (server != null || proxy != null) {
+            builder.authenticator(new CredentialsAuthenticator(server, proxy));
+        }
+
+        // when a cookie handler is configured, then the producer adds and stores the cookies the same way as the
+        // blocking producer does, so the JDK client must not manage cookies itself
+        boolean cookies = endpoint.getComponent() == null || !endpoint.getComponent().isCookieManagementDisabled();
+        if (cookies && !endpoint.isBridgeEndpoint() && endpoint.getCookieHandler() == null) {
+            builder.cookieHandler(new CookieManager());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates the credentials for the proxy from the endpoint, or the component.
+     * <p/>
+     * The JDK client only supports the basic authentication scheme, so the client fails to be created if the proxy
+     * authentication is configured with another scheme, such as NTLM or digest. The JDK also disables basic
+     * authentication when tunneling https requests through a proxy, unless enabled by the
+     * <tt>jdk.http.auth.tunneling.disabledSchemes</tt> system property.
+     */
+    protected PasswordAuthentication createProxyAuthentication() {
+        String username = endpoint.getProxyAuthUsername();
+        String password = endpoint.getProxyAuthPassword();
+        String domain = endpoint.getProxyAuthDomain();
+        String method = endpoint.getProxyAuthMethod();
+        if (username == null && password == null && endpoint.getComponent() != null) {
+            username = endpoint.getComponent().getProxyAuthUsername();
+            password = endpoint.getComponent().getProxyAuthPassword();
+            domain = endpoint.getComponent().getProxyAuthDomain();
+            method = endpoint.getComponent().getProxyAuthMethod();
+        }
+        if (username == null || password == null) {
+            return null;
+        }
+        if (domain != null || (method != null && !"Basic".equalsIgnoreCase(method))) {
+            throw new IllegalArgumentException(
+                    "The asyncClient option only supports Basic proxy authentication, was: "
+                                               + (domain != null ? "NTLM" : method));
+        }
+        if (HttpHelper.isSecureConnection(endpoint.getEndpointUri()) && isBasicTunnelingDisabled()) {
+            throw new IllegalArgumentException(
+                    "The asyncClient option requires the jdk.http.auth.tunneling.disabledSchemes system property to not"
+                                               + " include Basic, to use proxy authentication with https");
+        }
+        return new PasswordAuthentication(username, password.toCharArray());
+    }
+
+    private static boolean isBasicTunnelingDisabled() {
+        // basic is disabled by default in the networking properties of the JDK
+        String schemes = System.getProperty("jdk.http.auth.tunneling.disabledSchemes", "Basic");
+        for (String scheme : schemes.split(",")) {
+            if ("Basic".equalsIgnoreCase(scheme.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sends the request, and calls the handler when the response headers have been received, or the request failed. The
+     * response body is streamed, and the connection is released when the body is closed.
+     *
+     * @param request the request to send
+     * @param handler the handler called with either the response or the failure
+     */
+    public void execute(HttpRequestBase request, BiConsumer<org.apache.http.HttpResponse, Throwable> handler) {
+        HttpRequest jdkRequest;
+        try {
+            jdkRequest = createRequest(request);
+        } catch (Exception e) {
+            handler.accept(null, e);
+            return;
+        }
+
+        lease(() -> {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing async http {} method: {}", jdkRequest.method(), jdkRequest.uri());
+            }
+            client.sendAsync(jdkRequest, HttpResponse.BodyHandlers.ofInputStream()).whenComplete((response, error) -> {
+                if (error != null) {
+                    release();
+                    handler.accept(null, error instanceof CompletionException ? error.getCause() : error);
+                } else {
+                    org.apache.http.HttpResponse answer;
+                    try {
+                        answer = createResponse(response);
+                    } catch (Exception e) {
+                        // the response is not handed over to the handler, so close the body and release the connection
+                        IOHelper.close(response.body());
+                        release();
+                        handler.accept(null, e);
+                        return;
+                    }
+                    handler.accept(answer, null);
+                }
+            });
+        });
+    }
+
+    protected HttpRequest createRequest(HttpRequestBase request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getURI());
+        if (endpoint.getSocketTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(endpoint.getSocketTimeout()));
+        }
+
+        for (Header header : request.getAllHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ENGLISH))) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        if (endpoint.getUserAgent() != null && !request.containsHeader("User-Agent")) {
+            builder.header("User-Agent", endpoint.getUserAgent());
+        }
+        if (endpoint.isAuthenticationPreemptive() && endpoint.getAuthUsername() != null
+                && endpoint.getAuthPassword() != null) {
+            String credentials = endpoint.getAuthUsername() + ":" + endpoint.getAuthPassword();
+            builder.header("Authorization",
+                    "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.ISO_8859_1)));
+        }
+
+        HttpEntity entity = null;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            entity = ((HttpEntityEnclosingRequest) request).getEntity();
+        }
+        if (entity == null) {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            if (entity.getContentType() != null && !request.containsHeader("Content-Type")) {
+                builder.header("Content-Type", entity.getContentType().getValue());
+            }
+            if (entity.getContentEncoding() != null && !request.containsHeader("Content-Encoding")) {
+                builder.header("Content-Encoding", entity.getContentEncoding().getValue());
+            }
+            // stream the request body from the entity
+            final HttpEntity body = entity;
+            HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+                try {
+                    return body.getContent();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            long length = entity.getContentLength();
+            if (length >= 0) {
+                publisher = HttpRequest.BodyPublishers.fromPublisher(publisher, length);
+            }
+            builder.method(request.getMethod(), publisher);
+        }
+        return builder.build();
+    }
+
+    protected org.apache.http.HttpResponse createResponse(HttpResponse<InputStream> response) {
+        int code = response.statusCode();
+        String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(code, Locale.ENGLISH);
+        BasicHttpResponse answer = new BasicHttpResponse(new BasicStatusLine(HttpVersion.HTTP_1_1, code, reason));
+        response.headers().map().forEach((name, values) -> {
+            // skip http/2 pseudo headers
+            if (!name.startsWith(":")) {
+                for (String value : values) {
+                    answer.addHeader(name, value);
+                }
+            }
+        });
+
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(new ReleasingInputStream(response.body()));
+        entity.setContentLength(response.headers().firstValueAsLong("Content-Length").orElse(-1));
+        entity.setContentType(answer.getFirstHeader("Content-Type"));
+        entity.setContentEncoding(answer.getFirstHeader("Content-Encoding"));
+        answer.setEntity(entity);
+        return answer;
+    }
+
+    private void lease(Runnable task) {
+        synchronized (pending) {
+            // zero or negative maximum means unbounded
+            if (maxConnections > 0 && leased >= maxConnections) {
+                pending.add(task);
+                return;
+            }
+            leased++;
+        }
+        task.run();
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (pending) {
+            // hand over the connection to the next pending request
+            next = pending.poll();
+            if (next == null) {
+                leased--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The maximum number of concurrent connections, or -1 if unbounded
+     */
+    public int getMax() {
+        return maxConnections > 0 ? maxConnections : -1;
+    }
+
+    /**
+     * Number of connections which can be leased without waiting, or -1 if unbounded
+     */
+    public int getAvailable() {
+        if (maxConnections <= 0) {
+            return -1;
+        }
+        synchronized (pending) {
+            return maxConnections - leased;
+        }
+    }
+
+    /**
+     * Number of connections currently being used by requests in flight
+     */
+    public int getLeased() {
+        synchronized (pending) {
+            return leased;
+        }
+    }
+
+    /**
+     * Number of requests waiting for a free connection
+     */
+    public int getPending() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Authenticator which provides the credentials for either the server or the proxy.
+     */
+    private static final class CredentialsAuthenticator extends Authenticator {
+
+        private final PasswordAuthentication server;
+        private final PasswordAuthentication proxy;
+
+        CredentialsAuthenticator(PasswordAuthentication server, PasswordAuthentication proxy) {
+            this.server = server;
+            this.proxy = proxy;
+        }
+
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            return getRequestorType() == RequestorType.PROXY ? proxy : server;
+        }
+    }
+
+    /**
+     * Input stream which releases the connection when closed.
+     */
+    private final class ReleasingInputStream extends FilterInputStream {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private final CountDownLatch slowLatch = new CountDownLatch(1);
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/echo", (request, response, context) -> {
+                    String body = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity());
+                    response.setHeader("MyHeader", request.getFirstHeader("MyHeader").getValue());
+                    response.setEntity(new StringEntity("Bye " + body, "ASCII"));
+                    response.setStatusCode(HttpStatus.SC_OK);
+                })
+                .registerHandler("/slow", (request, response, context) -> {
+                    try {
+                        slowLatch.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                    response.setEntity(new StringEntity("OK", "ASCII"));
+                    response.setStatusCode(HttpStatus.SC_OK);
+                })
+                .registerHandler("/missing", (request, response, context) -> {
+                    response.setEntity(new StringEntity("Not here", "ASCII"));
+                    response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                })
+                .registerHandler("*/proxied", (request, response, context) -> {
+                    // act as a proxy which requires basic authentication
+                    Header auth = request.getFirstHeader("Proxy-Authorization");
+                    String expected = "Basic " + Base64.getEncoder()
+                            .encodeToString("camel:secret".getBytes(StandardCharsets.ISO_8859_1));
+                    if (auth == null || !expected.equals(auth.getValue())) {
+                        response.setHeader("Proxy-Authenticate", "Basic realm=\"proxy\"");
+                        response.setStatusCode(HttpStatus.SC_PROXY_AUTHENTICATION_REQUIRED);
+                    } else {
+                        response.setEntity(new StringEntity("Proxied " + request.getRequestLine().getUri(), "ASCII"));
+                        response.setStatusCode(HttpStatus.SC_OK);
+                    }
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncProducer() throws Exception {
+        String uri = baseUrl + "/echo?asyncClient=true";
+        Producer producer = context.getEndpoint(uri).createProducer();
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+
+        Exchange out = template.request(uri, exchange -> {
+            exchange.getIn().setBody("World");
+            exchange.getIn().setHeader("MyHeader", "123");
+        });
+
+        assertEquals("Bye World", out.getMessage().getBody(String.class));
+        assertEquals(200, out.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertEquals("OK", out.getMessage().getHeader(Exchange.HTTP_RESPONSE_TEXT));
+        assertEquals("123", out.getMessage().getHeader("MyHeader"));
+
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        assertEquals(200, http.getClientConnectionsPoolStatsMax());
+        assertEquals(200, http.getClientConnectionsPoolStatsAvailable());
+        assertEquals(0, http.getClientConnectionsPoolStatsLeased());
+        assertEquals(0, http.getClientConnectionsPoolStatsPending());
+    }
+
+    @Test
+    public void testAsyncProducerFailure() {
+        Exchange out = template.request(baseUrl + "/missing?asyncClient=true", exchange -> {
+        });
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, out.getException());
+        assertEquals(404, cause.getStatusCode());
+        assertEquals("Not here", cause.getResponseBody());
+    }
+
+    @Test
+    public void testAsyncProducerMaxConnections() throws Exception {
+        String uri = baseUrl + "/slow?asyncClient=true&maxTotalConnections=2";
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(template.asyncRequestBody(uri, null, String.class));
+        }
+
+        // only 2 requests are in flight, and the others are waiting for a connection
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (http.getClientConnectionsPoolStatsPending() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, http.getClientConnectionsPoolStatsMax());
+        assertEquals(2, http.getClientConnectionsPoolStatsLeased());
+        assertEquals(2, http.getClientConnectionsPoolStatsPending());
+        assertEquals(0, http.getClientConnectionsPoolStatsAvailable());
+
+        slowLatch.countDown();
+        for (Future<String> future : futures) {
+            assertEquals("OK", future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, http.getClientConnectionsPoolStatsLeased());
+        assertEquals(2, http.getClientConnectionsPoolStatsAvailable());
+    }
+
+    @Test
+    public void testAsyncProducerUnboundedConnections() throws Exception {
+        String uri = baseUrl + "/slow?asyncClient=true";
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        http.setMaxTotalConnections(-1);
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(template.asyncRequestBody(uri, null, String.class));
+        }
+
+        // all requests are in flight as there is no limit
+        long deadline = System.currentTimeMillis() + 10000;
+        while (http.getClientConnectionsPoolStatsLeased() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(-1, http.getClientConnectionsPoolStatsMax());
+        assertEquals(-1, http.getClientConnectionsPoolStatsAvailable());
+        assertEquals(4, http.getClientConnectionsPoolStatsLeased());
+        assertEquals(0, http.getClientConnectionsPoolStatsPending());
+
+        slowLatch.countDown();
+        for (Future<String> future : futures) {
+            assertEquals("OK", future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, http.getClientConnectionsPoolStatsLeased());
+    }
+
+    @Test
+    public void testAsyncProducerCustomHostnameVerifier() {
+        HttpEndpoint http = context.getEndpoint(baseUrl + "/echo?asyncClient=true", HttpEndpoint.class);
+        http.setX509HostnameVerifier(NoopHostnameVerifier.INSTANCE);
+
+        assertThrows(IllegalArgumentException.class, http::getJdkHttpAsyncClient);
+    }
+
+    @Test
+    public void testAsyncProducerProxyAuthentication() throws Exception {
+        String proxy = localServer.getInetAddress().getHostName() + "&proxyAuthPort=" + localServer.getLocalPort();
+        String uri = "http://camel.apache.org/proxied?asyncClient=true&proxyAuthHost=" + proxy
+                     + "&proxyAuthUsername=camel&proxyAuthPassword=secret";
+
+        String out = template.requestBody(uri, null, String.class);
+        assertEquals("Proxied http://camel.apache.org/proxied", out);
+    }
+
+    @Test
+    public void testAsyncProducerNtlmProxyAuthentication() {
+        HttpEndpoint http = context.getEndpoint(baseUrl + "/echo?asyncClient=true&proxyAuthHost=localhost&proxyAuthPort=1234"
+                                                + "&proxyAuthUsername=camel&proxyAuthPassword=secret&proxyAuthDomain=apache",
+                HttpEndpoint.class);
+
+        assertThrows(IllegalArgumentException.class, http::getJdkHttpAsyncClient);
+    }
+
+    @Test
+    public void testAsyncProducerCreateResponseFailure() throws Exception {
+        HttpEndpoint http = context.getEndpoint(baseUrl + "/echo?asyncClient=true", HttpEndpoint.class);
+        ExecutorService executorService = context.getExecutorServiceManager().newCachedThreadPool(this, "HttpAsyncClient");
+        try {
+            JdkHttpAsyncClient client = new JdkHttpAsyncClient(http, executorService) {
+                @Override
+                protected org.apache.http.HttpResponse createResponse(HttpResponse<InputStream> response) {
+                    throw new IllegalStateException("Malformed response");
+                }
+            };
+
+            CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            HttpPost request = new HttpPost(baseUrl + "/echo");
+            request.setHeader("MyHeader", "123");
+            request.setEntity(new StringEntity("World", "ASCII"));
+            client.execute(request, (response, error) -> failure.complete(error));
+
+            Throwable error = failure.get(10, TimeUnit.SECONDS);
+            assertIsInstanceOf(IllegalStateException.class, error);
+            assertEquals("Malformed response", error.getMessage());
+            // the connection is released
+            assertEquals(0, client.getLeased());
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executorService);
+        }
+    }
+
+}
@@ -87,6 +87,22 @@ public class HttpProducerSessionTest extends CamelTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testInstanceSessionAsync() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Old New World", "Old Old World");
+        template.sendBody("direct:instanceAsync", "World");
+        template.sendBody("direct:instanceAsync", "World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testExchangeSessionAsync() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Old New World", "Old New World");
+        template.sendBody("direct:exchangeAsync", "World");
+        template.sendBody("direct:exchangeAsync", "World");
+        assertMockEndpointsSatisfied();
+    }
+
     private String getTestServerEndpointSessionUrl() {
         // session handling will not work for localhost
         return "http://127.0.0.1:" + port + "/session/";
@@ -111,6 +127,16 @@ public class HttpProducerSessionTest extends CamelTestSupport {
                         .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#exchangeCookieHandler")
                         .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#exchangeCookieHandler")
                         .to("mock:result");
+
+                from("direct:instanceAsync")
+                        .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#instanceCookieHandler&asyncClient=true")
+                        .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#instanceCookieHandler&asyncClient=true")
+                        .to("mock:result");
+
+                from("direct:exchangeAsync")
+                        .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#exchangeCookieHandler&asyncClient=true")
+                        .to(getTestServerEndpointSessionUrl() + "?cookieHandler=#exchangeCookieHandler&asyncClient=true")
+                        .to("mock:result");
             }
         };
     }
@@ -40,6 +40,7 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.support.task.ForegroundTask;
 import org.apache.camel.support.task.Tasks;
 import org.apache.camel.support.task.budget.Budgets;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -262,6 +263,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
                 scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setTimer(HashedWheelTimer.sharedTimer(camelContext));
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
@@ -137,6 +137,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
         case "partitionKey": getOrCreateConfiguration(target).setPartitionKey(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": getOrCreateConfiguration(target).setPartitionWorkerPoolSize(property(camelContext, int.class, value)); return true;
         case "partitioner": getOrCreateConfiguration(target).setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
         case "pollexceptionstrategy":
         case "pollExceptionStrategy": target.setPollExceptionStrategy(property(camelContext, org.apache.camel.component.kafka.PollExceptionStrategy.class, value)); return true;
@@ -351,6 +353,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
         case "partitionKey": return java.lang.Integer.class;
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": return int.class;
         case "partitioner": return java.lang.String.class;
         case "pollexceptionstrategy":
         case "pollExceptionStrategy": return org.apache.camel.component.kafka.PollExceptionStrategy.class;
@@ -561,6 +565,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
         case "partitionKey": return getOrCreateConfiguration(target).getPartitionKey();
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": return getOrCreateConfiguration(target).getPartitionWorkerPoolSize();
         case "partitioner": return getOrCreateConfiguration(target).getPartitioner();
         case "pollexceptionstrategy":
         case "pollExceptionStrategy": return target.getPollExceptionStrategy();
@@ -131,6 +131,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
         case "partitionKey": target.getConfiguration().setPartitionKey(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": target.getConfiguration().setPartitionWorkerPoolSize(property(camelContext, int.class, value)); return true;
         case "partitioner": target.getConfiguration().setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
         case "pollonerror":
         case "pollOnError": target.getConfiguration().setPollOnError(property(camelContext, org.apache.camel.component.kafka.PollOnError.class, value)); return true;
@@ -337,6 +339,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
         case "partitionKey": return java.lang.Integer.class;
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": return int.class;
         case "partitioner": return java.lang.String.class;
         case "pollonerror":
         case "pollOnError": return org.apache.camel.component.kafka.PollOnError.class;
@@ -544,6 +548,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
         case "partitionKey": return target.getConfiguration().getPartitionKey();
+        case "partitionworkerpoolsize":
+        case "partitionWorkerPoolSize": return target.getConfiguration().getPartitionWorkerPoolSize();
         case "partitioner": return target.getConfiguration().getPartitioner();
         case "pollonerror":
         case "pollOnError": return target.getConfiguration().getPollOnError();
@@ -21,7 +21,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(104);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -109,6 +109,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("securityProtocol");
         props.add("autoCommitIntervalMs");
         props.add("partitioner");
+        props.add("partitionWorkerPoolSize");
         props.add("kerberosPrincipalToLocalRules");
         props.add("headerSerializer");
         props.add("sslEnabledProtocols");
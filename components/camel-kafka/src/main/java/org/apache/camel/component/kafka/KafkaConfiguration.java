@@ -142,6 +142,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private String autoCommitOnStop = "sync";
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
+    @UriParam(label = "consumer,advanced")
+    private int partitionWorkerPoolSize;
     @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
@@ -802,6 +804,23 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getPartitionWorkerPoolSize() {
+        return partitionWorkerPoolSize;
+    }
+
+    /**
+     * Number of worker threads used for processing the polled records in parallel, with an ordered lane per partition.
+     * The records of a partition are still processed one at a time in the order they were polled, but a slow partition
+     * no longer holds back the other partitions assigned to the consumer. When auto commit is enabled, only the highest
+     * contiguous offset that has been processed is committed for each partition, and the auto commit of the Kafka
+     * client itself is turned off. When using manual commits, then the async commit factory must be used, as the Kafka
+     * consumer cannot be accessed from the worker threads. The default is 0, which processes the records on the
+     * consumer thread.
+     */
+    public void setPartitionWorkerPoolSize(int partitionWorkerPoolSize) {
+        this.partitionWorkerPoolSize = partitionWorkerPoolSize;
+    }
+
     public KafkaConsumerResumeStrategy getResumeStrategy() {
         return resumeStrategy;
     }
@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.consumer.DefaultKafkaManualAsyncCommitFactory;
 import org.apache.camel.spi.StateRepository;
 import org.apache.camel.support.BridgeExceptionHandlerToErrorHandler;
 import org.apache.camel.support.DefaultConsumer;
@@ -40,6 +41,7 @@ public class KafkaConsumer extends DefaultConsumer {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService partitionWorkerExecutor;
     private final KafkaEndpoint endpoint;
     // This list helps to work around the infinite loop of KAFKA-1894
     private final List<KafkaFetchRecords> tasks = new ArrayList<>();
@@ -85,11 +87,26 @@ public class KafkaConsumer extends DefaultConsumer {
         ObjectHelper.ifNotEmpty(configuration.getGroupInstanceId(),
                 v -> props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, v));
 
+        if (configuration.getPartitionWorkerPoolSize() > 0) {
+            // the partition lanes commit the processed offsets, as the position of the consumer can be ahead of them
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        }
+
         return props;
     }
 
     @Override
     protected void doStart() throws Exception {
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.getPartitionWorkerPoolSize() > 0 && configuration.isAllowManualCommit()
+                && !(endpoint.getKafkaManualCommitFactory() instanceof DefaultKafkaManualAsyncCommitFactory)) {
+            // the manual commits are called from the worker threads, which must not use the Kafka consumer
+            throw new IllegalArgumentException(
+                    "The partitionWorkerPoolSize option requires using DefaultKafkaManualAsyncCommitFactory"
+                                               + " as kafkaManualCommitFactory when allowManualCommit is enabled, was: "
+                                               + endpoint.getKafkaManualCommitFactory());
+        }
+
         LOG.info("Starting Kafka consumer on topic: {} with breakOnFirstError: {}", endpoint.getConfiguration().getTopic(),
                 endpoint.getConfiguration().isBreakOnFirstError());
         super.doStart();
@@ -107,6 +124,9 @@ public class KafkaConsumer extends DefaultConsumer {
         }
 
         executor = endpoint.createExecutor();
+        if (endpoint.getConfiguration().getPartitionWorkerPoolSize() > 0) {
+            partitionWorkerExecutor = endpoint.createPartitionWorkerExecutor();
+        }
 
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
@@ -124,6 +144,10 @@ public class KafkaConsumer extends DefaultConsumer {
         }
     }
 
+    ExecutorService getPartitionWorkerExecutor() {
+        return partitionWorkerExecutor;
+    }
+
     @Override
     protected void doStop() throws Exception {
         LOG.info("Stopping Kafka consumer on topic: {}", endpoint.getConfiguration().getTopic());
@@ -156,6 +180,12 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (partitionWorkerExecutor != null) {
+            // the partition lanes have been drained by the tasks, so any remaining work is discarded
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(partitionWorkerExecutor);
+            partitionWorkerExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
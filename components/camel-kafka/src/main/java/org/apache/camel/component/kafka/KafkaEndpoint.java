@@ -186,6 +186,12 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumersCount());
     }
 
+    public ExecutorService createPartitionWorkerExecutor() {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                "KafkaConsumerPartitionWorker[" + configuration.getTopic() + "]",
+                configuration.getPartitionWorkerPoolSize());
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
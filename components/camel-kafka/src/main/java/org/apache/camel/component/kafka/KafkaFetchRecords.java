@@ -22,12 +22,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.component.kafka.consumer.CommitManager;
 import org.apache.camel.component.kafka.consumer.CommitManagers;
+import org.apache.camel.component.kafka.consumer.support.KafkaPartitionLanes;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.PartitionAssignmentListener;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
@@ -54,6 +56,7 @@ class KafkaFetchRecords implements Runnable {
     private final BridgeExceptionHandlerToErrorHandler bridge;
     private final ReentrantLock lock = new ReentrantLock();
     private CommitManager commitManager;
+    private KafkaPartitionLanes partitionLanes;
 
     private boolean retry = true;
     private boolean reconnect; // must be false at init (this is the policy whether to reconnect)
@@ -83,6 +86,7 @@ class KafkaFetchRecords implements Runnable {
                     createConsumer();
 
                     commitManager = CommitManagers.createCommitManager(consumer, kafkaConsumer, threadId, getPrintableTopic());
+                    partitionLanes = createPartitionLanes();
 
                     initializeConsumer();
                     setConnected(true);
@@ -125,6 +129,16 @@ class KafkaFetchRecords implements Runnable {
         }
     }
 
+    private KafkaPartitionLanes createPartitionLanes() {
+        ExecutorService partitionWorkerExecutor = kafkaConsumer.getPartitionWorkerExecutor();
+        if (partitionWorkerExecutor == null) {
+            return null;
+        }
+
+        return new KafkaPartitionLanes(
+                kafkaConsumer, consumer, partitionWorkerExecutor, lastProcessedOffset, threadId, commitManager);
+    }
+
     private void initializeConsumer() {
         subscribe();
 
@@ -138,7 +152,7 @@ class KafkaFetchRecords implements Runnable {
     private void subscribe() {
         PartitionAssignmentListener listener = new PartitionAssignmentListener(
                 threadId, kafkaConsumer.getEndpoint().getConfiguration(), consumer, lastProcessedOffset,
-                this::isRunnable, commitManager);
+                this::isRunnable, commitManager, partitionLanes);
 
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
@@ -168,7 +182,7 @@ class KafkaFetchRecords implements Runnable {
             }
 
             KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
-                    kafkaConsumer, lastProcessedOffset, threadId, commitManager);
+                    kafkaConsumer, lastProcessedOffset, threadId, commitManager, partitionLanes);
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             while (isKafkaConsumerRunnable() && isRetrying() && isConnected()) {
@@ -190,14 +204,14 @@ class KafkaFetchRecords implements Runnable {
 
             if (!isConnected()) {
                 LOG.debug("Not reconnecting, check whether to auto-commit or not ...");
-                commitManager.commit();
+                commit();
             }
 
             safeUnsubscribe();
         } catch (InterruptException e) {
             kafkaConsumer.getExceptionHandler().handleException("Interrupted while consuming " + threadId + " from kafka topic",
                     e);
-            commitManager.commit();
+            commit();
 
             LOG.info("Unsubscribing {} from {}", threadId, getPrintableTopic());
             safeUnsubscribe();
@@ -225,6 +239,10 @@ class KafkaFetchRecords implements Runnable {
 
             // only close if not retry
             if (!isRetrying()) {
+                if (partitionLanes != null) {
+                    // the lanes are usually drained when unsubscribing, but ensure no worker is still processing
+                    partitionLanes.drainAll();
+                }
                 LOG.debug("Closing consumer {}", threadId);
                 safeUnsubscribe();
                 IOHelper.close(consumer);
@@ -232,6 +250,16 @@ class KafkaFetchRecords implements Runnable {
         }
     }
 
+    private void commit() {
+        if (partitionLanes != null) {
+            // the position of the consumer is ahead of the records processed by the lanes, so only commit these
+            commitManager.processAsyncCommits();
+            partitionLanes.drainAndCommit();
+        } else {
+            commitManager.commit();
+        }
+    }
+
     private void handleAccordingToStrategy(long partitionLastOffset, Exception e) {
         PollOnError onError = pollExceptionStrategy.handleException(e);
         if (PollOnError.RETRY == onError) {
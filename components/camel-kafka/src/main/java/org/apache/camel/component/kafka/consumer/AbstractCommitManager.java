@@ -89,4 +89,20 @@ public abstract class AbstractCommitManager implements CommitManager {
                 Duration.ofMillis(timeout));
     }
 
+    @Override
+    public void commitProcessedOffset(TopicPartition partition, long partitionLastOffset) {
+        // only commit offsets if the component has control
+        if (partitionLastOffset == START_OFFSET || !configuration.isAutoCommitEnable()) {
+            return;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Committing processed offset async {} [topic: {} partition: {} offset: {}]", threadId, partition.topic(),
+                    partition.partition(), partitionLastOffset);
+        }
+
+        consumer.commitAsync(
+                Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)), null);
+    }
+
 }
@@ -31,6 +31,15 @@ public interface CommitManager {
 
     void commitOffsetOnStop(TopicPartition partition, long partitionLastOffset);
 
+    /**
+     * Commits the offset of the last record processed from the partition, when the records are processed by the
+     * partition lanes. As the position of the Kafka consumer is then ahead of the processed records, the auto commit of
+     * the Kafka client is turned off, and this commit must not rely on it.
+     */
+    default void commitProcessedOffset(TopicPartition partition, long partitionLastOffset) {
+        commitOffset(partition, partitionLastOffset);
+    }
+
     @Deprecated
     default void processAsyncCommits() {
 
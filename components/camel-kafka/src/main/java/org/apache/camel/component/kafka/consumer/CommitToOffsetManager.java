@@ -48,6 +48,11 @@ public class CommitToOffsetManager extends AbstractCommitManager {
         saveStateToOffsetRepository(partition, partitionLastOffset, offsetRepository);
     }
 
+    @Override
+    public void commitProcessedOffset(TopicPartition partition, long partitionLastOffset) {
+        commitOffset(partition, partitionLastOffset);
+    }
+
     @Override
     public void commitOffsetForce(TopicPartition partition, long partitionLastOffset) {
         saveStateToOffsetRepository(partition, partitionLastOffset, offsetRepository);
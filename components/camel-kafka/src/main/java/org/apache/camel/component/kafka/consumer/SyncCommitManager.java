@@ -62,6 +62,15 @@ public class SyncCommitManager extends AbstractCommitManager {
         commitSync(partition, partitionLastOffset);
     }
 
+    @Override
+    public void commitProcessedOffset(TopicPartition partition, long partitionLastOffset) {
+        if (partitionLastOffset == START_OFFSET) {
+            return;
+        }
+
+        commitOffset(partition, partitionLastOffset);
+    }
+
     private void commitSync(TopicPartition partition, long partitionLastOffset) {
         long timeout = configuration.getCommitTimeoutMs();
         consumer.commitSync(
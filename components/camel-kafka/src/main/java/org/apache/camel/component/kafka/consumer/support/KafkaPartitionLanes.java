@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Processes the polled records on a worker pool, with an ordered lane per partition.
+ * <p/>
+ * The records of a partition are processed one at a time in the order they were polled, so the ordering per partition
+ * is kept, while a slow partition does not hold back the other partitions. The lanes take turns on the worker pool, one
+ * record at a time, so a partition with many pending records does not starve the others either.
+ * <p/>
+ * The Kafka consumer is not thread-safe, and is therefore only used from the polling thread: the workers keep track of
+ * the highest contiguous offset processed per partition, which is committed from the polling thread by
+ * {@link #commitProcessed(boolean)}. When a lane has too many pending records, then its partition is paused until the
+ * lane has caught up.
+ */
+public class KafkaPartitionLanes {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaPartitionLanes.class);
+    private static final int DEFAULT_MAX_PENDING_RECORDS = 500;
+    private static final long DEFAULT_MAX_POLL_INTERVAL_MS = 300000;
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final Consumer<?, ?> consumer;
+    private final ExecutorService executor;
+    private final Map<String, Long> lastProcessedOffset;
+    private final String threadId;
+    private final CommitManager commitManager;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final Map<TopicPartition, Lane> lanes = new ConcurrentHashMap<>();
+    private final Set<TopicPartition> paused = new HashSet<>();
+    private final int maxPendingRecords;
+    private final long commitIntervalMs;
+    private final long shutdownTimeoutMs;
+    private final long revokeTimeoutMs;
+    private long lastCommitTime;
+
+    public KafkaPartitionLanes(KafkaConsumer camelKafkaConsumer, Consumer<?, ?> consumer, ExecutorService executor,
+                               Map<String, Long> lastProcessedOffset, String threadId, CommitManager commitManager) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.consumer = consumer;
+        this.executor = executor;
+        this.lastProcessedOffset = lastProcessedOffset;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        Integer maxPollRecords = configuration.getMaxPollRecords();
+        this.maxPendingRecords = maxPollRecords != null ? maxPollRecords : DEFAULT_MAX_PENDING_RECORDS;
+        Integer autoCommitIntervalMs = configuration.getAutoCommitIntervalMs();
+        this.commitIntervalMs = autoCommitIntervalMs != null ? autoCommitIntervalMs : 0;
+        this.shutdownTimeoutMs = configuration.getShutdownTimeout();
+        // draining on revoke runs within the rebalance, which must complete within max.poll.interval.ms, so leave
+        // half of it for committing the offsets and the other members of the group
+        Long maxPollIntervalMs = configuration.getMaxPollIntervalMs();
+        long rebalanceTimeoutMs = maxPollIntervalMs != null ? maxPollIntervalMs : DEFAULT_MAX_POLL_INTERVAL_MS;
+        this.revokeTimeoutMs = Math.min(shutdownTimeoutMs, rebalanceTimeoutMs / 2);
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), new LaneCommitManager(commitManager));
+    }
+
+    /**
+     * Adds the records polled from the partition to the lane of the partition. This must be called from the polling
+     * thread.
+     */
+    public void dispatch(TopicPartition partition, List<ConsumerRecord<Object, Object>> records, boolean partitionHasNext) {
+        Lane lane = lanes.computeIfAbsent(partition, Lane::new);
+        lane.add(records, partitionHasNext);
+
+        if (lane.pending.get() >= maxPendingRecords && paused.add(partition)) {
+            LOG.debug("Pausing partition {} on thread {} as its lane has {} pending records", partition, threadId,
+                    lane.pending.get());
+            consumer.pause(List.of(partition));
+        }
+    }
+
+    /**
+     * Commits the highest contiguous offset processed by each lane since the last commit, and resumes the partitions
+     * whose lanes have caught up. This must be called from the polling thread.
+     *
+     * @param  force whether to commit regardless of the auto commit interval
+     * @return       the result, which hits break on error if a lane failed processing a record and
+     *               <tt>breakOnFirstError</tt> is enabled
+     */
+    public ProcessingResult commitProcessed(boolean force) {
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+
+        long now = System.currentTimeMillis();
+        boolean commit = force || now - lastCommitTime >= commitIntervalMs;
+        if (commit) {
+            lastCommitTime = now;
+        }
+
+        for (Lane lane : lanes.values()) {
+            long offset = lane.processedOffset;
+            if (lane.breakOnErrorHit) {
+                if (!lane.failureCommitted) {
+                    lane.failureCommitted = true;
+                    lastProcessedOffset.put(serializeOffsetKey(lane.partition), offset);
+                    // force commit, so we resume on next poll where we failed
+                    commitManager.commitOffsetForce(lane.partition, offset);
+                }
+                result = new ProcessingResult(true, offset);
+            } else if (offset > lane.committedOffset) {
+                lastProcessedOffset.put(serializeOffsetKey(lane.partition), offset);
+                if (commit) {
+                    lane.committedOffset = offset;
+                    commitManager.commitProcessedOffset(lane.partition, offset);
+                }
+            }
+        }
+
+        resumeCaughtUp();
+        return result;
+    }
+
+    /**
+     * Drains the lanes of the given partitions when the partitions are revoked: the pending records are discarded, and
+     * the records being processed are waited upon, for at most half of the max poll interval so the rebalance is not
+     * held back. The discarded records are not committed, so they are polled again, by this or another consumer. This
+     * must be called from the polling thread.
+     */
+    public void drain(Collection<TopicPartition> partitions) {
+        drain(partitions, revokeTimeoutMs);
+    }
+
+    private void drain(Collection<TopicPartition> partitions, long timeout) {
+        List<Lane> drained = new ArrayList<>();
+        for (TopicPartition partition : partitions) {
+            Lane lane = lanes.remove(partition);
+            if (lane != null) {
+                lane.stopped = true;
+                drained.add(lane);
+            }
+            paused.remove(partition);
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        for (Lane lane : drained) {
+            lane.awaitStopped(Math.max(0, deadline - System.currentTimeMillis()));
+            LOG.debug("Drained lane of partition {} on thread {} at offset {}", lane.partition, threadId,
+                    lane.processedOffset);
+
+            if (lane.processedOffset != AbstractCommitManager.START_OFFSET) {
+                lastProcessedOffset.put(serializeOffsetKey(lane.partition), lane.processedOffset);
+            }
+        }
+    }
+
+    /**
+     * Drains the lanes of all the partitions when stopping, waiting at most the shutdown timeout for the records being
+     * processed. This must be called from the polling thread.
+     */
+    public void drainAll() {
+        drain(new ArrayList<>(lanes.keySet()), shutdownTimeoutMs);
+    }
+
+    /**
+     * Drains the lanes of all the partitions, and commits their processed offsets. This must be called from the
+     * polling thread.
+     */
+    public void drainAndCommit() {
+        List<Lane> drained = new ArrayList<>(lanes.values());
+        drainAll();
+
+        for (Lane lane : drained) {
+            if (!lane.breakOnErrorHit && lane.processedOffset > lane.committedOffset) {
+                lane.committedOffset = lane.processedOffset;
+                commitManager.commitProcessedOffset(lane.partition, lane.processedOffset);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records that are pending processing in all the lanes
+     */
+    public int getPendingRecords() {
+        int answer = 0;
+        for (Lane lane : lanes.values()) {
+            answer += lane.pending.get();
+        }
+        return answer;
+    }
+
+    private void resumeCaughtUp() {
+        if (paused.isEmpty()) {
+            return;
+        }
+
+        List<TopicPartition> resumed = new ArrayList<>();
+        for (Iterator<TopicPartition> it = paused.iterator(); it.hasNext();) {
+            TopicPartition partition = it.next();
+            Lane lane = lanes.get(partition);
+            if (lane == null || lane.pending.get() < maxPendingRecords) {
+                it.remove();
+                resumed.add(partition);
+            }
+        }
+
+        if (!resumed.isEmpty()) {
+            LOG.debug("Resuming partitions {} on thread {} as their lanes have caught up", resumed, threadId);
+            consumer.resume(resumed);
+        }
+    }
+
+    private static final class PendingRecord {
+        private final ConsumerRecord<Object, Object> record;
+        private final boolean partitionHasNext;
+        private final boolean recordHasNext;
+
+        private PendingRecord(ConsumerRecord<Object, Object> record, boolean partitionHasNext, boolean recordHasNext) {
+            this.record = record;
+            this.partitionHasNext = partitionHasNext;
+            this.recordHasNext = recordHasNext;
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final TopicPartition partition;
+        private final Queue<PendingRecord> records = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        // only accessed by the worker processing the lane, which is guarded by the lock
+        private ProcessingResult lastResult = ProcessingResult.newUnprocessed();
+        // as the records are processed in order, the last processed offset is also the highest contiguous offset
+        private volatile long processedOffset = AbstractCommitManager.START_OFFSET;
+        private volatile boolean breakOnErrorHit;
+        private volatile boolean stopped;
+        // only accessed by the polling thread
+        private long committedOffset = AbstractCommitManager.START_OFFSET;
+        private boolean failureCommitted;
+
+        private Lane(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        void add(List<ConsumerRecord<Object, Object>> polled, boolean partitionHasNext) {
+            if (breakOnErrorHit) {
+                // the consumer is going to seek back to the failed record
+                return;
+            }
+
+            for (Iterator<ConsumerRecord<Object, Object>> it = polled.iterator(); it.hasNext();) {
+                ConsumerRecord<Object, Object> record = it.next();
+                records.add(new PendingRecord(record, partitionHasNext, it.hasNext()));
+                pending.incrementAndGet();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            lock.lock();
+            try {
+                PendingRecord pendingRecord = isRunnable() ? records.poll() : null;
+                if (pendingRecord != null) {
+                    pending.decrementAndGet();
+                    process(pendingRecord);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // take turns with the other lanes, one record at a time
+            scheduled.set(false);
+            if (isRunnable() && !records.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean isRunnable() {
+            return !stopped && !breakOnErrorHit && !camelKafkaConsumer.isStopping();
+        }
+
+        private void process(PendingRecord pendingRecord) {
+            ConsumerRecord<Object, Object> record = pendingRecord.record;
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                        record.offset(), record.key(), record.value());
+            }
+
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            try {
+                lastResult = kafkaRecordProcessor.processExchange(exchange, partition, pendingRecord.partitionHasNext,
+                        pendingRecord.recordHasNext, record, lastResult, camelKafkaConsumer.getExceptionHandler());
+            } finally {
+                camelKafkaConsumer.releaseExchange(exchange, false);
+            }
+
+            if (lastResult.isBreakOnErrorHit()) {
+                breakOnErrorHit = true;
+                records.clear();
+                pending.set(0);
+            } else {
+                processedOffset = lastResult.getPartitionLastOffset();
+            }
+        }
+
+        void awaitStopped(long timeout) {
+            try {
+                // wait for the record being processed, as the lane does not process more records once stopped
+                if (lock.tryLock(timeout, TimeUnit.MILLISECONDS)) {
+                    lock.unlock();
+                } else {
+                    LOG.warn("The processing of the current record from partition {} did not finish within {} millis",
+                            partition, timeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                records.clear();
+                pending.set(0);
+            }
+        }
+    }
+
+    /**
+     * The workers must not use the Kafka consumer, so forcing the commit of a failed record is deferred to the polling
+     * thread, which does so in {@link #commitProcessed(boolean)}.
+     */
+    private static final class LaneCommitManager implements CommitManager {
+        private final CommitManager delegate;
+
+        private LaneCommitManager(CommitManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public KafkaManualCommit getManualCommit(
+                Exchange exchange, TopicPartition partition, ConsumerRecord<Object, Object> record) {
+            return delegate.getManualCommit(exchange, partition, record);
+        }
+
+        @Override
+        public void commitOffset(TopicPartition partition, long partitionLastOffset) {
+            delegate.commitOffset(partition, partitionLastOffset);
+        }
+
+        @Override
+        public void commitOffsetForce(TopicPartition partition, long partitionLastOffset) {
+            // deferred to the polling thread
+        }
+
+        @Override
+        public void commitOffsetOnStop(TopicPartition partition, long partitionLastOffset) {
+            delegate.commitOffsetOnStop(partition, partitionLastOffset);
+        }
+
+        @Override
+        public void commit() {
+            delegate.commit();
+        }
+    }
+}
@@ -41,13 +41,20 @@ public class KafkaRecordProcessorFacade {
     private final String threadId;
     private final KafkaRecordProcessor kafkaRecordProcessor;
     private final CommitManager commitManager;
+    private final KafkaPartitionLanes partitionLanes;
 
     public KafkaRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, Map<String, Long> lastProcessedOffset, String threadId,
                                       CommitManager commitManager) {
+        this(camelKafkaConsumer, lastProcessedOffset, threadId, commitManager, null);
+    }
+
+    public KafkaRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, Map<String, Long> lastProcessedOffset, String threadId,
+                                      CommitManager commitManager, KafkaPartitionLanes partitionLanes) {
         this.camelKafkaConsumer = camelKafkaConsumer;
         this.lastProcessedOffset = lastProcessedOffset;
         this.threadId = threadId;
         this.commitManager = commitManager;
+        this.partitionLanes = partitionLanes;
 
         kafkaRecordProcessor = buildKafkaRecordProcessor(commitManager);
 
@@ -60,6 +67,10 @@ public class KafkaRecordProcessorFacade {
     public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
         logRecords(allRecords);
 
+        if (partitionLanes != null) {
+            return dispatchPolledRecords(allRecords);
+        }
+
         Set<TopicPartition> partitions = allRecords.partitions();
         Iterator<TopicPartition> partitionIterator = partitions.iterator();
 
@@ -91,6 +102,22 @@ public class KafkaRecordProcessorFacade {
         return lastResult;
     }
 
+    private ProcessingResult dispatchPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+
+        while (partitionIterator.hasNext() && !isStopping()) {
+            TopicPartition partition = partitionIterator.next();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            partitionLanes.dispatch(partition, partitionRecords, partitionIterator.hasNext());
+        }
+
+        // the records are processed by the lanes, so commit what they have processed so far
+        return partitionLanes.commitProcessed(false);
+    }
+
     private void logRecordsInPartition(List<ConsumerRecord<Object, Object>> partitionRecords, TopicPartition partition) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Records count {} received for partition {}", partitionRecords.size(),
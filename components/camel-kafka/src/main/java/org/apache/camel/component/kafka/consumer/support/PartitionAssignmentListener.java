@@ -40,17 +40,26 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
     private final Map<String, Long> lastProcessedOffset;
     private final KafkaConsumerResumeStrategy resumeStrategy;
     private final CommitManager commitManager;
+    private final KafkaPartitionLanes partitionLanes;
     private Supplier<Boolean> stopStateSupplier;
 
     public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
                                        Consumer consumer, Map<String, Long> lastProcessedOffset,
                                        Supplier<Boolean> stopStateSupplier, CommitManager commitManager) {
+        this(threadId, configuration, consumer, lastProcessedOffset, stopStateSupplier, commitManager, null);
+    }
+
+    public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
+                                       Consumer consumer, Map<String, Long> lastProcessedOffset,
+                                       Supplier<Boolean> stopStateSupplier, CommitManager commitManager,
+                                       KafkaPartitionLanes partitionLanes) {
         this.threadId = threadId;
         this.configuration = configuration;
         this.consumer = consumer;
         this.lastProcessedOffset = lastProcessedOffset;
         this.commitManager = commitManager;
         this.stopStateSupplier = stopStateSupplier;
+        this.partitionLanes = partitionLanes;
 
         this.resumeStrategy = ResumeStrategyFactory.newResumeStrategy(configuration);
     }
@@ -61,6 +70,11 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
         // if camel is stopping, or we are not running
         boolean stopping = stopStateSupplier.get();
 
+        if (partitionLanes != null) {
+            // wait for the lanes to finish the records being processed, so the last processed offsets are known
+            partitionLanes.drain(partitions);
+        }
+
         for (TopicPartition partition : partitions) {
             LOG.debug("onPartitionsRevoked: {} from {}", threadId, partition.topic());
 
@@ -74,6 +88,8 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
                 if (configuration.getAutoCommitEnable()) {
                     if (stopping) {
                         commitManager.commitOffsetOnStop(partition, offset);
+                    } else if (partitionLanes != null) {
+                        commitManager.commitProcessedOffset(partition, offset);
                     } else {
                         commitManager.commitOffset(partition, offset);
                     }
@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka;
 
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.consumer.DefaultKafkaManualCommitFactory;
 import org.apache.camel.spi.ExchangeFactory;
 import org.junit.jupiter.api.Test;
 
@@ -66,4 +67,21 @@ public class KafkaConsumerTest {
 
         assertDoesNotThrow(() -> new KafkaConsumer(endpoint, processor));
     }
+
+    @Test
+    public void partitionWorkersRequireAsyncManualCommit() throws Exception {
+        when(endpoint.getCamelContext()).thenReturn(ecc);
+        when(ecc.adapt(ExtendedCamelContext.class)).thenReturn(ecc);
+        when(ecc.getExchangeFactory()).thenReturn(ef);
+        when(ef.newExchangeFactory(any())).thenReturn(ef);
+        when(endpoint.getComponent()).thenReturn(component);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(configuration.getPartitionWorkerPoolSize()).thenReturn(4);
+        when(configuration.isAllowManualCommit()).thenReturn(true);
+        when(endpoint.getKafkaManualCommitFactory()).thenReturn(new DefaultKafkaManualCommitFactory());
+        final KafkaConsumer kafkaConsumer = new KafkaConsumer(endpoint, processor);
+
+        // the sync manual commits would use the Kafka consumer from the worker threads
+        assertThrows(IllegalArgumentException.class, kafkaConsumer::start);
+    }
 }
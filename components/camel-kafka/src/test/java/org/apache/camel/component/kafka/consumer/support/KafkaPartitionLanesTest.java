@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaPartitionLanesTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final Map<String, Long> lastProcessedOffset = new HashMap<>();
+    private final Map<Integer, List<Long>> processed = new HashMap<>();
+    private ExecutorService executor;
+    private volatile CountDownLatch partition0Latch;
+    private volatile long failOffset = -1;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        processed.put(0, Collections.synchronizedList(new ArrayList<>()));
+        processed.put(1, Collections.synchronizedList(new ArrayList<>()));
+
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(camelKafkaConsumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getProcessor()).thenReturn(this::process);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void process(Exchange exchange) throws Exception {
+        int partition = exchange.getMessage().getHeader(KafkaConstants.PARTITION, Integer.class);
+        long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+        if (partition == 0 && partition0Latch != null) {
+            partition0Latch.await(10, TimeUnit.SECONDS);
+        }
+        if (offset == failOffset) {
+            throw new IllegalArgumentException("Forced");
+        }
+        processed.get(partition).add(offset);
+    }
+
+    private static List<ConsumerRecord<Object, Object>> records(TopicPartition partition, int count) {
+        List<ConsumerRecord<Object, Object>> answer = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            answer.add(new ConsumerRecord<>(partition.topic(), partition.partition(), i, "key", "value" + i));
+        }
+        return answer;
+    }
+
+    private static void awaitProcessed(List<Long> offsets, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (offsets.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, offsets.size());
+    }
+
+    private void awaitCommitted(KafkaPartitionLanes lanes, String offsetKey, long offset) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            lanes.commitProcessed(true);
+            Long last = lastProcessedOffset.get(offsetKey);
+            if (last != null && last == offset) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        assertEquals(offset, lastProcessedOffset.get(offsetKey).longValue());
+    }
+
+    @Test
+    public void testOrderedPerPartition() throws Exception {
+        KafkaPartitionLanes lanes
+                = new KafkaPartitionLanes(camelKafkaConsumer, consumer, executor, lastProcessedOffset, "0", commitManager);
+
+        lanes.dispatch(PARTITION_0, records(PARTITION_0, 50), true);
+        lanes.dispatch(PARTITION_1, records(PARTITION_1, 50), false);
+
+        awaitCommitted(lanes, "test/0", 49);
+        awaitCommitted(lanes, "test/1", 49);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, processed.get(0).get(i).longValue());
+            assertEquals(i, processed.get(1).get(i).longValue());
+        }
+
+        assertFalse(lanes.commitProcessed(true).isBreakOnErrorHit());
+        verify(commitManager).commitProcessedOffset(PARTITION_0, 49);
+        verify(commitManager).commitProcessedOffset(PARTITION_1, 49);
+        assertEquals(49, lastProcessedOffset.get("test/0").longValue());
+        assertEquals(49, lastProcessedOffset.get("test/1").longValue());
+    }
+
+    @Test
+    public void testSlowPartitionDoesNotHoldBackOthers() throws Exception {
+        partition0Latch = new CountDownLatch(1);
+        KafkaPartitionLanes lanes
+                = new KafkaPartitionLanes(camelKafkaConsumer, consumer, executor, lastProcessedOffset, "0", commitManager);
+
+        lanes.dispatch(PARTITION_0, records(PARTITION_0, 10), true);
+        lanes.dispatch(PARTITION_1, records(PARTITION_1, 10), false);
+
+        // partition 1 is processed while partition 0 is blocked, and only partition 1 is committed
+        awaitCommitted(lanes, "test/1", 9);
+        verify(commitManager).commitProcessedOffset(PARTITION_1, 9);
+        verify(commitManager, never()).commitProcessedOffset(eq(PARTITION_0), anyLong());
+
+        partition0Latch.countDown();
+        awaitCommitted(lanes, "test/0", 9);
+        verify(commitManager).commitProcessedOffset(PARTITION_0, 9);
+    }
+
+    @Test
+    public void testDrainDiscardsPendingRecords() throws Exception {
+        partition0Latch = new CountDownLatch(1);
+        KafkaPartitionLanes lanes
+                = new KafkaPartitionLanes(camelKafkaConsumer, consumer, executor, lastProcessedOffset, "0", commitManager);
+
+        lanes.dispatch(PARTITION_0, records(PARTITION_0, 10), false);
+
+        // release the record being processed while draining
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            partition0Latch.countDown();
+        });
+        releaser.start();
+        lanes.drain(Collections.singletonList(PARTITION_0));
+
+        // only the record being processed was completed, the others are polled again after the rebalance
+        assertEquals(1, processed.get(0).size());
+        assertEquals(0, lastProcessedOffset.get("test/0").longValue());
+        assertEquals(0, lanes.getPendingRecords());
+    }
+
+    @Test
+    public void testDrainOnRevokeBoundedByMaxPollInterval() throws Exception {
+        configuration.setShutdownTimeout(30000);
+        configuration.setMaxPollIntervalMs(400L);
+        partition0Latch = new CountDownLatch(1);
+        KafkaPartitionLanes lanes
+                = new KafkaPartitionLanes(camelKafkaConsumer, consumer, executor, lastProcessedOffset, "0", commitManager);
+
+        lanes.dispatch(PARTITION_0, records(PARTITION_0, 10), false);
+        try {
+            // the record being processed is not waited upon for longer than half of the max poll interval
+            long start = System.currentTimeMillis();
+            lanes.drain(Collections.singletonList(PARTITION_0));
+            long elapsed = System.currentTimeMillis() - start;
+            assertTrue(elapsed < 5000, "Should not wait for the shutdown timeout, was: " + elapsed);
+            assertEquals(0, lanes.getPendingRecords());
+        } finally {
+            partition0Latch.countDown();
+        }
+    }
+
+    @Test
+    public void testBreakOnFirstError() throws Exception {
+        configuration.setBreakOnFirstError(true);
+        failOffset = 5;
+        KafkaPartitionLanes lanes
+                = new KafkaPartitionLanes(camelKafkaConsumer, consumer, executor, lastProcessedOffset, "0", commitManager);
+
+        lanes.dispatch(PARTITION_0, records(PARTITION_0, 10), false);
+        awaitProcessed(processed.get(0), 5);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!result.isBreakOnErrorHit() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            result = lanes.commitProcessed(false);
+        }
+
+        // the failed record is committed from the polling thread, so the consumer resumes from it
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(4, result.getPartitionLastOffset());
+        verify(commitManager).commitOffsetForce(PARTITION_0, 4);
+        verify(commitManager, never()).commitOffsetForce(eq(PARTITION_1), anyLong());
+        assertEquals(5, processed.get(0).size());
+        assertEquals(0, lanes.getPendingRecords());
+        verify(commitManager, never()).getManualCommit(any(), any(), any());
+    }
+}
@@ -238,6 +238,12 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return Collections.unmodifiableSet(keys);
     }
 
+    @Override
+    public boolean isLockStripingSupported() {
+        // leveldb supports concurrent reads and writes of different keys
+        return true;
+    }
+
     @Override
     public Set<String> scan(CamelContext camelContext) {
         final Set<String> answer = new LinkedHashSet<>();
@@ -19,6 +19,7 @@ package org.apache.camel.component.netty.http.handlers;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -41,6 +42,7 @@ import org.apache.camel.component.netty.http.InboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.NettyHttpConfiguration;
 import org.apache.camel.component.netty.http.NettyHttpConsumer;
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathTrie;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +69,8 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpConsumer.class);
     private static final AttributeKey<HttpServerChannelHandler> SERVER_HANDLER_KEY = AttributeKey.valueOf("serverHandler");
     private final Set<HttpServerChannelHandler> consumers = new CopyOnWriteArraySet<>();
+    private volatile RestConsumerContextPathTrie<HttpServerChannelHandler> trie
+            = new RestConsumerContextPathTrie<>(Collections.emptyList());
     private int port;
     private String token;
     private int len;
@@ -83,17 +87,27 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
     }
 
     @Override
-    public void addConsumer(NettyHttpConsumer consumer) {
+    public synchronized void addConsumer(NettyHttpConsumer consumer) {
         consumers.add(new HttpServerChannelHandler(consumer));
+        rebuildTrie();
     }
 
     @Override
-    public void removeConsumer(NettyHttpConsumer consumer) {
+    public synchronized void removeConsumer(NettyHttpConsumer consumer) {
         for (HttpServerChannelHandler handler : consumers) {
             if (handler.getConsumer() == consumer) {
                 consumers.remove(handler);
             }
         }
+        rebuildTrie();
+    }
+
+    private void rebuildTrie() {
+        List<HttpRestConsumerPath> paths = new ArrayList<>(consumers.size());
+        for (final HttpServerChannelHandler handler : consumers) {
+            paths.add(new HttpRestConsumerPath(handler));
+        }
+        trie = new RestConsumerContextPathTrie<>(paths);
     }
 
     @Override
@@ -237,13 +251,7 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
         // use the path as key to find the consumer handler to use
         path = pathAsKey(path);
 
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final HttpServerChannelHandler handler : consumers) {
-            paths.add(new HttpRestConsumerPath(handler));
-        }
-
-        RestConsumerContextPathMatcher.ConsumerPath<HttpServerChannelHandler> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+        RestConsumerContextPathMatcher.ConsumerPath<HttpServerChannelHandler> best = trie.matchBestPath(method, path);
         if (best != null) {
             answer = best.getConsumer();
         }
@@ -33,6 +33,7 @@ import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -184,8 +185,10 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
             workerPool = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "NettyTimeoutWorkerPool");
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
-        map.addListener(this::onEviction);
+        DefaultTimeoutMap<String, NettyCamelState> timeoutMap = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        timeoutMap.setTimer(HashedWheelTimer.sharedTimer(camelContext));
+        timeoutMap.addListener(this::onEviction);
+        map = timeoutMap;
 
         ServiceHelper.startService(map);
     }
@@ -37,6 +37,7 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.support.task.ForegroundTask;
 import org.apache.camel.support.task.Tasks;
 import org.apache.camel.support.task.budget.Budgets;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -238,7 +239,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // waiting for an expected reply
         // when doing request/reply over JMS
         LOG.debug("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(executorService, endpoint.getRequestTimeoutCheckerInterval());
+        CorrelationTimeoutMap map = new CorrelationTimeoutMap(executorService, endpoint.getRequestTimeoutCheckerInterval());
+        map.setTimer(HashedWheelTimer.sharedTimer(camelContext));
+        correlation = map;
         ServiceHelper.startService(correlation);
 
         // create listener and start it
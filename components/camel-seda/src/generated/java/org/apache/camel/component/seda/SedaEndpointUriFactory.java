@@ -21,7 +21,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(22);
         props.add("exchangePattern");
         props.add("pollTimeout");
         props.add("failIfNoConsumers");
@@ -30,6 +30,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("blockWhenFull");
         props.add("discardWhenFull");
         props.add("concurrentConsumers");
+        props.add("batchTimeout");
         props.add("timeout");
         props.add("lazyStartProducer");
         props.add("bridgeErrorHandler");
@@ -37,6 +38,8 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("size");
         props.add("discardIfNoConsumers");
         props.add("name");
+        props.add("batchSize");
+        props.add("batchExchange");
         props.add("exceptionHandler");
         props.add("purgeWhenStopping");
         props.add("multipleConsumers");
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded {@link BlockingQueue} which is lock-free for multiple producers and multiple consumers.
+ * <p/>
+ * The queue is a ring buffer where each slot has a sequence number, which producers and consumers claim using
+ * compare-and-set on the tail and head counters. Blocking operations do not use locks and conditions, but wait using
+ * the configured {@link WaitStrategy}.
+ * <p/>
+ * Removing an element which is not at the head of the queue (such as a timed out exchange) leaves an empty slot behind,
+ * which is skipped by the consumers. Iterating the queue returns a snapshot of the elements.
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * How to wait when the queue is full (producers) or empty (consumers).
+     */
+    public enum WaitStrategy {
+        /**
+         * Busy spins, which has the lowest latency but uses a CPU core per waiting thread.
+         */
+        Spin,
+        /**
+         * Spins for a short while and then yields the thread, which uses less CPU when other threads are runnable.
+         */
+        Yield,
+        /**
+         * Spins and yields for a short while and then parks the thread until it is woken up when the queue is no
+         * longer empty (consumers) or full (producers), which uses the least CPU when waiting for a long time.
+         */
+        Park
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+    private final Queue<Thread> notEmptyWaiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> notFullWaiters = new ConcurrentLinkedQueue<>();
+    private final WaitStrategy waitStrategy;
+
+    public MpmcArrayBlockingQueue(int capacity) {
+        this(capacity, WaitStrategy.Park);
+    }
+
+    public MpmcArrayBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30) + ", was: " + capacity);
+        }
+        ObjectHelper.notNull(waitStrategy, "waitStrategy");
+        this.capacity = capacity;
+        int size = capacity == 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.waitStrategy = waitStrategy;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        ObjectHelper.notNull(e, "element");
+        for (;;) {
+            long t = tail.get();
+            if (t - head.get() >= capacity) {
+                return false;
+            }
+            int index = (int) t & mask;
+            long dif = sequences.get(index) - t;
+            if (dif == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    buffer.set(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, t + 1);
+                    signal(notEmptyWaiters);
+                    return true;
+                }
+            } else if (dif < 0) {
+                // the consumer of the previous round has not yet freed the slot
+                return false;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        for (;;) {
+            long h = head.get();
+            int index = (int) h & mask;
+            long dif = sequences.get(index) - (h + 1);
+            if (dif == 0) {
+                if (head.compareAndSet(h, h + 1)) {
+                    Object e = buffer.getAndSet(index, null);
+                    // free the slot for the producer of the next round
+                    sequences.set(index, h + mask + 1);
+                    signal(notFullWaiters);
+                    if (e != REMOVED) {
+                        return (E) e;
+                    }
+                    removed.decrementAndGet();
+                }
+            } else if (dif < 0) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int index = (int) i & mask;
+            Object e = buffer.get(index);
+            if (e != null && e != REMOVED && sequences.get(index) == i + 1) {
+                return (E) e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int tries = 0;
+        while (!offer(e)) {
+            tries = await(tries, 0, notFullWaiters);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int tries = 0;
+        while (!offer(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            tries = await(tries, remaining, notFullWaiters);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int tries = 0;
+        E e;
+        while ((e = poll()) == null) {
+            tries = await(tries, 0, notEmptyWaiters);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int tries = 0;
+        E e;
+        while ((e = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            tries = await(tries, remaining, notEmptyWaiters);
+        }
+        return e;
+    }
+
+    /**
+     * Waits according to the wait strategy
+     *
+     * @param  tries     number of times waited so far
+     * @param  remaining the remaining nanos to wait, or 0 to wait without timeout
+     * @param  waiters   the waiters to park in, which are woken up when the queue is no longer empty or full
+     * @return           the number of times waited
+     */
+    private int await(int tries, long remaining, Queue<Thread> waiters) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (waitStrategy == WaitStrategy.Spin || tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.Yield || tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            Thread thread = Thread.currentThread();
+            waiters.add(thread);
+            try {
+                // check again after registering as waiter, so we do not miss the signal
+                boolean ready = waiters == notEmptyWaiters ? head.get() < tail.get() : tail.get() - head.get() < capacity;
+                if (!ready) {
+                    if (remaining > 0) {
+                        LockSupport.parkNanos(this, remaining);
+                    } else {
+                        LockSupport.park(this);
+                    }
+                }
+            } finally {
+                waiters.remove(thread);
+            }
+        }
+        return tries + 1;
+    }
+
+    /**
+     * Wakes up a thread (if any) which is parked waiting for the queue to no longer be empty or full
+     */
+    private static void signal(Queue<Thread> waiters) {
+        if (!waiters.isEmpty()) {
+            Thread thread = waiters.poll();
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        // read head first as the tail is always ahead of the head
+        long h = head.get();
+        long t = tail.get();
+        // the slots of removed elements are still in the queue until the consumers skip them
+        return (int) Math.max(0, Math.min(capacity, t - h - removed.get()));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int index = (int) i & mask;
+            Object e = buffer.get(index);
+            if (e != null && e != REMOVED && o.equals(e) && sequences.get(index) == i + 1) {
+                // leave a marker in the slot which the consumers skip
+                if (buffer.compareAndSet(index, e, REMOVED)) {
+                    removed.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to the same queue");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in the queue. The iterator does not support removal.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        long h = head.get();
+        long t = tail.get();
+        if (h >= t) {
+            return Collections.emptyIterator();
+        }
+        List<E> answer = new ArrayList<>((int) Math.min(capacity, t - h));
+        for (long i = h; i < t; i++) {
+            int index = (int) i & mask;
+            Object e = buffer.get(index);
+            if (e != null && e != REMOVED && sequences.get(index) == i + 1) {
+                answer.add((E) e);
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -24,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
@@ -34,6 +36,7 @@ import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -50,15 +53,22 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    private final AtomicInteger pendingBatchCount = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final int batchTimeout;
+    private final boolean batchExchange;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
+        this.batchExchange = endpoint.isBatchExchange();
     }
 
     @Override
@@ -80,7 +90,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        // and the exchanges which has been taken from the queue in a batch but not yet processed
+        return getEndpoint().getQueue().size() + pendingBatchCount.get();
     }
 
     @Override
@@ -180,20 +191,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 1) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -213,6 +214,115 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Takes up to batchSize exchanges from the queue (waiting at most batchTimeout for the batch to fill up), and
+     * processes them in the same order they were queued.
+     *
+     * @param queue the queue
+     * @param first the first exchange of the batch, which has already been polled from the queue
+     */
+    protected void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        pendingBatchCount.incrementAndGet();
+        pendingBatchCount.addAndGet(queue.drainTo(batch, batchSize - 1));
+        if (batchTimeout > 0 && batch.size() < batchSize) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            try {
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Exchange next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    pendingBatchCount.incrementAndGet();
+                    pendingBatchCount.addAndGet(queue.drainTo(batch, batchSize - batch.size()));
+                }
+            } catch (InterruptedException e) {
+                // the exchanges has been taken from the queue so they must be processed
+                LOG.debug("Waiting for batch interrupted, are we stopping? {}", isStopping() || isStopped());
+            }
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polled batch of {} exchanges from queue {}", batch.size(), ObjectHelper.getIdentityHashCode(queue));
+        }
+
+        if (batchExchange) {
+            pendingBatchCount.addAndGet(-batch.size());
+            processBatchExchange(batch);
+        } else {
+            int total = batch.size();
+            for (int index = 0; index < total; index++) {
+                Exchange exchange = batch.get(index);
+                pendingBatchCount.decrementAndGet();
+                exchange.setProperty(Exchange.BATCH_INDEX, index);
+                exchange.setProperty(Exchange.BATCH_SIZE, total);
+                exchange.setProperty(Exchange.BATCH_COMPLETE, index == total - 1);
+                processExchange(exchange);
+            }
+        }
+    }
+
+    private void processBatchExchange(List<Exchange> queued) {
+        // the batch exchange has only one result, so it cannot reply to callers which expect a reply of their own
+        final List<Exchange> batch = new ArrayList<>(queued.size());
+        for (Exchange exchange : queued) {
+            if (ExchangeHelper.isOutCapable(exchange)) {
+                exchange.setException(new CamelExchangeException(
+                        "Cannot process exchange with InOut pattern as part of a batch exchange", exchange));
+                List<Synchronization> completions = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+                UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+            } else {
+                batch.add(exchange);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Exchange exchange = getEndpoint().createExchange();
+        exchange.getIn().setBody(batch);
+        exchange.setProperty(Exchange.BATCH_SIZE, batch.size());
+        // the queued exchanges are done when the batch exchange is done
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange done) {
+                for (Exchange queued : batch) {
+                    if (done.getException() != null && queued.getException() == null) {
+                        queued.setException(done.getException());
+                    }
+                    List<Synchronization> completions = queued.adapt(ExtendedExchange.class).handoverCompletions();
+                    UnitOfWorkHelper.doneSynchronizations(queued, completions, LOG);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "onDone batch of " + batch.size() + " exchanges at endpoint: " + getEndpoint();
+            }
+        });
+        processExchange(exchange);
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -84,6 +84,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private int batchTimeout;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchExchange;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -440,6 +446,49 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages each consumer thread takes from the queue at once, which are then processed one
+     * after the other (in the order they were queued) by the same thread. This reduces the overhead of polling the
+     * queue when there are many small messages. The messages are processed as a batch with the batch exchange
+     * properties (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public int getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The time (in milliseconds) a consumer thread waits for more messages to arrive when the batch has not been filled
+     * up to the batchSize. By default the consumer does not wait, and processes the messages that were on the queue.
+     */
+    public void setBatchTimeout(int batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchExchange() {
+        return batchExchange;
+    }
+
+    /**
+     * Whether to process a batch as a single exchange, which has a java.util.List of the queued exchanges as message
+     * body, instead of processing the queued exchanges one by one. The queued exchanges are completed (or failed) when
+     * the batch exchange is done. Queued exchanges with InOut pattern are failed, as the batch exchange cannot reply to
+     * each of them. This option is only in use when batchSize is higher than 1.
+     */
+    public void setBatchExchange(boolean batchExchange) {
+        this.batchExchange = batchExchange;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
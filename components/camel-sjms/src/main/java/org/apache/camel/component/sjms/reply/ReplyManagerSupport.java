@@ -37,6 +37,7 @@ import org.apache.camel.component.sjms.jms.JmsMessageHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -209,6 +210,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.trace("Using timeout checker interval with {} millis", endpoint.getComponent().getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
                 scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setTimer(HashedWheelTimer.sharedTimer(camelContext));
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
@@ -415,6 +415,12 @@ public class JdbcAggregationRepository extends ServiceSupport
         return getKeys(getRepositoryName());
     }
 
+    @Override
+    public boolean isLockStripingSupported() {
+        // each operation runs in its own transaction on the row of the correlation key
+        return true;
+    }
+
     @Override
     public Set<String> scan(CamelContext camelContext) {
         return getKeys(getRepositoryNameCompleted());
@@ -18,6 +18,7 @@ package org.apache.camel.component.undertow.handlers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -29,6 +30,7 @@ import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
 import org.apache.camel.component.undertow.UndertowConsumer;
 import org.apache.camel.support.RestConsumerContextPathMatcher;
+import org.apache.camel.support.RestConsumerContextPathTrie;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 
 /**
@@ -42,6 +44,7 @@ public class RestRootHandler implements HttpHandler {
             = Arrays.asList("GET", "HEAD", "POST", "PUT", "DELETE", "TRACE", "OPTIONS", "CONNECT", "PATCH");
 
     private final Set<UndertowConsumer> consumers = new CopyOnWriteArraySet<>();
+    private volatile RestConsumerContextPathTrie<UndertowConsumer> trie = new RestConsumerContextPathTrie<>(Collections.emptyList());
 
     //private int port; // unread field
     private String token;
@@ -59,15 +62,25 @@ public class RestRootHandler implements HttpHandler {
     /**
      * Adds the given consumer.
      */
-    public void addConsumer(UndertowConsumer consumer) {
+    public synchronized void addConsumer(UndertowConsumer consumer) {
         consumers.add(consumer);
+        rebuildTrie();
     }
 
     /**
      * Removes the given consumer
      */
-    public void removeConsumer(UndertowConsumer consumer) {
+    public synchronized void removeConsumer(UndertowConsumer consumer) {
         consumers.remove(consumer);
+        rebuildTrie();
+    }
+
+    private void rebuildTrie() {
+        List<RestConsumerPath> paths = new ArrayList<>(consumers.size());
+        for (final UndertowConsumer consumer : consumers) {
+            paths.add(new RestConsumerPath(consumer));
+        }
+        trie = new RestConsumerContextPathTrie<>(paths);
     }
 
     /**
@@ -118,13 +131,7 @@ public class RestRootHandler implements HttpHandler {
         // use the path as key to find the consumer handler to use
         path = pathAsKey(path);
 
-        List<RestConsumerContextPathMatcher.ConsumerPath> paths = new ArrayList<>();
-        for (final UndertowConsumer consumer : consumers) {
-            paths.add(new RestConsumerPath(consumer));
-        }
-
-        RestConsumerContextPathMatcher.ConsumerPath<UndertowConsumer> best
-                = RestConsumerContextPathMatcher.matchBestPath(method, path, paths);
+        RestConsumerContextPathMatcher.ConsumerPath<UndertowConsumer> best = trie.matchBestPath(method, path);
         if (best != null) {
             answer = best.getConsumer();
         }
@@ -82,4 +82,15 @@ public interface AggregationRepository {
      */
     Set<String> getKeys();
 
+    /**
+     * Whether the repository can be updated concurrently for different correlation keys, which is required to use
+     * lock striping in the aggregator. The same correlation key is never updated concurrently when using lock
+     * striping.
+     *
+     * @return <tt>true</tt> if lock striping is supported, or <tt>false</tt> by default
+     */
+    default boolean isLockStripingSupported() {
+        return false;
+    }
+
 }
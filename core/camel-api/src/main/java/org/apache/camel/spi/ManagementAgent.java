@@ -276,6 +276,57 @@ public interface ManagementAgent extends Service {
      */
     Boolean getEndpointRuntimeStatisticsEnabled();
 
+    /**
+     * Sets whether latency histograms is enabled (gathers the processing time of the routes and processors in
+     * histograms, to provide percentiles of the processing time, such as the 99th percentile).
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable latency histograms
+     */
+    void setLatencyHistogramEnabled(Boolean flag);
+
+    /**
+     * Gets whether latency histograms is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getLatencyHistogramEnabled();
+
+    /**
+     * Sets the number of significant digits of the processing time in the latency histograms, which must be between 1
+     * and 3. A higher precision uses more memory per route and processor.
+     * <p/>
+     * The default value is <tt>2</tt>
+     *
+     * @param precision the number of significant digits
+     */
+    void setLatencyHistogramPrecision(Integer precision);
+
+    /**
+     * Gets the number of significant digits of the processing time in the latency histograms
+     *
+     * @return the number of significant digits
+     */
+    Integer getLatencyHistogramPrecision();
+
+    /**
+     * Sets the duration in millis of the rolling window of the latency histograms. The percentiles are computed from
+     * the processing times in the current and the previous window.
+     * <p/>
+     * The default value is <tt>60000</tt>
+     *
+     * @param window the window in millis, or 0 to not roll over
+     */
+    void setLatencyHistogramWindow(Long window);
+
+    /**
+     * Gets the duration in millis of the rolling window of the latency histograms
+     *
+     * @return the window in millis
+     */
+    Long getLatencyHistogramWindow();
+
     /**
      * Sets the statistics level
      * <p/>
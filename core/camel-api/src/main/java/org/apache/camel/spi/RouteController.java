@@ -42,6 +42,40 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Whether routes are initialized, warmed up and started in parallel.
+     */
+    default boolean isParallelStartup() {
+        return false;
+    }
+
+    /**
+     * Sets whether routes should be initialized, warmed up and started in parallel.
+     * <p/>
+     * Routes are started in groups: routes configured with the same startupOrder are a group, and routes without a
+     * startupOrder are a group as well. The routes within a group are started in parallel, while the groups are still
+     * started one after the other in startupOrder. Routes configured with the same startupOrder are therefore allowed
+     * when this is enabled. This is turned off by default.
+     */
+    default void setParallelStartup(boolean parallelStartup) {
+        // noop
+    }
+
+    /**
+     * Gets the maximum number of threads used for parallel route startup.
+     */
+    default int getParallelStartupPoolSize() {
+        return 1;
+    }
+
+    /**
+     * Sets the maximum number of threads used for parallel route startup. The default is the number of available
+     * processors.
+     */
+    default void setParallelStartupPoolSize(int parallelStartupPoolSize) {
+        // noop
+    }
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
@@ -49,4 +49,15 @@ public interface RoutesBuilderLoader extends StaticService, CamelContextAware {
      * @return          a {@link RoutesBuilder}
      */
     RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception;
+
+    /**
+     * Whether this loader supports loading multiple resources concurrently, which is used when
+     * {@link RoutesLoader#isParallelLoading()} is enabled.
+     * <p/>
+     * Loaders which return <tt>true</tt> must be able to have {@link #loadRoutesBuilder(Resource)} called from multiple
+     * threads at the same time. The default is <tt>false</tt>.
+     */
+    default boolean isParallelLoadingSupported() {
+        return false;
+    }
 }
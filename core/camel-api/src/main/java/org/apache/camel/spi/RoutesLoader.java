@@ -35,6 +35,42 @@ public interface RoutesLoader extends CamelContextAware {
      */
     String FACTORY = "routes-loader";
 
+    /**
+     * Whether resources are loaded in parallel.
+     */
+    default boolean isParallelLoading() {
+        return false;
+    }
+
+    /**
+     * Sets whether resources should be loaded in parallel.
+     * <p/>
+     * When enabled, then {@link #findRoutesBuilders(Collection)} parses the resources concurrently, using the
+     * {@link RoutesBuilderLoader}s which supports this (such as the XML and YAML DSLs), and returns the
+     * {@link RoutesBuilder}s in the same order as the given resources. This can speedup loading many route files. This
+     * is turned off by default.
+     *
+     * @see RoutesBuilderLoader#isParallelLoadingSupported()
+     */
+    default void setParallelLoading(boolean parallelLoading) {
+        // noop
+    }
+
+    /**
+     * Gets the maximum number of threads used for loading resources in parallel.
+     */
+    default int getParallelLoadingPoolSize() {
+        return 1;
+    }
+
+    /**
+     * Sets the maximum number of threads used for loading resources in parallel. The default is the number of available
+     * processors.
+     */
+    default void setParallelLoadingPoolSize(int parallelLoadingPoolSize) {
+        // noop
+    }
+
     /**
      * Loads {@link RoutesBuilder} from the give list of {@link Resource} into the current
      * {@link org.apache.camel.CamelContext}.
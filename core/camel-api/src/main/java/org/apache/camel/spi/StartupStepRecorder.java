@@ -108,4 +108,32 @@ public interface StartupStepRecorder extends StaticService {
      */
     void endStep(StartupStep step);
 
+    /**
+     * Gets the current step on the calling thread, or <tt>null</tt> if no step is active.
+     * <p>
+     * Steps are tracked per thread. When work is handed over to another thread, then the current step can be attached
+     * on that thread using {@link #attachStep(StartupStep)}, so the steps begun by the work are nested under it.
+     */
+    default StartupStep getCurrentStep() {
+        return null;
+    }
+
+    /**
+     * Attaches the step, which was begun on another thread, as the current step on the calling thread.
+     * <p>
+     * Important must call {@link #detachStep(StartupStep)} when the calling thread is done.
+     *
+     * @param step the step from {@link #getCurrentStep()} of the other thread, may be <tt>null</tt>
+     */
+    default void attachStep(StartupStep step) {
+        // noop
+    }
+
+    /**
+     * Detaches the step that was attached on the calling thread using {@link #attachStep(StartupStep)}.
+     */
+    default void detachStep(StartupStep step) {
+        // noop
+    }
+
 }
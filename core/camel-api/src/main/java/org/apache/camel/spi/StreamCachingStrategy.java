@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,41 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of stream caches spooled to off-heap memory.
+         */
+        default long getCacheOffHeapCounter() {
+            return 0;
+        }
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        default long getCacheOffHeapSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        default long getCacheOffHeapAverageSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of bytes of off-heap memory currently in use by stream caches.
+         */
+        default long getOffHeapPoolUsedSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of bytes of off-heap memory currently allocated by the pool (in use or free to be reused).
+         */
+        default long getOffHeapPoolAllocatedSize() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -172,6 +208,56 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets the maximum number of bytes of off-heap memory to use for spooling.
+     * <p/>
+     * When set, then streams which should be spooled are stored in pooled off-heap (direct) buffers instead of a file,
+     * and only the part of the stream which does not fit in the pool is spooled to a (memory mapped) file. This avoids
+     * creating large arrays on the heap, and many small temporary files. Spooling to off-heap memory is not used when a
+     * spool cipher is configured.
+     * <p/>
+     * By default this is 0 which means off-heap spooling is disabled.
+     */
+    default void setSpoolOffHeapPoolSize(long size) {
+        // noop
+    }
+
+    default long getSpoolOffHeapPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the size of the off-heap buffers (chunks) allocated from the off-heap pool.
+     * <p/>
+     * The default size is 64kb.
+     */
+    default void setSpoolOffHeapChunkSize(int size) {
+        // noop
+    }
+
+    default int getSpoolOffHeapChunkSize() {
+        return 0;
+    }
+
+    /**
+     * Acquires an off-heap buffer from the pool, which must be released with {@link #releaseOffHeapChunk(ByteBuffer)}
+     * when no longer in use.
+     *
+     * @return the buffer (cleared), or <tt>null</tt> if off-heap spooling is disabled or the pool is used up
+     */
+    default ByteBuffer acquireOffHeapChunk() {
+        return null;
+    }
+
+    /**
+     * Releases the off-heap buffer back to the pool.
+     *
+     * @param chunk the buffer acquired using {@link #acquireOffHeapChunk()}
+     */
+    default void releaseOffHeapChunk(ByteBuffer chunk) {
+        // noop
+    }
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
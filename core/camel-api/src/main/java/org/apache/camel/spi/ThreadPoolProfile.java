@@ -40,6 +40,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -234,6 +235,30 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to use virtual threads
+     *
+     * @return whether to use virtual threads
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads instead of platform threads, which requires JDK 19 or newer.
+     * <p/>
+     * When enabled, then thread pools created from this profile start a new virtual thread per task. As there is no
+     * task queue, then the max pool size and max queue size together are the upper limit of tasks in flight, and the
+     * rejected policy is applied when this limit is reached (use <tt>-1</tt> as max queue size for no limit).
+     * Scheduled thread pools, and thread pools with a maximum pool size of 1 (to keep the ordering of the tasks) always
+     * use platform threads.
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      * 
@@ -264,11 +289,15 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
     }
 
     public boolean isEmpty() {
-        return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+        boolean empty = poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null;
+        return empty && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreads == null;
     }
 
     @Override
@@ -283,6 +312,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreads(virtualThreads);
         return cloned;
     }
 
@@ -290,7 +320,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreads:" + virtualThreads + "]";
     }
 
 }
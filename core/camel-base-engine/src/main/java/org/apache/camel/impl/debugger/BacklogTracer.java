@@ -19,8 +19,6 @@ package org.apache.camel.impl.debugger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
@@ -48,8 +46,8 @@ public final class BacklogTracer extends ServiceSupport {
     private final Language simple;
     private boolean enabled;
     private final AtomicLong traceCounter = new AtomicLong();
-    // use a queue with a upper limit to avoid storing too many messages
-    private final Queue<BacklogTracerEventMessage> queue = new LinkedBlockingQueue<>(MAX_BACKLOG_SIZE);
+    // use a ring buffer with a upper limit to avoid storing too many messages
+    private final EventRing events = new EventRing();
     // how many of the last messages to keep in the backlog at total
     private int backlogSize = 1000;
     private boolean removeOnDump = true;
@@ -126,15 +124,8 @@ public final class BacklogTracer extends ServiceSupport {
             return;
         }
 
-        // ensure there is space on the queue by polling until at least single slot is free
-        int drain = queue.size() - backlogSize + 1;
-        if (drain > 0) {
-            for (int i = 0; i < drain; i++) {
-                queue.poll();
-            }
-        }
-
-        queue.add(event);
+        // the oldest messages are overwritten when the backlog is full
+        events.add(event, backlogSize);
     }
 
     private boolean shouldTraceFilter(Exchange exchange) {
@@ -237,20 +228,10 @@ public final class BacklogTracer extends ServiceSupport {
     }
 
     public List<BacklogTracerEventMessage> dumpTracedMessages(String nodeId) {
-        List<BacklogTracerEventMessage> answer = new ArrayList<>();
-        if (nodeId != null) {
-            for (BacklogTracerEventMessage message : queue) {
-                if (nodeId.equals(message.getToNode()) || nodeId.equals(message.getRouteId())) {
-                    answer.add(message);
-                }
-            }
-        }
-
-        if (removeOnDump) {
-            queue.removeAll(answer);
+        if (nodeId == null) {
+            return new ArrayList<>();
         }
-
-        return answer;
+        return events.dump(nodeId, removeOnDump);
     }
 
     public String dumpTracedMessagesAsXml(String nodeId) {
@@ -266,12 +247,7 @@ public final class BacklogTracer extends ServiceSupport {
     }
 
     public List<BacklogTracerEventMessage> dumpAllTracedMessages() {
-        List<BacklogTracerEventMessage> answer = new ArrayList<>();
-        answer.addAll(queue);
-        if (isRemoveOnDump()) {
-            queue.clear();
-        }
-        return answer;
+        return events.dump(null, isRemoveOnDump());
     }
 
     public String dumpAllTracedMessagesAsXml() {
@@ -287,7 +263,7 @@ public final class BacklogTracer extends ServiceSupport {
     }
 
     public void clear() {
-        queue.clear();
+        events.clear();
     }
 
     public long incrementTraceCounter() {
@@ -300,7 +276,64 @@ public final class BacklogTracer extends ServiceSupport {
 
     @Override
     protected void doStop() throws Exception {
-        queue.clear();
+        events.clear();
+    }
+
+    /**
+     * A ring buffer of the traced messages, which does not create any objects when adding messages, unlike a linked
+     * queue.
+     */
+    private static final class EventRing {
+
+        private BacklogTracerEventMessage[] ring;
+        private int head;
+        private int size;
+
+        synchronized void add(BacklogTracerEventMessage event, int backlogSize) {
+            if (ring == null) {
+                // the backlog size can be changed at runtime, so make room for the max size
+                ring = new BacklogTracerEventMessage[MAX_BACKLOG_SIZE];
+            }
+            // overwrite the oldest messages until there is room for the new message
+            while (size >= backlogSize) {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+            }
+            ring[(head + size) % ring.length] = event;
+            size++;
+        }
+
+        /**
+         * Dumps the messages for the given node or route id (or all messages if the id is null), in the order they was
+         * traced.
+         */
+        synchronized List<BacklogTracerEventMessage> dump(String nodeId, boolean remove) {
+            List<BacklogTracerEventMessage> answer = new ArrayList<>();
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                BacklogTracerEventMessage message = ring[(head + i) % ring.length];
+                if (nodeId == null || nodeId.equals(message.getToNode()) || nodeId.equals(message.getRouteId())) {
+                    answer.add(message);
+                } else if (remove) {
+                    // keep the message by moving it to the next free slot
+                    ring[(head + kept++) % ring.length] = message;
+                }
+            }
+            if (remove) {
+                for (int i = kept; i < size; i++) {
+                    ring[(head + i) % ring.length] = null;
+                }
+                size = kept;
+            }
+            return answer;
+        }
+
+        synchronized void clear() {
+            ring = null;
+            head = 0;
+            size = 0;
+        }
     }
 
 }
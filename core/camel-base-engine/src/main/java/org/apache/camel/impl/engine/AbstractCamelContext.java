@@ -54,6 +54,7 @@ import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.ExchangeConstantProvider;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.FailedToStartComponentException;
+import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.FluentProducerTemplate;
 import org.apache.camel.GlobalEndpointConfiguration;
 import org.apache.camel.IsSingleton;
@@ -204,6 +205,7 @@ public abstract class AbstractCamelContext extends BaseService
     int defaultRouteStartupOrder = 1000;
 
     private final AtomicInteger endpointKeyCounter = new AtomicInteger();
+    private final Map<NormalizedUri, Object> endpointsInCreation = new ConcurrentHashMap<>();
     private final List<EndpointStrategy> endpointStrategies = new ArrayList<>();
     private final GlobalEndpointConfiguration globalEndpointConfiguration = new DefaultGlobalEndpointConfiguration();
     private final Map<String, Component> components = new ConcurrentHashMap<>();
@@ -909,78 +911,97 @@ public abstract class AbstractCamelContext extends BaseService
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
 
-        String scheme;
-        Endpoint answer = null;
+        Endpoint answer;
         if (!prototype) {
             // use optimized method to get the endpoint uri
             NormalizedUri key = NormalizedUri.newNormalizedUri(uri, true);
             // only lookup and reuse existing endpoints if not prototype scoped
             answer = endpoints.get(key);
-        }
-        if (answer == null) {
-            try {
-                scheme = StringHelper.before(uri, ":");
-                if (scheme == null) {
-                    // it may refer to a logical endpoint
-                    answer = getRegistry().lookupByNameAndType(uri, Endpoint.class);
-                    if (answer != null) {
-                        return answer;
-                    } else {
-                        throw new NoSuchEndpointException(uri);
+            if (answer == null) {
+                // atomic operation to create the endpoint per uri, so concurrent lookups (such as when starting routes in
+                // parallel) get the same endpoint. Avoid global locks.
+                Object creation = endpointsInCreation.computeIfAbsent(key, k -> new Object());
+                try {
+                    synchronized (creation) {
+                        answer = endpoints.get(key);
+                        if (answer == null) {
+                            answer = doCreateEndpoint(uri, rawUri, parameters, false);
+                        }
                     }
+                } finally {
+                    endpointsInCreation.remove(key, creation);
                 }
-                LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
-                Component component = getComponent(scheme);
-                ServiceHelper.initService(component);
+            }
+        } else {
+            answer = doCreateEndpoint(uri, rawUri, parameters, true);
+        }
 
-                // Ask the component to resolve the endpoint.
-                if (component != null) {
-                    LOG.trace("Creating endpoint from uri: {} using component: {}", uri, component);
+        // unknown scheme
+        if (answer == null) {
+            throw new NoSuchEndpointException(uri);
+        }
 
-                    // Have the component create the endpoint if it can.
-                    answer = component.createEndpoint(
-                            component.useRawUri() ? rawUri : uri,
-                            parameters);
+        return answer;
+    }
 
-                    if (answer != null && LOG.isDebugEnabled()) {
-                        LOG.debug("{} converted to endpoint: {} by component: {}", URISupport.sanitizeUri(uri), answer,
-                                component);
-                    }
+    private Endpoint doCreateEndpoint(String uri, String rawUri, Map<String, Object> parameters, boolean prototype) {
+        Endpoint answer = null;
+        try {
+            String scheme = StringHelper.before(uri, ":");
+            if (scheme == null) {
+                // it may refer to a logical endpoint
+                answer = getRegistry().lookupByNameAndType(uri, Endpoint.class);
+                if (answer != null) {
+                    return answer;
+                } else {
+                    throw new NoSuchEndpointException(uri);
                 }
+            }
+            LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
+            Component component = getComponent(scheme);
+            ServiceHelper.initService(component);
+
+            // Ask the component to resolve the endpoint.
+            if (component != null) {
+                LOG.trace("Creating endpoint from uri: {} using component: {}", uri, component);
 
-                if (answer == null) {
-                    // no component then try in registry and elsewhere
-                    answer = createEndpoint(uri);
-                    LOG.trace("No component to create endpoint from uri: {} fallback lookup in registry -> {}", uri, answer);
+                // Have the component create the endpoint if it can.
+                answer = component.createEndpoint(
+                        component.useRawUri() ? rawUri : uri,
+                        parameters);
+
+                if (answer != null && LOG.isDebugEnabled()) {
+                    LOG.debug("{} converted to endpoint: {} by component: {}", URISupport.sanitizeUri(uri), answer,
+                            component);
                 }
+            }
 
-                if (answer != null) {
-                    if (!prototype) {
-                        addService(answer);
-                        // register in registry
-                        answer = addEndpointToRegistry(uri, answer);
-                    } else {
-                        addPrototypeService(answer);
-                        // if there is endpoint strategies, then use the endpoints they return
-                        // as this allows to intercept endpoints etc.
-                        for (EndpointStrategy strategy : endpointStrategies) {
-                            answer = strategy.registerEndpoint(uri, answer);
-                        }
+            if (answer == null) {
+                // no component then try in registry and elsewhere
+                answer = createEndpoint(uri);
+                LOG.trace("No component to create endpoint from uri: {} fallback lookup in registry -> {}", uri, answer);
+            }
+
+            if (answer != null) {
+                if (!prototype) {
+                    addService(answer);
+                    // register in registry
+                    answer = addEndpointToRegistry(uri, answer);
+                } else {
+                    addPrototypeService(answer);
+                    // if there is endpoint strategies, then use the endpoints they return
+                    // as this allows to intercept endpoints etc.
+                    for (EndpointStrategy strategy : endpointStrategies) {
+                        answer = strategy.registerEndpoint(uri, answer);
                     }
                 }
-            } catch (NoSuchEndpointException e) {
-                // throw as-is
-                throw e;
-            } catch (Exception e) {
-                throw new ResolveEndpointFailedException(uri, e);
             }
+        } catch (NoSuchEndpointException e) {
+            // throw as-is
+            throw e;
+        } catch (Exception e) {
+            throw new ResolveEndpointFailedException(uri, e);
         }
-
-        // unknown scheme
-        if (answer == null) {
-            throw new NoSuchEndpointException(uri);
-        }
-
         return answer;
     }
 
@@ -1209,6 +1230,26 @@ public abstract class AbstractCamelContext extends BaseService
         internalRouteStartupManager.doStartOrResumeRoutes(routeServices, true, true, false, false);
     }
 
+    public synchronized void startRoutes(Collection<String> routeIds) throws Exception {
+        Map<String, RouteService> services = new LinkedHashMap<>();
+        for (String routeId : routeIds) {
+            DefaultRouteError.reset(this, routeId);
+            RouteService routeService = routeServices.get(routeId);
+            if (routeService != null) {
+                services.put(routeId, routeService);
+            }
+        }
+        try {
+            internalRouteStartupManager.doStartOrResumeRoutes(services, true, true, false, false);
+        } catch (Exception e) {
+            String routeId = e instanceof FailedToStartRouteException ? ((FailedToStartRouteException) e).getRouteId() : null;
+            if (routeId != null && services.containsKey(routeId)) {
+                DefaultRouteError.set(this, routeId, Phase.START, e);
+            }
+            throw e;
+        }
+    }
+
     public void stopAllRoutes() throws Exception {
         // stop all routes in reverse order that they were started
         Comparator<RouteStartupOrder> comparator = Comparator.comparingInt(RouteStartupOrder::getStartupOrder);
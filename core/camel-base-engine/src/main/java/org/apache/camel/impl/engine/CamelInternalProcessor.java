@@ -58,6 +58,7 @@ import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.spi.annotations.EagerClassloaded;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.CompactMessageHistoryList;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggerHelper;
 import org.apache.camel.support.MessageHelper;
@@ -861,6 +862,42 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
     }
 
+    /**
+     * Advice when Message History has been enabled in compact mode.
+     */
+    public static class CompactMessageHistoryAdvice implements CamelInternalProcessorAdvice<CompactMessageHistoryList> {
+
+        private final DefaultMessageHistoryFactory factory;
+        private final NamedNode definition;
+        private final String routeId;
+
+        public CompactMessageHistoryAdvice(DefaultMessageHistoryFactory factory, NamedNode definition) {
+            this.factory = factory;
+            this.definition = definition;
+            this.routeId = CamelContextHelper.getRouteId(definition);
+        }
+
+        @Override
+        public CompactMessageHistoryList before(Exchange exchange) throws Exception {
+            // we may be routing outside a route in an onException or interceptor and if so then grab
+            // route id from the exchange UoW state
+            String targetRouteId = this.routeId;
+            if (targetRouteId == null) {
+                targetRouteId = ExchangeHelper.getRouteId(exchange);
+            }
+
+            // no message history object is created, as it is recorded in the list
+            return factory.addCompactMessageHistory(targetRouteId, definition, System.currentTimeMillis(), exchange);
+        }
+
+        @Override
+        public void after(Exchange exchange, CompactMessageHistoryList list) throws Exception {
+            if (list != null) {
+                list.nodeProcessingDone(definition);
+            }
+        }
+    }
+
     /**
      * Advice that stores the node id and label of the processor that is processing the exchange.
      */
@@ -172,7 +172,11 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
         if (route.isMessageHistory()) {
             // add message history advice
             MessageHistoryFactory factory = camelContext.getMessageHistoryFactory();
-            addAdvice(new MessageHistoryAdvice(factory, targetOutputDef));
+            if (factory instanceof DefaultMessageHistoryFactory && ((DefaultMessageHistoryFactory) factory).isCompact()) {
+                addAdvice(new CompactMessageHistoryAdvice((DefaultMessageHistoryFactory) factory, targetOutputDef));
+            } else {
+                addAdvice(new MessageHistoryAdvice(factory, targetOutputDef));
+            }
         }
         // add advice that keeps track of which node is processing
         addAdvice(new NodeHistoryAdvice(targetOutputDef));
@@ -16,15 +16,17 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -38,58 +40,89 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The counters are kept in {@link LongAdder}s so adding and removing exchanges does not contend on a single counter.
+ * When browsing is enabled then the inflight exchanges are kept in a number of stripes (selected by the exchange id),
+ * where each stripe links its exchanges in the order they were created. This allows to find the oldest exchange, or
+ * browse the <tt>n</tt> longest running exchanges, by only looking at the head of each stripe instead of sorting all
+ * the inflight exchanges. When browsing is disabled (default) then only the counters are kept.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
-    private final AtomicInteger size = new AtomicInteger();
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
-    private boolean inflightExchangeEnabled;
+    private static final Comparator<Exchange> LONGEST_DURATION_FIRST = Comparator.comparingLong(Exchange::getCreated);
+
+    private final LongAdder size = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private final Stripe[] stripes;
+    private final int mask;
+    private volatile boolean inflightExchangeEnabled;
+
+    public DefaultInflightRepository() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates the inflight repository
+     *
+     * @param concurrencyLevel the estimated number of threads adding and removing exchanges concurrently, which is
+     *                         rounded up to a power of two to become the number of stripes
+     */
+    public DefaultInflightRepository(int concurrencyLevel) {
+        int count = 1;
+        while (count < concurrencyLevel) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+    }
 
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
 
         if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
+            stripe(exchange).add(exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            stripe(exchange).remove(exchange);
         }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     @Override
     public int size() {
-        return size.get();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -99,8 +132,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -111,6 +144,12 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     @Override
     public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
         this.inflightExchangeEnabled = inflightBrowseEnabled;
+        if (!inflightBrowseEnabled) {
+            // the exchanges are no longer removed so discard them
+            for (Stripe stripe : stripes) {
+                stripe.clear();
+            }
+        }
     }
 
     @Override
@@ -134,34 +173,30 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return Collections.emptyList();
         }
 
-        Stream<Exchange> values;
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
-        }
-
-        if (sortByLongestDuration) {
-            // sort by duration and grab the first
-            values = values.sorted((e1, e2) -> {
-                long d1 = getExchangeDuration(e1);
-                long d2 = getExchangeDuration(e2);
-                // need the biggest number first
-                return -1 * Long.compare(d1, d2);
-            });
+        List<Exchange> values = new ArrayList<>();
+        if (sortByLongestDuration && limit > 0) {
+            // the stripes are ordered by longest duration, so we only need the first exchanges from each stripe
+            for (Stripe stripe : stripes) {
+                stripe.collect(fromRouteId, limit, values);
+            }
+            values.sort(LONGEST_DURATION_FIRST);
         } else {
-            // else sort by exchange id
-            values = values.sorted(Comparator.comparing(Exchange::getExchangeId));
+            for (Stripe stripe : stripes) {
+                stripe.collect(fromRouteId, -1, values);
+            }
+            if (sortByLongestDuration) {
+                values.sort(LONGEST_DURATION_FIRST);
+            } else {
+                // else sort by exchange id
+                values.sort(Comparator.comparing(Exchange::getExchangeId));
+            }
         }
 
-        if (limit > 0) {
-            values = values.limit(limit);
+        if (limit > 0 && values.size() > limit) {
+            values = values.subList(0, limit);
         }
 
-        List<InflightExchange> answer = values.map(InflightExchangeEntry::new).collect(Collectors.toList());
+        List<InflightExchange> answer = values.stream().map(InflightExchangeEntry::new).collect(Collectors.toList());
         return Collections.unmodifiableCollection(answer);
     }
 
@@ -171,25 +206,15 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return null;
         }
 
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+        // the oldest is the oldest of the first exchange in each stripe
+        Exchange first = null;
+        for (Stripe stripe : stripes) {
+            Exchange candidate = stripe.first(fromRouteId);
+            if (candidate != null && (first == null || candidate.getCreated() < first.getCreated())) {
+                first = candidate;
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
         if (first != null) {
             return new InflightExchangeEntry(first);
         } else {
@@ -208,6 +233,13 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         routeCount.clear();
     }
 
+    private Stripe stripe(Exchange exchange) {
+        int h = exchange.getExchangeId().hashCode();
+        // spread the bits as exchange ids only differ in the last characters
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
     private static long getExchangeDuration(Exchange exchange) {
         return System.currentTimeMillis() - exchange.getCreated();
     }
@@ -276,4 +308,91 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         }
     }
 
+    /**
+     * A stripe of inflight exchanges, linked in the order they were created.
+     */
+    private static final class Stripe {
+
+        private final Map<String, Node> nodes = new HashMap<>();
+        private Node head;
+        private Node tail;
+
+        synchronized void add(Exchange exchange) {
+            Node node = new Node(exchange);
+            if (nodes.putIfAbsent(exchange.getExchangeId(), node) != null) {
+                return;
+            }
+            // exchanges are mostly added in the order they are created, so this is usually the tail
+            Node prev = tail;
+            while (prev != null && prev.exchange.getCreated() > exchange.getCreated()) {
+                prev = prev.prev;
+            }
+            node.prev = prev;
+            node.next = prev != null ? prev.next : head;
+            if (node.next != null) {
+                node.next.prev = node;
+            } else {
+                tail = node;
+            }
+            if (prev != null) {
+                prev.next = node;
+            } else {
+                head = node;
+            }
+        }
+
+        synchronized void remove(Exchange exchange) {
+            Node node = nodes.remove(exchange.getExchangeId());
+            if (node == null) {
+                return;
+            }
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+        }
+
+        synchronized Exchange first(String fromRouteId) {
+            for (Node node = head; node != null; node = node.next) {
+                if (fromRouteId == null || fromRouteId.equals(node.exchange.getFromRouteId())) {
+                    return node.exchange;
+                }
+            }
+            return null;
+        }
+
+        synchronized void collect(String fromRouteId, int limit, List<Exchange> answer) {
+            int count = 0;
+            for (Node node = head; node != null && (limit <= 0 || count < limit); node = node.next) {
+                if (fromRouteId == null || fromRouteId.equals(node.exchange.getFromRouteId())) {
+                    answer.add(node.exchange);
+                    count++;
+                }
+            }
+        }
+
+        synchronized void clear() {
+            nodes.clear();
+            head = null;
+            tail = null;
+        }
+    }
+
+    private static final class Node {
+
+        private final Exchange exchange;
+        private Node prev;
+        private Node next;
+
+        private Node(Exchange exchange) {
+            this.exchange = exchange;
+        }
+    }
+
 }
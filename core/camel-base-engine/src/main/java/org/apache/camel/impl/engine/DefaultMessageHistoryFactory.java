@@ -16,14 +16,18 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.List;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
 import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.MessageHistoryFactory;
+import org.apache.camel.support.CompactMessageHistoryList;
 import org.apache.camel.support.DefaultMessageHistory;
 import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -33,6 +37,7 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
 
     private CamelContext camelContext;
     private boolean copyMessage;
+    private boolean compact;
     private String nodePattern;
     private volatile String[] nodePatternParts;
 
@@ -48,14 +53,8 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
 
     @Override
     public MessageHistory newMessageHistory(String routeId, NamedNode node, long timestamp, Exchange exchange) {
-        if (nodePatternParts != null) {
-            String name = node.getShortName();
-            for (String part : nodePatternParts) {
-                boolean match = PatternHelper.matchPattern(name, part);
-                if (!match) {
-                    return null;
-                }
-            }
+        if (!isIncluded(node)) {
+            return null;
         }
 
         Message msg = null;
@@ -66,6 +65,57 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         return new DefaultMessageHistory(routeId, node, timestamp, msg);
     }
 
+    /**
+     * Records the message history in the {@link CompactMessageHistoryList} which is stored on the exchange, when the
+     * factory is in compact mode.
+     *
+     * @param  routeId   the route id
+     * @param  node      the node in the route
+     * @param  timestamp the time the message processed at this node.
+     * @param  exchange  the current exchange
+     * @return           the list the message history was added to, or <tt>null</tt> if the node is not included
+     */
+    public CompactMessageHistoryList addCompactMessageHistory(
+            String routeId, NamedNode node, long timestamp, Exchange exchange) {
+        if (!isIncluded(node)) {
+            return null;
+        }
+
+        Message msg = null;
+        if (copyMessage) {
+            msg = exchange.getMessage().copy();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<MessageHistory> list = exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY, List.class);
+        CompactMessageHistoryList answer;
+        if (list instanceof CompactMessageHistoryList) {
+            answer = (CompactMessageHistoryList) list;
+        } else {
+            answer = new CompactMessageHistoryList();
+            if (list != null) {
+                // keep the existing message history
+                answer.addAll(list);
+            }
+            exchange.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, answer);
+        }
+        answer.add(routeId, node, timestamp, msg);
+        return answer;
+    }
+
+    private boolean isIncluded(NamedNode node) {
+        if (nodePatternParts != null) {
+            String name = node.getShortName();
+            for (String part : nodePatternParts) {
+                boolean match = PatternHelper.matchPattern(name, part);
+                if (!match) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @ManagedAttribute(description = "Whether message history is enabled")
     public boolean isEnabled() {
         return camelContext != null ? camelContext.isMessageHistory() : false;
@@ -83,6 +133,21 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         this.copyMessage = copyMessage;
     }
 
+    @ManagedAttribute(description = "Whether the message history is recorded in compact mode")
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Whether to record the message history in compact mode, where the history is recorded in arrays in a
+     * {@link CompactMessageHistoryList}, instead of creating a {@link MessageHistory} object per node, which reduces
+     * the garbage created when message history is enabled. The {@link MessageHistory} objects are only created on
+     * demand when the message history is accessed. This must be set before the routes are started.
+     */
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
     @Override
     @ManagedAttribute(description = "Pattern to filter EIPs")
     public String getNodePattern() {
@@ -43,6 +43,8 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private ExtendedCamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private boolean parallelStartup;
+    private int parallelStartupPoolSize = Runtime.getRuntime().availableProcessors();
 
     public DefaultRouteController() {
         this(null);
@@ -76,6 +78,26 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public boolean isParallelStartup() {
+        return parallelStartup;
+    }
+
+    @Override
+    public void setParallelStartup(boolean parallelStartup) {
+        this.parallelStartup = parallelStartup;
+    }
+
+    @Override
+    public int getParallelStartupPoolSize() {
+        return parallelStartupPoolSize;
+    }
+
+    @Override
+    public void setParallelStartupPoolSize(int parallelStartupPoolSize) {
+        this.parallelStartupPoolSize = parallelStartupPoolSize;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -166,6 +188,9 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
             // change current route controller to be supervising
             SupervisingRouteController src = new DefaultSupervisingRouteController();
             src.setCamelContext(camelContext);
+            // keep the parallel startup settings as the supervising controller starts the routes instead
+            src.setParallelStartup(parallelStartup);
+            src.setParallelStartupPoolSize(parallelStartupPoolSize);
             camelContext.setRouteController(src);
             return src;
         }
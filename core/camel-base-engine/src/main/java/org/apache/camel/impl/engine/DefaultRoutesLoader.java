@@ -20,17 +20,25 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
 import org.apache.camel.StaticService;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.RoutesBuilderLoader;
 import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.ResolverHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -50,6 +58,8 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
     private final Map<String, RoutesBuilderLoader> loaders;
 
     private CamelContext camelContext;
+    private boolean parallelLoading;
+    private int parallelLoadingPoolSize = Runtime.getRuntime().availableProcessors();
 
     public DefaultRoutesLoader() {
         this(null);
@@ -80,9 +90,30 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
     }
 
     @Override
-    public Collection<RoutesBuilder> findRoutesBuilders(Collection<Resource> resources) throws Exception {
-        List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+    public boolean isParallelLoading() {
+        return parallelLoading;
+    }
+
+    @Override
+    public void setParallelLoading(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
 
+    @Override
+    public int getParallelLoadingPoolSize() {
+        return parallelLoadingPoolSize;
+    }
+
+    @Override
+    public void setParallelLoadingPoolSize(int parallelLoadingPoolSize) {
+        this.parallelLoadingPoolSize = parallelLoadingPoolSize;
+    }
+
+    @Override
+    public Collection<RoutesBuilder> findRoutesBuilders(Collection<Resource> resources) throws Exception {
+        // resolve the loaders up front by the caller thread, as the resources may be loaded in parallel
+        List<RoutesBuilderLoader> resourceLoaders = new ArrayList<>(resources.size());
+        int parallel = 0;
         for (Resource resource : resources) {
             // the loader to use is derived from the file extension
             final String extension = FileUtil.onlyExt(resource.getLocation(), false);
@@ -98,10 +129,101 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
                         "Cannot find RoutesBuilderLoader in classpath supporting file extension: " + extension);
             }
 
-            answer.add(loader.loadRoutesBuilder(resource));
+            resourceLoaders.add(loader);
+            if (loader.isParallelLoadingSupported()) {
+                parallel++;
+            }
         }
 
-        return answer;
+        if (!parallelLoading || parallel <= 1) {
+            List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+            int i = 0;
+            for (Resource resource : resources) {
+                answer.add(resourceLoaders.get(i++).loadRoutesBuilder(resource));
+            }
+            return answer;
+        }
+
+        return doFindRoutesBuildersParallel(resources, resourceLoaders, parallel);
+    }
+
+    /**
+     * Loads the resources which are supported by their loader in parallel, and the other resources by the caller.
+     * <p/>
+     * The builders are returned in the same order as the resources regardless of the order the resources are loaded.
+     */
+    protected List<RoutesBuilder> doFindRoutesBuildersParallel(
+            Collection<Resource> resources, List<RoutesBuilderLoader> resourceLoaders, int parallel)
+            throws Exception {
+
+        int poolSize = Math.max(1, Math.min(parallel, parallelLoadingPoolSize));
+        ThreadPoolProfile profile = new ThreadPoolProfile("RoutesLoader");
+        profile.setPoolSize(poolSize);
+        profile.setMaxPoolSize(poolSize);
+        // all the resources are submitted at once
+        profile.setMaxQueueSize(-1);
+        ExecutorService executorService
+                = getCamelContext().getExecutorServiceManager().newThreadPool(this, "RoutesLoader", profile);
+
+        // the steps recorded while loading are nested under the current step of the caller
+        StartupStepRecorder recorder = getCamelContext().adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        StartupStep parent = recorder.getCurrentStep();
+
+        try {
+            List<Future<RoutesBuilder>> futures = new ArrayList<>(resources.size());
+            int i = 0;
+            for (Resource resource : resources) {
+                RoutesBuilderLoader loader = resourceLoaders.get(i++);
+                if (loader.isParallelLoadingSupported()) {
+                    futures.add(executorService.submit(() -> {
+                        recorder.attachStep(parent);
+                        try {
+                            return loader.loadRoutesBuilder(resource);
+                        } finally {
+                            recorder.detachStep(parent);
+                        }
+                    }));
+                } else {
+                    futures.add(null);
+                }
+            }
+
+            List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+            i = 0;
+            for (Resource resource : resources) {
+                Future<RoutesBuilder> future = futures.get(i);
+                if (future == null) {
+                    answer.add(resourceLoaders.get(i).loadRoutesBuilder(resource));
+                } else {
+                    answer.add(awaitRoutesBuilder(future, futures));
+                }
+                i++;
+            }
+            return answer;
+        } finally {
+            getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
+        }
+    }
+
+    private static RoutesBuilder awaitRoutesBuilder(Future<RoutesBuilder> future, List<Future<RoutesBuilder>> futures)
+            throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // fail with the first error in the order of the resources
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new RuntimeCamelException(cause);
+            }
+        } catch (InterruptedException e) {
+            futures.stream().filter(Objects::nonNull).forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw e;
+        }
     }
 
     /**
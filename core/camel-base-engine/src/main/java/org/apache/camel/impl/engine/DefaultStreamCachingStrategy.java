@@ -19,14 +19,19 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -52,6 +57,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private long spoolOffHeapPoolSize;
+    private int spoolOffHeapChunkSize = 64 * 1024;
+    // the free off-heap chunks which can be reused
+    private final Queue<ByteBuffer> offHeapChunks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
+    private final AtomicLong offHeapUsed = new AtomicLong();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -141,6 +152,59 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return spoolOffHeapPoolSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapPoolSize(long spoolOffHeapPoolSize) {
+        this.spoolOffHeapPoolSize = spoolOffHeapPoolSize;
+    }
+
+    @Override
+    public int getSpoolOffHeapChunkSize() {
+        return spoolOffHeapChunkSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapChunkSize(int spoolOffHeapChunkSize) {
+        this.spoolOffHeapChunkSize = spoolOffHeapChunkSize;
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapChunk() {
+        if (spoolOffHeapPoolSize <= 0) {
+            return null;
+        }
+        ByteBuffer chunk = offHeapChunks.poll();
+        if (chunk == null) {
+            // allocate a new chunk if the pool is not used up
+            long allocated;
+            do {
+                allocated = offHeapAllocated.get();
+                if (allocated + spoolOffHeapChunkSize > spoolOffHeapPoolSize) {
+                    return null;
+                }
+            } while (!offHeapAllocated.compareAndSet(allocated, allocated + spoolOffHeapChunkSize));
+            chunk = ByteBuffer.allocateDirect(spoolOffHeapChunkSize);
+        }
+        offHeapUsed.addAndGet(chunk.capacity());
+        chunk.clear();
+        return chunk;
+    }
+
+    @Override
+    public void releaseOffHeapChunk(ByteBuffer chunk) {
+        offHeapUsed.addAndGet(-chunk.capacity());
+        if (chunk.capacity() == spoolOffHeapChunkSize && isRunAllowed()) {
+            offHeapChunks.offer(chunk);
+        } else {
+            // the chunk size has been changed, or we are stopping
+            offHeapAllocated.addAndGet(-chunk.capacity());
+        }
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -211,7 +275,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof ByteBufferInputStreamCache && cache.inMemory()) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
@@ -329,6 +395,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         } else {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
         }
+        if (spoolOffHeapPoolSize > 0) {
+            LOG.info("StreamCaching spooling to off-heap pool of {}K in chunks of {}K", spoolOffHeapPoolSize >> 10,
+                    spoolOffHeapChunkSize >> 10);
+        }
     }
 
     @Override
@@ -343,6 +413,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // free the off-heap chunks which are not in use
+        ByteBuffer chunk;
+        while ((chunk = offHeapChunks.poll()) != null) {
+            offHeapAllocated.addAndGet(-chunk.capacity());
+        }
     }
 
     @Override
@@ -353,6 +429,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", spoolOffHeapPoolSize=" + spoolOffHeapPoolSize
+               + ", spoolOffHeapChunkSize=" + spoolOffHeapChunkSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -422,7 +500,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private boolean statisticsEnabled;
         private volatile long memoryCounter;
@@ -431,6 +509,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -444,6 +525,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -474,6 +561,31 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
+        @Override
+        public long getOffHeapPoolUsedSize() {
+            return offHeapUsed.get();
+        }
+
+        @Override
+        public long getOffHeapPoolAllocatedSize() {
+            return offHeapAllocated.get();
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -482,6 +594,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
         }
 
         @Override
@@ -497,8 +612,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                                 + " offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize);
         }
     }
 
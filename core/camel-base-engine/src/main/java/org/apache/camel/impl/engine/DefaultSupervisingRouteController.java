@@ -433,6 +433,18 @@ public class DefaultSupervisingRouteController extends DefaultRouteController im
                     .collect(Collectors.toList());
         }
 
+        RouteController internal = getInternalRouteController();
+        if (isParallelStartup() && internal instanceof InternalRouteController) {
+            // start the routes together so routes with the same startup order are started in parallel
+            LOG.debug("Starting {} non-supervised routes in parallel", routeList.size());
+            try {
+                ((InternalRouteController) internal).startRoutes(routeList);
+            } catch (FailedToStartRouteException e) {
+                throw new FailedToStartRouteException(e.getRouteId(), e.getMessage(), e);
+            }
+            return;
+        }
+
         for (String route : routeList) {
             try {
                 // let non supervising controller start the route by calling super
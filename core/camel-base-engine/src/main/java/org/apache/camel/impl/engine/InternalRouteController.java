@@ -72,6 +72,13 @@ class InternalRouteController implements RouteController {
         abstractCamelContext.startAllRoutes();
     }
 
+    /**
+     * Starts the given routes together, which allows routes with the same startup order to be started in parallel.
+     */
+    void startRoutes(Collection<String> routeIds) throws Exception {
+        abstractCamelContext.startRoutes(routeIds);
+    }
+
     @Override
     public void stopAllRoutes() throws Exception {
         abstractCamelContext.stopAllRoutes();
@@ -19,10 +19,15 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -30,6 +35,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -38,9 +44,12 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +58,10 @@ import org.slf4j.LoggerFactory;
  * starting routes.
  * <p>
  * This code has been refactored out of {@link AbstractCamelContext} to its own class.
+ * <p/>
+ * When parallel startup is enabled on the {@link org.apache.camel.spi.RouteController} then the routes are initialized,
+ * warmed up and started in groups, where the routes within a group are processed in parallel using a bounded thread
+ * pool, and the groups are processed one after the other in startup order.
  */
 class InternalRouteStartupManager {
 
@@ -79,20 +92,22 @@ class InternalRouteStartupManager {
             throws Exception {
 
         abstractCamelContext.setStartingRoutes(true);
-        try {
-            for (RouteService routeService : routeServices.values()) {
-                StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                        "Init Route");
-                try {
-                    LOG.debug("Initializing route id: {}", routeService.getId());
-                    setupRoute.set(routeService.getRoute());
-                    // initializing route is called doSetup as we do not want to change the service state on the RouteService
-                    // so it can remain as stopped, when Camel is booting as this was the previous behavior - otherwise its state
-                    // would be initialized
-                    routeService.setUp();
-                } finally {
-                    setupRoute.remove();
-                    abstractCamelContext.getStartupStepRecorder().endStep(step);
+        try (RouteStartupExecutor executor = new RouteStartupExecutor()) {
+            if (isParallelStartup()) {
+                // the startup order has not been assigned yet, so group the routes by their configured startup order
+                // and let the routes without any startup order be initialized last
+                Map<Integer, List<RouteService>> groups = new TreeMap<>();
+                for (RouteService routeService : routeServices.values()) {
+                    Integer startupOrder = routeService.getRoute().getStartupOrder();
+                    groups.computeIfAbsent(startupOrder != null ? startupOrder : Integer.MAX_VALUE, k -> new ArrayList<>())
+                            .add(routeService);
+                }
+                for (List<RouteService> group : groups.values()) {
+                    executor.execute(group, RouteService::getId, this::doInitRoute);
+                }
+            } else {
+                for (RouteService routeService : routeServices.values()) {
+                    doInitRoute(routeService);
                 }
             }
         } finally {
@@ -100,6 +115,22 @@ class InternalRouteStartupManager {
         }
     }
 
+    private void doInitRoute(RouteService routeService) throws Exception {
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
+                "Init Route");
+        try {
+            LOG.debug("Initializing route id: {}", routeService.getId());
+            setupRoute.set(routeService.getRoute());
+            // initializing route is called doSetup as we do not want to change the service state on the RouteService
+            // so it can remain as stopped, when Camel is booting as this was the previous behavior - otherwise its state
+            // would be initialized
+            routeService.setUp();
+        } finally {
+            setupRoute.remove();
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
+        }
+    }
+
     /**
      * Starts or resumes the routes
      *
@@ -169,11 +200,20 @@ class InternalRouteStartupManager {
             boolean checkClash, boolean startConsumer, boolean resumeConsumer, boolean addingRoutes,
             Collection<RouteService> routeServices)
             throws Exception {
+        try (RouteStartupExecutor executor = new RouteStartupExecutor()) {
+            doSafelyStartRouteServices(checkClash, startConsumer, resumeConsumer, addingRoutes, routeServices, executor);
+        }
+    }
+
+    private void doSafelyStartRouteServices(
+            boolean checkClash, boolean startConsumer, boolean resumeConsumer, boolean addingRoutes,
+            Collection<RouteService> routeServices, RouteStartupExecutor executor)
+            throws Exception {
         // list of inputs to start when all the routes have been prepared for
         // starting
         // we use a tree map so the routes will be ordered according to startup
         // order defined on the route
-        Map<Integer, DefaultRouteStartupOrder> inputs = new TreeMap<>();
+        Map<Integer, List<DefaultRouteStartupOrder>> inputs = new TreeMap<>();
 
         // figure out the order in which the routes should be started
         for (RouteService routeService : routeServices) {
@@ -182,11 +222,14 @@ class InternalRouteStartupManager {
             if (checkClash) {
                 doCheckStartupOrderClash(order, inputs);
             }
-            inputs.put(order.getStartupOrder(), order);
+            inputs.computeIfAbsent(order.getStartupOrder(), k -> new ArrayList<>(1)).add(order);
         }
 
+        // the groups of routes which can be started together
+        List<List<DefaultRouteStartupOrder>> groups = doGroupRoutes(inputs);
+
         // warm up routes before we start them
-        doWarmUpRoutes(inputs, startConsumer);
+        doWarmUpRoutes(groups, startConsumer, executor);
 
         // sort the startup listeners so they are started in the right order
         abstractCamelContext.getStartupListeners().sort(OrderedComparator.get());
@@ -205,12 +248,12 @@ class InternalRouteStartupManager {
         if (startConsumer) {
             if (resumeConsumer) {
                 // and now resume the routes
-                doResumeRouteConsumers(inputs, addingRoutes);
+                doResumeRouteConsumers(groups, addingRoutes, executor);
             } else {
                 // and now start the routes
                 // and check for clash with multiple consumers of the same
                 // endpoints which is not allowed
-                doStartRouteConsumers(inputs, addingRoutes);
+                doStartRouteConsumers(groups, addingRoutes, executor);
             }
         }
 
@@ -256,15 +299,21 @@ class InternalRouteStartupManager {
         return new DefaultRouteStartupOrder(startupOrder, route, routeService);
     }
 
-    boolean doCheckStartupOrderClash(DefaultRouteStartupOrder answer, Map<Integer, DefaultRouteStartupOrder> inputs)
+    boolean doCheckStartupOrderClash(DefaultRouteStartupOrder answer, Map<Integer, List<DefaultRouteStartupOrder>> inputs)
             throws FailedToStartRouteException {
         // check for clash by startupOrder id
-        DefaultRouteStartupOrder other = inputs.get(answer.getStartupOrder());
-        if (other != null && answer != other) {
-            String otherId = other.getRoute().getId();
-            throw new FailedToStartRouteException(
-                    answer.getRoute().getId(), "startupOrder clash. Route " + otherId + " already has startupOrder " + answer
-                            .getStartupOrder() + " configured which this route have as well. Please correct startupOrder to be unique among all your routes.");
+        List<DefaultRouteStartupOrder> others = inputs.get(answer.getStartupOrder());
+        if (others != null) {
+            for (DefaultRouteStartupOrder other : others) {
+                if (answer != other && !isSharedStartupOrder(answer, other)) {
+                    String otherId = other.getRoute().getId();
+                    throw new FailedToStartRouteException(
+                            answer.getRoute().getId(), "startupOrder clash. Route " + otherId + " already has startupOrder "
+                                                       + answer
+                                                               .getStartupOrder()
+                                                       + " configured which this route have as well. Please correct startupOrder to be unique among all your routes.");
+                }
+            }
         }
         // check in existing already started as well
         for (RouteStartupOrder order : abstractCamelContext.getRouteStartupOrder()) {
@@ -272,7 +321,7 @@ class InternalRouteStartupManager {
             if (answer.getRoute().getId().equals(otherId)) {
                 // its the same route id so skip clash check as its the same
                 // route (can happen when using suspend/resume)
-            } else if (answer.getStartupOrder() == order.getStartupOrder()) {
+            } else if (answer.getStartupOrder() == order.getStartupOrder() && !isSharedStartupOrder(answer, order)) {
                 throw new FailedToStartRouteException(
                         answer.getRoute().getId(), "startupOrder clash. Route " + otherId + " already has startupOrder "
                                                    + answer
@@ -283,169 +332,243 @@ class InternalRouteStartupManager {
         return true;
     }
 
-    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    private boolean isSharedStartupOrder(RouteStartupOrder answer, RouteStartupOrder other) {
+        // when starting routes in parallel then routes can be configured with the same startupOrder
+        // to be started together
+        return isParallelStartup() && answer.getRoute().getStartupOrder() != null
+                && other.getRoute().getStartupOrder() != null;
+    }
+
+    List<List<DefaultRouteStartupOrder>> doGroupRoutes(Map<Integer, List<DefaultRouteStartupOrder>> inputs) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        if (!isParallelStartup()) {
+            // start the routes one by one
+            for (List<DefaultRouteStartupOrder> group : inputs.values()) {
+                for (DefaultRouteStartupOrder order : group) {
+                    answer.add(Collections.singletonList(order));
+                }
+            }
+            return answer;
+        }
+
+        List<DefaultRouteStartupOrder> defaultGroup = null;
+        for (List<DefaultRouteStartupOrder> group : inputs.values()) {
+            if (group.size() == 1 && group.get(0).getRoute().getStartupOrder() == null) {
+                // routes without a configured startupOrder have been assigned one automatically, so those routes
+                // following each other have no ordering between them and can be started together
+                if (defaultGroup == null) {
+                    defaultGroup = new ArrayList<>();
+                    answer.add(defaultGroup);
+                }
+                defaultGroup.add(group.get(0));
+            } else {
+                defaultGroup = null;
+                answer.add(group);
+            }
+        }
+        return answer;
+    }
+
+    void doWarmUpRoutes(
+            List<List<DefaultRouteStartupOrder>> groups, boolean autoStartup, RouteStartupExecutor executor)
+            throws Exception {
         // now prepare the routes by starting its services before we start the
         // input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            // defer starting inputs till later as we want to prepare the routes
-            // by starting
-            // all their processors and child services etc.
-            // then later we open the floods to Camel by starting the inputs
-            // what this does is to ensure Camel is more robust on starting
-            // routes as all routes
-            // will then be prepared in time before we start inputs which will
-            // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                abstractCamelContext.getStartupStepRecorder().endStep(step);
-            }
+        for (List<DefaultRouteStartupOrder> group : groups) {
+            executor.execute(group, order -> order.getRoute().getRouteId(),
+                    order -> doWarmUpRoute(order.getRouteService(), autoStartup));
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        // defer starting inputs till later as we want to prepare the routes
+        // by starting
+        // all their processors and child services etc.
+        // then later we open the floods to Camel by starting the inputs
+        // what this does is to ensure Camel is more robust on starting
+        // routes as all routes
+        // will then be prepared in time before we start inputs which will
+        // consume messages to be routed
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
+                "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
         }
     }
 
-    void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
+    void doResumeRouteConsumers(
+            List<List<DefaultRouteStartupOrder>> groups, boolean addingRoutes, RouteStartupExecutor executor)
+            throws Exception {
+        doStartOrResumeRouteConsumers(groups, true, addingRoutes, executor);
     }
 
-    void doStartRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, false, addingRoutes);
+    void doStartRouteConsumers(
+            List<List<DefaultRouteStartupOrder>> groups, boolean addingRoutes, RouteStartupExecutor executor)
+            throws Exception {
+        doStartOrResumeRouteConsumers(groups, false, addingRoutes, executor);
     }
 
     private LoggingLevel getRouteLoggerLogLevel() {
         return abstractCamelContext.getRouteController().getLoggingLevel();
     }
 
+    private boolean isParallelStartup() {
+        return abstractCamelContext.getRouteController().isParallelStartup();
+    }
+
     private void doStartOrResumeRouteConsumers(
-            Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
+            List<List<DefaultRouteStartupOrder>> groups, boolean resumeOnly, boolean addingRoute,
+            RouteStartupExecutor executor)
             throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
-
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel());
-                continue;
-            }
-
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
-                    "Start Route");
+        for (List<DefaultRouteStartupOrder> group : groups) {
+            List<DefaultRouteStartupOrder> startable = new ArrayList<>(group.size());
+            for (DefaultRouteStartupOrder startupOrder : group) {
+                Route route = startupOrder.getRoute();
+                RouteService routeService = startupOrder.getRouteService();
+
+                // if we are starting camel, then skip routes which are configured
+                // to not be auto started
+                boolean autoStartup = routeService.isAutoStartup();
+                if (addingRoute && !autoStartup) {
+                    routeLogger.log(
+                            "Skipping starting of route " + routeService.getId()
+                                    + " as it's configured with autoStartup=false",
+                            getRouteLoggerLogLevel());
+                    continue;
+                }
 
-            // do some preparation before starting the consumer on the route
-            Consumer consumer = routeService.getInput();
-            if (consumer != null) {
-                Endpoint endpoint = consumer.getEndpoint();
+                // do some preparation before starting the consumer on the route
+                Consumer consumer = routeService.getInput();
+                if (consumer != null) {
+                    Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                    // check multiple consumer violation, with the other routes to be started
+                    if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+                        throw new FailedToStartRouteException(
+                                routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                    }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
+                    // check for multiple consumer violations with existing routes
+                    // which have already been started, or is currently starting
+                    List<Endpoint> existingEndpoints = new ArrayList<>();
+                    for (Route existingRoute : abstractCamelContext.getRoutes()) {
+                        if (route.getId().equals(existingRoute.getId())) {
+                            // skip ourselves
+                            continue;
+                        }
+                        Endpoint existing = existingRoute.getEndpoint();
+                        ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+                        if (status != null && (status.isStarted() || status.isStarting())) {
+                            existingEndpoints.add(existing);
+                        }
                     }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
+                    if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+                        throw new FailedToStartRouteException(
+                                routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
                     }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+                    routeInputs.add(endpoint);
                 }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        abstractCamelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+                startable.add(startupOrder);
+            }
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
+            executor.execute(startable, order -> order.getRoute().getRouteId(),
+                    order -> doStartOrResumeRouteConsumer(order, resumeOnly));
+        }
+    }
+
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder startupOrder, boolean resumeOnly) throws Exception {
+        int order = startupOrder.getStartupOrder();
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
+                "Start Route");
+
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // start the consumer on the route
+            LOG.debug("Route: {} >>> {}", route.getId(), route);
+            if (resumeOnly) {
+                LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+            } else {
+                LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            }
+
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            } else {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+                }
+                try {
+                    abstractCamelContext.startService(consumer);
+                    route.getProperties().remove("route.start.exception");
+                } catch (Exception e) {
+                    route.getProperties().put("route.start.exception", e);
+                    throw e;
                 }
 
-                routeInputs.add(endpoint);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
+            // add to the order which they was started, so we know how to
+            // stop them in reverse order
+            // but only add if we haven't already registered it before (we
+            // dont want to double add when restarting)
+            List<RouteStartupOrder> routeStartupOrder = abstractCamelContext.getRouteStartupOrder();
+            synchronized (routeStartupOrder) {
                 boolean found = false;
-                for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
+                for (RouteStartupOrder other : routeStartupOrder) {
                     if (other.getRoute().getId().equals(route.getId())) {
                         found = true;
                         break;
                     }
                 }
                 if (!found) {
-                    abstractCamelContext.getRouteStartupOrder().add(entry.getValue());
+                    routeStartupOrder.add(startupOrder);
                 }
             }
+        }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
-                }
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
             }
-
-            abstractCamelContext.getStartupStepRecorder().endStep(step);
         }
+
+        abstractCamelContext.getStartupStepRecorder().endStep(step);
     }
 
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
@@ -468,4 +591,103 @@ class InternalRouteStartupManager {
         return true;
     }
 
+    /**
+     * Executes the task for each of the routes in a group. The routes are processed in parallel when parallel startup
+     * is enabled, and the thread pool is created on demand and shutdown when closed.
+     */
+    final class RouteStartupExecutor implements AutoCloseable {
+
+        private ExecutorService executorService;
+
+        <T> void execute(List<T> group, Function<T, String> routeId, ThrowingConsumer<T, Exception> task)
+                throws Exception {
+            if (!isParallelStartup()) {
+                for (T element : group) {
+                    task.accept(element);
+                }
+                return;
+            }
+
+            // the errors are reported together with the route that failed, as the routes are processed in parallel
+            ThrowingConsumer<T, Exception> routeTask = element -> {
+                try {
+                    task.accept(element);
+                } catch (FailedToStartRouteException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new FailedToStartRouteException(routeId.apply(element), e.getMessage(), e);
+                }
+            };
+            if (group.size() <= 1) {
+                for (T element : group) {
+                    routeTask.accept(element);
+                }
+                return;
+            }
+
+            if (executorService == null) {
+                int poolSize = Math.max(1, abstractCamelContext.getRouteController().getParallelStartupPoolSize());
+                ThreadPoolProfile profile = new ThreadPoolProfile("RouteStartup");
+                profile.setPoolSize(poolSize);
+                profile.setMaxPoolSize(poolSize);
+                // all the routes in the group are submitted at once
+                profile.setMaxQueueSize(-1);
+                executorService = abstractCamelContext.getExecutorServiceManager()
+                        .newThreadPool(this, "RouteStartup", profile);
+            }
+
+            // the steps recorded by the tasks are nested under the current step of the calling thread
+            StartupStepRecorder recorder = abstractCamelContext.getStartupStepRecorder();
+            StartupStep parent = recorder.getCurrentStep();
+
+            List<Future<?>> futures = new ArrayList<>(group.size());
+            for (T element : group) {
+                futures.add(executorService.submit(() -> {
+                    // starting routes is tracked per thread
+                    abstractCamelContext.setStartingRoutes(true);
+                    recorder.attachStep(parent);
+                    try {
+                        routeTask.accept(element);
+                    } finally {
+                        recorder.detachStep(parent);
+                        abstractCamelContext.setStartingRoutes(false);
+                    }
+                    return null;
+                }));
+            }
+
+            // wait for the entire group to be done before continuing with the next group,
+            // and fail with the first error in the order of the group
+            Throwable cause = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (cause == null) {
+                        cause = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause != null) {
+                throw new RuntimeCamelException(cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (executorService != null) {
+                abstractCamelContext.getExecutorServiceManager().shutdownNow(executorService);
+                executorService = null;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and which is optimized for storing the
+ * headers of a {@link org.apache.camel.Message}.
+ * <p/>
+ * The entries are stored in insertion order in arrays, which are indexed by an open addressing hash table using linear
+ * probing on the case insensitive hash of the keys. This means a lookup is O(1), and no objects are created per entry.
+ * The case insensitive hash of the well known {@link Exchange} header keys is precomputed, and the hashes of the keys
+ * are stored in the map, so they are only computed once per header.
+ * <p/>
+ * Creating a map from another {@link OpenAddressingHeadersMap} (such as when an exchange is copied by the multicast or
+ * wire tap EIPs) shares the arrays with the other map, and the arrays are only copied when either map is changed.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class OpenAddressingHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 5283019812707645107L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int[] EMPTY_INTS = new int[0];
+    // precomputed hashes of the well known header keys, which are looked up by identity
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        Set<String> names = new HashSet<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    names.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        int length = tableLength(names.size());
+        KNOWN_KEYS = new String[length];
+        KNOWN_HASHES = new int[length];
+        for (String name : names) {
+            // the constants are interned so the same instance is used by the callers
+            String key = name.intern();
+            int i = key.hashCode() & (length - 1);
+            while (KNOWN_KEYS[i] != null) {
+                i = (i + 1) & (length - 1);
+            }
+            KNOWN_KEYS[i] = key;
+            KNOWN_HASHES[i] = foldedHash(key);
+        }
+    }
+
+    // the entries in insertion order, where removed entries has a null key
+    private String[] keys = EMPTY_KEYS;
+    private Object[] values = EMPTY_VALUES;
+    private int[] hashes = EMPTY_INTS;
+    // the hash table with the index + 1 of the entries, where 0 is an empty slot
+    private int[] table = EMPTY_INTS;
+    private int size;
+    private int used;
+    // whether the arrays are shared with another map, and must be copied before changing them
+    private boolean shared;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public OpenAddressingHeadersMap() {
+    }
+
+    public OpenAddressingHeadersMap(Map<? extends String, ?> map) {
+        if (map instanceof OpenAddressingHeadersMap) {
+            OpenAddressingHeadersMap other = (OpenAddressingHeadersMap) map;
+            if (other.size > 0) {
+                keys = other.keys;
+                values = other.values;
+                hashes = other.hashes;
+                table = other.table;
+                size = other.size;
+                used = other.used;
+                shared = true;
+                other.shared = true;
+            }
+        } else if (!map.isEmpty()) {
+            resize(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(map.size() - 1) << 1));
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int i = indexOf(key, hash);
+        if (i >= 0) {
+            // keep the case of the existing key
+            unshare();
+            Object answer = values[i];
+            values[i] = value;
+            return answer;
+        }
+
+        if (used == keys.length) {
+            // grow or remove the removed entries
+            resize(size >= keys.length / 2 ? Math.max(INITIAL_CAPACITY, keys.length * 2) : keys.length);
+        } else {
+            unshare();
+        }
+        i = used++;
+        keys[i] = key;
+        values[i] = value;
+        hashes[i] = hash;
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = i + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object answer = values[i];
+        removeEntry(i);
+        return answer;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (shared) {
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+            hashes = EMPTY_INTS;
+            table = EMPTY_INTS;
+            shared = false;
+        } else {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, 0);
+        }
+        size = 0;
+        used = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        // the arrays may be replaced by the action
+        String[] k = keys;
+        Object[] v = values;
+        int count = used;
+        for (int i = 0; i < count; i++) {
+            if (k[i] != null) {
+                action.accept(k[i], v[i]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return -1;
+        }
+        return indexOf((String) key, hash((String) key));
+    }
+
+    private int indexOf(String key, int hash) {
+        if (size == 0) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int i = entry - 1;
+            String k = keys[i];
+            if (k == key || k != null && hashes[i] == hash && k.equalsIgnoreCase(key)) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeEntry(int i) {
+        unshare();
+        // the slot in the hash table is kept, so the entries after it can still be found
+        keys[i] = null;
+        values[i] = null;
+        size--;
+        modCount++;
+    }
+
+    private void unshare() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private void resize(int capacity) {
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        int[] newTable = new int[tableLength(capacity)];
+        int mask = newTable.length - 1;
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                newKeys[n] = keys[i];
+                newValues[n] = values[i];
+                newHashes[n] = hashes[i];
+                int slot = hashes[i] & mask;
+                while (newTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable[slot] = n + 1;
+                n++;
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        table = newTable;
+        used = n;
+        shared = false;
+    }
+
+    private static int tableLength(int capacity) {
+        // at most half full, so the probe sequences are short
+        int length = 1;
+        while (length < capacity * 2) {
+            length <<= 1;
+        }
+        return length;
+    }
+
+    private static int hash(String key) {
+        int mask = KNOWN_KEYS.length - 1;
+        int i = key.hashCode() & mask;
+        String k;
+        while ((k = KNOWN_KEYS[i]) != null) {
+            if (k == key) {
+                return KNOWN_HASHES[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return foldedHash(key);
+    }
+
+    /**
+     * Computes the hash of the key which is consistent with {@link String#equalsIgnoreCase(String)}
+     */
+    static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 128) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OpenAddressingHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+            return next < used;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            return new MapEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeEntry(current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+
+        private final int index;
+        private final String key;
+
+        MapEntry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return isValid() ? values[index] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (!isValid()) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            unshare();
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        private boolean isValid() {
+            // the key instance is only stored once in the map, so the entry is valid if the key is still at its index
+            return index < used && keys[index] == key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
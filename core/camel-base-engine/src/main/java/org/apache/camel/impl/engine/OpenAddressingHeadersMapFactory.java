@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.spi.HeadersMapFactory;
+
+/**
+ * {@link HeadersMapFactory} which uses the {@link OpenAddressingHeadersMap}, which is a case insensitive map optimized
+ * for storing headers.
+ * <p/>
+ * The map is faster and creates less garbage than the {@link DefaultHeadersMapFactory}, as it uses an open addressing
+ * hash table, and a copy of the map shares the content with the copied map until either map is changed, which makes
+ * copying exchanges (such as done by the multicast and wire tap EIPs) cheaper. Unlike the
+ * {@link DefaultHeadersMapFactory} the headers are kept in insertion order, and not sorted by their keys.
+ */
+public class OpenAddressingHeadersMapFactory implements HeadersMapFactory {
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new OpenAddressingHeadersMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new OpenAddressingHeadersMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof OpenAddressingHeadersMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which allows idle workers to steal pending tasks from busy workers.
+ * <p/>
+ * Like the {@link DefaultReactiveExecutor} there is a worker per thread, however tasks scheduled fairly (via
+ * {@link #schedule(Runnable)}) are kept in a queue which other workers can steal from. When a worker has no more tasks
+ * of its own, then before returning it steals up to {@link #getMaxStealTasks()} tasks from the busiest worker which has
+ * at least {@link #getStealThreshold()} pending tasks. Tasks scheduled via {@link #scheduleMain(Runnable)},
+ * {@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)} are never stolen, as these must run on the
+ * current thread.
+ * <p/>
+ * A task scheduled by a running task can only be stolen after the running task has returned to the worker, which is
+ * the same point where the {@link DefaultReactiveExecutor} would run the task. The scheduling task may continue to use
+ * the exchange (such as completing its unit of work) after scheduling the next task, so the next task must not run
+ * concurrently. Tasks are therefore only stolen from workers that are blocked or busy in a later task.
+ * <p/>
+ * This reactive executor can be used by adding it to the registry, or by setting it on
+ * {@link org.apache.camel.ExtendedCamelContext#setReactiveExecutor(ReactiveExecutor)}.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(new Supplier<Worker>() {
+        @Override
+        public Worker get() {
+            int number = createdWorkers.incrementAndGet();
+            return new Worker(number, WorkStealingReactiveExecutor.this);
+        }
+    });
+
+    // the workers that are currently running, which are the candidates to steal tasks from
+    private final Set<Worker> runningWorkers = ConcurrentHashMap.newKeySet();
+    private int stealThreshold = 2;
+    private int maxStealTasks = 10;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        Worker worker = workers.get();
+        worker.queue.add(runnable);
+        if (worker.stats) {
+            pendingTasks.increment();
+        }
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Minimum number of pending tasks a worker must have before other workers can steal from it")
+    public int getStealThreshold() {
+        return stealThreshold;
+    }
+
+    /**
+     * Minimum number of pending tasks a worker must have before other workers can steal tasks from it.
+     */
+    public void setStealThreshold(int stealThreshold) {
+        this.stealThreshold = stealThreshold;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks a worker steals before it returns")
+    public int getMaxStealTasks() {
+        return maxStealTasks;
+    }
+
+    /**
+     * Maximum number of tasks a worker steals from other workers, when it has no more tasks of its own, before it
+     * returns. This bounds the extra time a thread can spend running tasks on behalf of other threads.
+     */
+    public void setMaxStealTasks(int maxStealTasks) {
+        this.maxStealTasks = maxStealTasks;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.size();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from other workers")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Largest number of pending tasks (that can be stolen) of the running workers")
+    public int getMaxQueueDepth() {
+        int max = 0;
+        for (Worker worker : runningWorkers) {
+            max = Math.max(max, worker.depth.get());
+        }
+        return max;
+    }
+
+    @ManagedOperation(description = "Number of pending tasks (that can be stolen) per running worker")
+    public String dumpWorkerQueueDepths() {
+        StringJoiner sj = new StringJoiner(", ");
+        for (Worker worker : runningWorkers) {
+            sj.add("#" + worker.number + "=" + worker.depth.get());
+        }
+        return sj.toString();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+        }
+    }
+
+    /**
+     * Steals a pending task from the busiest running worker (other than the given worker).
+     *
+     * @return the stolen task, or <tt>null</tt> if no worker has enough pending tasks
+     */
+    private Runnable steal(Worker thief) {
+        Worker victim = null;
+        int max = stealThreshold - 1;
+        for (Worker worker : runningWorkers) {
+            if (worker != thief) {
+                int depth = worker.depth.get();
+                if (depth > max) {
+                    max = depth;
+                    victim = worker;
+                }
+            }
+        }
+        if (victim != null) {
+            // steal from the tail as the owner takes from the head
+            Runnable task = victim.shared.pollLast();
+            if (task != null) {
+                victim.depth.decrementAndGet();
+                stolenTasks.increment();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} stole from worker #{}: {}", thief.number, victim.number, task);
+                }
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        // tasks that must run on this thread
+        private Deque<Runnable> queue = new ArrayDeque<>();
+        private Deque<Deque<Runnable>> back;
+        // tasks that are scheduled fairly by the running task, which cannot be stolen until the running task returns
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        // tasks that are scheduled fairly, which other workers can steal
+        private final ConcurrentLinkedDeque<Runnable> shared = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private boolean running;
+        // the number of tasks currently running on this thread (nested when running sync)
+        private int nesting;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new ArrayDeque<>();
+                }
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else if (main || sync) {
+                queue.addLast(runnable);
+            } else if (nesting > 0) {
+                pending.addLast(runnable);
+            } else {
+                shared.addLast(runnable);
+                depth.incrementAndGet();
+            }
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+            if (!running || sync) {
+                boolean outer = !running;
+                running = true;
+                if (outer) {
+                    executor.runningWorkers.add(this);
+                }
+                try {
+                    int stolen = 0;
+                    for (;;) {
+                        Runnable polled = poll();
+                        if (polled == null) {
+                            // help the busy workers before returning, but only for a bounded number of tasks
+                            if (outer && stolen < executor.maxStealTasks) {
+                                polled = executor.steal(this);
+                            }
+                            if (polled == null) {
+                                break;
+                            }
+                            stolen++;
+                        }
+                        run(polled);
+                    }
+                } finally {
+                    if (outer) {
+                        running = false;
+                        executor.runningWorkers.remove(this);
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private Runnable poll() {
+            for (;;) {
+                Runnable polled = queue.pollFirst();
+                if (polled != null) {
+                    return polled;
+                }
+                if (back != null && !back.isEmpty()) {
+                    queue = back.pollFirst();
+                    continue;
+                }
+                polled = shared.pollFirst();
+                if (polled != null) {
+                    depth.decrementAndGet();
+                    return polled;
+                }
+                return pending.pollFirst();
+            }
+        }
+
+        private void run(Runnable polled) {
+            nesting++;
+            try {
+                if (stats) {
+                    executor.pendingTasks.decrement();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            } finally {
+                nesting--;
+            }
+            if (nesting == 0) {
+                publish();
+            }
+        }
+
+        /**
+         * Allows other workers to steal the tasks scheduled by the task that has returned.
+         */
+        private void publish() {
+            for (Runnable task = pending.pollFirst(); task != null; task = pending.pollFirst()) {
+                shared.addLast(task);
+                depth.incrementAndGet();
+            }
+        }
+
+        boolean executeFromQueue() {
+            Runnable polled = queue.pollFirst();
+            if (polled == null) {
+                polled = shared.pollFirst();
+                if (polled != null) {
+                    depth.decrementAndGet();
+                } else {
+                    polled = pending.pollFirst();
+                    if (polled == null) {
+                        return false;
+                    }
+                }
+            }
+            run(polled);
+            return true;
+        }
+
+    }
+
+}
@@ -62,6 +62,12 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
+    // lookups of type converters which found none, so repeated lookups of the same types are cheap
+    protected final DoubleMap<Class<?>, Class<?>, Boolean> lookupMisses = new DoubleMap<>(16);
+    // guards updating the lookup misses, and the version is changed whenever a type converter is added,
+    // so a miss from a lookup which raced with adding a type converter is not remembered
+    private final Object lookupMissesLock = new Object();
+    private volatile long lookupMissesVersion;
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -572,6 +578,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            invalidateLookupMisses(null, null);
         }
     }
 
@@ -603,6 +610,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // the new type converter may be found by lookups which previously found none
+                invalidateLookupMisses(toType, fromType);
             }
         }
     }
@@ -625,17 +634,59 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
     }
 
+    /**
+     * Invalidates the remembered lookups which found no type converter, but which may find the given type converter.
+     *
+     * @param toType   the type the added type converter converts to, or <tt>null</tt> to invalidate all
+     * @param fromType the type the added type converter converts from, or <tt>null</tt> to invalidate all
+     */
+    private void invalidateLookupMisses(Class<?> toType, Class<?> fromType) {
+        synchronized (lookupMissesLock) {
+            // lookups in progress may not see the added type converter, so they must not remember their miss
+            lookupMissesVersion++;
+            if (lookupMisses.size() == 0) {
+                return;
+            }
+            if (toType == null || fromType == null) {
+                lookupMisses.clear();
+                return;
+            }
+            // a lookup may find a type converter that converts to a sub type, and from a super type (see doLookup)
+            List<Class<?>[]> affected = new ArrayList<>();
+            lookupMisses.forEach((to, from, v) -> {
+                if (to.isAssignableFrom(toType) && fromType.isAssignableFrom(from)) {
+                    affected.add(new Class<?>[] { to, from });
+                }
+            });
+            for (Class<?>[] key : affected) {
+                lookupMisses.remove(key[0], key[1]);
+            }
+        }
+    }
+
+    private void addLookupMiss(Class<?> toType, Class<?> fromType, long version) {
+        synchronized (lookupMissesLock) {
+            // only remember the miss if no type converter has been added since the lookup started
+            if (version == lookupMissesVersion) {
+                lookupMisses.put(toType, fromType, Boolean.TRUE);
+            }
+        }
+    }
+
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
         return doLookup(toType, fromType, false);
     }
 
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
-        if (converter == null) {
+        if (converter == null && !lookupMisses.containsKey(toType, fromType)) {
             // converter not found, try to lookup then
+            long version = lookupMissesVersion;
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else {
+                addLookupMiss(toType, fromType, version);
             }
         }
         return converter;
@@ -762,6 +813,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        invalidateLookupMisses(null, null);
         statistics.reset();
     }
 
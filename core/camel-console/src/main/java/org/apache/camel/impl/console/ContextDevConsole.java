@@ -45,6 +45,11 @@ public class ContextDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Total: %s", mb.getExchangesTotal()));
             sb.append(String.format("\n    Failed: %s", mb.getExchangesFailed()));
             sb.append(String.format("\n    Inflight: %s", mb.getExchangesInflight()));
+            if (mb.isLatencyHistogramEnabled()) {
+                sb.append(String.format("\n    Processing Time: p50=%sms p90=%sms p99=%sms p999=%sms",
+                        mb.getProcessingTimePercentile50(), mb.getProcessingTimePercentile90(),
+                        mb.getProcessingTimePercentile99(), mb.getProcessingTimePercentile999()));
+            }
             sb.append("\n");
         }
 
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.camel.BinaryPredicate;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
@@ -258,6 +259,9 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
+        if (predicate instanceof BinaryPredicate) {
+            return new BinaryPredicateExpression(camelContext, (BinaryPredicate) predicate);
+        }
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -272,6 +276,62 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    /**
+     * An expression of a binary predicate, which exposes the operator and the left and right hand side expressions of
+     * the predicate, so the predicate can be analyzed (such as when clauses in the choice EIP testing for equality).
+     */
+    private final class BinaryPredicateExpression implements Expression, BinaryPredicate {
+
+        private final CamelContext camelContext;
+        private final BinaryPredicate predicate;
+
+        private BinaryPredicateExpression(CamelContext camelContext, BinaryPredicate predicate) {
+            this.camelContext = camelContext;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            // noop as the nodes are initialized when the expressions are created
+        }
+
+        @Override
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            boolean answer = predicate.matches(exchange);
+            return camelContext.getTypeConverter().convertTo(type, answer);
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return predicate.matches(exchange);
+        }
+
+        @Override
+        public String matchesReturningFailureMessage(Exchange exchange) {
+            return predicate.matchesReturningFailureMessage(exchange);
+        }
+
+        @Override
+        public String getOperator() {
+            return predicate.getOperator();
+        }
+
+        @Override
+        public Expression getLeft() {
+            return predicate.getLeft();
+        }
+
+        @Override
+        public Expression getRight() {
+            return predicate.getRight();
+        }
+
+        @Override
+        public String toString() {
+            return left + " " + token.getText() + " " + right;
+        }
+    }
+
     @Override
     public String createCode(String expression) throws SimpleParserException {
         org.apache.camel.util.ObjectHelper.notNull(left, "left node", this);
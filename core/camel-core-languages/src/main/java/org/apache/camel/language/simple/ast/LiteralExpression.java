@@ -58,7 +58,10 @@ public class LiteralExpression extends BaseSimpleNode implements LiteralNode {
 
     @Override
     public Expression createExpression(CamelContext camelContext, String expression) {
-        return ExpressionBuilder.constantExpression(getText());
+        Expression answer = ExpressionBuilder.constantExpression(getText());
+        // initialize the constant so its value is known up front
+        answer.init(camelContext);
+        return answer;
     }
 
     @Override
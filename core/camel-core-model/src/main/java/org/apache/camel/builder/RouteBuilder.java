@@ -604,14 +604,21 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
                 interceptor.beforeConfigure(this);
             }
 
-            configure();
+            try {
+                configure();
 
-            // remember the source resource
-            getRouteCollection().setResource(getResource());
+                // remember the source resource
+                getRouteCollection().setResource(getResource());
 
-            for (RouteDefinition route : getRouteCollection().getRoutes()) {
-                // ensure the route is prepared after configure method is complete
-                getRouteCollection().prepareRoute(route);
+                for (RouteDefinition route : getRouteCollection().getRoutes()) {
+                    // ensure the route is prepared after configure method is complete
+                    getRouteCollection().prepareRoute(route);
+                }
+            } catch (Exception e) {
+                for (RouteBuilderLifecycleStrategy interceptor : lifecycleInterceptors) {
+                    interceptor.onConfigureFailure(this, e);
+                }
+                throw e;
             }
 
             for (RouteBuilderLifecycleStrategy interceptor : lifecycleInterceptors) {
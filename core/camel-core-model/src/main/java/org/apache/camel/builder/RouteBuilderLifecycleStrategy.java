@@ -31,4 +31,11 @@ public interface RouteBuilderLifecycleStrategy {
      */
     default void afterConfigure(RouteBuilder builder) {
     }
+
+    /**
+     * This method is invoked if the {@link RouteBuilder#configure()} method failed, instead of
+     * {@link #afterConfigure(RouteBuilder)}.
+     */
+    default void onConfigureFailure(RouteBuilder builder, Exception cause) {
+    }
 }
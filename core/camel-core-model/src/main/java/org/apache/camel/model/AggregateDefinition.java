@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -467,6 +470,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1041,6 +1052,24 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of locks to stripe the correlation keys over, which allows exchanges with different correlation keys to be
+     * aggregated in parallel. By default a single lock is used, which means only one exchange is aggregated at any
+     * time.
+     * <p/>
+     * <b>Important:</b> When using lock striping then the {@link AggregationStrategy} must be thread-safe, as it is
+     * invoked concurrently for different correlation keys. Lock striping is only supported with aggregation
+     * repositories that can be updated concurrently for different correlation keys, such as the default in-memory
+     * aggregation repository, and is not in use when optimistic locking is enabled.
+     *
+     * @param  lockStripes the number of locks
+     * @return             the builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -186,6 +186,20 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Keeps the messages of the stream resequencer in a ring buffer indexed by their sequence number, instead of
+     * sorting them, which is much faster for dense numeric sequences.
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition ringBuffer() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("ringBuffer() only supported for stream resequencer");
+        }
+        streamConfig.setRingBuffer(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      * 
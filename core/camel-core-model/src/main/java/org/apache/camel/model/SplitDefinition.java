@@ -80,6 +80,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean", deprecationNote = "Has no effect in Camel 3.x")
     @Deprecated
     private String stopOnAggregateException;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxInflight;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String inflightOrdered;
 
     public SplitDefinition() {
     }
@@ -541,6 +547,67 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which can be in-flight (sent but not yet aggregated) at the same time,
+     * when using parallel processing. When the limit is reached then the splitter does not split and send the next
+     * message, until a split message has been aggregated. This applies backpressure to the splitting, so the memory
+     * usage stays bounded, such as when splitting big files in streaming mode. The default is 0 which is unbounded.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages which can be in-flight (sent but not yet aggregated) at the same time,
+     * when using parallel processing. When the limit is reached then the splitter does not split and send the next
+     * message, until a split message has been aggregated. This applies backpressure to the splitting, so the memory
+     * usage stays bounded, such as when splitting big files in streaming mode. The default is 0 which is unbounded.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
+    /**
+     * Whether to aggregate the split messages in the same order as they were split, also when in streaming mode, which
+     * otherwise aggregates the split messages in the order they complete. Use this together with maxInflight, to bound
+     * the number of completed split messages which waits to be aggregated in order.
+     *
+     * @return the builder
+     */
+    public SplitDefinition inflightOrdered() {
+        return inflightOrdered(true);
+    }
+
+    /**
+     * Whether to aggregate the split messages in the same order as they were split, also when in streaming mode, which
+     * otherwise aggregates the split messages in the order they complete. Use this together with maxInflight, to bound
+     * the number of completed split messages which waits to be aggregated in order.
+     *
+     * @return the builder
+     */
+    public SplitDefinition inflightOrdered(boolean inflightOrdered) {
+        return inflightOrdered(Boolean.toString(inflightOrdered));
+    }
+
+    /**
+     * Whether to aggregate the split messages in the same order as they were split, also when in streaming mode, which
+     * otherwise aggregates the split messages in the order they complete. Use this together with maxInflight, to bound
+     * the number of completed split messages which waits to be aggregated in order.
+     *
+     * @return the builder
+     */
+    public SplitDefinition inflightOrdered(String inflightOrdered) {
+        setInflightOrdered(inflightOrdered);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -705,4 +772,20 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public String getInflightOrdered() {
+        return inflightOrdered;
+    }
+
+    public void setInflightOrdered(String inflightOrdered) {
+        this.inflightOrdered = inflightOrdered;
+    }
+
 }
@@ -59,6 +59,9 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
     @Metadata(javaType = "org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy",
               enums = "Abort,CallerRuns,DiscardOldest,Discard")
     private String rejectedPolicy;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -137,6 +140,15 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    public ThreadPoolProfileDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public String getDefaultProfile() {
         return defaultProfile;
     }
@@ -229,4 +241,16 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads (requires JDK 19 or newer), which starts a new virtual thread per task, instead of
+     * using a pool of platform threads. Scheduled thread pools always use platform threads.
+     */
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
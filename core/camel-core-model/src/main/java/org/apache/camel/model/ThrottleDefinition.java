@@ -58,6 +58,12 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "SlidingWindow", enums = "SlidingWindow,TokenBucket")
+    private String mode;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String burstCapacity;
 
     public ThrottleDefinition() {
     }
@@ -249,6 +255,57 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * The throttling mode to use.
+     * <p/>
+     * The default <tt>SlidingWindow</tt> mode keeps a permit per request, which are released after the time period,
+     * which ensures no more than the maximum requests are allowed in any time period.
+     * <p/>
+     * The <tt>TokenBucket</tt> mode uses a token bucket per correlation key, which is refilled with the maximum
+     * requests during the time period, and can hold up to the burst capacity tokens. This uses far less memory and
+     * scheduling when throttling many correlation keys.
+     *
+     * @param  mode the throttling mode
+     * @return      the builder
+     */
+    public ThrottleDefinition mode(String mode) {
+        setMode(mode);
+        return this;
+    }
+
+    /**
+     * Uses the <tt>TokenBucket</tt> throttling mode, with a token bucket per correlation key, which uses far less
+     * memory and scheduling when throttling many correlation keys.
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket() {
+        return mode("TokenBucket");
+    }
+
+    /**
+     * The maximum number of requests which can be allowed in a burst when using the <tt>TokenBucket</tt> mode. Is by
+     * default the maximum number of requests per period.
+     *
+     * @param  burstCapacity the burst capacity
+     * @return               the builder
+     */
+    public ThrottleDefinition burstCapacity(int burstCapacity) {
+        return burstCapacity(Integer.toString(burstCapacity));
+    }
+
+    /**
+     * The maximum number of requests which can be allowed in a burst when using the <tt>TokenBucket</tt> mode. Is by
+     * default the maximum number of requests per period.
+     *
+     * @param  burstCapacity the burst capacity
+     * @return               the builder
+     */
+    public ThrottleDefinition burstCapacity(String burstCapacity) {
+        setBurstCapacity(burstCapacity);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -337,6 +394,22 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    public void setBurstCapacity(String burstCapacity) {
+        this.burstCapacity = burstCapacity;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
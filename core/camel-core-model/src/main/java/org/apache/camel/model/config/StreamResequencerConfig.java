@@ -52,6 +52,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectOld;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String ringBuffer;
 
     /**
      * Creates a new {@link StreamResequencerConfig} instance using default values for <code>capacity</code> (1000) and
@@ -202,4 +205,18 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public String getRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Whether to keep the messages in a ring buffer indexed by their sequence number, instead of sorting them. This
+     * allows messages to be inserted concurrently and is much faster for dense numeric sequences. Messages outside the
+     * ring buffer, such as when there are large gaps in the sequence, are sorted as usual. This requires the comparator
+     * to support sequence numbers, which the default comparator does.
+     */
+    public void setRingBuffer(String ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
 }
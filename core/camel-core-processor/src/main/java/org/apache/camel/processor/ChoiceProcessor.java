@@ -18,18 +18,26 @@ package org.apache.camel.processor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BinaryPredicate;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
+import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
+import org.apache.camel.StaticExpression;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,21 +47,43 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 /**
  * Implements a Choice structure where one or more predicates are used which if they are true their processors are used,
  * with a default otherwise clause used if none match.
+ * <p/>
+ * Consecutive when clauses which test the same expression for equality with (or being in a list of) string constants,
+ * such as <tt>header("type").isEqualTo("foo")</tt> or <tt>simple("${header.type} == 'foo'")</tt>, are indexed in a
+ * hash table, so the expression is only evaluated once to find the matching when clause, instead of testing the
+ * predicates one by one. The index is only used when the expression evaluates to a string, otherwise the predicates are
+ * tested one by one as usual.
  */
 public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(ChoiceProcessor.class);
+    // the minimum number of consecutive when clauses to index
+    private static final int MIN_INDEX_SIZE = 4;
 
     private String id;
     private String routeId;
     // optimize to use an array
     private final FilterProcessor[] filters;
+    // the definitions of the expressions tested by the filters (or null)
+    private final String[] definitions;
     private final int len;
     private final AsyncProcessor otherwise;
+    // the index of the when clauses which starts at the given filter (or null)
+    private WhenIndex[] indexes;
     private transient long notFiltered;
 
     public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise) {
+        this(filters, otherwise, null);
+    }
+
+    /**
+     * Creates the choice with the definitions of the expressions tested by the when clauses (such as the language and the
+     * expression text), which are used to find the when clauses testing the same expression. A definition is null if the
+     * expression of the when clause has no definition, then only the same expression instance is the same expression.
+     */
+    public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise, List<String> definitions) {
         this.filters = filters.toArray(new FilterProcessor[0]);
+        this.definitions = definitions != null ? definitions.toArray(new String[0]) : new String[filters.size()];
         this.len = filters.size();
         this.otherwise = otherwise != null ? AsyncProcessorConverterHelper.convert(otherwise) : null;
     }
@@ -61,7 +91,35 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
         // find the first matching filter and process the exchange using it
-        for (int i = 0; i < len; i++) {
+        int i = 0;
+        while (i < len) {
+            WhenIndex index = indexes != null ? indexes[i] : null;
+            if (index != null) {
+                Object value = null;
+                try {
+                    value = index.expression.evaluate(exchange, Object.class);
+                } catch (Throwable e) {
+                    exchange.setException(e);
+                }
+                if (!continueProcessing(exchange, "so breaking out of choice", LOG)) {
+                    callback.done(true);
+                    return true;
+                }
+                if (value == null || value instanceof String) {
+                    // find the first filter which matches, or skip all the indexed filters
+                    int pos = value != null ? index.lookup((String) value) : -1;
+                    if (pos < 0) {
+                        i = index.end;
+                        continue;
+                    }
+                    // the filter matches as the value is equal to its constant, so reuse the value
+                    // instead of evaluating the expression again by testing its predicate
+                    FilterProcessor filter = filters[pos];
+                    filter.matched(exchange);
+                    return filter.getProcessor().process(exchange, callback);
+                }
+            }
+
             FilterProcessor filter = filters[i];
             // evaluate the predicate on filter predicate early to be faster
             // and avoid issues when having nested choices
@@ -82,6 +140,7 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
 
             // if we did not match then continue to next filter
             if (!matches) {
+                i++;
                 continue;
             }
 
@@ -118,6 +177,21 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         return otherwise;
     }
 
+    /**
+     * Gets the number of when clauses which are indexed
+     */
+    public int getIndexedFilterCount() {
+        int answer = 0;
+        if (indexes != null) {
+            for (WhenIndex index : indexes) {
+                if (index != null) {
+                    answer += index.end - index.start;
+                }
+            }
+        }
+        return answer;
+    }
+
     /**
      * Gets the number of Exchanges that did not match any predicate and are routed using otherwise
      */
@@ -178,6 +252,100 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
     @Override
     protected void doInit() throws Exception {
         ServiceHelper.initService(Arrays.asList(filters), otherwise);
+        // the predicates must be initialized before the constants can be indexed
+        indexes = createIndexes();
+    }
+
+    private WhenIndex[] createIndexes() {
+        WhenIndex[] answer = new WhenIndex[len];
+        boolean found = false;
+        int start = 0;
+        while (start < len) {
+            List<Object[]> tests = equalityTests(start);
+            if (tests == null) {
+                start++;
+                continue;
+            }
+            Expression expression = (Expression) tests.get(0)[0];
+            String definition = definitions[start];
+            Map<String, Integer> positions = new HashMap<>();
+            int end = start;
+            while (tests != null && sameExpression(expression, definition, tests, definitions[end])) {
+                for (Object[] test : tests) {
+                    // the first when clause with the constant is the one to match
+                    positions.putIfAbsent((String) test[1], end);
+                }
+                end++;
+                tests = end < len ? equalityTests(end) : null;
+            }
+            if (end - start >= MIN_INDEX_SIZE) {
+                answer[start] = new WhenIndex(expression, start, end, positions);
+                found = true;
+                LOG.debug("Indexed {} when clauses testing {} in choice: {}", end - start, expression, id);
+            }
+            start = Math.max(end, start + 1);
+        }
+        return found ? answer : null;
+    }
+
+    /**
+     * Gets the expression and string constant pairs, if the predicate of the filter is an equality test (or a list of
+     * equality tests) of the same expression with non-numeric string constants, or null if the filter cannot be indexed.
+     */
+    private List<Object[]> equalityTests(int pos) {
+        Predicate predicate = filters[pos].getPredicate();
+        List<Object[]> answer = new ArrayList<>();
+        if (predicate instanceof PredicateBuilder.InPredicate) {
+            for (Predicate in : ((PredicateBuilder.InPredicate) predicate).getPredicates()) {
+                Object[] test = equalityTest(in);
+                if (test == null) {
+                    return null;
+                }
+                answer.add(test);
+            }
+        } else {
+            Object[] test = equalityTest(predicate);
+            if (test == null) {
+                return null;
+            }
+            answer.add(test);
+        }
+        if (answer.isEmpty()
+                || !sameExpression((Expression) answer.get(0)[0], definitions[pos], answer, definitions[pos])) {
+            return null;
+        }
+        return answer;
+    }
+
+    private static Object[] equalityTest(Predicate predicate) {
+        if (predicate instanceof BinaryPredicate && "==".equals(((BinaryPredicate) predicate).getOperator())) {
+            BinaryPredicate binary = (BinaryPredicate) predicate;
+            if (binary.getRight() instanceof StaticExpression) {
+                Object value = ((StaticExpression) binary.getRight()).getValue();
+                // numeric strings are compared as numbers, so they cannot be looked up by the string
+                if (value instanceof String && !ObjectHelper.isNumber((String) value)) {
+                    return new Object[] { binary.getLeft(), value };
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the tests are of the same expression, which is either the same expression instance, or an expression with
+     * the same definition, as expressions such as <tt>header("type")</tt> are created per predicate.
+     */
+    private static boolean sameExpression(
+            Expression expression, String definition, List<Object[]> tests, String otherDefinition) {
+        if (definition != null && definition.equals(otherDefinition)) {
+            return true;
+        }
+        for (Object[] test : tests) {
+            if (test[0] != expression) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -195,4 +363,30 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         ServiceHelper.stopAndShutdownServices(otherwise, Arrays.asList(filters));
     }
 
+    /**
+     * An index of consecutive when clauses which tests the same expression for equality with string constants.
+     */
+    private static final class WhenIndex {
+
+        private final Expression expression;
+        private final int start;
+        private final int end;
+        private final Map<String, Integer> positions;
+
+        WhenIndex(Expression expression, int start, int end, Map<String, Integer> positions) {
+            this.expression = expression;
+            this.start = start;
+            this.end = end;
+            this.positions = positions;
+        }
+
+        /**
+         * The position of the first when clause which can match the value, or -1 if none can match
+         */
+        int lookup(String value) {
+            Integer pos = positions.get(value);
+            return pos != null ? pos : -1;
+        }
+    }
+
 }
@@ -24,8 +24,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Processor;
+import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
+import org.apache.camel.support.timer.HashedWheelTimer;
+import org.apache.camel.support.timer.Timer;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,7 +37,8 @@ import org.slf4j.LoggerFactory;
 /**
  * A useful base class for any processor which provides some kind of throttling or delayed processing.
  * <p/>
- * This implementation will block while waiting.
+ * This implementation will block while waiting, unless async delayed is in use, where the delayed tasks are scheduled
+ * on the timer shared by the {@link CamelContext} and then executed by the executor service.
  */
 public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
 
@@ -45,6 +50,8 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
     private boolean asyncDelayed = true;
     private boolean callerRunsWhenRejected = true;
     private final AtomicInteger delayedCount = new AtomicInteger();
+    private Timer timer;
+    private ReactiveExecutor reactiveExecutor;
 
     private final class ProcessCall implements Runnable {
         private final Exchange exchange;
@@ -118,7 +125,7 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
                     LOG.trace("Scheduling delayed task to run in {} millis for exchangeId: {}",
                             delay, exchange.getExchangeId());
                 }
-                executorService.schedule(call, delay, TimeUnit.MILLISECONDS);
+                schedule(call, delay);
                 // tell Camel routing engine we continue routing asynchronous
                 return false;
             } catch (RejectedExecutionException e) {
@@ -152,6 +159,36 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
         }
     }
 
+    private void schedule(ProcessCall call, long delay) {
+        if (timer == null) {
+            executorService.schedule(call, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (executorService.isShutdown()) {
+            throw new RejectedExecutionException("Executor service is shutdown: " + executorService);
+        }
+        // the timer thread must not block so hand over the task to the executor
+        timer.schedule(() -> {
+            try {
+                executorService.execute(call);
+            } catch (RejectedExecutionException e) {
+                // the timer thread must not run the task, so hand over to a new thread
+                Runnable task;
+                if (isCallerRunsWhenRejected() && isRunAllowed()) {
+                    LOG.debug("Executing delayed task rejected, so letting a new thread run for exchangeId: {}",
+                            call.exchange.getExchangeId());
+                    task = call;
+                } else {
+                    delayedCount.decrementAndGet();
+                    call.exchange.setException(e);
+                    task = () -> call.callback.done(false);
+                }
+                camelContext.getExecutorServiceManager()
+                        .newThread("DelayRejected", () -> reactiveExecutor.schedule(task)).start();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         if (!isRunAllowed()) {
@@ -264,6 +301,10 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
         } else if (executorService != null) {
             asyncDelayed = true;
         }
+        if (isAsyncDelayed() && camelContext != null) {
+            timer = HashedWheelTimer.sharedTimer(camelContext);
+            reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        }
         super.doStart();
     }
 
@@ -97,6 +97,16 @@ public class FilterProcessor extends DelegateAsyncProcessor implements Traceable
         return matches;
     }
 
+    /**
+     * Records that the exchange matched the filter predicate, when the predicate has already been tested by the caller
+     * in another way (such as an index of the when clauses in the choice EIP).
+     */
+    void matched(Exchange exchange) {
+        LOG.debug("Filter matches: true for exchange: {}", exchange);
+
+        filtered++;
+    }
+
     @Override
     public String toString() {
         return id;
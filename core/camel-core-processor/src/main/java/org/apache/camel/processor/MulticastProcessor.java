@@ -170,6 +170,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
+    private boolean inflightOrdered;
+    private final AtomicInteger inflightExchanges = new AtomicInteger();
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -383,6 +386,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        // the sub exchanges which has been sent but not yet aggregated (the in-flight window)
+        final AtomicInteger inflight = new AtomicInteger();
+        // whether sending the next sub exchange is suspended until a slot in the in-flight window is free
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -411,10 +418,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            boolean ordered = !isStreaming() || isInflightOrdered();
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -437,6 +445,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
                         doAggregate(result, exchange, original);
+                        release();
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
                         }
@@ -449,6 +458,47 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     lock.unlock();
                 }
             }
+            // a slot in the in-flight window may have been freed, so resume sending
+            resume();
+        }
+
+        /**
+         * Whether the in-flight window is full, so sending the next sub exchange must be suspended
+         */
+        protected boolean isWindowFull() {
+            return maxInflight > 0 && inflight.get() >= maxInflight;
+        }
+
+        /**
+         * Suspends sending the next sub exchange until a slot in the in-flight window is free
+         *
+         * @return <tt>true</tt> if suspended, or <tt>false</tt> if a slot was freed in the meantime
+         */
+        protected boolean suspend() {
+            suspended.set(true);
+            // a slot may have been freed before we suspended, and then we must continue
+            return isWindowFull() || !suspended.compareAndSet(true, false);
+        }
+
+        /**
+         * Resumes sending the next sub exchange if suspended and there is a free slot in the in-flight window
+         */
+        protected void resume() {
+            if (suspended.get() && !done.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        protected void acquire() {
+            inflight.incrementAndGet();
+            inflightExchanges.incrementAndGet();
+        }
+
+        protected void release() {
+            // the remaining slots are released when done, so only release if still in-flight
+            if (inflight.getAndUpdate(n -> n > 0 ? n - 1 : n) > 0) {
+                inflightExchanges.decrementAndGet();
+            }
         }
 
         protected void timeout() {
@@ -465,6 +515,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         }
                         if (exchange != null) {
                             doAggregate(result, exchange, original);
+                            release();
                             nbAggregated.incrementAndGet();
                         }
                     }
@@ -481,6 +532,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                // release the remaining slots of the in-flight window
+                inflightExchanges.addAndGet(-inflight.getAndSet(0));
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
             }
         }
@@ -532,6 +585,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 if (!hasNext) {
                     allSent.set(true);
                 }
+                acquire();
 
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
@@ -576,7 +630,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     });
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // unless the in-flight window is full, then we continue when a sub exchange has been aggregated
+                if (hasNext && isParallelProcessing() && !(isWindowFull() && suspend())) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -1247,6 +1302,40 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * The maximum number of sub exchanges which can be in-flight (sent but not yet aggregated) at the same time, when
+     * using parallel processing. When the limit is reached then no more sub exchanges are created and sent, until a sub
+     * exchange has been aggregated, which applies backpressure to the iterator, such as when splitting in streaming
+     * mode. The default is 0 which is unbounded.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public boolean isInflightOrdered() {
+        return inflightOrdered;
+    }
+
+    /**
+     * Whether to aggregate the sub exchanges in the same order as they were sent, also when in streaming mode, which
+     * otherwise aggregates the sub exchanges in the order they complete. This should be used together with
+     * {@link #setMaxInflight(int)} to bound the sub exchanges which waits to be aggregated.
+     */
+    public void setInflightOrdered(boolean inflightOrdered) {
+        this.inflightOrdered = inflightOrdered;
+    }
+
+    /**
+     * Number of sub exchanges currently in-flight (sent but not yet aggregated)
+     */
+    public int getInflightExchanges() {
+        return inflightExchanges.get();
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
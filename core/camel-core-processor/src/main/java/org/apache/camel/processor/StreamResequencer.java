@@ -32,7 +32,9 @@ import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
+import org.apache.camel.processor.resequencer.RingBufferResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
+import org.apache.camel.processor.resequencer.SequenceNumberComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
@@ -86,9 +88,31 @@ public class StreamResequencer extends AsyncProcessorSupport
      */
     public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
                              Expression expression) {
+        this(camelContext, processor, comparator, expression, false);
+    }
+
+    /**
+     * Creates a new {@link StreamResequencer} instance.
+     *
+     * @param processor  next processor that processes re-ordered exchanges.
+     * @param comparator a sequence element comparator for exchanges.
+     * @param ringBuffer whether to use the {@link RingBufferResequencerEngine}, which is only possible if the
+     *                   comparator is a {@link SequenceNumberComparator}.
+     */
+    @SuppressWarnings("unchecked")
+    public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
+                             Expression expression, boolean ringBuffer) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
-        this.engine = new ResequencerEngine<>(comparator);
+        if (ringBuffer && comparator instanceof SequenceNumberComparator) {
+            this.engine = new RingBufferResequencerEngine<>((SequenceNumberComparator<Exchange>) comparator);
+        } else {
+            if (ringBuffer) {
+                LOG.info("Cannot use ring buffer as comparator: {} has no sequence numbers. Using the default engine instead.",
+                        comparator);
+            }
+            this.engine = new ResequencerEngine<>(comparator);
+        }
         this.engine.setSequenceSender(this);
         this.processor = processor;
         this.expression = expression;
@@ -149,6 +173,13 @@ public class StreamResequencer extends AsyncProcessorSupport
         this.deliveryAttemptInterval = deliveryAttemptInterval;
     }
 
+    /**
+     * Whether this resequencer uses the {@link RingBufferResequencerEngine}.
+     */
+    public boolean isRingBuffer() {
+        return engine instanceof RingBufferResequencerEngine;
+    }
+
     public boolean isIgnoreInvalidExchanges() {
         return ignoreInvalidExchanges;
     }
@@ -215,6 +246,9 @@ public class StreamResequencer extends AsyncProcessorSupport
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
         delivery = new Delivery();
+        if (engine instanceof RingBufferResequencerEngine) {
+            ((RingBufferResequencerEngine<Exchange>) engine).setCapacity(capacity);
+        }
         engine.start();
         delivery.start();
     }
@@ -24,6 +24,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
@@ -55,6 +56,13 @@ import org.slf4j.LoggerFactory;
  * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
  * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * Alternatively the token bucket mode can be enabled, which uses a lock-free token bucket per correlation key instead
+ * of a DelayQueue with permits. The bucket is refilled with maxRequestsPerPeriod tokens during timePeriodMillis, and
+ * holds up to the burst capacity tokens (maxRequestsPerPeriod by default). The bucket is implemented using the generic
+ * cell rate algorithm, so each bucket is only the theoretical arrival time of the next request. This uses far less
+ * memory and scheduling when throttling a large number of correlation keys, and idle buckets are evicted in the
+ * background.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -85,6 +93,11 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean callerRunsWhenRejected = true;
     private Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private boolean tokenBucket;
+    private int burstCapacity;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long origin = System.nanoTime();
+    private volatile ScheduledFuture<?> evictFuture;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
                      final long timePeriodMillis,
@@ -108,6 +121,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (tokenBucket) {
+            return processTokenBucket(exchange, callback);
+        }
+
         long queuedStart = 0;
         if (LOG.isTraceEnabled()) {
             queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
@@ -241,15 +258,126 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Throttles the exchange using the token bucket of the correlation key. If the bucket is empty then a token is
+     * reserved, and the exchange is delayed until the token is due, unless the exchange should be rejected.
+     */
+    protected boolean processTokenBucket(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            long delay;
+            do {
+                TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+                int rate = newThrottle != null ? newThrottle : bucket.rate;
+                if (newThrottle == null && rate == 0) {
+                    throw new RuntimeExchangeException(
+                            "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
+                            exchange);
+                }
+                if (rate == 0) {
+                    throw new ThrottlerRejectedExecutionException(
+                            "Exceeded the max throttle rate of 0 within " + timePeriodMillis + "ms");
+                }
+                bucket.rate = rate;
+                long interval = Math.max(1, TimeUnit.MILLISECONDS.toNanos(timePeriodMillis) / rate);
+                long tolerance = interval * (burstCapacity > 0 ? burstCapacity : rate);
+                delay = bucket.acquire(nanoTime(), interval, tolerance, !isRejectExecution());
+                if (delay > 0 && isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException(
+                            "Exceeded the max throttle rate of " + rate + " within " + timePeriodMillis + "ms");
+                }
+                // the bucket has been evicted so try again with a new bucket
+            } while (delay < 0);
+
+            if (delay > 0) {
+                // the token has been reserved, so we just need to wait until its due
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    try {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so delaying {} nanos, exchangeId: {}",
+                                    delay, exchange.getExchangeId());
+                        }
+                        asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                        return false;
+                    } catch (RejectedExecutionException e) {
+                        if (!isCallerRunsWhenRejected()) {
+                            throw e;
+                        }
+                        LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {} nanos, exchangeId: {}", delay, exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } else if (LOG.isTraceEnabled()) {
+                LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            }
+        } catch (final InterruptedException e) {
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().isForceShutdown();
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Removes the token buckets which have been full for at least the clean period, as they have the same state as a
+     * new bucket.
+     */
+    private void evictIdleBuckets() {
+        long idle = nanoTime() - TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        buckets.forEach((key, bucket) -> {
+            if (bucket.evict(idle)) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    private long nanoTime() {
+        // relative to the origin so the time is never negative
+        return System.nanoTime() - origin;
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (tokenBucket && asyncExecutor != null) {
+            evictFuture = asyncExecutor.scheduleWithFixedDelay(this::evictIdleBuckets, cleanPeriodMillis, cleanPeriodMillis,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (evictFuture != null) {
+            evictFuture.cancel(false);
+            evictFuture = null;
+        }
     }
 
     @Override
@@ -258,9 +386,58 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
         }
         states.clear();
+        buckets.clear();
         super.doShutdown();
     }
 
+    /**
+     * A token bucket using the generic cell rate algorithm, which only keeps the theoretical arrival time of the next
+     * request, which is when the bucket will be full again.
+     */
+    private static final class TokenBucket {
+        private static final long EVICTED = Long.MIN_VALUE;
+        private static final AtomicLongFieldUpdater<TokenBucket> TAT
+                = AtomicLongFieldUpdater.newUpdater(TokenBucket.class, "tat");
+
+        private volatile long tat;
+        private volatile int rate;
+
+        /**
+         * Acquires a token from the bucket
+         *
+         * @param  now       the current time in nanos
+         * @param  interval  the nanos between tokens being added to the bucket
+         * @param  tolerance the nanos it takes to fill the bucket from empty, which is the burst capacity
+         * @param  reserve   whether to reserve the token if the bucket is empty
+         * @return           0 if a token was acquired, the nanos until the token is due if the bucket is empty, or -1
+         *                   if the bucket has been evicted
+         */
+        long acquire(long now, long interval, long tolerance, boolean reserve) {
+            while (true) {
+                long current = tat;
+                if (current == EVICTED) {
+                    return -1;
+                }
+                long next = Math.max(current, now) + interval;
+                long delay = next - tolerance - now;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (TAT.compareAndSet(this, current, next)) {
+                    return Math.max(0, delay);
+                }
+            }
+        }
+
+        /**
+         * Marks the bucket as evicted if it has been full since the given time
+         */
+        boolean evict(long idle) {
+            long current = tat;
+            return current != EVICTED && current <= idle && TAT.compareAndSet(this, current, EVICTED);
+        }
+    }
+
     private class ThrottlingState {
         private final String key;
         private final DelayQueue<ThrottlePermit> delayQueue = new DelayQueue<>();
@@ -413,6 +590,29 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    public boolean isTokenBucket() {
+        return tokenBucket;
+    }
+
+    /**
+     * Whether to use a token bucket per correlation key instead of a DelayQueue with permits
+     */
+    public void setTokenBucket(boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    /**
+     * The maximum number of requests which can be allowed in a burst when using the token bucket mode. Is by default
+     * the maximum number of requests per period.
+     */
+    public void setBurstCapacity(int burstCapacity) {
+        this.burstCapacity = burstCapacity;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -457,6 +657,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
      * than the max per period within the group will return
      */
     public int getCurrentMaximumRequestsPerPeriod() {
+        if (tokenBucket) {
+            return buckets.values().stream().mapToInt(b -> b.rate).max().orElse(0);
+        }
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
@@ -70,6 +70,7 @@ import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.TimeUtils;
@@ -103,6 +104,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -230,6 +232,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -402,13 +405,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock striping then completion of all groups must be done after the lock has been released
+        AtomicBoolean completeAllGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -417,6 +423,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -427,6 +437,46 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return sync;
     }
 
+    /**
+     * Gets the lock to use when aggregating the given correlation key.
+     */
+    private Lock getLock(String key) {
+        Lock[] stripes = stripedLocks;
+        if (stripes != null) {
+            // spread the hash code so keys that only differ in the higher bits do not end up on the same stripe
+            int hash = key.hashCode();
+            hash ^= hash >>> 16;
+            return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+        }
+        return lock;
+    }
+
+    /**
+     * Acquires the lock for all correlation keys, which is needed when completing (or recovering) groups in bulk.
+     */
+    private void lockAll() {
+        Lock[] stripes = stripedLocks;
+        if (stripes != null) {
+            // always acquire the stripes in the same order to avoid deadlocks
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] stripes = stripedLocks;
+        if (stripes != null) {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        } else {
+            lock.unlock();
+        }
+    }
+
     private Object removeFlagCompleteCurrentGroup(Exchange exchange) {
         return exchange.removeProperty(ExchangePropertyKey.AGGREGATION_COMPLETE_CURRENT_GROUP);
     }
@@ -464,17 +514,24 @@ public class AggregateProcessor extends AsyncProcessorSupport
      * <p/>
      * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel.
      * <p/>
+     * When lock striping is in use, then only the lock for the given correlation key is held, and therefore completion
+     * of all groups is not triggered from within this method, but is flagged in the given <tt>completeAllGroups</tt> so
+     * it can be triggered after the lock has been released.
+     * <p/>
      * The returned {@link Exchange} should be send downstream using the
      * {@link #onSubmitCompletion(String, org.apache.camel.Exchange)} method which sends out the aggregated and
      * completed {@link Exchange}.
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       flag to set if completion of all groups should be triggered
+     *                                                 afterwards, or <tt>null</tt> to trigger completion immediately
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -574,7 +631,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1092,6 +1153,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks to stripe the correlation keys over. By default a single shared lock is used, which means only
+     * one exchange is aggregated at any time. With lock striping then exchanges with different correlation keys can be
+     * aggregated in parallel, as only the lock for the stripe of the correlation key is held during aggregation.
+     * <p/>
+     * <b>Important:</b> When using lock striping then the {@link AggregationStrategy} must be thread-safe, as it is
+     * invoked concurrently for different correlation keys.
+     * <p/>
+     * Lock striping is only supported with aggregation repositories which can be updated concurrently for different
+     * correlation keys, see {@link AggregationRepository#isLockStripingSupported()}. This option is not in use when
+     * optimistic locking is enabled.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1236,7 +1317,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless lock striping is in use as then the timeout map is updated in parallel for different correlation keys)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 1);
             addListener(this::onEviction);
         }
 
@@ -1245,11 +1327,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
             // wait for lock to be created
             if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                lockAll();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
         }
@@ -1313,7 +1395,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                lockAll();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
@@ -1340,7 +1422,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1379,7 +1461,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     LOG.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1453,7 +1535,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1506,6 +1588,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        boolean striped = !optimisticLocking && lockStripes > 1;
+        if (striped) {
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException("Lock striping cannot be used together with completionFromBatchConsumer");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Lock striping cannot be used together with completionOnNewCorrelationGroup");
+            }
+            if (!aggregationRepository.isLockStripingSupported()) {
+                throw new IllegalArgumentException(
+                        "Lock striping cannot be used with an AggregationRepository which does not support lock striping, was: "
+                                                   + aggregationRepository);
+            }
+            LOG.info("Lock striping is enabled using {} locks", lockStripes);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1569,8 +1668,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         AGGREGATE_TIMEOUT_CHECKER));
                 shutdownTimeoutCheckerExecutorService = true;
             }
-            // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            // schedule a timeout per correlation key on the shared timer, instead of checking all the keys for
+            // timed out aggregated messages once every second
+            AggregationTimeoutMap map
+                    = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            map.setTimer(HashedWheelTimer.sharedTimer(camelContext));
+            timeoutMap = map;
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
@@ -1590,6 +1693,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 shutdownOptimisticLockingExecutorService = true;
             }
         } else {
+            if (striped) {
+                Lock[] stripes = new Lock[lockStripes];
+                for (int i = 0; i < stripes.length; i++) {
+                    stripes[i] = new ReentrantLock();
+                }
+                stripedLocks = stripes;
+            } else {
+                stripedLocks = null;
+            }
             lock = new ReentrantLock();
         }
     }
@@ -1698,10 +1810,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1715,7 +1828,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1743,7 +1856,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1759,7 +1872,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1771,10 +1884,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1784,7 +1898,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1812,7 +1926,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1824,7 +1938,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
@@ -95,6 +95,12 @@ public class MemoryAggregationRepository extends ServiceSupport implements Optim
         return Collections.unmodifiableSet(cache.keySet());
     }
 
+    @Override
+    public boolean isLockStripingSupported() {
+        // the cache is a concurrent map
+        return true;
+    }
+
     @Override
     protected void doStart() throws Exception {
     }
@@ -57,6 +57,8 @@ import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.timer.HashedWheelTimer;
+import org.apache.camel.support.timer.Timer;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.URISupport;
@@ -80,6 +82,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
     // state
     protected final AtomicInteger redeliverySleepCounter = new AtomicInteger();
     protected ScheduledExecutorService executorService;
+    protected Timer timer;
     protected volatile boolean preparingShutdown;
 
     // output
@@ -772,8 +775,13 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                             LOG.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", redeliveryDelay,
                                     exchange.getExchangeId());
                         }
-                        executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
-                                TimeUnit.MILLISECONDS);
+                        if (timer != null) {
+                            // the timer thread must not block so hand over to the executor service
+                            timer.schedule(this::executeRedeliver, redeliveryDelay, TimeUnit.MILLISECONDS);
+                        } else {
+                            executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
+                                    TimeUnit.MILLISECONDS);
+                        }
 
                     } else {
                         // async delayed redelivery was disabled or we are transacted so we must be synchronous
@@ -857,6 +865,32 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             }
         }
 
+        /**
+         * Executes the redelivery by the executor service when the redelivery delay is scheduled on the timer
+         */
+        private void executeRedeliver() {
+            try {
+                executorService.execute(() -> reactiveExecutor.schedule(this::redeliver));
+            } catch (RejectedExecutionException e) {
+                // the executor service has been shutdown while waiting for the redelivery, and the timer thread
+                // must not run the redelivery, so hand over to a new thread
+                Runnable task;
+                if (isRunAllowed() && isRedeliveryAllowed()) {
+                    LOG.debug("Executing redelivery task rejected, so letting a new thread run for exchangeId: {}",
+                            exchange.getExchangeId());
+                    task = this::redeliver;
+                } else {
+                    exchange.setException(e);
+                    // mark the exchange as redelivery exhausted so the failure processor / dead letter channel can process the exchange
+                    exchange.adapt(ExtendedExchange.class).setRedeliveryExhausted(true);
+                    // jump to start of loop which then detects that we are failed and exhausted
+                    task = this;
+                }
+                camelContext.getExecutorServiceManager()
+                        .newThread("RedeliveryRejected", () -> reactiveExecutor.schedule(task)).start();
+            }
+        }
+
         protected void redeliver() {
             // prepare for redelivery
             prepareExchangeForRedelivery();
@@ -1619,6 +1653,8 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Using ExecutorService: {} for redeliveries on error handler: {}", executorService, this);
             }
+            // redeliveries are scheduled on the shared timer, and then executed by the executor service
+            timer = HashedWheelTimer.sharedTimer(camelContext);
         }
 
         // reset flag when starting
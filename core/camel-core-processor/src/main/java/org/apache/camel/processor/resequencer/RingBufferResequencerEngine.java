@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ResequencerEngine} for dense numeric sequences, where elements are kept in a ring buffer indexed by their
+ * sequence number. Elements can be inserted concurrently without locking, and the element which is expected next is
+ * found in constant time, without sorting the elements or scheduling a timer task per element.
+ * <p>
+ * The ring buffer covers the sequence numbers from the expected next element and up to the capacity of this
+ * resequencer. Elements outside the ring buffer, such as elements arriving before the first delivery, elements which
+ * are far ahead due to gaps in the sequence, or elements older than the last delivered element, are kept in a sorted
+ * map instead, so sparse sequences are still resequenced, just not as fast.
+ * <p>
+ * The timeout semantics are the same as for the {@link ResequencerEngine}: the expected next element is ready for
+ * delivery immediately, and when there is a gap in the sequence, the lowest element is ready for delivery once it has
+ * waited for <code>timeout</code> milliseconds. The timeouts are checked when delivering, instead of being scheduled.
+ * Elements older than the last delivered element are delivered once timed out, without moving the expected next
+ * sequence number back.
+ * <p>
+ * Delivery is done by one thread at a time.
+ */
+public class RingBufferResequencerEngine<E> extends ResequencerEngine<E> {
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int MIN_RING_SIZE = 16;
+
+    private final SequenceNumberComparator<E> comparator;
+    private final ConcurrentSkipListMap<Long, Entry<E>> overflow = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // a lower bound of the sequence numbers in the ring buffer, so finding the lowest element does not scan the ring
+    private final AtomicLong lowest = new AtomicLong(Long.MAX_VALUE);
+    private final Lock deliveryLock = new ReentrantLock();
+    private AtomicReferenceArray<Entry<E>> ring;
+    private int mask;
+    private volatile long next = NONE;
+    private volatile Entry<E> lastDelivered;
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds and a capacity of 1000.
+     *
+     * @param comparator a sequence element comparator.
+     */
+    public RingBufferResequencerEngine(SequenceNumberComparator<E> comparator) {
+        super(comparator);
+        this.comparator = comparator;
+        setCapacity(1000);
+    }
+
+    /**
+     * Sets the capacity of this resequencer, which is rounded up to a power of two for the size of the ring buffer.
+     * This must be set before elements are inserted.
+     *
+     * @param capacity the capacity
+     */
+    public void setCapacity(int capacity) {
+        int length = MIN_RING_SIZE;
+        while (length < capacity && length < (1 << 30)) {
+            length <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+    }
+
+    /**
+     * Returns the size of the ring buffer.
+     */
+    public int getRingSize() {
+        return ring.length();
+    }
+
+    @Override
+    public void start() {
+        // timeouts are checked on delivery so there is no timer to start
+    }
+
+    @Override
+    public void stop() {
+        // noop
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    E getLastDelivered() {
+        Entry<E> entry = lastDelivered;
+        return entry != null ? entry.object : null;
+    }
+
+    @Override
+    void setLastDelivered(E o) {
+        Entry<E> entry = new Entry<>(o, comparator.getSequenceNumber(o), 0);
+        lastDelivered = entry;
+        next = entry.sequence + 1;
+    }
+
+    /**
+     * Inserts the given element into this resequencer. This can be called concurrently by multiple threads.
+     *
+     * @param  o                        an element.
+     * @throws IllegalArgumentException if the element cannot be used with this resequencer engine
+     */
+    @Override
+    public void insert(E o) {
+        // validate the exchange has no problem
+        if (!comparator.isValid(o)) {
+            throw new IllegalArgumentException("Element cannot be used in comparator: " + comparator);
+        }
+
+        long sequence = comparator.getSequenceNumber(o);
+        long expected = next;
+
+        // validate the exchange shouldn't be 'rejected' (if applicable)
+        if (getRejectOld() != null && getRejectOld() && expected != NONE && sequence < expected - 1) {
+            throw new MessageRejectedException(
+                    "rejecting message [" + o + "], it should have been sent before the last delivered message ["
+                                               + getLastDelivered() + "]");
+        }
+
+        Entry<E> entry = new Entry<>(o, sequence, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getTimeout()));
+
+        if (expected != NONE && sequence >= expected && sequence - expected < ring.length()) {
+            int index = (int) sequence & mask;
+            if (ring.compareAndSet(index, null, entry)) {
+                size.incrementAndGet();
+                lowest.accumulateAndGet(sequence, Math::min);
+                // the delivery may have skipped past a gap including this element while it was inserted
+                if (next > sequence && ring.compareAndSet(index, entry, null)) {
+                    size.decrementAndGet();
+                    addOverflow(entry);
+                }
+                return;
+            }
+            Entry<E> existing = ring.get(index);
+            if (existing != null && existing.sequence == sequence) {
+                // ignore duplicate the same way as the sequence of the default engine
+                return;
+            }
+        }
+        addOverflow(entry);
+    }
+
+    /**
+     * Delivers all elements which are currently ready to deliver.
+     *
+     * @throws Exception thrown by {@link SequenceSender#sendElement(Object)}.
+     */
+    @Override
+    public void deliver() throws Exception {
+        deliveryLock.lock();
+        try {
+            while (deliverNext()) {
+                // do nothing here
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to deliver a single element, which is either the expected next element, or the lowest element if it has
+     * timed out.
+     *
+     * @return           <code>true</code> if the element has been delivered <code>false</code> otherwise.
+     *
+     * @throws Exception thrown by {@link SequenceSender#sendElement(Object)}.
+     */
+    @Override
+    public boolean deliverNext() throws Exception {
+        deliveryLock.lock();
+        try {
+            if (size.get() == 0) {
+                return false;
+            }
+            Entry<E> entry = poll();
+            if (entry == null) {
+                return false;
+            }
+            size.decrementAndGet();
+            if (next == NONE || entry.sequence >= next) {
+                next = entry.sequence + 1;
+            }
+            lastDelivered = entry;
+            getSequenceSender().sendElement(entry.object);
+            return true;
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private Entry<E> poll() {
+        long expected = next;
+        if (expected != NONE) {
+            int index = (int) expected & mask;
+            Entry<E> entry = ring.get(index);
+            if (entry != null && entry.sequence == expected) {
+                ring.set(index, null);
+                if (!overflow.isEmpty() && overflow.remove(expected) != null) {
+                    // a duplicate which was inserted while the ring buffer was behind
+                    size.decrementAndGet();
+                }
+                return entry;
+            }
+            if (!overflow.isEmpty()) {
+                entry = overflow.remove(expected);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+
+        // there is a gap so the lowest element is delivered when it has timed out
+        Entry<E> lowest = expected != NONE ? lowestInRing(expected) : null;
+        Map.Entry<Long, Entry<E>> first = overflow.firstEntry();
+        if (first != null && (lowest == null || first.getKey() < lowest.sequence)) {
+            Entry<E> entry = first.getValue();
+            if (timedOut(entry) && overflow.remove(entry.sequence, entry)) {
+                return entry;
+            }
+        } else if (lowest != null && timedOut(lowest)
+                && ring.compareAndSet((int) lowest.sequence & mask, lowest, null)) {
+            return lowest;
+        }
+        return null;
+    }
+
+    private Entry<E> lowestInRing(long expected) {
+        // scan from the lower bound, as the ring buffer has no elements before it
+        long bound = lowest.get();
+        long end = expected + ring.length();
+        for (long sequence = Math.max(bound, expected); sequence < end; sequence++) {
+            int index = (int) sequence & mask;
+            Entry<E> entry = ring.get(index);
+            if (entry != null) {
+                if (entry.sequence >= expected) {
+                    // unless an element was inserted before it meanwhile
+                    lowest.compareAndSet(bound, entry.sequence);
+                    return entry;
+                }
+                // an element left behind after skipping a gap, which is delivered as an old element
+                if (ring.compareAndSet(index, entry, null)) {
+                    size.decrementAndGet();
+                    addOverflow(entry);
+                }
+            }
+        }
+        // the ring buffer is empty, so the next scan is skipped until an element is inserted
+        lowest.compareAndSet(bound, end);
+        return null;
+    }
+
+    private void addOverflow(Entry<E> entry) {
+        if (overflow.putIfAbsent(entry.sequence, entry) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    private static boolean timedOut(Entry<?> entry) {
+        return System.nanoTime() - entry.deadline >= 0;
+    }
+
+    /**
+     * An element with its sequence number, and the time it is ready for delivery if there is a gap before it.
+     */
+    private static final class Entry<E> {
+
+        private final E object;
+        private final long sequence;
+        private final long deadline;
+
+        Entry(E object, long sequence, long deadline) {
+            this.object = object;
+            this.sequence = sequence;
+            this.deadline = deadline;
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ package org.apache.camel.reifier;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.camel.BinaryPredicate;
 import org.apache.camel.ExpressionFactory;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
@@ -26,10 +27,14 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.WhenDefinition;
+import org.apache.camel.model.language.ExchangePropertyExpression;
 import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.model.language.HeaderExpression;
+import org.apache.camel.model.language.SimpleExpression;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.FilterProcessor;
 import org.apache.camel.spi.ExpressionFactoryAware;
+import org.apache.camel.support.builder.PredicateBuilder;
 
 public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
 
@@ -40,6 +45,7 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
     @Override
     public Processor createProcessor() throws Exception {
         List<FilterProcessor> filters = new ArrayList<>();
+        List<String> definitions = new ArrayList<>();
         for (WhenDefinition whenClause : definition.getWhenClauses()) {
             ExpressionDefinition exp = whenClause.getExpression();
             if (exp.getExpressionType() != null) {
@@ -67,12 +73,51 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
 
             FilterProcessor filter = (FilterProcessor) createProcessor(whenClause);
             filters.add(filter);
+            definitions.add(definitionOfEqualityTests(whenClause.getExpression()));
         }
         Processor otherwiseProcessor = null;
         if (definition.getOtherwise() != null) {
             otherwiseProcessor = createProcessor(definition.getOtherwise());
         }
-        return new ChoiceProcessor(filters, otherwiseProcessor);
+        return new ChoiceProcessor(filters, otherwiseProcessor, definitions);
+    }
+
+    /**
+     * Gets the definition of the expression which the when clause tests for equality (such as
+     * <tt>header("type").isEqualTo("foo")</tt>), so the choice can index the when clauses testing the same expression,
+     * or null if the expression has no definition which identifies the expression.
+     */
+    private static String definitionOfEqualityTests(ExpressionDefinition exp) {
+        Predicate pre = exp.getPredicate();
+        List<Predicate> tests = new ArrayList<>();
+        if (pre instanceof PredicateBuilder.InPredicate) {
+            tests.addAll(((PredicateBuilder.InPredicate) pre).getPredicates());
+        } else if (pre != null) {
+            tests.add(pre);
+        }
+        String answer = null;
+        for (Predicate test : tests) {
+            String definition = null;
+            if (test instanceof BinaryPredicate && ((BinaryPredicate) test).getLeft() instanceof ExpressionDefinition) {
+                definition = definitionOf((ExpressionDefinition) ((BinaryPredicate) test).getLeft());
+            }
+            if (definition == null || answer != null && !answer.equals(definition)) {
+                return null;
+            }
+            answer = definition;
+        }
+        return answer;
+    }
+
+    private static String definitionOf(ExpressionDefinition exp) {
+        // only expressions which are defined by the language and the expression text alone
+        boolean defined = exp.getClass() == HeaderExpression.class || exp.getClass() == ExchangePropertyExpression.class
+                || exp.getClass() == SimpleExpression.class && ((SimpleExpression) exp).getResultType() == null
+                        && ((SimpleExpression) exp).getResultTypeName() == null;
+        if (defined && exp.getExpression() != null) {
+            return exp.getLanguage() + ":" + exp.getTrim() + ":" + exp.getExpression();
+        }
+        return null;
     }
 
 }
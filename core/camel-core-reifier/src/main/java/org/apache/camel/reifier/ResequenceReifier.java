@@ -128,7 +128,8 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         }
         comparator.setExpression(expression);
 
-        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression);
+        boolean ringBuffer = parseBoolean(config.getRingBuffer(), false);
+        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression, ringBuffer);
         Long dur = parseDuration(config.getTimeout());
         if (dur != null) {
             resequencer.setTimeout(dur);
@@ -74,6 +74,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(),
                     isShareUnitOfWork, isParallelAggregate);
         }
+        answer.setMaxInflight(parseInt(definition.getMaxInflight(), 0));
+        answer.setInflightOrdered(parseBoolean(definition.getInflightOrdered(), false));
 
         return answer;
     }
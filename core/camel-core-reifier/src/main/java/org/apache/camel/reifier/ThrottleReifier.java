@@ -56,6 +56,8 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
                 camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
 
         answer.setAsyncDelayed(async);
+        answer.setTokenBucket("TokenBucket".equals(parseString(definition.getMode())));
+        answer.setBurstCapacity(parseInt(definition.getBurstCapacity(), 0));
         // should be true by default
         answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
 
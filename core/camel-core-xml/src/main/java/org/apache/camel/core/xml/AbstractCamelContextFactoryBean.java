@@ -1330,6 +1330,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setRejectedPolicy(
                 CamelContextHelper.parse(context, ThreadPoolRejectedPolicy.class, definition.getRejectedPolicy()));
         answer.setTimeUnit(CamelContextHelper.parse(context, TimeUnit.class, definition.getTimeUnit()));
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests invoking bean methods, using the method handle when the arguments match the method, and otherwise reflection.
+ */
+public class BeanMethodInfoInvokeTest extends ContextTestSupport {
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        assertEquals("Hello World", invoke("hello", null, "World"));
+        // the bean instance is ignored for a static method
+        assertEquals("Hello World", invoke("hello", bean, "World"));
+    }
+
+    @Test
+    public void testPrimitiveParametersAndReturnType() throws Exception {
+        assertEquals(5, invoke("add", bean, 2, 3));
+        assertEquals(true, invoke("isPositive", bean, 2L));
+    }
+
+    @Test
+    public void testVoidMethod() throws Exception {
+        assertEquals(null, invoke("clear", bean));
+    }
+
+    @Test
+    public void testNullArgument() throws Exception {
+        assertEquals("nullb", invoke("concat", bean, null, "b"));
+
+        // null cannot be passed to a primitive parameter
+        RuntimeExchangeException e = assertThrows(RuntimeExchangeException.class, () -> invoke("add", bean, null, 3));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Test
+    public void testWidening() throws Exception {
+        // the int arguments are widened to long
+        assertEquals(5L, invoke("sum", bean, 2, 3));
+        assertEquals(true, invoke("isPositive", bean, 2));
+    }
+
+    @Test
+    public void testWrongArgumentType() throws Exception {
+        RuntimeExchangeException e = assertThrows(RuntimeExchangeException.class, () -> invoke("add", bean, "2", 3));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Test
+    public void testException() throws Exception {
+        // the exception thrown by the method is wrapped the same way as when using reflection
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> invoke("fail", bean, "foo"));
+        assertInstanceOf(IllegalStateException.class, e.getTargetException());
+        assertEquals("foo", e.getTargetException().getMessage());
+
+        // widening the argument uses reflection
+        e = assertThrows(InvocationTargetException.class, () -> invoke("failNumber", bean, 1));
+        assertInstanceOf(IllegalStateException.class, e.getTargetException());
+        assertEquals("1", e.getTargetException().getMessage());
+    }
+
+    @Test
+    public void testExceptionOnExchange() throws Exception {
+        Exchange out = template.request("direct:fail", exchange -> exchange.getIn().setBody("foo"));
+        assertInstanceOf(IllegalStateException.class, out.getException());
+        assertEquals("foo", out.getException().getMessage());
+
+        out = template.request("direct:error", exchange -> exchange.getIn().setBody("foo"));
+        assertInstanceOf(AssertionError.class, out.getException().getCause());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int number = i;
+                futures.add(executor.submit(() -> template.requestBodyAndHeader("direct:add", number, "b", 1)));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + 1, futures.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Object invoke(String name, Object pojo, Object... arguments) throws Exception {
+        Method method = null;
+        for (Method m : MyBean.class.getMethods()) {
+            if (m.getName().equals(name)) {
+                method = m;
+            }
+        }
+        MethodInfo info = methodInfo(name, method.getParameterTypes());
+        return info.invoke(method, pojo, arguments, new DefaultExchange(context));
+    }
+
+    private MethodInfo methodInfo(String name, Class<?>... types) throws Exception {
+        BeanInfo info = new BeanInfo(context, MyBean.class);
+        return info.getMethodInfo(MyBean.class.getMethod(name, types));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:add").bean(MyBean.class, "add(${body}, ${header.b})");
+                from("direct:fail").bean(MyBean.class, "fail");
+                from("direct:error").bean(MyBean.class, "error");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public static String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public long sum(long a, long b) {
+            return a + b;
+        }
+
+        public boolean isPositive(long a) {
+            return a > 0;
+        }
+
+        public String concat(String a, String b) {
+            return a + b;
+        }
+
+        public void clear() {
+            // noop
+        }
+
+        public String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public String failNumber(long number) {
+            throw new IllegalStateException("" + number);
+        }
+
+        public String error(String message) {
+            throw new AssertionError(message);
+        }
+    }
+}
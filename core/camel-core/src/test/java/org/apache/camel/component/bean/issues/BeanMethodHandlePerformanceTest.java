@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean.issues;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares invoking bean methods (using the method handle) with primitive parameters and static methods, with a
+ * processor.
+ */
+@Disabled("Manual performance test")
+public class BeanMethodHandlePerformanceTest extends ContextTestSupport {
+
+    private final int size = 100000;
+
+    @Test
+    public void testProcessor() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        for (int i = 0; i < size; i++) {
+            Object out = template.requestBody("direct:processor", i);
+            assertEquals(i + 1, out);
+        }
+
+        log.info("Processor took {} ms ", watch.taken());
+    }
+
+    @Test
+    public void testBean() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        for (int i = 0; i < size; i++) {
+            Object out = template.requestBody("direct:bean", i);
+            assertEquals(i + 1, out);
+        }
+
+        log.info("Bean took {} ms ", watch.taken());
+    }
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        for (int i = 0; i < size; i++) {
+            Object out = template.requestBody("direct:static", "" + i);
+            assertEquals("Bye " + i, out);
+        }
+
+        log.info("Static method took {} ms ", watch.taken());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:processor").process(e -> e.getMessage().setBody(e.getMessage().getBody(int.class) + 1));
+
+                from("direct:bean").bean(MyCounter.class, "increment");
+
+                from("direct:static").bean(MyCounter.class, "bye");
+            }
+        };
+    }
+
+    public static class MyCounter {
+
+        public static String bye(String body) {
+            return "Bye " + body;
+        }
+
+        public int increment(int number) {
+            return number + 1;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MpmcArrayBlockingQueueTest {
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(3);
+        assertTrue(queue.isEmpty());
+        assertEquals(3, queue.remainingCapacity());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        // the capacity is honored even though the ring buffer is larger
+        assertFalse(queue.offer("D"));
+        assertFalse(queue.offer("D", 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A", queue.peek());
+        assertEquals(Arrays.asList("A", "B", "C"), new ArrayList<>(queue));
+
+        assertEquals("A", queue.poll());
+        assertEquals("B", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals("C", queue.take());
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(10);
+        queue.addAll(Arrays.asList("A", "B", "C"));
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertEquals(Arrays.asList("A", "C"), new ArrayList<>(queue));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(Arrays.asList("A", "C"), drained);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemoveSize() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(10);
+        queue.addAll(Arrays.asList("A", "B", "C"));
+
+        // removed elements are not counted even though their slots are not yet skipped by the consumers
+        assertTrue(queue.remove("B"));
+        assertEquals(2, queue.size());
+        assertTrue(queue.remove("C"));
+        assertTrue(queue.remove("A"));
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertEquals(10, queue.remainingCapacity());
+
+        assertNull(queue.poll());
+        queue.offer("D");
+        assertEquals(1, queue.size());
+        assertEquals("D", queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testParkWokenUpByOffer() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(1, MpmcArrayBlockingQueue.WaitStrategy.Park);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the consumer parks without timeout, so it must be woken up by the producer
+            Future<String> take = executor.submit(queue::take);
+            Thread.sleep(100);
+            queue.put("A");
+            assertEquals("A", take.get(5, TimeUnit.SECONDS));
+
+            // the producer parks without timeout when full, so it must be woken up by the consumer
+            queue.put("B");
+            Future<?> put = executor.submit(() -> {
+                queue.put("C");
+                return null;
+            });
+            Thread.sleep(100);
+            assertEquals("B", queue.take());
+            put.get(5, TimeUnit.SECONDS);
+            assertEquals("C", queue.take());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWrapAround() throws Exception {
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>(5);
+        for (int i = 0; i < 100; i++) {
+            queue.put(i);
+            queue.put(i + 1000);
+            assertEquals(i, queue.take());
+            assertEquals(i + 1000, queue.take());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentSpin() throws Exception {
+        // busy spinning threads needs a CPU core each
+        doTestConcurrent(MpmcArrayBlockingQueue.WaitStrategy.Spin, 1, 1000);
+    }
+
+    @Test
+    public void testConcurrentYield() throws Exception {
+        doTestConcurrent(MpmcArrayBlockingQueue.WaitStrategy.Yield, 4, 10000);
+    }
+
+    @Test
+    public void testConcurrentPark() throws Exception {
+        doTestConcurrent(MpmcArrayBlockingQueue.WaitStrategy.Park, 4, 10000);
+    }
+
+    private void doTestConcurrent(MpmcArrayBlockingQueue.WaitStrategy waitStrategy, int threads, int size)
+            throws Exception {
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>(16, waitStrategy);
+        int producers = threads;
+        int consumers = threads;
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            Set<Integer> received = ConcurrentHashMap.newKeySet();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * size;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < size; i++) {
+                        queue.put(offset + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < size; i++) {
+                        Integer e = queue.poll(10, TimeUnit.SECONDS);
+                        if (e == null || !received.add(e)) {
+                            throw new IllegalStateException("Missing or duplicate element: " + e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(producers * size, received.size());
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
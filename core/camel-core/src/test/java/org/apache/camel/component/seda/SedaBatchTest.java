@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E", "F");
+
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F" }) {
+            template.sendBody("seda:batch", body);
+        }
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+
+        // should be processed in batches of 4 and 2
+        for (int i = 0; i < 6; i++) {
+            Exchange exchange = mock.getReceivedExchanges().get(i);
+            assertEquals(i < 4 ? i : i - 4, exchange.getProperty(Exchange.BATCH_INDEX));
+            assertEquals(i < 4 ? 4 : 2, exchange.getProperty(Exchange.BATCH_SIZE));
+            assertEquals(i == 3 || i == 5, exchange.getProperty(Exchange.BATCH_COMPLETE));
+        }
+    }
+
+    @Test
+    public void testBatchExchange() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:list");
+        mock.expectedMessageCount(2);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:list?batchSize=5&batchExchange=true", "Message " + i);
+        }
+        context.getRouteController().startRoute("list");
+
+        assertMockEndpointsSatisfied();
+
+        int count = 0;
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List<?> batch = exchange.getIn().getBody(List.class);
+            assertEquals(5, batch.size());
+            for (Object queued : batch) {
+                assertEquals("Message " + count++, ((Exchange) queued).getIn().getBody());
+            }
+        }
+    }
+
+    @Test
+    public void testBatchExchangeInOnlyWaitForTaskToComplete() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reply");
+        mock.expectedMessageCount(1);
+
+        // the caller is done when the batch exchange is done
+        template.sendBody("seda:reply?batchSize=10&batchTimeout=50&batchExchange=true&waitForTaskToComplete=Always",
+                "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchExchangeInOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reply");
+        mock.expectedMessageCount(0);
+
+        // the batch exchange cannot reply to each caller
+        Exchange out = template.request("seda:reply?batchSize=10&batchTimeout=50&batchExchange=true",
+                exchange -> exchange.getIn().setBody("Hello World"));
+        assertIsInstanceOf(CamelExchangeException.class, out.getException());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPendingExchangesSize() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:pending?batchSize=5").routeId("pending").noAutoStartup()
+                        .process(exchange -> latch.await(10, TimeUnit.SECONDS));
+            }
+        });
+        SedaEndpoint endpoint = context.getEndpoint("seda:pending?batchSize=5", SedaEndpoint.class);
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("pending").getConsumer();
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:pending", "Message " + i);
+        }
+        context.getRouteController().startRoute("pending");
+
+        // the batch has been taken from the queue, and the first exchange is being processed
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().isEmpty());
+        assertEquals(4, consumer.getPendingExchangesSize());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.getPendingExchangesSize() == 0);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:batch?batchSize=4").routeId("batch").noAutoStartup()
+                        .to("mock:result");
+
+                from("seda:list?batchSize=5&batchExchange=true").routeId("list").noAutoStartup()
+                        .to("mock:list");
+
+                from("seda:reply?batchSize=10&batchTimeout=50&batchExchange=true")
+                        .to("mock:reply");
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the throughput of the queue factories with concurrent producers and consumers.
+ */
+@Disabled("Manual performance test")
+public class SedaQueueFactoryPerformanceTest extends ContextTestSupport {
+
+    private static final String[] FACTORIES = { "linked", "array", "priority", "spin", "yield", "park" };
+
+    private final int producers = 8;
+    private final int size = 200000;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("linked", new LinkedBlockingQueueFactory<Exchange>());
+        context.getRegistry().bind("array", new ArrayBlockingQueueFactory<Exchange>());
+        context.getRegistry().bind("priority", new PriorityBlockingQueueFactory<Exchange>());
+        for (MpmcArrayBlockingQueue.WaitStrategy strategy : MpmcArrayBlockingQueue.WaitStrategy.values()) {
+            MpmcArrayBlockingQueueFactory<Exchange> factory = new MpmcArrayBlockingQueueFactory<>();
+            factory.setWaitStrategy(strategy);
+            context.getRegistry().bind(strategy.name().toLowerCase(), factory);
+        }
+        return context;
+    }
+
+    @Test
+    public void testQueueFactories() throws Exception {
+        for (String factory : FACTORIES) {
+            MockEndpoint mock = getMockEndpoint("mock:" + factory);
+            mock.setRetainFirst(0);
+            mock.expectedMessageCount(size);
+
+            StopWatch watch = new StopWatch();
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < size / producers; i++) {
+                        template.sendBody("seda:" + factory, "Hello");
+                    }
+                });
+            }
+            mock.assertIsSatisfied(TimeUnit.MINUTES.toMillis(2));
+            log.info("Queue factory {} took {} millis to route {} messages", factory, watch.taken(), size);
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (String factory : FACTORIES) {
+                    from("seda:" + factory + "?queueFactory=#" + factory + "&concurrentConsumers=4&blockWhenFull=true")
+                            .to("mock:" + factory);
+                }
+            }
+        };
+    }
+}
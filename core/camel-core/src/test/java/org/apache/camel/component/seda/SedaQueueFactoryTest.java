@@ -23,6 +23,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,11 +33,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final MpmcArrayBlockingQueueFactory<Exchange> mpmcQueueFactory = new MpmcArrayBlockingQueueFactory<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("mpmcQueueFactory", mpmcQueueFactory);
         return context;
     }
 
@@ -60,6 +63,34 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMpmcArrayBlockingQueueFactoryAndSize() throws Exception {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:mpmcQueue100?queueFactory=#mpmcQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        MpmcArrayBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(MpmcArrayBlockingQueue.class, queue);
+        assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
+        assertEquals(MpmcArrayBlockingQueue.WaitStrategy.Park, blockingQueue.getWaitStrategy());
+    }
+
+    @Test
+    public void testMpmcArrayBlockingQueueFactoryRoute() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:mpmc?queueFactory=#mpmcQueueFactory&concurrentConsumers=2").to("mock:result");
+            }
+        });
+
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:mpmc", "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() throws Exception {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapPoolSize(1024);
+        context.getStreamCachingStrategy().setSpoolOffHeapChunkSize(256);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = newExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange newExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static String data(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        String data = data(600);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+
+        // spooled to 3 chunks and no temp file
+        assertEquals(0, testDirectory().toFile().list().length);
+        assertEquals(768, strategy.getStatistics().getOffHeapPoolUsedSize());
+
+        StreamCache cache = cos.newStreamCache();
+        ByteBufferInputStreamCache bbc = (ByteBufferInputStreamCache) cache;
+        assertTrue(cache.inMemory());
+        assertEquals(600, cache.length());
+        assertEquals(3, bbc.getByteBuffers().length);
+        assertEquals(data, context.getTypeConverter().convertTo(String.class, cache));
+
+        // can be read again
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(data, bos.toString(StandardCharsets.UTF_8));
+
+        // and copied
+        Exchange other = newExchange();
+        StreamCache copy = cache.copy(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(768, strategy.getStatistics().getOffHeapPoolUsedSize());
+        assertEquals(data, context.getTypeConverter().convertTo(String.class, copy));
+
+        // released to the pool when all the exchanges are done
+        other.getUnitOfWork().done(other);
+        assertEquals(0, strategy.getStatistics().getOffHeapPoolUsedSize());
+        assertEquals(768, strategy.getStatistics().getOffHeapPoolAllocatedSize());
+
+        // and can no longer be read, as the chunks can be reused by other exchanges
+        copy.reset();
+        assertThrows(IOException.class, () -> copy.writeTo(new ByteArrayOutputStream()));
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+        assertThrows(IOException.class, bbc::getByteBuffers);
+        assertThrows(IOException.class, () -> cache.copy(newExchange()));
+    }
+
+    @Test
+    public void testCacheStreamOffHeapPoolUsedUp() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        String data = data(2000);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+
+        File dir = testDirectory().toFile();
+        assertEquals(1, dir.list().length, "we should have a temp file");
+        assertEquals(1024, strategy.getStatistics().getOffHeapPoolUsedSize());
+
+        StreamCache cache = cos.newStreamCache();
+        assertFalse(cache.inMemory());
+        assertEquals(2000, cache.length());
+        ByteBuffer[] buffers = ((ByteBufferInputStreamCache) cache).getByteBuffers();
+        assertEquals(5, buffers.length);
+        assertEquals(976, buffers[4].remaining());
+
+        InputStream is = (InputStream) cache;
+        assertEquals(data, IOHelper.loadText(is).trim());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, dir.list().length, "we should not have a temp file");
+        assertEquals(0, strategy.getStatistics().getOffHeapPoolUsedSize());
+
+        // the temp file has been released
+        cache.reset();
+        assertThrows(IOException.class, () -> is.read(new byte[16], 0, 16));
+
+        // but a view of the memory mapped temp file which is still referenced can be read, as it is not unmapped
+        byte[] mapped = new byte[buffers[4].remaining()];
+        buffers[4].get(mapped);
+        assertEquals(data.substring(1024), new String(mapped, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCacheStreamOffHeapStatistics() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        exchange.getIn().setBody(new BufferedInputStream(new ByteArrayInputStream(data(500).getBytes(StandardCharsets.UTF_8))));
+        StreamCache cache = strategy.cache(exchange);
+        assertTrue(cache instanceof ByteBufferInputStreamCache);
+        assertEquals(1, strategy.getStatistics().getCacheOffHeapCounter());
+        assertEquals(500, strategy.getStatistics().getCacheOffHeapSize());
+        assertEquals(0, strategy.getStatistics().getCacheSpoolCounter());
+        assertEquals(0, strategy.getStatistics().getCacheMemoryCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getStatistics().getOffHeapPoolUsedSize());
+    }
+
+}
@@ -18,12 +18,15 @@ package org.apache.camel.impl;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.SizedThreadPerTaskExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -509,6 +512,85 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(tp.isShutdown());
     }
 
+    @Test
+    public void testNewThreadPoolProfileVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(5);
+        foo.setMaxPoolSize(40);
+        foo.setVirtualThreads(true);
+
+        context.getExecutorServiceManager().registerThreadPoolProfile(foo);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "foo");
+        assertNotNull(pool);
+
+        if (DefaultThreadPoolFactory.isVirtualThreadsSupported()) {
+            assertFalse(pool instanceof ThreadPoolExecutor, "Should be a virtual thread per task executor");
+        } else {
+            // fallback to platform threads
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(40, tp.getMaximumPoolSize());
+        }
+
+        // the thread should be named
+        String name = pool.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(name.contains("Cool"), "Thread name: " + name);
+
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewThreadPoolProfileVirtualThreadsMaxQueueSize() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(1);
+        foo.setMaxPoolSize(2);
+        foo.setMaxQueueSize(1);
+        foo.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+        foo.setVirtualThreads(true);
+
+        context.getExecutorServiceManager().registerThreadPoolProfile(foo);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "foo");
+        if (DefaultThreadPoolFactory.isVirtualThreadsSupported()) {
+            SizedThreadPerTaskExecutorService sized = assertIsInstanceOf(SizedThreadPerTaskExecutorService.class, pool);
+            assertEquals(3, sized.getMaxTasks());
+            assertEquals(ThreadPoolRejectedPolicy.Abort, sized.getRejectedPolicy());
+        }
+
+        // the max pool size and max queue size should be enforced both with virtual and platform threads
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            pool.submit(() -> latch.await(5, TimeUnit.SECONDS));
+        }
+        assertThrows(RejectedExecutionException.class, () -> pool.submit(() -> latch.await(5, TimeUnit.SECONDS)));
+        latch.countDown();
+
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewSingleThreadAndScheduledThreadPoolVirtualThreads() throws Exception {
+        ThreadPoolProfile profile = context.getExecutorServiceManager().getDefaultThreadPoolProfile();
+        profile.setVirtualThreads(true);
+
+        // single threaded and scheduled thread pools should use platform threads
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Single");
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        assertEquals(1, tp.getMaximumPoolSize());
+
+        ExecutorService scheduled = context.getExecutorServiceManager().newScheduledThreadPool(this, "Scheduled", 5);
+        assertIsInstanceOf(SizedScheduledExecutorService.class, scheduled);
+
+        context.stop();
+
+        assertTrue(single.isShutdown());
+        assertTrue(scheduled.isShutdown());
+    }
+
     @Test
     public void testNewThread() throws Exception {
         Thread thread = context.getExecutorServiceManager().newThread("Cool", new Runnable() {
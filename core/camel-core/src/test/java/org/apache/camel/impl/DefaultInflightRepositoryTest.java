@@ -16,14 +16,20 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Iterator;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +53,55 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testOldestAndBrowse() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository(4);
+        repo.setInflightBrowseEnabled(true);
+
+        Exchange e1 = createExchange("foo");
+        Thread.sleep(5);
+        Exchange e2 = createExchange("bar");
+        Thread.sleep(5);
+        Exchange e3 = createExchange("foo");
+
+        // add out of order
+        repo.add(e3);
+        repo.add(e1);
+        repo.add(e2);
+        assertEquals(3, repo.size());
+
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertSame(e2, repo.oldest("bar").getExchange());
+        assertNull(repo.oldest("baz"));
+
+        Iterator<InflightRepository.InflightExchange> it = repo.browse(2, true).iterator();
+        assertSame(e1, it.next().getExchange());
+        assertSame(e2, it.next().getExchange());
+        assertTrue(!it.hasNext());
+
+        it = repo.browse("foo", 5, true).iterator();
+        assertSame(e1, it.next().getExchange());
+        assertSame(e3, it.next().getExchange());
+        assertTrue(!it.hasNext());
+
+        assertEquals(3, repo.browse().size());
+
+        repo.remove(e1);
+        assertSame(e2, repo.oldest(null).getExchange());
+        assertSame(e3, repo.oldest("foo").getExchange());
+        assertEquals(2, repo.browse().size());
+
+        // only counters are kept when browsing is disabled
+        repo.setInflightBrowseEnabled(false);
+        assertEquals(2, repo.size());
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+    }
+
+    private Exchange createExchange(String fromRouteId) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.adapt(ExtendedExchange.class).setFromRouteId(fromRouteId);
+        return exchange;
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpenAddressingHeadersMapFactoryTest {
+
+    private final OpenAddressingHeadersMapFactory factory = new OpenAddressingHeadersMapFactory();
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = factory.newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get(null));
+        assertNull(map.get(123));
+    }
+
+    @Test
+    public void testPreserveKeyCase() {
+        Map<String, Object> map = factory.newMap();
+        map.put("Content-Type", "text/plain");
+        assertEquals("text/plain", map.put("content-type", "text/xml"));
+
+        assertEquals(1, map.size());
+        assertEquals("Content-Type", map.keySet().iterator().next());
+        assertEquals("text/xml", map.get(Exchange.CONTENT_TYPE));
+        assertEquals("text/xml", map.get("CONTENT-TYPE"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = factory.newMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = factory.newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+    }
+
+    @Test
+    public void testConstructFromHashMap() {
+        Map<String, Object> other = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            other.put("key" + i, i);
+        }
+
+        Map<String, Object> map = factory.newMap(other);
+
+        assertEquals(50, map.size());
+        assertEquals(other, map);
+        assertEquals(42, map.get("KEY42"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = factory.newMap(map);
+        copy.put("FOO", "beer");
+        copy.put("baz", true);
+        map.remove("bar");
+
+        assertEquals(1, map.size());
+        assertEquals("cheese", map.get("foo"));
+        assertNull(map.get("baz"));
+
+        assertEquals(3, copy.size());
+        assertEquals("beer", copy.get("foo"));
+        assertEquals(123, copy.get("bar"));
+        assertEquals(true, copy.get("baz"));
+
+        // and copy of a copy changed using the entries
+        Map<String, Object> copy2 = factory.newMap(copy);
+        copy2.entrySet().iterator().next().setValue("wine");
+        Iterator<Map.Entry<String, Object>> it = copy2.entrySet().iterator();
+        it.next();
+        it.next();
+        it.remove();
+
+        assertEquals("beer", copy.get("foo"));
+        assertEquals(123, copy.get("bar"));
+        assertEquals("wine", copy2.get("foo"));
+        assertFalse(copy2.containsKey("bar"));
+
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertEquals(2, copy2.size());
+    }
+
+    @Test
+    public void testRemoveAndGrow() {
+        Map<String, Object> map = factory.newMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+            if (i % 3 == 0) {
+                assertEquals(i, map.remove("KEY" + i));
+            }
+        }
+        assertEquals(666, map.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 == 0) {
+                assertFalse(map.containsKey("key" + i));
+            } else {
+                assertEquals(i, map.get("Key" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = factory.newMap();
+        map.put("b", 1);
+        map.put("A", 2);
+        map.put("c", 3);
+        map.remove("a");
+        map.put("a", 4);
+
+        List<String> keys = new ArrayList<>();
+        map.forEach((k, v) -> keys.add(k));
+        assertEquals(List.of("b", "c", "a"), keys);
+        assertEquals(keys, new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = factory.newMap();
+
+        Map<String, Object> other = factory.newMap(map);
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        assertTrue(factory.isInstanceOf(map));
+        assertTrue(factory.isInstanceOf(other));
+        assertFalse(factory.isInstanceOf(new HashMap<>()));
+        assertTrue(factory.isCaseInsensitive());
+    }
+
+}
@@ -16,7 +16,12 @@
  */
 package org.apache.camel.impl;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
 import org.apache.camel.support.TypeConverterSupport;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +45,91 @@ public class TypeConverterRegistryMissesThenAddTest {
         assertEquals(123, order.getId());
     }
 
+    @Test
+    public void testTryMissThenAddTypeConverter() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        // try conversions do not remember misses, but the failed lookup is remembered
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, "123");
+        assertNull(order);
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, "123");
+        assertNull(order);
+
+        // add missing type converter
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new MyOrderTypeConverter());
+
+        // this time it should work
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, "123");
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testMissThenAddTypeConverterFromSuperType() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+
+        // add missing type converter from an interface of the type to convert from
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+
+        // this time it should work
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testAddTypeConverterWhileLookingUp() {
+        AtomicBoolean added = new AtomicBoolean();
+        CoreTypeConverterRegistry registry = new CoreTypeConverterRegistry() {
+            @Override
+            public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
+                TypeConverter answer = super.lookup(toType, fromType);
+                if (toType == MyOrder.class && added.compareAndSet(false, true)) {
+                    // simulate another thread adding the type converter after the lookup found none
+                    addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+                }
+                return answer;
+            }
+        };
+
+        MyOrder order = registry.tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+        assertTrue(added.get());
+
+        // the miss should not be remembered as the type converter was added while looking up
+        order = registry.tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testFallbackTypeConverterNotPromoted() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        AtomicInteger counter = new AtomicInteger();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                if (type == MyOrder.class) {
+                    counter.incrementAndGet();
+                    return type.cast(new MyOrderTypeConverter().convertTo(type, exchange, value));
+                }
+                return null;
+            }
+        }, false);
+
+        // the fallback converter should be used every time as it cannot be promoted, and the lookup which found no
+        // type converter should not prevent that
+        for (int i = 0; i < 3; i++) {
+            MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+            assertNotNull(order);
+            assertEquals(123, order.getId());
+        }
+        assertEquals(3, counter.get());
+    }
+
     private static class MyOrder {
         private int id;
 
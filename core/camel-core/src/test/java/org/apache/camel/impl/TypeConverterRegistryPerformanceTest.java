@@ -24,12 +24,16 @@ import java.util.concurrent.TimeUnit;
 import org.w3c.dom.Document;
 
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.TypeConverterSupport;
 import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+@Disabled("Manual performance test")
 public class TypeConverterRegistryPerformanceTest extends ContextTestSupport {
 
     private int pool = 100;
@@ -40,11 +44,7 @@ public class TypeConverterRegistryPerformanceTest extends ContextTestSupport {
     private CountDownLatch latch;
 
     @Test
-    public void testManual() throws Exception {
-        // noop
-    }
-
-    public void disbledtestPerformance() throws Exception {
+    public void testPerformance() throws Exception {
         // force converter to be loaded on startup
         Document dom = context.getTypeConverter().convertTo(Document.class, "<hello>World</hello>");
         assertNotNull(dom);
@@ -73,6 +73,62 @@ public class TypeConverterRegistryPerformanceTest extends ContextTestSupport {
         executorService.shutdownNow();
     }
 
+    @Test
+    public void testPerformanceHit() throws Exception {
+        // a type converter which is found in the type mappings
+        doTestPerformance(() -> context.getTypeConverter().convertTo(Document.class, "<hello>World</hello>"));
+    }
+
+    @Test
+    public void testPerformanceMiss() throws Exception {
+        // no type converter can convert, which is remembered
+        doTestPerformance(
+                () -> context.getTypeConverter().convertTo(TypeConverterRegistryPerformanceTest.class, "<hello>World</hello>"));
+    }
+
+    @Test
+    public void testPerformanceTryMiss() throws Exception {
+        // no type converter can convert, where only the failed lookup is remembered
+        doTestPerformance(
+                () -> context.getTypeConverter().tryConvertTo(TypeConverterRegistryPerformanceTest.class, "<hello>World</hello>"));
+    }
+
+    @Test
+    public void testPerformanceFallback() throws Exception {
+        // converted by a fallback type converter which cannot be promoted
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type == StopWatch.class ? type.cast(new StopWatch()) : null;
+            }
+        }, false);
+        doTestPerformance(() -> context.getTypeConverter().convertTo(StopWatch.class, "<hello>World</hello>"));
+    }
+
+    private void doTestPerformance(Runnable task) throws Exception {
+        // warm up
+        task.run();
+
+        StopWatch watch = new StopWatch();
+
+        latch = new CountDownLatch(size);
+        executorService = Executors.newFixedThreadPool(pool);
+
+        for (int i = 0; i < size; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < inner; j++) {
+                    task.run();
+                }
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.MINUTES), "Should all work");
+        log.info("Took " + watch.taken());
+
+        executorService.shutdownNow();
+    }
+
     @Override
     public boolean isUseRouteBuilder() {
         return false;
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares routing with uneven work per exchange using the {@link DefaultReactiveExecutor} and the
+ * {@link WorkStealingReactiveExecutor}.
+ */
+@Disabled("Manual performance test")
+public class WorkStealingReactiveExecutorPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutorPerformanceTest.class);
+
+    private final int messages = 2000;
+    private final int lines = 50;
+
+    @Test
+    public void testDefaultVersusWorkStealing() throws Exception {
+        // warm up
+        run(new DefaultReactiveExecutor(), 200);
+        run(new WorkStealingReactiveExecutor(), 200);
+
+        long defaultTaken = run(new DefaultReactiveExecutor(), messages);
+        long workStealingTaken = run(new WorkStealingReactiveExecutor(), messages);
+
+        LOG.info("Routed {} messages with {} lines using DefaultReactiveExecutor in {} millis and"
+                 + " WorkStealingReactiveExecutor in {} millis",
+                messages, lines, defaultTaken, workStealingTaken);
+    }
+
+    private long run(ReactiveExecutor executor, int messages) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=4&size=" + messages)
+                        .split(body().tokenize(","))
+                            .process(exchange -> {
+                                // some messages have more work per line than others
+                                String body = exchange.getIn().getBody(String.class);
+                                int work = body.hashCode() % 7 == 0 ? 20000 : 200;
+                                long sum = 0;
+                                for (int i = 0; i < work; i++) {
+                                    sum += i * 31L ^ body.length();
+                                }
+                                exchange.setProperty("sum", sum);
+                            })
+                            .multicast()
+                                .to("log:a?level=OFF", "log:b?level=OFF")
+                            .end()
+                        .end()
+                        .to("log:result?level=OFF");
+            }
+        });
+        context.start();
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < lines; i++) {
+                sb.append("Line ").append(i).append(",");
+            }
+            String body = sb.toString();
+
+            NotifyBuilder notify = new NotifyBuilder(context).whenDone(messages).create();
+            ProducerTemplate template = context.createProducerTemplate();
+            StopWatch watch = new StopWatch();
+            for (int i = 0; i < messages; i++) {
+                template.sendBody("seda:start", i + body);
+            }
+            assertTrue(notify.matches(60, TimeUnit.SECONDS));
+            return watch.taken();
+        } finally {
+            context.stop();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testSteal() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch scheduled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread busy = new Thread(() -> executor.schedule(() -> {
+            // the busy worker is blocked in the first task, after the task that scheduled the tasks has returned
+            executor.schedule(() -> {
+                scheduled.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            });
+            for (int i = 0; i < 5; i++) {
+                executor.schedule(counter::incrementAndGet);
+            }
+        }));
+        busy.start();
+        assertTrue(scheduled.await(10, TimeUnit.SECONDS));
+
+        // the busy worker has 5 pending tasks, and this worker steals until there is less than the threshold left
+        executor.schedule(() -> {
+        });
+        assertEquals(4, counter.get());
+        assertEquals(4, executor.getStolenTasks());
+
+        // the busy worker runs its last task when it is released
+        release.countDown();
+        busy.join(10000);
+        assertEquals(5, counter.get());
+        assertEquals(0, executor.getRunningWorkers());
+    }
+
+    @Test
+    public void testNoStealFromRunningTask() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicBoolean concurrent = new AtomicBoolean();
+        CountDownLatch scheduled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread busy = new Thread(() -> executor.schedule(() -> {
+            running.set(true);
+            for (int i = 0; i < 5; i++) {
+                executor.schedule(() -> {
+                    if (running.get()) {
+                        concurrent.set(true);
+                    }
+                    counter.incrementAndGet();
+                });
+            }
+            scheduled.countDown();
+            // the task is still running (such as completing the unit of work) after scheduling the next tasks
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            running.set(false);
+        }));
+        busy.start();
+        assertTrue(scheduled.await(10, TimeUnit.SECONDS));
+
+        // the tasks cannot be stolen while the task that scheduled them is running
+        executor.schedule(() -> {
+        });
+        assertEquals(0, counter.get());
+        assertEquals(0, executor.getStolenTasks());
+
+        release.countDown();
+        busy.join(10000);
+        assertEquals(5, counter.get());
+        assertFalse(concurrent.get(), "Tasks should not run while the scheduling task is running");
+        assertEquals(0, executor.getRunningWorkers());
+    }
+
+    @Test
+    public void testSplitAndMulticast() throws Exception {
+        assertSame(executor, context.adapt(ExtendedCamelContext.class).getReactiveExecutor());
+
+        getMockEndpoint("mock:line").expectedMessageCount(300);
+        getMockEndpoint("mock:a").expectedMessageCount(300);
+        getMockEndpoint("mock:b").expectedMessageCount(300);
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("Line ").append(i).append(",");
+        }
+        template.sendBody("seda:start", sb.toString());
+        template.sendBody("seda:start", sb.toString());
+        template.sendBody("seda:start", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=3")
+                        .split(body().tokenize(",")).parallelProcessing()
+                            .to("mock:line")
+                            .multicast().parallelProcessing()
+                                .to("mock:a", "mock:b")
+                            .end()
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
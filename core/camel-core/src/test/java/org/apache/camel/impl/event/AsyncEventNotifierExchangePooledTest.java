@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeCompletedEvent;
+import org.apache.camel.support.AsyncEventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AsyncEventNotifierExchangePooledTest extends ContextTestSupport {
+
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<Object> bodies = new CopyOnWriteArrayList<>();
+    private MyNotifier notifier;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(new PooledExchangeFactory());
+        notifier = new MyNotifier();
+        context.getManagementStrategy().addEventNotifier(notifier);
+        return context;
+    }
+
+    @Test
+    public void testSynchronousWhenPooled() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the events are delivered by the calling thread, while the exchanges are in use
+        assertEquals(3, bodies.size());
+        assertEquals("Hello 0", bodies.get(0));
+        assertEquals("Hello 2", bodies.get(2));
+        for (String thread : threads) {
+            assertEquals(Thread.currentThread().getName(), thread);
+        }
+        assertEquals(0, notifier.getQueuedCounter());
+        assertEquals(3, notifier.getDeliveredCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+    private class MyNotifier extends AsyncEventNotifierSupport {
+
+        @Override
+        protected void notify(List<CamelEvent> batch) throws Exception {
+            threads.add(Thread.currentThread().getName());
+            for (CamelEvent event : batch) {
+                bodies.add(((ExchangeCompletedEvent) event).getExchange().getMessage().getBody());
+            }
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof ExchangeCompletedEvent;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeCompletedEvent;
+import org.apache.camel.support.AsyncEventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncEventNotifierTest extends ContextTestSupport {
+
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+    private final List<CamelEvent> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private MyNotifier notifier;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        notifier = new MyNotifier();
+        context.getManagementStrategy().addEventNotifier(notifier);
+        return context;
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> events.size() == 5);
+        for (String thread : threads) {
+            assertNotEquals(Thread.currentThread().getName(), thread);
+            assertTrue(thread.contains("MyNotifier-EventDispatcher"), thread);
+        }
+        assertEquals(5, notifier.getQueuedCounter());
+        assertEquals(5, notifier.getDeliveredCounter());
+        assertEquals(0, notifier.getDroppedCounter());
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        // block the dispatcher
+        template.sendBody("direct:start", "Block");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> notifier.getPendingEvents() == 0 && batches.size() == 0
+                && notifier.getQueuedCounter() == 1);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        assertEquals(5, notifier.getPendingEvents());
+        assertEquals(6, notifier.getQueuedCounter());
+        assertEquals(5, notifier.getDroppedCounter());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> notifier.getDeliveredCounter() == 6);
+        assertEquals(6, events.size());
+        // the pending events are delivered in batches
+        assertEquals(3, batches.size());
+        assertEquals(1, batches.get(0));
+        assertEquals(3, batches.get(1));
+        assertEquals(2, batches.get(2));
+    }
+
+    @Test
+    public void testSample() throws Exception {
+        notifier.setOverflowPolicy(AsyncEventNotifierSupport.OverflowPolicy.Sample);
+        notifier.setSampleRate(2);
+
+        template.sendBody("direct:start", "Block");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> notifier.getPendingEvents() == 0 && batches.size() == 0
+                && notifier.getQueuedCounter() == 1);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        // 3 events fill the buffer to more than the half, and then every 2nd event is kept
+        assertEquals(4, notifier.getPendingEvents());
+        assertEquals(2, notifier.getDroppedCounter());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> notifier.getDeliveredCounter() == 5);
+    }
+
+    @Test
+    public void testDeliverPendingEventsOnStop() throws Exception {
+        notifier.setOverflowPolicy(AsyncEventNotifierSupport.OverflowPolicy.Block);
+
+        template.sendBody("direct:start", "Block");
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        latch.countDown();
+        context.stop();
+
+        assertEquals(4, events.size());
+        assertEquals(0, notifier.getPendingEvents());
+        assertEquals(0, notifier.getDroppedCounter());
+    }
+
+    @Test
+    public void testStopFromDispatcher() throws Exception {
+        template.sendBody("direct:start", "Stop");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> notifier.isStopped());
+
+        // the dispatcher delivers the pending events before it terminates
+        await().atMost(5, TimeUnit.SECONDS).until(() -> events.size() == 1);
+        assertEquals(0, notifier.getPendingEvents());
+
+        // and the events are delivered synchronously when stopped
+        template.sendBody("direct:start", "Hello");
+        assertEquals(2, events.size());
+        assertEquals(Thread.currentThread().getName(), threads.get(1));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+    private class MyNotifier extends AsyncEventNotifierSupport {
+
+        MyNotifier() {
+            setBufferSize(5);
+            setBatchSize(3);
+        }
+
+        @Override
+        protected void notify(List<CamelEvent> batch) throws Exception {
+            threads.add(Thread.currentThread().getName());
+            for (CamelEvent event : batch) {
+                Object body = ((ExchangeCompletedEvent) event).getExchange().getMessage().getBody();
+                if ("Block".equals(body)) {
+                    latch.await(10, TimeUnit.SECONDS);
+                } else if ("Stop".equals(body)) {
+                    stop();
+                }
+            }
+            batches.add(batch.size());
+            events.addAll(batch);
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof ExchangeCompletedEvent;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.builder.Builder.header;
+
+/**
+ * Compares routing to the last when clause of a choice with many equality when clauses, when the when clauses are
+ * tested one by one and when they are indexed.
+ */
+@Disabled("Manual performance test")
+public class ChoiceIndexedPerformanceTest extends ContextTestSupport {
+
+    private final int size = 100000;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testLinearVersusIndexed() throws Exception {
+        // warm up
+        run(false, 10, 10000);
+        run(true, 10, 10000);
+
+        for (int branches : new int[] { 10, 50, 200 }) {
+            long linear = run(false, branches, size);
+            long indexed = run(true, branches, size);
+
+            log.info("Routed {} exchanges to the last of {} when clauses one by one in {} millis and indexed in {} millis",
+                    size, branches, linear, indexed);
+        }
+    }
+
+    private long run(boolean indexed, int branches, int size) throws Exception {
+        List<FilterProcessor> filters = new ArrayList<>();
+        for (int i = 0; i < branches; i++) {
+            Predicate predicate = header("type").isEqualTo("type" + i);
+            if (!indexed) {
+                // hide the equality test, so the when clauses cannot be indexed
+                Predicate equality = predicate;
+                predicate = equality::matches;
+            }
+            int branch = i;
+            filters.add(new FilterProcessor(context, predicate, exchange -> exchange.getIn().setBody(branch)));
+        }
+        ChoiceProcessor choice = new ChoiceProcessor(filters, null);
+        choice.start();
+        try {
+            String type = "type" + (branches - 1);
+            StopWatch watch = new StopWatch();
+            for (int i = 0; i < size; i++) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setHeader("type", type);
+                choice.process(exchange);
+            }
+            return watch.taken();
+        } finally {
+            choice.stop();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ChoiceDefinition;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChoiceIndexedTest extends ContextTestSupport {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Test
+    public void testIndexed() throws Exception {
+        getMockEndpoint("mock:0").expectedBodiesReceived("A");
+        getMockEndpoint("mock:3").expectedBodiesReceived("B", "C");
+        getMockEndpoint("mock:7").expectedBodiesReceived("D");
+        getMockEndpoint("mock:other").expectedBodiesReceived("E", "F", "G");
+
+        template.sendBodyAndHeader("direct:start", "A", "type", "t0");
+        template.sendBodyAndHeader("direct:start", "B", "type", "t3");
+        // not a string so the predicates are tested one by one
+        template.sendBodyAndHeader("direct:start", "C", "type", new StringBuilder("t3"));
+        template.sendBodyAndHeader("direct:start", "D", "type", "t7");
+        template.sendBodyAndHeader("direct:start", "E", "type", "t99");
+        template.sendBodyAndHeader("direct:start", "F", "type", "3");
+        template.sendBody("direct:start", "G");
+
+        assertMockEndpointsSatisfied();
+
+        ChoiceProcessor choice = context.getProcessor("choice", ChoiceProcessor.class);
+        assertEquals(10, choice.getIndexedFilterCount());
+        assertEquals(2, choice.getFilters().get(3).getFilteredCount());
+        assertEquals(0, choice.getFilters().get(4).getFilteredCount());
+        assertEquals(3, choice.getNotFilteredCount());
+    }
+
+    @Test
+    public void testIndexedFirstMatchWins() throws Exception {
+        getMockEndpoint("mock:in").expectedBodiesReceived("A", "B");
+        getMockEndpoint("mock:foo").expectedBodiesReceived("C");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("D");
+        getMockEndpoint("mock:baz").expectedBodiesReceived("E");
+        getMockEndpoint("mock:body").expectedBodiesReceived("body");
+
+        template.sendBodyAndHeader("direct:mixed", "A", "type", "u");
+        template.sendBodyAndHeader("direct:mixed", "B", "type", "foo");
+        template.sendBodyAndHeader("direct:mixed", "C", "type", "FOO");
+        template.sendBodyAndHeader("direct:mixed", "D", "type", "bar");
+        template.sendBodyAndHeader("direct:mixed", "E", "type", "baz");
+        // the when clause before the indexed when clauses must be tested first
+        template.sendBodyAndHeader("direct:mixed", "body", "type", "baz");
+
+        assertMockEndpointsSatisfied();
+
+        ChoiceProcessor choice = context.getProcessor("mixed", ChoiceProcessor.class);
+        assertEquals(5, choice.getIndexedFilterCount());
+    }
+
+    @Test
+    public void testIndexedSimple() throws Exception {
+        getMockEndpoint("mock:0").expectedBodiesReceived("A");
+        getMockEndpoint("mock:5").expectedBodiesReceived("B");
+        getMockEndpoint("mock:other").expectedBodiesReceived("C");
+
+        template.sendBodyAndHeader("direct:simple", "A", "type", "t0");
+        template.sendBodyAndHeader("direct:simple", "B", "type", "t5");
+        template.sendBodyAndHeader("direct:simple", "C", "type", "t99");
+
+        assertMockEndpointsSatisfied();
+
+        ChoiceProcessor choice = context.getProcessor("simple", ChoiceProcessor.class);
+        assertEquals(10, choice.getIndexedFilterCount());
+        assertEquals(1, choice.getFilters().get(5).getFilteredCount());
+    }
+
+    @Test
+    public void testIndexedEvaluatesOnce() throws Exception {
+        getMockEndpoint("mock:3").expectedBodiesReceived("A");
+
+        template.sendBody("direct:counted", "A");
+
+        assertMockEndpointsSatisfied();
+
+        // the expression is evaluated once to find the when clause, and not again to test its predicate
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testNotIndexed() throws Exception {
+        getMockEndpoint("mock:0").expectedBodiesReceived("A");
+        getMockEndpoint("mock:other").expectedBodiesReceived("B");
+
+        template.sendBodyAndHeader("direct:custom", "A", "type", "t0");
+        template.sendBodyAndHeader("direct:custom", "B", "type", "t1");
+
+        assertMockEndpointsSatisfied();
+
+        // custom predicates are tested one by one
+        ChoiceProcessor choice = context.getProcessor("custom", ChoiceProcessor.class);
+        assertEquals(0, choice.getIndexedFilterCount());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ChoiceDefinition choice = from("direct:start").choice().id("choice");
+                for (int i = 0; i < 10; i++) {
+                    choice.when(header("type").isEqualTo("t" + i)).to("mock:" + i);
+                }
+                choice.otherwise().to("mock:other");
+
+                choice = from("direct:simple").choice().id("simple");
+                for (int i = 0; i < 10; i++) {
+                    choice.when(simple("${header.type} == 't" + i + "'")).to("mock:" + i);
+                }
+                choice.otherwise().to("mock:other");
+
+                Expression counted = new ExpressionAdapter() {
+                    @Override
+                    public Object evaluate(Exchange exchange) {
+                        counter.incrementAndGet();
+                        return "t3";
+                    }
+                };
+                choice = from("direct:counted").choice().id("counted");
+                for (int i = 0; i < 10; i++) {
+                    choice.when(PredicateBuilder.isEqualTo(counted, ExpressionBuilder.constantExpression("t" + i))).to("mock:" + i);
+                }
+                choice.end();
+
+                from("direct:custom")
+                    .choice().id("custom")
+                        .when(exchange -> "t0".equals(exchange.getMessage().getHeader("type"))).to("mock:0")
+                        .when(exchange -> "t9".equals(exchange.getMessage().getHeader("type"))).to("mock:9")
+                    .otherwise().to("mock:other");
+
+                from("direct:mixed")
+                    .choice().id("mixed")
+                        .when(body().isEqualTo("body")).to("mock:body")
+                        .when(PredicateBuilder.in(header("type").isEqualTo("u"), header("type").isEqualTo("foo"))).to("mock:in")
+                        .when(header("type").isEqualTo("foo")).to("mock:foo")
+                        .when(header("type").isEqualTo("FOO")).to("mock:foo")
+                        .when(header("type").isEqualTo("bar")).to("mock:bar")
+                        .when(header("type").isEqualTo("baz")).to("mock:baz")
+                    .end();
+            }
+        };
+    }
+
+}
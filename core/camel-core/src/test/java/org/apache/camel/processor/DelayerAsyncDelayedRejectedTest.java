@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DelayerAsyncDelayedRejectedTest extends ContextTestSupport {
+
+    // rejects the delayed tasks when the delay is over
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1) {
+        @Override
+        public void execute(Runnable command) {
+            throw new RejectedExecutionException("Rejected");
+        }
+    };
+
+    @Test
+    public void testCallerRunsWhenRejected() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the task must not be run by the timer thread
+        String thread = mock.getReceivedExchanges().get(0).getMessage().getHeader("thread", String.class);
+        assertFalse(thread.contains("HashedWheelTimer"), "Should not run on the timer thread: " + thread);
+        assertTrue(thread.contains("DelayRejected"), "Should run on a new thread: " + thread);
+    }
+
+    @Test
+    public void testFailWhenRejected() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        CamelExecutionException e
+                = assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:fail", "Hello World"));
+        assertIsInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").delay(100).asyncDelayed().executorService(executor)
+                        .process(e -> e.getMessage().setHeader("thread", Thread.currentThread().getName()))
+                        .to("mock:result");
+
+                from("direct:fail").delay(100).asyncDelayed().executorService(executor).callerRunsWhenRejected(false)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultMessageHistoryFactory;
+import org.apache.camel.support.CompactMessageHistoryList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageHistoryCompactTest extends ContextTestSupport {
+
+    @Test
+    public void testCompact() throws Exception {
+        getMockEndpoint("mock:a").expectedMessageCount(1);
+        getMockEndpoint("mock:b").expectedMessageCount(1);
+        getMockEndpoint("mock:bar").expectedMessageCount(1);
+
+        Exchange out = template.request("direct:start", e -> {
+            e.getMessage().setBody("Hello World");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(history);
+        assertInstanceOf(CompactMessageHistoryList.class, history);
+        assertEquals(3, history.size());
+        assertEquals("step", history.get(0).getNode().getShortName());
+        assertEquals("a", history.get(0).getNode().getId());
+        assertEquals("start", history.get(0).getRouteId());
+        assertNull(history.get(0).getMessage());
+        assertEquals("b", history.get(1).getNode().getId());
+        assertEquals("bar", history.get(2).getNode().getId());
+        assertEquals("bar", history.get(2).getRouteId());
+        for (MessageHistory h : history) {
+            assertTrue(h.getTime() > 0);
+        }
+        // step b takes longer than 100 millis as it includes the bar step
+        assertTrue(history.get(1).getElapsed() >= 100, "Should take longer: " + history.get(1).getElapsed());
+        assertTrue(history.get(1).getElapsed() >= history.get(2).getElapsed());
+    }
+
+    @Test
+    public void testCompactCopy() throws Exception {
+        getMockEndpoint("mock:bar").expectedMessageCount(1);
+
+        Exchange out = template.request("direct:bar", e -> {
+            e.getMessage().setBody("Hello World");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertEquals(1, history.size());
+
+        // the copy has its own list
+        Exchange copy = out.copy();
+        List<MessageHistory> copyHistory = copy.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertInstanceOf(CompactMessageHistoryList.class, copyHistory);
+        template.send("direct:bar", copy);
+
+        assertEquals(1, history.size());
+        assertEquals(2, copyHistory.size());
+        assertEquals("bar", copyHistory.get(0).getNode().getId());
+        assertEquals("bar", copyHistory.get(1).getNode().getId());
+        assertEquals(history.get(0).getTime(), copyHistory.get(0).getTime());
+        assertEquals(history.get(0).getElapsed(), copyHistory.get(0).getElapsed());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                DefaultMessageHistoryFactory factory = new DefaultMessageHistoryFactory();
+                factory.setNodePattern("step");
+                factory.setCompact(true);
+                context.setMessageHistoryFactory(factory);
+
+                from("direct:start").routeId("start").step("a").transform().constant("Bye World").to("mock:a").end().step("b").transform()
+                        .constant("Hi World").to("direct:bar").to("mock:b").end();
+
+                from("direct:bar").routeId("bar").step("bar").delay(100).to("mock:bar").end();
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RedeliveryErrorHandlerAsyncDelayedRejectedTest extends ContextTestSupport {
+
+    private final AtomicInteger attempt = new AtomicInteger();
+
+    // rejects the redeliveries when the redelivery delay is over
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1) {
+        @Override
+        public void execute(Runnable command) {
+            throw new RejectedExecutionException("Rejected");
+        }
+    };
+
+    @Test
+    public void testRedeliveryRejected() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "World");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(2, attempt.get());
+
+        // the redelivery must not be run by the timer thread
+        String thread = mock.getReceivedExchanges().get(0).getMessage().getHeader("thread", String.class);
+        assertFalse(thread.contains("HashedWheelTimer"), "Should not run on the timer thread: " + thread);
+        assertTrue(thread.contains("RedeliveryRejected"), "Should run on a new thread: " + thread);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(1).redeliveryDelay(100).asyncDelayedRedelivery()
+                        .executorService(executor));
+
+                from("direct:start").process(exchange -> {
+                    if (attempt.incrementAndGet() == 1) {
+                        throw new IllegalArgumentException("Damn");
+                    }
+                    exchange.getMessage().setHeader("thread", Thread.currentThread().getName());
+                    exchange.getMessage().setBody("Hello " + exchange.getMessage().getBody(String.class));
+                }).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockComponent;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RouteStartupOrderParallelSharedEndpointTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final List<SharedProducer> producers = new ArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setParallelStartup(true);
+        context.getRouteController().setParallelStartupPoolSize(8);
+        context.addComponent("slow", new MockComponent() {
+            @Override
+            protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters)
+                    throws Exception {
+                created.incrementAndGet();
+                // make it more likely that the routes create the endpoint at the same time
+                Thread.sleep(50);
+                return super.createEndpoint(uri, remaining, parameters);
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testSharedProducerEndpoint() throws Exception {
+        assertEquals(1, created.get(), "The shared endpoint should only be created once");
+
+        Endpoint shared = context.getEndpoint("slow:shared");
+        assertEquals(1, context.getEndpoints().stream().filter(e -> e.getEndpointUri().equals("slow://shared")).count());
+        for (SharedProducer producer : producers) {
+            assertSame(shared, producer.endpoint, "The routes should use the shared endpoint");
+        }
+
+        getMockEndpoint("slow:shared").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testConcurrentGetEndpoint() throws Exception {
+        created.set(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Endpoint>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> context.getEndpoint("slow:concurrent")));
+            }
+            Endpoint endpoint = context.getEndpoint("slow:concurrent");
+            for (Future<Endpoint> future : futures) {
+                assertSame(endpoint, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, created.get(), "The endpoint should only be created once");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // the routes have no startup order so they are warmed up and started in parallel
+                for (int i = 0; i < ROUTES; i++) {
+                    SharedProducer producer = new SharedProducer();
+                    producers.add(producer);
+                    from("direct:start" + i).routeId("route" + i).process(producer);
+                }
+            }
+        };
+    }
+
+    /**
+     * Resolves the producer endpoint when the route is warmed up, which happens in parallel for the routes.
+     */
+    private static final class SharedProducer extends ServiceSupport implements Processor, CamelContextAware {
+
+        private CamelContext camelContext;
+        private volatile Endpoint endpoint;
+        private volatile Producer producer;
+
+        @Override
+        public CamelContext getCamelContext() {
+            return camelContext;
+        }
+
+        @Override
+        public void setCamelContext(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            producer.process(exchange);
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            endpoint = camelContext.getEndpoint("slow:shared");
+            producer = endpoint.createProducer();
+            ServiceHelper.startService(producer);
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            ServiceHelper.stopService(producer);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Route;
+import org.apache.camel.Service;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupOrderParallelTest extends ContextTestSupport {
+
+    private final Map<String, String> consumerThreads = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setParallelStartup(true);
+        context.getRouteController().setParallelStartupPoolSize(4);
+        context.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onServiceAdd(CamelContext context, Service service, Route route) {
+                if (service instanceof Consumer && route != null) {
+                    consumerThreads.put(route.getRouteId(), Thread.currentThread().getName());
+                }
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupOrderParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start2", "Bye World");
+        template.sendBody("direct:default", "Hi World");
+
+        assertMockEndpointsSatisfied();
+
+        // assert the groups are started in correct order
+        DefaultCamelContext dcc = (DefaultCamelContext) context;
+        List<RouteStartupOrder> order = dcc.getRouteStartupOrder();
+
+        assertEquals(6, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals(1, order.get(0).getStartupOrder());
+
+        // the routes with the same startup order are started together in any order
+        Set<String> uris = new HashSet<>();
+        uris.add(order.get(1).getRoute().getEndpoint().getEndpointUri());
+        uris.add(order.get(2).getRoute().getEndpoint().getEndpointUri());
+        assertEquals(2, uris.size());
+        assertTrue(uris.contains("direct://start"));
+        assertTrue(uris.contains("direct://start2"));
+        assertEquals(2, order.get(1).getStartupOrder());
+        assertEquals(2, order.get(2).getStartupOrder());
+
+        // the routes with no startup order should be last
+        for (int i = 3; i < 6; i++) {
+            assertTrue(order.get(i).getStartupOrder() >= 1000);
+        }
+
+        // the routes in a group are started using the thread pool
+        assertTrue(consumerThreads.get("start").contains("RouteStartup"), consumerThreads.get("start"));
+        assertTrue(consumerThreads.get("default").contains("RouteStartup"), consumerThreads.get("default"));
+        // a group with a single route is started by the caller
+        assertFalse(consumerThreads.get("foo").contains("RouteStartup"), consumerThreads.get("foo"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo").routeId("foo").startupOrder(1).to("mock:result");
+
+                // same startup order is allowed when starting in parallel
+                from("direct:start").routeId("start").startupOrder(2).to("seda:foo");
+                from("direct:start2").routeId("start2").startupOrder(2).to("seda:foo");
+
+                // has no startup order then they are started last
+                from("direct:default").routeId("default").to("seda:foo");
+                from("direct:default2").routeId("default2").to("mock:default");
+                from("direct:default3").routeId("default3").to("mock:default");
+            }
+        };
+    }
+}
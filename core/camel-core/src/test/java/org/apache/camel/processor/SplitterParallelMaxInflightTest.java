@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger produced = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxWindow = new AtomicInteger();
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(100);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", 100);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(100, produced.get());
+        assertEquals(100, aggregated.get());
+        assertTrue(maxWindow.get() <= 5, "The window should not exceed 5 but was " + maxWindow.get());
+
+        Splitter splitter = context.getProcessor("split", Splitter.class);
+        assertEquals(5, splitter.getMaxInflight());
+        assertEquals(0, splitter.getInflightExchanges());
+    }
+
+    @Test
+    public void testMaxInflightOrdered() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            sb.append(i);
+        }
+        getMockEndpoint("mock:ordered").expectedBodiesReceived(sb.toString());
+
+        template.sendBody("direct:ordered", 20);
+
+        assertMockEndpointsSatisfied();
+
+        Splitter splitter = context.getProcessor("ordered", Splitter.class);
+        assertTrue(splitter.isInflightOrdered());
+        assertEquals(0, splitter.getInflightExchanges());
+    }
+
+    public Iterator<Integer> numbers(int count) {
+        return new Iterator<Integer>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Integer next() {
+                // the number of split messages which has not yet been aggregated
+                int window = produced.incrementAndGet() - aggregated.get();
+                maxWindow.accumulateAndGet(window, Math::max);
+                return index++;
+            }
+        };
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AggregationStrategy counter = (oldExchange, newExchange) -> {
+                    aggregated.incrementAndGet();
+                    return newExchange;
+                };
+
+                from("direct:start")
+                    .split(method(SplitterParallelMaxInflightTest.this, "numbers"), counter)
+                            .streaming().parallelProcessing().maxInflight(5).id("split")
+                        .process(SplitterParallelMaxInflightTest::randomDelay)
+                        .to("mock:line")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:ordered")
+                    .split(method(SplitterParallelMaxInflightTest.this, "numbers"), new StringAggregationStrategy())
+                            .streaming().parallelProcessing().maxInflight(3).inflightOrdered().id("ordered")
+                        .process(SplitterParallelMaxInflightTest::randomDelay)
+                    .end()
+                    .to("mock:ordered");
+            }
+        };
+    }
+
+    private static void randomDelay(Exchange exchange) throws Exception {
+        Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+    }
+
+}
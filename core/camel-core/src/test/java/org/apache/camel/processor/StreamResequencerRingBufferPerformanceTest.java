@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.processor.resequencer.DefaultExchangeComparator;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.builder.Builder.header;
+
+/**
+ * Compares the throughput of the stream resequencer using the default engine and the ring buffer engine, when
+ * resequencing a dense sequence sent slightly out of order by multiple threads.
+ */
+@Disabled("Manual performance test")
+public class StreamResequencerRingBufferPerformanceTest extends ContextTestSupport {
+
+    private final int count = 100000;
+    private final int threads = 4;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testDefaultVersusRingBuffer() throws Exception {
+        // warm up
+        run(false, 10000);
+        run(true, 10000);
+
+        long sorted = run(false, count);
+        long ringBuffer = run(true, count);
+
+        log.info("Resequenced {} exchanges using {} threads with the default engine in {} millis and ring buffer in {} millis",
+                count, threads, sorted, ringBuffer);
+    }
+
+    private long run(boolean ringBuffer, int count) throws Exception {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(count);
+        DefaultExchangeComparator comparator = new DefaultExchangeComparator();
+        comparator.setExpression(header("seqnum"));
+        StreamResequencer resequencer = new StreamResequencer(context, exchange -> {
+            first.countDown();
+            latch.countDown();
+        }, comparator, header("seqnum"), ringBuffer);
+        resequencer.setCapacity(count);
+        resequencer.setTimeout(100);
+        resequencer.setDeliveryAttemptInterval(10);
+        resequencer.start();
+
+        ExecutorService executor = context.getExecutorServiceManager().newFixedThreadPool(this, "Resequencer", threads);
+        try {
+            // the first exchange is delivered after the timeout, so send it before measuring
+            send(resequencer, 0);
+            first.await(5, TimeUnit.SECONDS);
+
+            StopWatch watch = new StopWatch();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                executor.execute(() -> {
+                    // send pairs in reverse order, so every other exchange is out of sequence
+                    for (long i = 1 + offset * 2L; i < count; i += threads * 2L) {
+                        if (i + 1 < count) {
+                            send(resequencer, i + 1);
+                        }
+                        send(resequencer, i);
+                    }
+                });
+            }
+            latch.await(60, TimeUnit.SECONDS);
+            return watch.taken();
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executor);
+            resequencer.stop();
+        }
+    }
+
+    private void send(StreamResequencer resequencer, long sequence) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setHeader("seqnum", sequence);
+        resequencer.process(exchange, doneSync -> {
+        });
+    }
+}
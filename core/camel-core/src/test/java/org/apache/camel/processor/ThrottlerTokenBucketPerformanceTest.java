@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.builder.Builder.constant;
+import static org.apache.camel.builder.Builder.header;
+
+/**
+ * Compares throttling many correlation keys using the default DelayQueue with permits, and the token bucket mode.
+ */
+@Disabled("Manual performance test")
+public class ThrottlerTokenBucketPerformanceTest extends ContextTestSupport {
+
+    private final int keys = 20000;
+    private final int rounds = 5;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testDelayQueueVersusTokenBucket() throws Exception {
+        // warm up
+        run(false, 1000);
+        run(true, 1000);
+
+        long delayQueue = run(false, keys);
+        long tokenBucket = run(true, keys);
+
+        log.info("Throttled {} exchanges over {} keys using DelayQueue in {} millis and TokenBucket in {} millis",
+                keys * rounds, keys, delayQueue, tokenBucket);
+    }
+
+    private long run(boolean tokenBucket, int keys) throws Exception {
+        ScheduledExecutorService executor = context.getExecutorServiceManager().newScheduledThreadPool(this, "Throttle", 1);
+        // a rate high enough to not throttle, so only the bookkeeping is measured
+        Throttler throttler = new Throttler(context, constant(rounds * 2), 60000, executor, true, true, header("key"));
+        throttler.setTokenBucket(tokenBucket);
+        throttler.start();
+        try {
+            StopWatch watch = new StopWatch();
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < keys; i++) {
+                    Exchange exchange = new DefaultExchange(context);
+                    exchange.getIn().setHeader("key", i);
+                    throttler.process(exchange);
+                }
+            }
+            return watch.taken();
+        } finally {
+            throttler.stop();
+            throttler.shutdown();
+        }
+    }
+}
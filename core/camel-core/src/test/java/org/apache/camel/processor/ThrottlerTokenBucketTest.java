@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.time.Duration;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+
+    @Test
+    public void testBurstCapacity() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(3);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:reject", "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // a token is added every 250 millis
+        resetMocks();
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        Thread.sleep(300);
+        template.sendBody("direct:reject", "Message 5");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCorrelationExpression() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder("A1", "B1", "C1");
+        getMockEndpoint("mock:error").expectedBodiesReceivedInAnyOrder("A2", "B2");
+
+        template.sendBodyAndHeader("direct:group", "A1", "key", "A");
+        template.sendBodyAndHeader("direct:group", "B1", "key", "B");
+        template.sendBodyAndHeader("direct:group", "A2", "key", "A");
+        template.sendBodyAndHeader("direct:group", "B2", "key", "B");
+        template.sendBodyAndHeader("direct:group", "C1", "key", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testManyCorrelationKeys() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1000);
+        getMockEndpoint("mock:error").expectedBodiesReceived("Again");
+
+        // each key has its own bucket so none of them are throttled
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 500; i++) {
+                template.sendBodyAndHeader("direct:many", "Message " + i, "key", i);
+            }
+        }
+        template.sendBodyAndHeader("direct:many", "Again", "key", 0);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDelay() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(4);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("direct:delay", "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // the first message is let through and the others are spread with 100 millis between
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        assertTrue(elapsed >= 280, "Should be delayed, was " + elapsed);
+    }
+
+    @Test
+    public void testAsyncDelayed() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(4);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("seda:async", "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        assertTrue(elapsed >= 280, "Should be delayed, was " + elapsed);
+        // the delayed messages are continued by the throttler thread pool
+        assertTrue(mock.getExchanges().get(3).getProperty("threadName", String.class).contains("Throttle"));
+    }
+
+    @Test
+    public void testEvictIdleBuckets() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+
+        template.sendBodyAndHeader("direct:evict", "A", "key", "A");
+        template.sendBodyAndHeader("direct:evict", "B", "key", "B");
+        template.sendBodyAndHeader("direct:evict", "C", "key", "C");
+        assertMockEndpointsSatisfied();
+
+        Throttler throttler = context.getProcessor("evict", Throttler.class);
+        assertEquals(5, throttler.getCurrentMaximumRequestsPerPeriod());
+
+        // the buckets are evicted when they have been idle for 10 time periods
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(0, throttler.getCurrentMaximumRequestsPerPeriod()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:reject").throttle(4).timePeriodMillis(1000).tokenBucket().burstCapacity(2)
+                        .rejectExecution(true).to("mock:result");
+
+                from("direct:group").throttle(1).timePeriodMillis(1000).correlationExpression(header("key"))
+                        .tokenBucket().rejectExecution(true).to("mock:result");
+
+                from("direct:many").throttle(2).timePeriodMillis(60000).correlationExpression(header("key"))
+                        .tokenBucket().rejectExecution(true).to("mock:result");
+
+                from("direct:delay").throttle(10).timePeriodMillis(1000).tokenBucket().burstCapacity(1).to("mock:result");
+
+                from("seda:async").throttle(10).timePeriodMillis(1000).tokenBucket().burstCapacity(1).asyncDelayed()
+                        .process(e -> e.setProperty("threadName", Thread.currentThread().getName())).to("mock:result");
+
+                from("direct:evict").throttle(5).timePeriodMillis(50).correlationExpression(header("key")).tokenBucket()
+                        .id("evict").to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the throughput of the aggregator with a growing number of lock stripes and concurrent producers sending to
+ * many correlation keys.
+ */
+@Disabled("Manual performance test")
+public class AggregateLockStripesPerformanceTest extends ContextTestSupport {
+
+    private static final int[] STRIPES = { 1, 4, 16, 64 };
+
+    private final int producers = 16;
+    private final int keys = 1000;
+    private final int groupSize = 10;
+    private final int size = 200000;
+
+    @Test
+    public void testLockStripes() throws Exception {
+        for (int stripes : STRIPES) {
+            MockEndpoint mock = getMockEndpoint("mock:" + stripes);
+            mock.setRetainFirst(0);
+            mock.expectedMessageCount(size / groupSize);
+
+            StopWatch watch = new StopWatch();
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executor.submit(() -> {
+                    for (int i = producer; i < size; i += producers) {
+                        template.sendBodyAndHeader("direct:" + stripes, "Hello", "id", i % keys);
+                    }
+                });
+            }
+            mock.assertIsSatisfied(TimeUnit.MINUTES.toMillis(2));
+            log.info("Aggregating with {} lock stripes took {} millis to aggregate {} messages", stripes, watch.taken(),
+                    size);
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int stripes : STRIPES) {
+                    from("direct:" + stripes)
+                            .aggregate(header("id"), (Exchange oldExchange, Exchange newExchange) -> {
+                                // simulate some work when aggregating
+                                long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(20);
+                                while (System.nanoTime() < end) {
+                                    Thread.onSpinWait();
+                                }
+                                return oldExchange != null ? oldExchange : newExchange;
+                            })
+                            .lockStripes(stripes).completionSize(groupSize)
+                            .to("mock:" + stripes);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.SendProcessor;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.spi.AggregationRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final int size = 400;
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 20;
+            final int count = i;
+            tasks.add(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBodyAndHeader("direct:start", "" + count, "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // each group should have aggregated all its messages
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getIn().getBody(String.class);
+            assertEquals(20, body.split("\\+").length, "Aggregated body: " + body);
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesNotSupportedRepository() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AggregateProcessor ap = new AggregateProcessor(
+                context, new SendProcessor(context.getEndpoint("mock:result")), header("id"),
+                new BodyInAggregatingStrategy(), executorService, true);
+        ap.setCompletionSize(3);
+        ap.setLockStripes(8);
+        ap.setAggregationRepository(new MyRepo(false));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, ap::start);
+        assertTrue(e.getMessage().startsWith("Lock striping cannot be used with an AggregationRepository"));
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateLockStripesSupportedRepository() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AggregateProcessor ap = new AggregateProcessor(
+                context, new SendProcessor(context.getEndpoint("mock:result")), header("id"),
+                new BodyInAggregatingStrategy(), executorService, true);
+        ap.setCompletionSize(3);
+        ap.setLockStripes(8);
+        ap.setAggregationRepository(new MyRepo(true));
+
+        ap.start();
+        assertTrue(ap.isStarted());
+        ap.stop();
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripes(8)
+                        .completionSize(20).to("mock:result");
+
+                from("direct:timeout").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripes(8)
+                        .completionTimeout(100).completionTimeoutCheckerInterval(10).to("mock:timeout");
+            }
+        };
+    }
+
+    private static class MyRepo implements AggregationRepository {
+
+        private final boolean lockStripingSupported;
+
+        MyRepo(boolean lockStripingSupported) {
+            this.lockStripingSupported = lockStripingSupported;
+        }
+
+        @Override
+        public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+            return null;
+        }
+
+        @Override
+        public Exchange get(CamelContext camelContext, String key) {
+            return null;
+        }
+
+        @Override
+        public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        }
+
+        @Override
+        public void confirm(CamelContext camelContext, String exchangeId) {
+        }
+
+        @Override
+        public Set<String> getKeys() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isLockStripingSupported() {
+            return lockStripingSupported;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferResequencerEngineTest extends TestSupport {
+
+    private RingBufferResequencerEngine<Integer> engine;
+    private ResequencerEngineSync<Integer> resequencer;
+    private ResequencerRunner<Integer> runner;
+    private SequenceBuffer<Integer> buffer;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (runner != null) {
+            runner.cancel();
+        }
+        if (resequencer != null) {
+            resequencer.stop();
+        }
+    }
+
+    @Test
+    public void testTimeout1() throws Exception {
+        initResequencer(500, 10);
+        resequencer.insert(4);
+        assertNull(buffer.poll(250));
+        assertEquals((Object) (Integer) 4, (Object) buffer.take());
+        assertEquals((Object) (Integer) 4, (Object) resequencer.getLastDelivered());
+    }
+
+    @Test
+    public void testTimeout2() throws Exception {
+        initResequencer(500, 10);
+        resequencer.setLastDelivered(2);
+        resequencer.insert(4);
+        assertNull(buffer.poll(250));
+        assertEquals((Object) (Integer) 4, (Object) buffer.take());
+        assertEquals((Object) (Integer) 4, (Object) resequencer.getLastDelivered());
+    }
+
+    @Test
+    public void testTimeout3() throws Exception {
+        initResequencer(500, 10);
+        resequencer.setLastDelivered(3);
+        resequencer.insert(4);
+        assertEquals((Object) (Integer) 4, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 4, (Object) resequencer.getLastDelivered());
+    }
+
+    @Test
+    public void testTimeout4() throws Exception {
+        initResequencer(500, 10);
+        resequencer.setLastDelivered(2);
+        resequencer.insert(4);
+        resequencer.insert(3);
+        assertEquals((Object) (Integer) 3, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 4, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 4, (Object) resequencer.getLastDelivered());
+    }
+
+    @Test
+    public void testReverse() throws Exception {
+        initResequencer(100, 16);
+        for (int i = 99; i >= 0; i--) {
+            resequencer.insert(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals((Object) (Integer) i, (Object) buffer.take());
+        }
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testBeyondRingBuffer() throws Exception {
+        initResequencer(500, 16);
+        resequencer.setLastDelivered(0);
+        // 100 is beyond the ring buffer so must wait for the gap to time out
+        resequencer.insert(100);
+        resequencer.insert(2);
+        resequencer.insert(1);
+        assertEquals((Object) (Integer) 1, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 2, (Object) buffer.poll(250));
+        assertNull(buffer.poll(100));
+        assertEquals((Object) (Integer) 100, (Object) buffer.take());
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testGapsInRingBuffer() throws Exception {
+        initResequencer(200, 16);
+        resequencer.setLastDelivered(0);
+        // the lowest element is delivered first when the gaps time out
+        resequencer.insert(12);
+        resequencer.insert(6);
+        resequencer.insert(9);
+        assertEquals((Object) (Integer) 6, (Object) buffer.take());
+        assertEquals((Object) (Integer) 9, (Object) buffer.take());
+        assertEquals((Object) (Integer) 12, (Object) buffer.take());
+        assertEquals(0, resequencer.size());
+
+        // elements inserted after the ring buffer has been empty are found again
+        resequencer.insert(15);
+        resequencer.insert(14);
+        assertNull(buffer.poll(100));
+        resequencer.insert(13);
+        assertEquals((Object) (Integer) 13, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 14, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 15, (Object) buffer.poll(250));
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testDuplicate() throws Exception {
+        initResequencer(500, 16);
+        resequencer.setLastDelivered(0);
+        resequencer.insert(2);
+        resequencer.insert(2);
+        assertEquals(1, resequencer.size());
+        resequencer.insert(1);
+        assertEquals((Object) (Integer) 1, (Object) buffer.poll(250));
+        assertEquals((Object) (Integer) 2, (Object) buffer.poll(250));
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    public void testRejectOld() throws Exception {
+        initResequencer(500, 16);
+        engine.setRejectOld(true);
+        resequencer.setLastDelivered(5);
+        assertThrows(MessageRejectedException.class, () -> resequencer.insert(3));
+    }
+
+    @Test
+    public void testConcurrentInsert() throws Exception {
+        int threads = 4;
+        int count = 10000;
+
+        buffer = new SequenceBuffer<>();
+        engine = new RingBufferResequencerEngine<>(new IntegerComparator());
+        engine.setSequenceSender(buffer);
+        engine.setTimeout(10000);
+        engine.setCapacity(count);
+        engine.setLastDelivered(-1);
+        engine.start();
+
+        List<Integer> input = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            input.add(i);
+        }
+        Collections.shuffle(input);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                List<Integer> part = input.subList(t * count / threads, (t + 1) * count / threads);
+                executor.execute(() -> {
+                    for (Integer i : part) {
+                        engine.insert(i);
+                    }
+                    latch.countDown();
+                });
+            }
+            // deliver while inserting
+            while (latch.getCount() > 0) {
+                engine.deliver();
+            }
+            engine.deliver();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(count, buffer.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals((Object) (Integer) i, (Object) buffer.take());
+        }
+        assertEquals(0, engine.size());
+    }
+
+    private void initResequencer(long timeout, int capacity) {
+        buffer = new SequenceBuffer<>();
+        engine = new RingBufferResequencerEngine<>(new IntegerComparator());
+        engine.setSequenceSender(buffer);
+        engine.setTimeout(timeout);
+        engine.setCapacity(capacity);
+        engine.start();
+        resequencer = new ResequencerEngineSync<>(engine);
+        runner = new ResequencerRunner<>(resequencer, 50);
+        runner.start();
+
+        // wait for runner to run
+        await().atMost(1, TimeUnit.SECONDS).until(runner::isRunning);
+    }
+
+}
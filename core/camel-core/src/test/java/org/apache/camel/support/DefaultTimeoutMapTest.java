@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.timer.HashedWheelTimer;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -191,4 +192,40 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimer() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        HashedWheelTimer timer = new HashedWheelTimer();
+        timer.start();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.setTimer(timer);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+        map.start();
+
+        map.put("A", 1, 100);
+        map.put("B", 2, 50);
+        map.put("C", 3, 100);
+        map.put("D", 4, 5000);
+        assertEquals(4, timer.getPendingTimeouts());
+
+        // removed entries are not evicted
+        map.remove("C");
+        assertEquals(3, map.size());
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertEquals(1, map.size()));
+        assertEquals(2, keys.size());
+        assertEquals("B", keys.get(0));
+        assertEquals("A", keys.get(1));
+        assertEquals(4, (int) map.get("D"));
+
+        map.stop();
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> assertEquals(0, timer.getPendingTimeouts()));
+        timer.stop();
+    }
+
 }
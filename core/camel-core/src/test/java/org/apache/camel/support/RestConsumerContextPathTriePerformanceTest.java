@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.support.RestConsumerContextPathMatcher.ConsumerPath;
+import org.apache.camel.support.RestConsumerContextPathTrieTest.MockConsumerPath;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares matching the best rest consumer path by matching every consumer path, and by using the trie, when varying
+ * the number of rest operations.
+ */
+@Disabled("Manual performance test")
+public class RestConsumerContextPathTriePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestConsumerContextPathTriePerformanceTest.class);
+
+    private final int requests = 5000;
+
+    @Test
+    public void testMatcherVersusTrie() {
+        for (int operations : new int[] { 10, 100, 600, 1000 }) {
+            List<MockConsumerPath> mocks = new ArrayList<>();
+            String[] requestPaths = new String[operations];
+            for (int i = 0; i < operations / 2; i++) {
+                mocks.add(new MockConsumerPath("GET", "/api/resource" + i));
+                mocks.add(new MockConsumerPath("GET,PUT", "/api/resource" + i + "/{id}"));
+                requestPaths[i * 2] = "/api/resource" + i;
+                requestPaths[i * 2 + 1] = "/api/resource" + i + "/123";
+            }
+            List<ConsumerPath> paths = new ArrayList<>(mocks);
+            RestConsumerContextPathTrie<String> trie = new RestConsumerContextPathTrie<>(mocks);
+
+            // warm up
+            for (String path : requestPaths) {
+                RestConsumerContextPathMatcher.matchBestPath("GET", path, paths);
+                trie.matchBestPath("GET", path);
+            }
+
+            StopWatch watch = new StopWatch();
+            for (int i = 0; i < requests; i++) {
+                RestConsumerContextPathMatcher.matchBestPath("GET", requestPaths[i % operations], paths);
+            }
+            long matcher = watch.taken();
+
+            watch.restart();
+            for (int i = 0; i < requests; i++) {
+                trie.matchBestPath("GET", requestPaths[i % operations]);
+            }
+            long taken = watch.taken();
+
+            LOG.info("Matched {} requests with {} rest operations using the matcher in {} millis and the trie in {} millis",
+                    requests, operations, matcher, taken);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.camel.support.RestConsumerContextPathMatcher.ConsumerPath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RestConsumerContextPathTrieTest {
+
+    @Test
+    public void testMatchBestPath() {
+        MockConsumerPath users = new MockConsumerPath("GET", "/users");
+        MockConsumerPath user = new MockConsumerPath("GET", "/users/{id}");
+        MockConsumerPath addUser = new MockConsumerPath("POST", "/users");
+        MockConsumerPath orders = new MockConsumerPath("GET", "/users/{id}/orders/{order}");
+        MockConsumerPath me = new MockConsumerPath("GET", "/users/me");
+
+        RestConsumerContextPathTrie<String> trie
+                = new RestConsumerContextPathTrie<>(Arrays.asList(users, user, addUser, orders, me));
+
+        assertSame(users, trie.matchBestPath("GET", "/users"));
+        assertSame(users, trie.matchBestPath("GET", "/USERS/"));
+        assertSame(addUser, trie.matchBestPath("POST", "/users"));
+        assertSame(user, trie.matchBestPath("GET", "/users/123"));
+        assertSame(me, trie.matchBestPath("GET", "/users/me"));
+        assertSame(orders, trie.matchBestPath("GET", "/users/123/orders/456"));
+        assertNull(trie.matchBestPath("GET", "/users/123/orders"));
+        assertNull(trie.matchBestPath("DELETE", "/users"));
+        assertNull(trie.matchBestPath("GET", "/customers"));
+    }
+
+    @Test
+    public void testMatchOnUriPrefix() {
+        MockConsumerPath api = new MockConsumerPath(null, "/api", true);
+        MockConsumerPath users = new MockConsumerPath("GET", "/api/users");
+
+        RestConsumerContextPathTrie<String> trie = new RestConsumerContextPathTrie<>(Arrays.asList(api, users));
+
+        assertSame(users, trie.matchBestPath("GET", "/api/users"));
+        assertSame(api, trie.matchBestPath("GET", "/api/users/123"));
+        assertSame(api, trie.matchBestPath("POST", "/api/users"));
+    }
+
+    @Test
+    public void testSameAsMatcher() {
+        String[] segments = { "a", "A", "b", "users", "Users", "{id}", "{x}", "c", "", "{ID}" };
+        String[] requestSegments = { "a", "A", "b", "users", "USERS", "1", "c", "", "{id}", "x" };
+        String[] methods = { null, "GET", "POST", "GET,POST", "PUT", "OPTIONS" };
+        String[] requestMethods = { "GET", "POST", "PUT", "OPTIONS", "DELETE", "get" };
+
+        Random random = new Random(42);
+        for (int round = 0; round < 2000; round++) {
+            List<MockConsumerPath> mocks = new ArrayList<>();
+            int size = 1 + random.nextInt(8);
+            for (int i = 0; i < size; i++) {
+                mocks.add(new MockConsumerPath(
+                        methods[random.nextInt(methods.length)], randomPath(random, segments), random.nextInt(5) == 0));
+            }
+            List<ConsumerPath> paths = new ArrayList<>(mocks);
+            RestConsumerContextPathTrie<String> trie = new RestConsumerContextPathTrie<>(mocks);
+
+            for (int i = 0; i < 10; i++) {
+                String method = requestMethods[random.nextInt(requestMethods.length)];
+                String path = randomPath(random, requestSegments);
+                assertSame(RestConsumerContextPathMatcher.matchBestPath(method, path, paths), trie.matchBestPath(method, path),
+                        () -> method + " " + path + " with " + paths);
+            }
+        }
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        StringBuilder sb = new StringBuilder(random.nextBoolean() ? "/" : "");
+        int size = 1 + random.nextInt(3);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            sb.append(segments[random.nextInt(segments.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+
+    static final class MockConsumerPath implements ConsumerPath<String> {
+
+        private final String restrictMethod;
+        private final String consumerPath;
+        private final boolean matchOnUriPrefix;
+
+        MockConsumerPath(String restrictMethod, String consumerPath) {
+            this(restrictMethod, consumerPath, false);
+        }
+
+        MockConsumerPath(String restrictMethod, String consumerPath, boolean matchOnUriPrefix) {
+            this.restrictMethod = restrictMethod;
+            this.consumerPath = consumerPath;
+            this.matchOnUriPrefix = matchOnUriPrefix;
+        }
+
+        @Override
+        public String getRestrictMethod() {
+            return restrictMethod;
+        }
+
+        @Override
+        public String getConsumerPath() {
+            return consumerPath;
+        }
+
+        @Override
+        public String getConsumer() {
+            return consumerPath;
+        }
+
+        @Override
+        public boolean isMatchOnUriPrefix() {
+            return matchOnUriPrefix;
+        }
+
+        @Override
+        public String toString() {
+            return restrictMethod + " " + consumerPath + (matchOnUriPrefix ? " (prefix)" : "");
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TestSupport;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private MemoryMappedIdempotentRepository repo;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory(true).resolve("data.dat").toFile();
+        repo = new MemoryMappedIdempotentRepository(fileStore);
+        // small sizes so the file store and index have to grow
+        repo.setInitialFileStoreSize(64);
+        repo.setInitialIndexCapacity(4);
+        repo.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repo.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        assertTrue(repo.add("foo"));
+        assertFalse(repo.add("foo"));
+        assertTrue(repo.contains("foo"));
+        assertFalse(repo.contains("bar"));
+
+        assertTrue(repo.remove("foo"));
+        assertFalse(repo.remove("foo"));
+        assertFalse(repo.contains("foo"));
+        assertTrue(repo.add("foo"));
+        assertEquals(1, repo.getSize());
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.add("key-" + i));
+        }
+        assertEquals(1001, repo.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.contains("key-" + i));
+        }
+
+        repo.clear();
+        assertEquals(0, repo.getSize());
+        assertFalse(repo.contains("foo"));
+        assertTrue(repo.add("foo"));
+    }
+
+    @Test
+    public void testReloadAfterRestart() {
+        for (int i = 0; i < 100; i++) {
+            repo.add("key-" + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            repo.remove("key-" + i);
+        }
+        long size = repo.getFileStoreSize();
+        repo.stop();
+
+        // the file is truncated to the records
+        assertEquals(size, fileStore.length());
+
+        repo.start();
+        assertEquals(50, repo.getSize());
+        assertEquals(size, repo.getFileStoreSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, repo.contains("key-" + i));
+        }
+
+        assertTrue(repo.add("key-0"));
+        assertTrue(repo.contains("key-0"));
+    }
+
+    @Test
+    public void testCompaction() {
+        repo.setCompactionMinSize(0);
+        repo.setCompactionRatio(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            repo.add("key-" + i);
+        }
+        long size = repo.getFileStoreSize();
+        for (int i = 0; i < 60; i++) {
+            repo.remove("key-" + i);
+        }
+
+        // there is no camel context so the compaction is done when removing keys
+        assertTrue(repo.getCompactions() > 0);
+        assertTrue(repo.getFileStoreSize() < size);
+        assertEquals(40, repo.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i >= 60, repo.contains("key-" + i));
+        }
+
+        // compacting the log keeps the keys
+        repo.compact();
+        assertEquals(0, repo.getDeadBytes());
+        assertEquals(40, repo.getSize());
+
+        repo.stop();
+        repo.start();
+        assertEquals(40, repo.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i >= 60, repo.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testBackgroundCompaction() throws Exception {
+        repo.stop();
+
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+        try {
+            repo.setCamelContext(context);
+            repo.setCompactionMinSize(0);
+            repo.setCompactionRatio(0.5);
+            repo.start();
+
+            for (int i = 0; i < 100; i++) {
+                repo.add("key-" + i);
+            }
+            long size = repo.getFileStoreSize();
+            for (int i = 0; i < 60; i++) {
+                repo.remove("key-" + i);
+            }
+            // keys added while compacting in the background are kept
+            for (int i = 100; i < 200; i++) {
+                repo.add("key-" + i);
+            }
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> repo.getCompactions() > 0);
+            assertEquals(140, repo.getSize());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i >= 60, repo.contains("key-" + i));
+            }
+
+            repo.compact();
+            assertEquals(0, repo.getDeadBytes());
+            assertTrue(repo.getFileStoreSize() < size + 100 * 12);
+
+            repo.stop();
+            repo.start();
+            assertEquals(140, repo.getSize());
+        } finally {
+            repo.stop();
+            context.stop();
+        }
+    }
+
+    @Test
+    public void testMaxFileStoreSize() {
+        repo.setMaxFileStoreSize(1000);
+        repo.setDropOldestFileStore(10);
+
+        // each record is 12 bytes
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.add("key-" + (1000 + i)));
+            assertTrue(repo.getFileStoreSize() <= 1000);
+        }
+
+        // the oldest keys have been dropped, and the newest are kept
+        assertTrue(repo.getCompactions() > 0);
+        assertTrue(repo.getSize() < 1000);
+        assertFalse(repo.contains("key-1000"));
+        assertTrue(repo.contains("key-1999"));
+        int size = repo.getSize();
+        for (int i = 1000 - size; i < 1000; i++) {
+            assertTrue(repo.contains("key-" + (1000 + i)));
+        }
+
+        repo.stop();
+        repo.start();
+        assertEquals(size, repo.getSize());
+        assertTrue(repo.contains("key-1999"));
+    }
+
+    @Test
+    public void testMaxFileStoreSizeCompactsBeforeDropping() {
+        repo.setMaxFileStoreSize(1200);
+        repo.setDropOldestFileStore(10);
+
+        for (int i = 0; i < 50; i++) {
+            repo.add("key-" + (1000 + i));
+        }
+        for (int i = 0; i < 50; i++) {
+            repo.remove("key-" + (1000 + i));
+        }
+        // the removed keys and tombstones are dropped to make room, so the live keys are kept
+        for (int i = 0; i < 50; i++) {
+            assertTrue(repo.add("key-" + (2000 + i)));
+        }
+        assertEquals(50, repo.getSize());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(repo.contains("key-" + (2000 + i)));
+        }
+    }
+
+    @Test
+    public void testRemoveWhenCompactionRejected() throws Exception {
+        repo.stop();
+
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+        repo.setCamelContext(context);
+        repo.setCompactionMinSize(0);
+        repo.setCompactionRatio(0.5);
+        repo.start();
+
+        for (int i = 0; i < 100; i++) {
+            repo.add("key-" + i);
+        }
+        // the compaction thread pool is shutdown when camel is stopped
+        context.stop();
+
+        for (int i = 0; i < 60; i++) {
+            assertTrue(repo.remove("key-" + i));
+        }
+        assertEquals(0, repo.getCompactions());
+
+        // compacting is not stuck
+        repo.compact();
+        assertEquals(1, repo.getCompactions());
+        assertEquals(40, repo.getSize());
+    }
+
+}
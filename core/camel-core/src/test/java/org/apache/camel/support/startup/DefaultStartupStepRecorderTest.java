@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.startup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.StartupStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DefaultStartupStepRecorderTest {
+
+    private final DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder();
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        recorder.setEnabled(true);
+        executor = Executors.newSingleThreadExecutor();
+        // create the thread before any step is begun
+        executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testNestedSteps() {
+        StartupStep parent = recorder.beginStep(DefaultStartupStepRecorderTest.class, "parent", "Parent");
+        assertSame(parent, recorder.getCurrentStep());
+
+        StartupStep child = recorder.beginStep(DefaultStartupStepRecorderTest.class, "child", "Child");
+        assertEquals(parent.getId(), child.getParentId());
+        assertEquals(1, child.getLevel());
+
+        recorder.endStep(child);
+        recorder.endStep(parent);
+        assertNull(recorder.getCurrentStep());
+    }
+
+    @Test
+    public void testAttachStep() throws Exception {
+        StartupStep parent = recorder.beginStep(DefaultStartupStepRecorderTest.class, "parent", "Parent");
+        StartupStep nested = recorder.beginStep(DefaultStartupStepRecorderTest.class, "nested", "Nested");
+
+        StartupStep child = executor.submit(() -> {
+            recorder.attachStep(nested);
+            try {
+                StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "child", "Child");
+                recorder.endStep(step);
+                return step;
+            } finally {
+                recorder.detachStep(nested);
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(nested.getId(), child.getParentId());
+        assertEquals(2, child.getLevel());
+
+        // the steps of the thread are gone after detaching
+        StartupStep other = executor.submit(() -> {
+            StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "other", "Other");
+            recorder.endStep(step);
+            return step;
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, other.getParentId());
+        assertEquals(0, other.getLevel());
+
+        // the calling thread is not affected
+        assertSame(nested, recorder.getCurrentStep());
+        recorder.endStep(nested);
+        recorder.endStep(parent);
+    }
+
+    @Test
+    public void testAttachStepMaxDepth() throws Exception {
+        recorder.setMaxDepth(2);
+        StartupStep parent = recorder.beginStep(DefaultStartupStepRecorderTest.class, "parent", "Parent");
+        StartupStep nested = recorder.beginStep(DefaultStartupStepRecorderTest.class, "nested", "Nested");
+
+        StartupStep child = executor.submit(() -> {
+            recorder.attachStep(nested);
+            try {
+                StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "child", "Child");
+                recorder.endStep(step);
+                return step;
+            } finally {
+                recorder.detachStep(nested);
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        // the step is too deep so its disabled
+        assertEquals(0, child.getId());
+
+        recorder.endStep(nested);
+        recorder.endStep(parent);
+    }
+}
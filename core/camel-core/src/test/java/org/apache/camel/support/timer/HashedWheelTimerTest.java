@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedWheelTimerTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        timer.setTicksPerWheel(8);
+        timer.start();
+        try {
+            List<Integer> executed = new CopyOnWriteArrayList<>();
+            long start = System.nanoTime();
+            // longer than a turn of the wheel (8 x 10 millis)
+            timer.schedule(() -> executed.add(3), 300, TimeUnit.MILLISECONDS);
+            timer.schedule(() -> executed.add(1), 20, TimeUnit.MILLISECONDS);
+            timer.schedule(() -> executed.add(2), 100, TimeUnit.MILLISECONDS);
+            assertEquals(3, timer.getPendingTimeouts());
+
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertEquals(3, executed.size()));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(300));
+            assertEquals(List.of(1, 2, 3), executed);
+            assertEquals(0, timer.getPendingTimeouts());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        timer.start();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Timeout cancelled = timer.schedule(() -> {
+                throw new IllegalStateException("Should be cancelled");
+            }, 50, TimeUnit.MILLISECONDS);
+            Timeout expired = timer.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+            assertTrue(cancelled.cancel());
+            assertFalse(cancelled.cancel());
+            assertTrue(cancelled.isCancelled());
+
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            assertTrue(expired.isExpired());
+            assertFalse(expired.cancel());
+            await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> assertEquals(0, timer.getPendingTimeouts()));
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    public void testManyTimeouts() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        timer.start();
+        try {
+            int count = 100000;
+            CountDownLatch latch = new CountDownLatch(count / 2);
+            Timeout[] timeouts = new Timeout[count];
+            for (int i = 0; i < count; i++) {
+                timeouts[i] = timer.schedule(latch::countDown, 50 + i % 200, TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < count; i += 2) {
+                timeouts[i].cancel();
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> assertEquals(0, timer.getPendingTimeouts()));
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    public void testNotStarted() {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        assertThrows(RejectedExecutionException.class, () -> timer.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSharedTimer() {
+        Timer timer = HashedWheelTimer.sharedTimer(context);
+        assertSame(timer, HashedWheelTimer.sharedTimer(context));
+        assertSame(timer, context.hasService(HashedWheelTimer.class));
+        assertTrue(((HashedWheelTimer) timer).isStarted());
+
+        context.stop();
+        assertTrue(((HashedWheelTimer) timer).isStopped());
+    }
+
+}
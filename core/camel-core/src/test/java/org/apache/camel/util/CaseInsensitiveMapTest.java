@@ -31,17 +31,28 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class CaseInsensitiveMapTest {
 
-    @Test
-    public void testLookupCaseAgnostic() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    private static Stream<HeadersMapFactory> factories() {
+        return Stream.of(new DefaultHeadersMapFactory(), new OpenAddressingHeadersMapFactory());
+    }
+
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testLookupCaseAgnostic(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -51,9 +62,10 @@ public class CaseInsensitiveMapTest {
         assertEquals("cheese", map.get("FOO"));
     }
 
-    @Test
-    public void testLookupCaseAgnosticAddHeader() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testLookupCaseAgnosticAddHeader(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -71,9 +83,10 @@ public class CaseInsensitiveMapTest {
         assertNull(map.get("unknown"));
     }
 
-    @Test
-    public void testLookupCaseAgnosticAddHeader2() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testLookupCaseAgnosticAddHeader2(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -91,9 +104,10 @@ public class CaseInsensitiveMapTest {
         assertNull(map.get("unknown"));
     }
 
-    @Test
-    public void testLookupCaseAgnosticAddHeaderRemoveHeader() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testLookupCaseAgnosticAddHeaderRemoveHeader(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -115,9 +129,10 @@ public class CaseInsensitiveMapTest {
         assertNull(map.get("unknown"));
     }
 
-    @Test
-    public void testSetWithDifferentCase() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testSetWithDifferentCase(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -128,9 +143,10 @@ public class CaseInsensitiveMapTest {
         assertEquals("bar", map.get("Foo"));
     }
 
-    @Test
-    public void testRemoveWithDifferentCase() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testRemoveWithDifferentCase(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         map.put("foo", "cheese");
@@ -149,12 +165,13 @@ public class CaseInsensitiveMapTest {
         assertTrue(map.isEmpty());
     }
 
-    @Test
-    public void testPutAll() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testPutAll(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
-        Map<String, Object> other = new CaseInsensitiveMap();
+        Map<String, Object> other = factory.newMap();
         other.put("Foo", "cheese");
         other.put("bar", 123);
 
@@ -181,9 +198,10 @@ public class CaseInsensitiveMapTest {
         assertNull(keys.get("BAR"));
     }
 
-    @Test
-    public void testPutAllOther() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testPutAllOther(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         assertNull(map.get("foo"));
 
         Map<String, Object> other = new HashMap<>();
@@ -201,9 +219,10 @@ public class CaseInsensitiveMapTest {
         assertEquals(123, map.get("BaR"));
     }
 
-    @Test
-    public void testPutAllEmpty() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testPutAllEmpty(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("foo", "cheese");
 
         Map<String, Object> other = new HashMap<>();
@@ -216,13 +235,14 @@ public class CaseInsensitiveMapTest {
         assertEquals(1, map.size());
     }
 
-    @Test
-    public void testConstructFromOther() {
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testConstructFromOther(HeadersMapFactory factory) {
         Map<String, Object> other = new HashMap<>();
         other.put("Foo", "cheese");
         other.put("bar", 123);
 
-        Map<String, Object> map = new CaseInsensitiveMap(other);
+        Map<String, Object> map = factory.newMap(other);
 
         assertEquals("cheese", map.get("FOO"));
         assertEquals("cheese", map.get("foo"));
@@ -233,9 +253,10 @@ public class CaseInsensitiveMapTest {
         assertEquals(123, map.get("BaR"));
     }
 
-    @Test
-    public void testKeySet() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testKeySet(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", 123);
         map.put("baZ", "beer");
@@ -257,9 +278,10 @@ public class CaseInsensitiveMapTest {
         assertTrue(keys.contains("BAZ"));
     }
 
-    @Test
-    public void testRetainKeysCopyToAnotherMap() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testRetainKeysCopyToAnotherMap(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", 123);
         map.put("baZ", "beer");
@@ -282,9 +304,10 @@ public class CaseInsensitiveMapTest {
         assertFalse(other.containsKey("BAZ"));
     }
 
-    @Test
-    public void testValues() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testValues(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", "123");
         map.put("baZ", "Beer");
@@ -303,9 +326,10 @@ public class CaseInsensitiveMapTest {
         assertTrue(values.contains("Beer"));
     }
 
-    @Test
-    public void testRomeks() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testRomeks(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("foo", "cheese");
 
         assertEquals(1, map.size());
@@ -349,9 +373,10 @@ public class CaseInsensitiveMapTest {
         assertEquals("cake", map.get("FOO"));
     }
 
-    @Test
-    public void testRomeksTransferredToHashMapAfterwards() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testRomeksTransferredToHashMapAfterwards(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("FOO", "cake");
         assertEquals(1, map.size());
@@ -361,7 +386,7 @@ public class CaseInsensitiveMapTest {
         Map<String, Object> other = new HashMap<>(map);
         assertEquals(false, other.containsKey("foo"));
         assertEquals(false, other.containsKey("FOO"));
-        // CaseInsensitiveMap preserves the original keys, which would be the
+        // the map preserves the original keys, which would be the
         // 1st key we put
         assertEquals(true, other.containsKey("Foo"));
         assertEquals(1, other.size());
@@ -385,9 +410,10 @@ public class CaseInsensitiveMapTest {
         assertTrue(testMapCopy.containsKey("key"));
     }
 
-    @Test
-    public void testCopyToAnotherMapPreserveKeyCaseEntrySet() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testCopyToAnotherMapPreserveKeyCaseEntrySet(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", "cake");
         assertEquals(2, map.size());
@@ -408,9 +434,10 @@ public class CaseInsensitiveMapTest {
         assertEquals(2, other.size());
     }
 
-    @Test
-    public void testCopyToAnotherMapPreserveKeyCasePutAll() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testCopyToAnotherMapPreserveKeyCasePutAll(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", "cake");
         assertEquals(2, map.size());
@@ -427,9 +454,10 @@ public class CaseInsensitiveMapTest {
         assertEquals(2, other.size());
     }
 
-    @Test
-    public void testCopyToAnotherMapPreserveKeyCaseCtr() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testCopyToAnotherMapPreserveKeyCaseCtr(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", "cake");
         assertEquals(2, map.size());
@@ -445,9 +473,10 @@ public class CaseInsensitiveMapTest {
         assertEquals(2, other.size());
     }
 
-    @Test
-    public void testCopyToAnotherMapPreserveKeyKeySet() {
-        Map<String, Object> map = new CaseInsensitiveMap();
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testCopyToAnotherMapPreserveKeyKeySet(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
         map.put("Foo", "cheese");
         map.put("BAR", "cake");
         assertEquals(2, map.size());
@@ -469,19 +498,20 @@ public class CaseInsensitiveMapTest {
         assertEquals(2, other.size());
     }
 
-    @Test
-    public void testConcurrent() throws Exception {
+    @ParameterizedTest
+    @MethodSource("factories")
+    public void testConcurrent(HeadersMapFactory factory) throws Exception {
         ExecutorService service = Executors.newFixedThreadPool(5);
 
         final CountDownLatch latch = new CountDownLatch(1000);
-        final Map<String, Object> map = new CaseInsensitiveMap();
+        final Map<String, Object> map = factory.newMap();
 
         // do some stuff concurrently
         for (int i = 0; i < 1000; i++) {
             final int count = i;
             service.submit(new Runnable() {
                 public void run() {
-                    Map<String, Object> foo = new CaseInsensitiveMap();
+                    Map<String, Object> foo = factory.newMap();
                     foo.put("counter" + count, count);
                     foo.put("foo", 123);
                     foo.put("bar", 456);
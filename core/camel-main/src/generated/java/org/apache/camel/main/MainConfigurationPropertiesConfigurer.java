@@ -95,6 +95,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": target.setJavaRoutesIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxenabled":
         case "JmxEnabled": target.setJmxEnabled(property(camelContext, boolean.class, value)); return true;
+        case "jmxlatencyhistogramenabled":
+        case "JmxLatencyHistogramEnabled": target.setJmxLatencyHistogramEnabled(property(camelContext, boolean.class, value)); return true;
+        case "jmxlatencyhistogramprecision":
+        case "JmxLatencyHistogramPrecision": target.setJmxLatencyHistogramPrecision(property(camelContext, int.class, value)); return true;
+        case "jmxlatencyhistogramwindow":
+        case "JmxLatencyHistogramWindow": target.setJmxLatencyHistogramWindow(property(camelContext, long.class, value)); return true;
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": target.setJmxManagementNamePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxmanagementstatisticslevel":
@@ -139,6 +145,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": target.setRouteControllerInitialDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": target.setRouteControllerLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": target.setRouteControllerParallelStartup(property(camelContext, boolean.class, value)); return true;
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": target.setRouteControllerParallelStartupPoolSize(property(camelContext, int.class, value)); return true;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": target.setRouteControllerSuperviseEnabled(property(camelContext, boolean.class, value)); return true;
         case "routecontrollerthreadpoolsize":
@@ -159,6 +169,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesExcludePattern": target.setRoutesExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routesincludepattern":
         case "RoutesIncludePattern": target.setRoutesIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routesparallelloading":
+        case "RoutesParallelLoading": target.setRoutesParallelLoading(property(camelContext, boolean.class, value)); return true;
+        case "routesparallelloadingpoolsize":
+        case "RoutesParallelLoadingPoolSize": target.setRoutesParallelLoadingPoolSize(property(camelContext, int.class, value)); return true;
         case "routesreloaddirectory":
         case "RoutesReloadDirectory": target.setRoutesReloadDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "routesreloaddirectoryrecursive":
@@ -316,6 +330,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": return java.lang.String.class;
         case "jmxenabled":
         case "JmxEnabled": return boolean.class;
+        case "jmxlatencyhistogramenabled":
+        case "JmxLatencyHistogramEnabled": return boolean.class;
+        case "jmxlatencyhistogramprecision":
+        case "JmxLatencyHistogramPrecision": return int.class;
+        case "jmxlatencyhistogramwindow":
+        case "JmxLatencyHistogramWindow": return long.class;
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": return java.lang.String.class;
         case "jmxmanagementstatisticslevel":
@@ -360,6 +380,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": return long.class;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return org.apache.camel.LoggingLevel.class;
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": return boolean.class;
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": return int.class;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return boolean.class;
         case "routecontrollerthreadpoolsize":
@@ -380,6 +404,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesExcludePattern": return java.lang.String.class;
         case "routesincludepattern":
         case "RoutesIncludePattern": return java.lang.String.class;
+        case "routesparallelloading":
+        case "RoutesParallelLoading": return boolean.class;
+        case "routesparallelloadingpoolsize":
+        case "RoutesParallelLoadingPoolSize": return int.class;
         case "routesreloaddirectory":
         case "RoutesReloadDirectory": return java.lang.String.class;
         case "routesreloaddirectoryrecursive":
@@ -538,6 +566,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": return target.getJavaRoutesIncludePattern();
         case "jmxenabled":
         case "JmxEnabled": return target.isJmxEnabled();
+        case "jmxlatencyhistogramenabled":
+        case "JmxLatencyHistogramEnabled": return target.isJmxLatencyHistogramEnabled();
+        case "jmxlatencyhistogramprecision":
+        case "JmxLatencyHistogramPrecision": return target.getJmxLatencyHistogramPrecision();
+        case "jmxlatencyhistogramwindow":
+        case "JmxLatencyHistogramWindow": return target.getJmxLatencyHistogramWindow();
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": return target.getJmxManagementNamePattern();
         case "jmxmanagementstatisticslevel":
@@ -582,6 +616,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerInitialDelay": return target.getRouteControllerInitialDelay();
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return target.getRouteControllerLoggingLevel();
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": return target.isRouteControllerParallelStartup();
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": return target.getRouteControllerParallelStartupPoolSize();
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return target.isRouteControllerSuperviseEnabled();
         case "routecontrollerthreadpoolsize":
@@ -602,6 +640,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesExcludePattern": return target.getRoutesExcludePattern();
         case "routesincludepattern":
         case "RoutesIncludePattern": return target.getRoutesIncludePattern();
+        case "routesparallelloading":
+        case "RoutesParallelLoading": return target.isRoutesParallelLoading();
+        case "routesparallelloadingpoolsize":
+        case "RoutesParallelLoadingPoolSize": return target.getRoutesParallelLoadingPoolSize();
         case "routesreloaddirectory":
         case "RoutesReloadDirectory": return target.getRoutesReloadDirectory();
         case "routesreloaddirectoryrecursive":
@@ -229,6 +229,12 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setLoadTypeConverters(config.isLoadTypeConverters());
         camelContext.setLoadHealthChecks(config.isLoadHealthChecks());
         camelContext.setDevConsole(config.isDevConsoleEnabled());
+        if (config.isRoutesParallelLoading()) {
+            ecc.getRoutesLoader().setParallelLoading(true);
+            if (config.getRoutesParallelLoadingPoolSize() > 0) {
+                ecc.getRoutesLoader().setParallelLoadingPoolSize(config.getRoutesParallelLoadingPoolSize());
+            }
+        }
         if (config.isRoutesReloadEnabled()) {
             RouteWatcherReloadStrategy reloader = new RouteWatcherReloadStrategy(
                     config.getRoutesReloadDirectory(), config.isRoutesReloadDirectoryRecursive());
@@ -244,6 +250,12 @@ public final class DefaultConfigurationConfigurer {
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setManagementNamePattern(config.getJmxManagementNamePattern());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setLatencyHistogramEnabled(config.isJmxLatencyHistogramEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setLatencyHistogramPrecision(config.getJmxLatencyHistogramPrecision());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setLatencyHistogramWindow(config.getJmxLatencyHistogramWindow());
         }
 
         // global options
@@ -323,6 +335,13 @@ public final class DefaultConfigurationConfigurer {
         if (config.getRouteControllerLoggingLevel() != null) {
             camelContext.getRouteController().setLoggingLevel(config.getRouteControllerLoggingLevel());
         }
+        if (config.isRouteControllerParallelStartup()) {
+            camelContext.getRouteController().setParallelStartup(true);
+            if (config.getRouteControllerParallelStartupPoolSize() > 0) {
+                camelContext.getRouteController()
+                        .setParallelStartupPoolSize(config.getRouteControllerParallelStartupPoolSize());
+            }
+        }
     }
 
     /**
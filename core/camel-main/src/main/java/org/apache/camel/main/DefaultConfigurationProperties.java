@@ -89,6 +89,11 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "Default")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
     private String jmxManagementNamePattern = "#name#";
+    private boolean jmxLatencyHistogramEnabled;
+    @Metadata(defaultValue = "2")
+    private int jmxLatencyHistogramPrecision = 2;
+    @Metadata(defaultValue = "60000")
+    private long jmxLatencyHistogramWindow = 60000;
     private boolean useMdcLogging;
     private String mdcLoggingKeysPattern;
     private String threadNamePattern;
@@ -101,6 +106,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
     private String routesExcludePattern;
+    private boolean routesParallelLoading;
+    private int routesParallelLoadingPoolSize;
     private boolean routesReloadEnabled;
     @Metadata(defaultValue = "src/main/resources/camel")
     private String routesReloadDirectory = "src/main/resources/camel";
@@ -133,6 +140,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private long routeControllerBackOffMaxAttempts;
     private double routeControllerBackOffMultiplier;
     private boolean routeControllerUnhealthyOnExhausted;
+    private boolean routeControllerParallelStartup;
+    private int routeControllerParallelStartupPoolSize;
     // startup recorder
     @Metadata(enums = "false,off,java-flight-recorder,jfr,logging")
     private String startupRecorder;
@@ -847,6 +856,49 @@ public abstract class DefaultConfigurationProperties<T> {
         this.jmxManagementNamePattern = jmxManagementNamePattern;
     }
 
+    public boolean isJmxLatencyHistogramEnabled() {
+        return jmxLatencyHistogramEnabled;
+    }
+
+    /**
+     * Whether latency histograms is enabled, which gathers percentiles (such as the 99th percentile) of the processing
+     * time of the routes and processors. Each histogram uses extra memory, so only enable this if you need the
+     * percentiles.
+     *
+     * The default value is false.
+     */
+    public void setJmxLatencyHistogramEnabled(boolean jmxLatencyHistogramEnabled) {
+        this.jmxLatencyHistogramEnabled = jmxLatencyHistogramEnabled;
+    }
+
+    public int getJmxLatencyHistogramPrecision() {
+        return jmxLatencyHistogramPrecision;
+    }
+
+    /**
+     * The number of significant digits (1 to 3) of the processing time in the latency histograms. A higher precision
+     * uses more memory per route and processor.
+     *
+     * The default value is 2.
+     */
+    public void setJmxLatencyHistogramPrecision(int jmxLatencyHistogramPrecision) {
+        this.jmxLatencyHistogramPrecision = jmxLatencyHistogramPrecision;
+    }
+
+    public long getJmxLatencyHistogramWindow() {
+        return jmxLatencyHistogramWindow;
+    }
+
+    /**
+     * The duration in millis of the rolling window of the latency histograms. The percentiles are computed from the
+     * processing times in the current and the previous window.
+     *
+     * The default value is 60000.
+     */
+    public void setJmxLatencyHistogramWindow(long jmxLatencyHistogramWindow) {
+        this.jmxLatencyHistogramWindow = jmxLatencyHistogramWindow;
+    }
+
     public boolean isUseMdcLogging() {
         return useMdcLogging;
     }
@@ -1047,6 +1099,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesExcludePattern = routesExcludePattern;
     }
 
+    public boolean isRoutesParallelLoading() {
+        return routesParallelLoading;
+    }
+
+    /**
+     * Whether to load the routes from the route files (such as XML and YAML files) in parallel. This can speedup
+     * loading many route files, as the files are parsed concurrently, and the routes are added in the same order as
+     * when loading the files one by one.
+     */
+    public void setRoutesParallelLoading(boolean routesParallelLoading) {
+        this.routesParallelLoading = routesParallelLoading;
+    }
+
+    public int getRoutesParallelLoadingPoolSize() {
+        return routesParallelLoadingPoolSize;
+    }
+
+    /**
+     * The maximum number of threads used for loading route files in parallel. The default is the number of available
+     * processors.
+     */
+    public void setRoutesParallelLoadingPoolSize(int routesParallelLoadingPoolSize) {
+        this.routesParallelLoadingPoolSize = routesParallelLoadingPoolSize;
+    }
+
     public boolean isRoutesReloadEnabled() {
         return routesReloadEnabled;
     }
@@ -1383,6 +1460,37 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerUnhealthyOnExhausted = routeControllerUnhealthyOnExhausted;
     }
 
+    public boolean isRouteControllerParallelStartup() {
+        return routeControllerParallelStartup;
+    }
+
+    /**
+     * Whether to initialize, warm up and start routes in parallel during startup.
+     *
+     * The routes are started in groups: routes configured with the same startupOrder are a group, and routes without a
+     * startupOrder are a group as well. The routes within a group are started in parallel, and the groups are started
+     * one after the other in startupOrder. When enabled then routes are allowed to be configured with the same
+     * startupOrder.
+     *
+     * This can speedup starting Camel with many routes, where creating endpoints and producers and starting the route
+     * consumers are independent of each other. The default is false.
+     */
+    public void setRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+    }
+
+    public int getRouteControllerParallelStartupPoolSize() {
+        return routeControllerParallelStartupPoolSize;
+    }
+
+    /**
+     * The maximum number of threads used for starting routes in parallel. The default is the number of available
+     * processors.
+     */
+    public void setRouteControllerParallelStartupPoolSize(int routeControllerParallelStartupPoolSize) {
+        this.routeControllerParallelStartupPoolSize = routeControllerParallelStartupPoolSize;
+    }
+
     public String getStartupRecorder() {
         return startupRecorder;
     }
@@ -1954,6 +2062,40 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether latency histograms is enabled, which gathers percentiles (such as the 99th percentile) of the processing
+     * time of the routes and processors. Each histogram uses extra memory, so only enable this if you need the
+     * percentiles.
+     *
+     * The default value is false.
+     */
+    public T withJmxLatencyHistogramEnabled(boolean jmxLatencyHistogramEnabled) {
+        this.jmxLatencyHistogramEnabled = jmxLatencyHistogramEnabled;
+        return (T) this;
+    }
+
+    /**
+     * The number of significant digits (1 to 3) of the processing time in the latency histograms. A higher precision
+     * uses more memory per route and processor.
+     *
+     * The default value is 2.
+     */
+    public T withJmxLatencyHistogramPrecision(int jmxLatencyHistogramPrecision) {
+        this.jmxLatencyHistogramPrecision = jmxLatencyHistogramPrecision;
+        return (T) this;
+    }
+
+    /**
+     * The duration in millis of the rolling window of the latency histograms. The percentiles are computed from the
+     * processing times in the current and the previous window.
+     *
+     * The default value is 60000.
+     */
+    public T withJmxLatencyHistogramWindow(long jmxLatencyHistogramWindow) {
+        this.jmxLatencyHistogramWindow = jmxLatencyHistogramWindow;
+        return (T) this;
+    }
+
     /**
      * To turn on MDC logging
      */
@@ -2146,6 +2288,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to load the routes from the route files (such as XML and YAML files) in parallel. This can speedup
+     * loading many route files, as the files are parsed concurrently, and the routes are added in the same order as
+     * when loading the files one by one.
+     */
+    public T withRoutesParallelLoading(boolean routesParallelLoading) {
+        this.routesParallelLoading = routesParallelLoading;
+        return (T) this;
+    }
+
+    /**
+     * The maximum number of threads used for loading route files in parallel. The default is the number of available
+     * processors.
+     */
+    public T withRoutesParallelLoadingPoolSize(int routesParallelLoadingPoolSize) {
+        this.routesParallelLoadingPoolSize = routesParallelLoadingPoolSize;
+        return (T) this;
+    }
+
     /**
      * Used for enabling automatic routes reloading. If enabled then Camel will watch for file changes in the given
      * reload directory, and trigger reloading routes if files are changed.
@@ -2421,6 +2582,31 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to initialize, warm up and start routes in parallel during startup.
+     *
+     * The routes are started in groups: routes configured with the same startupOrder are a group, and routes without a
+     * startupOrder are a group as well. The routes within a group are started in parallel, and the groups are started
+     * one after the other in startupOrder. When enabled then routes are allowed to be configured with the same
+     * startupOrder.
+     *
+     * This can speedup starting Camel with many routes, where creating endpoints and producers and starting the route
+     * consumers are independent of each other. The default is false.
+     */
+    public T withRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+        return (T) this;
+    }
+
+    /**
+     * The maximum number of threads used for starting routes in parallel. The default is the number of available
+     * processors.
+     */
+    public T withRouteControllerParallelStartupPoolSize(int routeControllerParallelStartupPoolSize) {
+        this.routeControllerParallelStartupPoolSize = routeControllerParallelStartupPoolSize;
+        return (T) this;
+    }
+
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
      * off), logging, java-flight-recorder (or jfr).
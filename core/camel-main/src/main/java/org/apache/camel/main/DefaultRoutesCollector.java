@@ -151,6 +151,8 @@ public class DefaultRoutesCollector implements RoutesCollector {
             return answer;
         }
 
+        // find all the resources first, so they can be loaded together (which allows loading them in parallel)
+        final List<Resource> resources = new ArrayList<>();
         for (String include : includes) {
             log.debug("Loading additional RoutesBuilder from: {}", include);
             try {
@@ -158,28 +160,28 @@ public class DefaultRoutesCollector implements RoutesCollector {
                     if (!"false".equals(excludePattern) && AntPathMatcher.INSTANCE.anyMatch(excludes, resource.getLocation())) {
                         continue;
                     }
-
-                    Collection<RoutesBuilder> builders = ecc.getRoutesLoader().findRoutesBuilders(resource);
-                    if (builders.isEmpty()) {
-                        continue;
-                    }
-
-                    log.debug("Found {} route builder from location: {}", builders.size(), include);
-                    answer.addAll(builders);
+                    resources.add(resource);
                 }
             } catch (FileNotFoundException e) {
                 log.debug("No RoutesBuilder found in {}. Skipping detection.", include);
             } catch (Exception e) {
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
-            if (!answer.isEmpty()) {
-                log.debug("Loaded {} ({} millis) additional RoutesBuilder from: {}, pattern: {}", answer.size(), watch.taken(),
-                        include,
-                        includePattern);
-            } else {
-                log.debug("No additional RoutesBuilder discovered from: {}", includePattern);
+        }
+
+        if (!resources.isEmpty()) {
+            try {
+                answer.addAll(ecc.getRoutesLoader().findRoutesBuilders(resources));
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeException(e);
             }
         }
+        if (!answer.isEmpty()) {
+            log.debug("Loaded {} ({} millis) additional RoutesBuilder from {} resources, pattern: {}", answer.size(),
+                    watch.taken(), resources.size(), includePattern);
+        } else {
+            log.debug("No additional RoutesBuilder discovered from: {}", includePattern);
+        }
 
         return answer;
     }
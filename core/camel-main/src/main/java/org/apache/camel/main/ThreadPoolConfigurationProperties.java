@@ -40,6 +40,7 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     // profile specific values
     private Map<String, ThreadPoolProfileConfigurationProperties> config = new HashMap<>();
@@ -138,6 +139,18 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the default for whether to use virtual threads (requires JDK 19 or newer). Scheduled thread pools always use
+     * platform threads.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
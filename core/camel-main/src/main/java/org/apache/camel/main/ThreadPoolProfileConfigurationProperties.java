@@ -32,6 +32,7 @@ public class ThreadPoolProfileConfigurationProperties {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     public String getId() {
         return id;
@@ -123,4 +124,16 @@ public class ThreadPoolProfileConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads (requires JDK 19 or newer). Scheduled thread pools always use platform
+     * threads.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
@@ -43,6 +43,15 @@ public final class JmxSystemPropertyKeys {
     // whether to enable gathering endpoint runtime statistics
     public static final String ENDPOINT_RUNTIME_STATISTICS_ENABLED = "org.apache.camel.jmx.endpointRuntimeStatisticsEnabled";
 
+    // whether to enable gathering processing time in latency histograms
+    public static final String LATENCY_HISTOGRAM_ENABLED = "org.apache.camel.jmx.latencyHistogramEnabled";
+
+    // the number of significant digits of the processing time in the latency histograms
+    public static final String LATENCY_HISTOGRAM_PRECISION = "org.apache.camel.jmx.latencyHistogramPrecision";
+
+    // the duration in millis of the rolling window of the latency histograms
+    public static final String LATENCY_HISTOGRAM_WINDOW = "org.apache.camel.jmx.latencyHistogramWindow";
+
     // the level of statistics enabled
     public static final String STATISTICS_LEVEL = "org.apache.camel.jmx.statisticsLevel";
 
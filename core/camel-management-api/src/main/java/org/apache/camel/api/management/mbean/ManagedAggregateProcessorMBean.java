@@ -69,6 +69,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Number of locks the correlation keys are striped over (0 or 1 is a single shared lock)")
+    int getLockStripes();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
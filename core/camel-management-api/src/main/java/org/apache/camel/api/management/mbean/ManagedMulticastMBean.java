@@ -38,4 +38,13 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of sub messages which can be in-flight at the same time, when using parallel processing.")
+    Integer getMaxInflight();
+
+    @ManagedAttribute(description = "Whether the sub messages are aggregated in the same order as they were sent, also when in streaming mode.")
+    Boolean isInflightOrdered();
+
+    @ManagedAttribute(description = "Number of sub messages currently in-flight (sent but not yet aggregated).")
+    Integer getInflightExchanges();
+
 }
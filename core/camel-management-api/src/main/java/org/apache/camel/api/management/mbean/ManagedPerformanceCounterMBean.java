@@ -59,6 +59,21 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "Whether latency histograms is enabled, which gathers percentiles of the processing time")
+    boolean isLatencyHistogramEnabled();
+
+    @ManagedAttribute(description = "50th Percentile Processing Time (in the rolling window) [milliseconds]")
+    double getProcessingTimePercentile50();
+
+    @ManagedAttribute(description = "90th Percentile Processing Time (in the rolling window) [milliseconds]")
+    double getProcessingTimePercentile90();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time (in the rolling window) [milliseconds]")
+    double getProcessingTimePercentile99();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time (in the rolling window) [milliseconds]")
+    double getProcessingTimePercentile999();
+
     @ManagedAttribute(description = "Last Exchange Completed Timestamp")
     Date getLastExchangeCompletedTimestamp();
 
@@ -62,6 +62,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory to use for spooling (0 is disabled)")
+    long getSpoolOffHeapPoolSize();
+
+    @ManagedAttribute(description = "Size in bytes of the off-heap buffers allocated from the off-heap pool")
+    int getSpoolOffHeapChunkSize();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
@@ -92,6 +98,21 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of StreamCache spooled to off-heap memory created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently in use by stream caches")
+    long getOffHeapPoolUsedSize();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently allocated by the off-heap pool")
+    long getOffHeapPoolAllocatedSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -41,4 +41,10 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit")
     Boolean isRejectExecution();
 
+    @ManagedAttribute(description = "The throttling mode (SlidingWindow or TokenBucket)")
+    String getMode();
+
+    @ManagedAttribute(description = "The maximum number of requests which can be allowed in a burst when using the TokenBucket mode")
+    int getBurstCapacity();
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.management;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Ordered;
@@ -23,7 +25,6 @@ import org.apache.camel.Processor;
 import org.apache.camel.management.mbean.ManagedPerformanceCounter;
 import org.apache.camel.spi.ManagementInterceptStrategy.InstrumentationProcessor;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
-import org.apache.camel.util.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +36,7 @@ import org.slf4j.LoggerFactory;
  * faster and the latter is required when the error handler has been configured with redelivery enabled.
  */
 public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
-        implements InstrumentationProcessor<StopWatch>, Ordered {
+        implements InstrumentationProcessor<Long>, Ordered {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInstrumentationProcessor.class);
 
@@ -70,16 +71,16 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        final StopWatch watch = before(exchange);
+        final Long start = before(exchange);
 
         // optimize to only create a new callback if needed
         AsyncCallback ac = callback;
-        boolean newCallback = watch != null;
+        boolean newCallback = start != null;
         if (newCallback) {
             ac = doneSync -> {
                 try {
                     // record end time
-                    after(exchange, watch);
+                    after(exchange, start);
                 } finally {
                     // and let the original callback know we are done as well
                     callback.done(doneSync);
@@ -94,13 +95,14 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
         counter.processExchange(exchange);
     }
 
-    protected void recordTime(Exchange exchange, long duration) {
+    protected void recordTime(Exchange exchange, long nanos) {
+        long duration = TimeUnit.NANOSECONDS.toMillis(nanos);
         if (LOG.isTraceEnabled()) {
             LOG.trace("{}Recording duration: {} millis for exchange: {}", type != null ? type + ": " : "", duration, exchange);
         }
 
         if (!exchange.isFailed() && exchange.getException() == null) {
-            counter.completedExchange(exchange, duration);
+            counter.completedExchange(exchange, duration, nanos);
         } else {
             counter.failedExchange(exchange);
         }
@@ -115,9 +117,9 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     }
 
     @Override
-    public StopWatch before(Exchange exchange) {
-        // only record time if stats is enabled
-        StopWatch answer = counter != null && counter.isStatisticsEnabled() ? new StopWatch() : null;
+    public Long before(Exchange exchange) {
+        // only record time if stats is enabled (using nano time to have a finer granularity than millis)
+        Long answer = counter != null && counter.isStatisticsEnabled() ? System.nanoTime() : null;
         if (answer != null) {
             beginTime(exchange);
         }
@@ -125,10 +127,10 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     }
 
     @Override
-    public void after(Exchange exchange, StopWatch watch) {
+    public void after(Exchange exchange, Long start) {
         // record end time
-        if (watch != null) {
-            recordTime(exchange, watch.taken());
+        if (start != null) {
+            recordTime(exchange, System.nanoTime() - start);
         }
     }
 
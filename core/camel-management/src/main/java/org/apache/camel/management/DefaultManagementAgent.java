@@ -67,6 +67,9 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
     private Boolean endpointRuntimeStatisticsEnabled;
+    private Boolean latencyHistogramEnabled = false;
+    private Integer latencyHistogramPrecision = 2;
+    private Long latencyHistogramWindow = 60000L;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
     private Boolean mask = true;
@@ -127,6 +130,20 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED) != null) {
+            latencyHistogramEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED);
+            values.put(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED, latencyHistogramEnabled);
+        }
+        if (System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_PRECISION) != null) {
+            latencyHistogramPrecision = camelContext.getTypeConverter().mandatoryConvertTo(Integer.class,
+                    System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_PRECISION));
+            values.put(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_PRECISION, latencyHistogramPrecision);
+        }
+        if (System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_WINDOW) != null) {
+            latencyHistogramWindow = camelContext.getTypeConverter().mandatoryConvertTo(Long.class,
+                    System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_WINDOW));
+            values.put(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_WINDOW, latencyHistogramWindow);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL) != null) {
             statisticsLevel = camelContext.getTypeConverter().mandatoryConvertTo(ManagementStatisticsLevel.class,
                     System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL));
@@ -276,6 +293,36 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.endpointRuntimeStatisticsEnabled = endpointRuntimeStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getLatencyHistogramEnabled() {
+        return latencyHistogramEnabled;
+    }
+
+    @Override
+    public void setLatencyHistogramEnabled(Boolean latencyHistogramEnabled) {
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+    }
+
+    @Override
+    public Integer getLatencyHistogramPrecision() {
+        return latencyHistogramPrecision;
+    }
+
+    @Override
+    public void setLatencyHistogramPrecision(Integer latencyHistogramPrecision) {
+        this.latencyHistogramPrecision = latencyHistogramPrecision;
+    }
+
+    @Override
+    public Long getLatencyHistogramWindow() {
+        return latencyHistogramWindow;
+    }
+
+    @Override
+    public void setLatencyHistogramWindow(Long latencyHistogramWindow) {
+        this.latencyHistogramWindow = latencyHistogramWindow;
+    }
+
     @Override
     public ManagementStatisticsLevel getStatisticsLevel() {
         return statisticsLevel;
@@ -38,6 +38,19 @@ public interface PerformanceCounter {
      */
     void completedExchange(Exchange exchange, long time);
 
+    /**
+     * Executed when an {@link org.apache.camel.Exchange} is complete.
+     * <p/>
+     * The time is also given in nanos, for the statistics which need a finer granularity than millis.
+     *
+     * @param exchange the exchange
+     * @param time     the time it took in millis to complete
+     * @param nanos    the time it took in nanos to complete
+     */
+    default void completedExchange(Exchange exchange, long time, long nanos) {
+        completedExchange(exchange, time);
+    }
+
     /**
      * Executed when an {@link org.apache.camel.Exchange} failed.
      *
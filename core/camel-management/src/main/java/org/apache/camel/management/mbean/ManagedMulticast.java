@@ -60,4 +60,19 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return processor.getTimeout();
     }
+
+    @Override
+    public Integer getMaxInflight() {
+        return processor.getMaxInflight();
+    }
+
+    @Override
+    public Boolean isInflightOrdered() {
+        return processor.isInflightOrdered();
+    }
+
+    @Override
+    public Integer getInflightExchanges() {
+        return processor.getInflightExchanges();
+    }
 }
@@ -18,11 +18,13 @@ package org.apache.camel.management.mbean;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.management.PerformanceCounter;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 
@@ -44,6 +46,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -71,6 +74,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        ManagementAgent agent = strategy.getManagementAgent();
+        if (agent != null && Boolean.TRUE.equals(agent.getLatencyHistogramEnabled())) {
+            int precision = agent.getLatencyHistogramPrecision() != null ? agent.getLatencyHistogramPrecision() : 2;
+            long window = agent.getLatencyHistogramWindow() != null ? agent.getLatencyHistogramWindow() : 60000;
+            this.processingTimeHistogram = new StatisticHistogram(precision, window);
+        }
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -93,6 +102,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -163,6 +175,39 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public boolean isLatencyHistogramEnabled() {
+        return processingTimeHistogram != null;
+    }
+
+    @Override
+    public double getProcessingTimePercentile50() {
+        return getProcessingTimePercentile(50);
+    }
+
+    @Override
+    public double getProcessingTimePercentile90() {
+        return getProcessingTimePercentile(90);
+    }
+
+    @Override
+    public double getProcessingTimePercentile99() {
+        return getProcessingTimePercentile(99);
+    }
+
+    @Override
+    public double getProcessingTimePercentile999() {
+        return getProcessingTimePercentile(99.9);
+    }
+
+    /**
+     * Gets the processing time in millis (with microsecond precision) at the given percentile (in the rolling window),
+     * or 0 if latency histograms is not enabled.
+     */
+    public double getProcessingTimePercentile(double percentile) {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(percentile) / 1000d : 0;
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -224,6 +269,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     @Override
     public void completedExchange(Exchange exchange, long time) {
+        completedExchange(exchange, time, TimeUnit.MILLISECONDS.toNanos(time));
+    }
+
+    @Override
+    public void completedExchange(Exchange exchange, long time, long nanos) {
         increment();
         exchangesCompleted.increment();
         exchangesInflight.decrement();
@@ -240,6 +290,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        if (processingTimeHistogram != null) {
+            // the histogram records in micros, to have percentiles of processing times below a millisecond
+            processingTimeHistogram.updateValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -301,6 +355,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        if (processingTimeHistogram != null) {
+            sb.append(String.format(" processingTimePercentile50=\"%s\"", getProcessingTimePercentile50()));
+            sb.append(String.format(" processingTimePercentile90=\"%s\"", getProcessingTimePercentile90()));
+            sb.append(String.format(" processingTimePercentile99=\"%s\"", getProcessingTimePercentile99()));
+            sb.append(String.format(" processingTimePercentile999=\"%s\"", getProcessingTimePercentile999()));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -123,6 +123,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return streamCachingStrategy.getSpoolOffHeapPoolSize();
+    }
+
+    @Override
+    public int getSpoolOffHeapChunkSize() {
+        return streamCachingStrategy.getSpoolOffHeapChunkSize();
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -173,6 +183,31 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public long getOffHeapPoolUsedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapPoolUsedSize();
+    }
+
+    @Override
+    public long getOffHeapPoolAllocatedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapPoolAllocatedSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -71,4 +71,14 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public Boolean isRejectExecution() {
         return throttler.isRejectExecution();
     }
+
+    @Override
+    public String getMode() {
+        return throttler.isTokenBucket() ? "TokenBucket" : "SlidingWindow";
+    }
+
+    @Override
+    public int getBurstCapacity() {
+        return throttler.getBurstCapacity();
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A statistic which records the updated values in a histogram, to compute percentiles of the values, such as the 99th
+ * percentile processing time.
+ * <p/>
+ * The histogram uses buckets which are exact for small values, and where larger values are grouped in buckets with a
+ * width relative to the value, so the value at a percentile is accurate to the given number of significant digits. This
+ * is the same idea as used by HdrHistogram. The counts are lock-free atomic counters, so updating the histogram does
+ * not create any objects.
+ * <p/>
+ * The histogram is rolling, where the percentiles are computed from the values in the current and the previous window,
+ * so old values are discarded. The buckets are created on the first update, as they take up about 27 kb of memory per
+ * window with 2 significant digits.
+ * <p/>
+ * The values are not 100% accurate when the window rolls over while values are being updated, as the counts of the
+ * older window are cleared without locking.
+ */
+public class StatisticHistogram extends Statistic {
+
+    // the highest trackable value (about an hour in micros), and higher values are recorded as this value
+    private static final int MAX_VALUE_BITS = 32;
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final int bucketCount;
+    private final long window;
+    private final AtomicLong windowStart = new AtomicLong();
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+
+    /**
+     * Creates a histogram
+     *
+     * @param significantDigits the number of significant digits of the values, which must be between 1 and 3
+     * @param window            the duration in millis of the rolling window, or 0 to not roll over
+     */
+    public StatisticHistogram(int significantDigits, long window) {
+        if (significantDigits < 1 || significantDigits > 3) {
+            throw new IllegalArgumentException("Significant digits must be between 1 and 3, was: " + significantDigits);
+        }
+        long largest = 2 * (long) Math.pow(10, significantDigits);
+        this.subBucketBits = 64 - Long.numberOfLeadingZeros(largest - 1);
+        this.subBucketCount = 1 << subBucketBits;
+        this.subBucketHalfCount = subBucketCount / 2;
+        this.bucketCount = subBucketCount + (MAX_VALUE_BITS + 1 - subBucketBits) * subBucketHalfCount;
+        this.window = window;
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        AtomicLongArray counts = current;
+        if (counts == null) {
+            counts = init();
+        }
+        if (window > 0) {
+            counts = roll(System.currentTimeMillis());
+        }
+        counts.incrementAndGet(indexOf(newValue));
+    }
+
+    /**
+     * The number of values in the current and the previous window
+     */
+    @Override
+    public long getValue() {
+        if (current == null) {
+            return 0;
+        }
+        roll(System.currentTimeMillis());
+        long count = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            count += count(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the value at the given percentile, of the values in the current and the previous window
+     *
+     * @param  percentile the percentile between 0 and 100, such as 99.9
+     * @return            the value, or 0 if there are no values
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (current == null) {
+            return 0;
+        }
+        roll(System.currentTimeMillis());
+        long[] counts = new long[bucketCount];
+        long total = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            counts[i] = count(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long sum = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            sum += counts[i];
+            if (sum >= target) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(bucketCount - 1);
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        AtomicLongArray counts = current;
+        if (counts != null) {
+            clear(counts);
+            clear(previous);
+        }
+        windowStart.set(System.currentTimeMillis());
+    }
+
+    private synchronized AtomicLongArray init() {
+        if (current == null) {
+            previous = new AtomicLongArray(bucketCount);
+            windowStart.set(System.currentTimeMillis());
+            current = new AtomicLongArray(bucketCount);
+        }
+        return current;
+    }
+
+    private AtomicLongArray roll(long now) {
+        long start = windowStart.get();
+        if (window > 0 && now - start >= window && windowStart.compareAndSet(start, now)) {
+            AtomicLongArray old = previous;
+            if (now - start >= 2 * window) {
+                // the current window is also too old
+                clear(current);
+            }
+            clear(old);
+            previous = current;
+            current = old;
+        }
+        return current;
+    }
+
+    private long count(int index) {
+        return current.get(index) + previous.get(index);
+    }
+
+    private int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) Math.max(0, value);
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        int sub = (int) (value >>> shift);
+        int index = subBucketCount + (shift - 1) * subBucketHalfCount + sub - subBucketHalfCount;
+        return Math.min(index, bucketCount - 1);
+    }
+
+    private long highestValueOf(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index - subBucketCount) / subBucketHalfCount + 1;
+        long sub = (index - subBucketCount) % subBucketHalfCount + subBucketHalfCount;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    private static void clear(AtomicLongArray counts) {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValueAtPercentile(50);
+    }
+
+}
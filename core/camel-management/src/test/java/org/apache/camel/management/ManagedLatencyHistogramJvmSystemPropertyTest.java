@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.api.management.JmxSystemPropertyKeys;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ManagementAgent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ResourceLock(Resources.SYSTEM_PROPERTIES)
+@DisabledOnOs(OS.AIX)
+public class ManagedLatencyHistogramJvmSystemPropertyTest extends ManagementTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        System.setProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED, "true");
+        System.setProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_PRECISION, "3");
+        System.setProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_WINDOW, "5000");
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        System.clearProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED);
+        System.clearProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_PRECISION);
+        System.clearProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_WINDOW);
+        super.tearDown();
+    }
+
+    @Test
+    public void testLatencyHistogram() throws Exception {
+        ManagementAgent agent = context.getManagementStrategy().getManagementAgent();
+        assertEquals(Boolean.TRUE, agent.getLatencyHistogramEnabled());
+        assertEquals(3, agent.getLatencyHistogramPrecision());
+        assertEquals(5000L, agent.getLatencyHistogramWindow());
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+        assertTrue((Boolean) mbeanServer.getAttribute(on, "LatencyHistogramEnabled"));
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        double p99 = (Double) mbeanServer.getAttribute(on, "ProcessingTimePercentile99");
+        assertTrue(p99 > 0, "p99 should be recorded: " + p99);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo").to("mock:result");
+            }
+        };
+    }
+}
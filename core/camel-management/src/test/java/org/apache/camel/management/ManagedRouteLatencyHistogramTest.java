@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteLatencyHistogramTest extends ManagementTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testLatencyHistogramDisabledByDefault() throws Exception {
+        context.addRoutes(createRoutes());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        template.sendBodyAndHeader("direct:start", "Hello World", "delay", 10);
+        assertMockEndpointsSatisfied();
+
+        assertFalse((Boolean) mbeanServer.getAttribute(on, "LatencyHistogramEnabled"));
+        assertEquals(0d, mbeanServer.getAttribute(on, "ProcessingTimePercentile99"));
+    }
+
+    @Test
+    public void testLatencyHistogram() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setLatencyHistogramEnabled(true);
+        context.addRoutes(createRoutes());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+        assertTrue((Boolean) mbeanServer.getAttribute(on, "LatencyHistogramEnabled"));
+
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            // every 10th message is slow
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", i % 10 == 0 ? 200 : 0);
+        }
+        assertMockEndpointsSatisfied();
+
+        double p50 = (Double) mbeanServer.getAttribute(on, "ProcessingTimePercentile50");
+        double p90 = (Double) mbeanServer.getAttribute(on, "ProcessingTimePercentile90");
+        double p99 = (Double) mbeanServer.getAttribute(on, "ProcessingTimePercentile99");
+        double p999 = (Double) mbeanServer.getAttribute(on, "ProcessingTimePercentile999");
+        // the fast messages take less than a millisecond, which is recorded with microsecond precision
+        assertTrue(p50 > 0 && p50 < 200, "p50 should be fast: " + p50);
+        assertTrue(p99 >= 200, "p99 should be slow: " + p99);
+        assertTrue(p50 <= p90 && p90 <= p99 && p99 <= p999);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("processingTimePercentile99=\"" + p99 + "\""), xml);
+
+        // reset the statistics
+        mbeanServer.invoke(on, "reset", null, null);
+        assertEquals(0d, mbeanServer.getAttribute(on, "ProcessingTimePercentile99"));
+    }
+
+    private RouteBuilder createRoutes() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .process(exchange -> Thread.sleep(exchange.getMessage().getHeader("delay", int.class)))
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import org.apache.camel.management.mbean.StatisticHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testPercentiles() {
+        StatisticHistogram histogram = new StatisticHistogram(2, 0);
+        assertFalse(histogram.isUpdated());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        for (int i = 1; i <= 10000; i++) {
+            histogram.updateValue(i);
+        }
+
+        assertTrue(histogram.isUpdated());
+        assertEquals(10000, histogram.getValue());
+        assertEquals(5000, histogram.getValueAtPercentile(50), 5000 * 0.01);
+        assertEquals(9000, histogram.getValueAtPercentile(90), 9000 * 0.01);
+        assertEquals(9900, histogram.getValueAtPercentile(99), 9900 * 0.01);
+        assertEquals(9990, histogram.getValueAtPercentile(99.9), 9990 * 0.01);
+        assertEquals(10000, histogram.getValueAtPercentile(100), 10000 * 0.01);
+
+        histogram.reset();
+        assertEquals(0, histogram.getValue());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        StatisticHistogram histogram = new StatisticHistogram(1, 0);
+        for (int i = 0; i < 10; i++) {
+            histogram.updateValue(i);
+        }
+        assertEquals(4, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testLargeValues() {
+        StatisticHistogram histogram = new StatisticHistogram(3, 0);
+        histogram.updateValue(123456);
+        assertEquals(123456, histogram.getValueAtPercentile(50), 123456 * 0.001);
+
+        // values above the highest trackable value are recorded as the highest value
+        histogram.updateValue(Long.MAX_VALUE);
+        assertTrue(histogram.getValueAtPercentile(100) > 60 * 60 * 1000 * 1000L);
+    }
+
+    @Test
+    public void testRollingWindow() throws Exception {
+        StatisticHistogram histogram = new StatisticHistogram(2, 100);
+        histogram.updateValue(10);
+        assertEquals(1, histogram.getValue());
+
+        // still in the previous window
+        Thread.sleep(150);
+        assertEquals(1, histogram.getValue());
+        histogram.updateValue(20);
+        assertEquals(2, histogram.getValue());
+
+        // discarded when the window has rolled over twice
+        Thread.sleep(500);
+        assertEquals(0, histogram.getValue());
+    }
+
+    @Test
+    public void testInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new StatisticHistogram(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StatisticHistogram(4, 0));
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for caching using a list of {@link ByteBuffer}s, which are off-heap buffers from the pool of
+ * the {@link org.apache.camel.spi.StreamCachingStrategy}, followed by the memory mapped spool file, if the stream did
+ * not fit in the pool.
+ * <p/>
+ * The buffers can be read without copying using {@link #getByteBuffers()}.
+ * <p/>
+ * The buffers are released (to be reused by other exchanges) when all the exchanges using this stream cache are done,
+ * and then the stream cache can no longer be read, and fails with an {@link IOException}. The memory mapped spool file
+ * is not unmapped when released, but when the buffers (and their views) are garbage collected, so reading a region that
+ * is still referenced never accesses unmapped memory.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] buffers;
+    private final boolean inMemory;
+    private final long length;
+    private int index;
+
+    ByteBufferInputStreamCache(TempFileManager tempFileManager, ByteBuffer[] buffers, boolean inMemory) {
+        this.tempFileManager = tempFileManager;
+        this.buffers = buffers;
+        this.inMemory = inMemory;
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        this.length = total;
+    }
+
+    /**
+     * Gets read-only views of the remaining content of the buffers, which can be read without copying the content.
+     * <p/>
+     * The buffers are only valid until the exchange is done, as the off-heap buffers are then released to be reused,
+     * and therefore must not be kept after the exchange is done. The views of the memory mapped spool file keep the
+     * region mapped for as long as the views are referenced.
+     *
+     * @throws IOException is thrown if the buffers have already been released
+     */
+    public ByteBuffer[] getByteBuffers() throws IOException {
+        checkNotReleased();
+        ByteBuffer[] answer = new ByteBuffer[buffers.length - index];
+        for (int i = index; i < buffers.length; i++) {
+            answer[i - index] = buffers[i].asReadOnlyBuffer();
+        }
+        return answer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkNotReleased();
+        ByteBuffer buffer = current();
+        int answer = buffer != null ? buffer.get() & 0xff : -1;
+        // the buffer may have been released (and reused) while reading
+        checkNotReleased();
+        return answer;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        checkNotReleased();
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        // the buffer may have been released (and reused) while reading
+        checkNotReleased();
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = current()) != null) {
+            int s = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + s);
+            skipped += s;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (int i = index; i < buffers.length; i++) {
+            available += buffers[i].remaining();
+        }
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(os);
+        for (int i = index; i < buffers.length; i++) {
+            checkNotReleased();
+            ByteBuffer buffer = buffers[i].duplicate();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        // the buffers may have been released (and reused) while writing
+        checkNotReleased();
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        checkNotReleased();
+        tempFileManager.addExchange(exchange);
+        ByteBuffer[] copy = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            copy[i] = buffers[i].duplicate().rewind();
+        }
+        return new ByteBufferInputStreamCache(tempFileManager, copy, inMemory);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return inMemory;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    private void checkNotReleased() throws IOException {
+        if (tempFileManager.isReleased()) {
+            throw new IOException("Cannot read the stream cache as it has been released, because the exchange is done");
+        }
+    }
+
+    private ByteBuffer current() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+}
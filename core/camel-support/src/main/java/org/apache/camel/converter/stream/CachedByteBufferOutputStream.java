@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which writes into off-heap chunks acquired from the pool of the
+ * {@link StreamCachingStrategy}, and when the pool is used up then writes the rest of the stream to a spool file.
+ * <p/>
+ * The stream can be returned as a {@link ByteBufferInputStreamCache} view of the chunks, and the spool file which is
+ * memory mapped, which avoids any copying. The chunks are released, and the spool file is unmapped, when the exchanges
+ * are done.
+ */
+final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final TempFileManager tempFileManager;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    // used when the off-heap pool is used up
+    private FileChannel fileChannel;
+    private ByteBuffer fileBuffer;
+
+    CachedByteBufferOutputStream(StreamCachingStrategy strategy, TempFileManager tempFileManager) {
+        this.strategy = strategy;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ByteBuffer buffer = buffer();
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = buffer();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileBuffer != null && fileBuffer.position() > 0) {
+            fileBuffer.flip();
+            while (fileBuffer.hasRemaining()) {
+                fileChannel.write(fileBuffer);
+            }
+            fileBuffer.clear();
+        }
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the chunks and the spool file
+     */
+    ByteBufferInputStreamCache newStreamCache() throws IOException {
+        flush();
+        List<ByteBuffer> buffers = new ArrayList<>(chunks.size() + 1);
+        for (ByteBuffer chunk : chunks) {
+            buffers.add(chunk.duplicate().flip());
+        }
+        if (fileChannel != null) {
+            long size = fileChannel.size();
+            for (long pos = 0; pos < size; pos += Integer.MAX_VALUE) {
+                buffers.add(tempFileManager.map(pos, Math.min(size - pos, Integer.MAX_VALUE)));
+            }
+        }
+        return new ByteBufferInputStreamCache(tempFileManager, buffers.toArray(new ByteBuffer[0]), fileChannel == null);
+    }
+
+    private ByteBuffer buffer() throws IOException {
+        if (fileBuffer != null) {
+            if (!fileBuffer.hasRemaining()) {
+                flush();
+            }
+            return fileBuffer;
+        }
+        if (current == null || !current.hasRemaining()) {
+            ByteBuffer chunk = tempFileManager.acquireOffHeapChunk(strategy);
+            if (chunk != null) {
+                chunks.add(chunk);
+                current = chunk;
+            } else {
+                // the off-heap pool is used up, so spool the rest to a file
+                fileChannel = tempFileManager.createFileChannel(strategy);
+                fileBuffer = ByteBuffer.allocate(strategy.getBufferSize());
+                return fileBuffer;
+            }
+        }
+        return current;
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
@@ -36,6 +37,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If the {@link StreamCachingStrategy#getSpoolOffHeapPoolSize()} is set, then the stream is spooled to off-heap buffers
+ * from the pool instead, and only to a temp file (which is memory mapped when read) if the pool is used up. The buffers
+ * are released back to the pool when the temp file would have been deleted.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -70,6 +75,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseOffHeapChunks();
         }
     }
 
@@ -142,6 +148,8 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (currentStream instanceof CachedByteBufferOutputStream) {
+            return ((CachedByteBufferOutputStream) currentStream).newStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
@@ -151,8 +159,13 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates an tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            if (strategy.getSpoolOffHeapPoolSize() > 0 && ObjectHelper.isEmpty(strategy.getSpoolCipher())) {
+                // spool to off-heap buffers, and to a tmp file when the pool is used up
+                currentStream = new CachedByteBufferOutputStream(strategy, tempFileManager);
+            } else {
+                // creates an tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
@@ -23,6 +23,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -163,6 +166,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     static class TempFileManager {
 
         private static final Logger LOG = LoggerFactory.getLogger(TempFileManager.class);
+
         /**
          * Indicator whether the file input stream caches are closed on completion of the exchanges.
          */
@@ -170,7 +174,12 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private FileChannel fileChannel; // file channel when spooling off-heap
         private CipherPair ciphers;
+        private StreamCachingStrategy strategy;
+        private List<ByteBuffer> offHeapChunks; // off-heap chunks acquired from the strategy
+        // whether the off-heap chunks and memory mapped regions have been released, and must no longer be read
+        private volatile boolean released;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -215,6 +224,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseOffHeapChunks();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -253,18 +263,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             if (tempFile != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
-            if (closedOnCompletion && exchangeCounter.get() == 0) {
-                // exchange was already stopped -> in this case the tempFile would never be deleted.
-                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
-                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
-                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
-                String error
-                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
-                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
-                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
-                LOG.error(error);
-                throw new IOException(error);
-            }
+            checkExchangeNotDone("a FileOutputStream", "removed from the file system");
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
@@ -294,6 +293,87 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
+        /**
+         * Creates the temporary file, which is spooled to using a {@link FileChannel} (without encryption) so it can be
+         * memory mapped when read.
+         */
+        FileChannel createFileChannel(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (tempFile != null) {
+                throw new IllegalStateException("The method 'createFileChannel' can only be called once!");
+            }
+            checkExchangeNotDone("a FileChannel", "removed from the file system");
+            tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+
+            LOG.trace("Creating temporary stream cache file: {}", tempFile);
+            fileChannel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            return fileChannel;
+        }
+
+        /**
+         * Acquires an off-heap chunk from the strategy, which is released back to the strategy when all the exchanges
+         * are done.
+         *
+         * @return the chunk, or <tt>null</tt> if the off-heap pool is used up
+         */
+        synchronized ByteBuffer acquireOffHeapChunk(StreamCachingStrategy strategy) throws IOException {
+            checkExchangeNotDone("an off-heap buffer", "released");
+            ByteBuffer chunk = strategy.acquireOffHeapChunk();
+            if (chunk != null) {
+                if (offHeapChunks == null) {
+                    offHeapChunks = new ArrayList<>();
+                }
+                this.strategy = strategy;
+                offHeapChunks.add(chunk);
+            }
+            return chunk;
+        }
+
+        /**
+         * Memory maps a region of the temporary file.
+         * <p/>
+         * The region is not unmapped explicitly, as buffers (and views of the buffers) may still be in use when the
+         * temporary file is deleted, and accessing an unmapped region crashes the JVM. Instead the region is unmapped
+         * when the buffer and all its views are garbage collected.
+         */
+        synchronized MappedByteBuffer map(long position, long size) throws IOException {
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+
+        /**
+         * Whether the off-heap chunks and memory mapped regions have been released, as all the exchanges are done.
+         */
+        boolean isReleased() {
+            return released;
+        }
+
+        synchronized void releaseOffHeapChunks() {
+            if (offHeapChunks != null) {
+                // mark as released before the chunks can be reused
+                released = true;
+                for (ByteBuffer chunk : offHeapChunks) {
+                    strategy.releaseOffHeapChunk(chunk);
+                }
+                offHeapChunks = null;
+            }
+        }
+
+        private void checkExchangeNotDone(String resource, String cleanup) throws IOException {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped -> in this case the resource would never be cleaned up.
+                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
+                // is still active, but has a timeout and after the timeout which stops the unit of work the resource is created.
+                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
+                String error
+                        = "Cannot create " + resource + " for Stream Caching, because it would never be " + cleanup + "."
+                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
+                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
+                LOG.error(error);
+                throw new IOException(error);
+            }
+        }
+
         FileInputStreamCache newStreamCache() throws IOException {
             try {
                 return new FileInputStreamCache(this);
@@ -314,6 +394,12 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         void cleanUpTempFile() {
             // cleanup temporary file
             try {
+                if (fileChannel != null) {
+                    // the memory mapped regions must no longer be read, as the temporary file is deleted
+                    released = true;
+                    fileChannel.close();
+                    fileChannel = null;
+                }
                 if (tempFile != null) {
                     FileUtil.deleteFile(tempFile);
                     tempFile = null;
@@ -168,7 +168,10 @@ class AbstractExchange implements ExtendedExchange {
             // safe copy message history using a defensive copy
             List<MessageHistory> history
                     = (List<MessageHistory>) exchange.internalProperties[ExchangePropertyKey.MESSAGE_HISTORY.ordinal()];
-            if (history != null) {
+            if (history instanceof CompactMessageHistoryList) {
+                exchange.internalProperties[ExchangePropertyKey.MESSAGE_HISTORY.ordinal()]
+                        = ((CompactMessageHistoryList) history).copy();
+            } else if (history != null) {
                 // use thread-safe list as message history may be accessed concurrently
                 exchange.internalProperties[ExchangePropertyKey.MESSAGE_HISTORY.ordinal()]
                         = new CopyOnWriteArrayList<>(history);
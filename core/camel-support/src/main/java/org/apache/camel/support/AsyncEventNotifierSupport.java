@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class to extend for custom {@link EventNotifier} implementations, which are notified asynchronously in batches.
+ * <p/>
+ * The events are added to a bounded buffer and then delivered in batches to {@link #notify(List)} by a separate thread,
+ * so a slow notifier does not add latency to the routing of the exchanges. When the buffer is full then the
+ * {@link OverflowPolicy} decides whether the events are dropped, or the routing thread is blocked until there is room
+ * in the buffer.
+ * <p/>
+ * Notice the events are delivered after the fact, so the {@link org.apache.camel.Exchange} of an exchange event may
+ * have been changed or completed at the time the event is delivered, and should therefore only be used for reading
+ * information which does not change, such as the exchange id. When exchange pooling is enabled then the exchanges are
+ * reused after they are completed, and therefore the events are delivered synchronously by the calling thread instead.
+ * <p/>
+ * The events which are notified before this notifier is started, or after it has been stopped, are delivered
+ * synchronously by the calling thread, and {@link #notify(List)} can therefore be called concurrently at these times.
+ */
+public abstract class AsyncEventNotifierSupport extends EventNotifierSupport implements CamelContextAware {
+
+    /**
+     * What to do with an event when the buffer is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * The event is dropped.
+         */
+        Drop,
+        /**
+         * The routing thread is blocked until there is room in the buffer.
+         */
+        Block,
+        /**
+         * When the buffer is more than half full then only every n'th event is added to the buffer, and the others are
+         * dropped. The event is also dropped when the buffer is full.
+         */
+        Sample
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventNotifierSupport.class);
+
+    // used for waking up the dispatcher thread when stopping
+    private static final CamelEvent STOP = new CamelEvent() {
+        @Override
+        public Type getType() {
+            return Type.Custom;
+        }
+
+        @Override
+        public Object getSource() {
+            return null;
+        }
+    };
+
+    private final LongAdder queuedCounter = new LongAdder();
+    private final LongAdder deliveredCounter = new LongAdder();
+    private final LongAdder droppedCounter = new LongAdder();
+    private final LongAdder blockedCounter = new LongAdder();
+    private final LongAdder sampleCounter = new LongAdder();
+    private CamelContext camelContext;
+    private int bufferSize = 1024;
+    private int batchSize = 100;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.Drop;
+    private int sampleRate = 10;
+    private BlockingQueue<CamelEvent> buffer;
+    private volatile boolean running;
+    private volatile Thread dispatcher;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * The maximum number of events in the buffer. The default is 1024.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of events which are delivered in a batch. The default is 100.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * What to do with an event when the buffer is full. The default is to drop the event.
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * When using the sample overflow policy then every n'th event is added to the buffer when the buffer is more than
+     * half full. The default is 10.
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Number of events which has been added to the buffer
+     */
+    public long getQueuedCounter() {
+        return queuedCounter.sum();
+    }
+
+    /**
+     * Number of events which has been delivered
+     */
+    public long getDeliveredCounter() {
+        return deliveredCounter.sum();
+    }
+
+    /**
+     * Number of events which has been dropped because the buffer was full, or was not sampled
+     */
+    public long getDroppedCounter() {
+        return droppedCounter.sum();
+    }
+
+    /**
+     * Number of times the routing thread was blocked because the buffer was full
+     */
+    public long getBlockedCounter() {
+        return blockedCounter.sum();
+    }
+
+    /**
+     * Number of events in the buffer which are waiting to be delivered
+     */
+    public int getPendingEvents() {
+        BlockingQueue<CamelEvent> queue = buffer;
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Resets the counters
+     */
+    public void resetCounters() {
+        queuedCounter.reset();
+        deliveredCounter.reset();
+        droppedCounter.reset();
+        blockedCounter.reset();
+        sampleCounter.reset();
+    }
+
+    /**
+     * Notifies the given batch of events
+     *
+     * @param  events    the events, in the order they happened
+     * @throws Exception can be thrown if notification failed
+     */
+    protected abstract void notify(List<CamelEvent> events) throws Exception;
+
+    @Override
+    public final void notify(CamelEvent event) throws Exception {
+        BlockingQueue<CamelEvent> queue = buffer;
+        if (!running || queue == null) {
+            deliver(Collections.singletonList(event));
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.Sample && queue.size() > bufferSize / 2 && !sample()) {
+            // the buffer is filling up so only keep the sampled events
+            droppedCounter.increment();
+        } else if (queue.offer(event)) {
+            queuedCounter.increment();
+        } else if (overflowPolicy == OverflowPolicy.Block && Thread.currentThread() != dispatcher) {
+            blockedCounter.increment();
+            // wait until there is room in the buffer, or we are stopping
+            while (!queue.offer(event, 1, TimeUnit.SECONDS)) {
+                if (!running) {
+                    deliver(Collections.singletonList(event));
+                    return;
+                }
+            }
+            queuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private boolean sample() {
+        sampleCounter.increment();
+        return sampleRate <= 1 || sampleCounter.sum() % sampleRate == 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (camelContext != null && camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isPooled()) {
+            // the exchanges are reused when pooled, so they cannot be read after the fact
+            LOG.info("Exchange pooling is enabled, so events are delivered synchronously by {}", this);
+            return;
+        }
+
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        running = true;
+
+        String name = getClass().getSimpleName() + "-EventDispatcher";
+        if (camelContext != null) {
+            dispatcher = camelContext.getExecutorServiceManager().newThread(name, this::dispatch);
+        } else {
+            dispatcher = new Thread(this::dispatch, name);
+            dispatcher.setDaemon(true);
+        }
+        dispatcher.start();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Thread thread = dispatcher;
+        dispatcher = null;
+        if (thread != null) {
+            // wake up the dispatcher, which delivers the pending events before it terminates
+            buffer.offer(STOP);
+            if (thread == Thread.currentThread()) {
+                // stopped while delivering events, so the dispatcher delivers the pending events when it continues
+                LOG.debug("Stopping {} from the event dispatcher", this);
+                super.doStop();
+                return;
+            }
+            thread.join(30000);
+            if (thread.isAlive()) {
+                // the pending events must not be delivered concurrently with the dispatcher
+                LOG.warn("Event dispatcher for {} has not terminated after 30 seconds,"
+                         + " and will continue to deliver the {} pending events",
+                        this, buffer.size());
+                super.doStop();
+                return;
+            }
+        }
+        // deliver any events which was added while stopping, now the dispatcher has terminated
+        if (buffer != null) {
+            List<CamelEvent> remaining = new ArrayList<>();
+            buffer.drainTo(remaining);
+            remaining.remove(STOP);
+            if (!remaining.isEmpty()) {
+                deliver(remaining);
+            }
+        }
+        super.doStop();
+    }
+
+    private void dispatch() {
+        BlockingQueue<CamelEvent> queue = buffer;
+        List<CamelEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                CamelEvent event = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+                if (event == null) {
+                    continue;
+                }
+                if (event != STOP) {
+                    batch.add(event);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                batch.remove(STOP);
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Event dispatcher interrupted");
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        LOG.debug("Event dispatcher for {} stopped", this);
+    }
+
+    private void deliver(List<CamelEvent> events) {
+        try {
+            notify(events);
+        } catch (Throwable e) {
+            LOG.warn("Error notifying {} events. This exception will be ignored.", events.size(), e);
+        }
+        deliveredCounter.add(events.size());
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.apache.camel.Message;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.NamedNode;
+
+/**
+ * A list of {@link MessageHistory} which records the message history in arrays of the route id, node, timestamp and
+ * elapsed time, instead of creating a {@link MessageHistory} object per node the message is routed through.
+ * <p/>
+ * The {@link MessageHistory} objects are only created on demand when the list is accessed (such as when the message
+ * history is logged on errors, or browsed via JMX), and they are views of the recorded history.
+ * <p/>
+ * This list is thread-safe as message history may be accessed concurrently.
+ */
+public final class CompactMessageHistoryList extends AbstractList<MessageHistory> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] routeIds;
+    private NamedNode[] nodes;
+    private long[] times;
+    // the elapsed time, which is -1 until the node processing is done
+    private long[] elapsed;
+    // created on demand, if the message is copied, or other kinds of message history is added
+    private Message[] messages;
+    private MessageHistory[] histories;
+    private int size;
+
+    public CompactMessageHistoryList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private CompactMessageHistoryList(int capacity) {
+        routeIds = new String[capacity];
+        nodes = new NamedNode[capacity];
+        times = new long[capacity];
+        elapsed = new long[capacity];
+    }
+
+    /**
+     * Records the message is being processed by the given node
+     *
+     * @param routeId   the route id
+     * @param node      the node in the route
+     * @param timestamp the time the message processed at this node
+     * @param message   optional copy of the message
+     */
+    public synchronized void add(String routeId, NamedNode node, long timestamp, Message message) {
+        int i = nextIndex();
+        routeIds[i] = routeId;
+        nodes[i] = node;
+        times[i] = timestamp;
+        elapsed[i] = -1;
+        if (message != null) {
+            if (messages == null) {
+                messages = new Message[routeIds.length];
+            }
+            messages[i] = message;
+        }
+    }
+
+    /**
+     * Signals that the processing of the given node is done, which is the last recorded history of the node that is not
+     * done yet.
+     */
+    public synchronized void nodeProcessingDone(NamedNode node) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (nodes[i] == node && elapsed[i] < 0) {
+                long timestamp = times[i];
+                elapsed[i] = timestamp > 0 ? System.currentTimeMillis() - timestamp : 0;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean add(MessageHistory history) {
+        int i = nextIndex();
+        if (histories == null) {
+            histories = new MessageHistory[routeIds.length];
+        }
+        histories[i] = history;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends MessageHistory> c) {
+        for (MessageHistory history : c) {
+            add(history);
+        }
+        return !c.isEmpty();
+    }
+
+    @Override
+    public synchronized MessageHistory get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (histories != null && histories[index] != null) {
+            return histories[index];
+        }
+        return new Entry(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(routeIds, 0, size, null);
+        Arrays.fill(nodes, 0, size, null);
+        messages = null;
+        histories = null;
+        size = 0;
+    }
+
+    /**
+     * Creates a copy of this list
+     */
+    public synchronized CompactMessageHistoryList copy() {
+        CompactMessageHistoryList answer = new CompactMessageHistoryList(Math.max(INITIAL_CAPACITY, size));
+        System.arraycopy(routeIds, 0, answer.routeIds, 0, size);
+        System.arraycopy(nodes, 0, answer.nodes, 0, size);
+        System.arraycopy(times, 0, answer.times, 0, size);
+        System.arraycopy(elapsed, 0, answer.elapsed, 0, size);
+        if (messages != null) {
+            answer.messages = Arrays.copyOf(messages, answer.routeIds.length);
+        }
+        if (histories != null) {
+            answer.histories = Arrays.copyOf(histories, answer.routeIds.length);
+        }
+        answer.size = size;
+        return answer;
+    }
+
+    private int nextIndex() {
+        if (size == routeIds.length) {
+            int capacity = size * 2;
+            routeIds = Arrays.copyOf(routeIds, capacity);
+            nodes = Arrays.copyOf(nodes, capacity);
+            times = Arrays.copyOf(times, capacity);
+            elapsed = Arrays.copyOf(elapsed, capacity);
+            if (messages != null) {
+                messages = Arrays.copyOf(messages, capacity);
+            }
+            if (histories != null) {
+                histories = Arrays.copyOf(histories, capacity);
+            }
+        }
+        return size++;
+    }
+
+    /**
+     * A view of the recorded message history
+     */
+    private final class Entry implements MessageHistory {
+
+        private final int index;
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getRouteId() {
+            synchronized (CompactMessageHistoryList.this) {
+                return routeIds[index];
+            }
+        }
+
+        @Override
+        public NamedNode getNode() {
+            synchronized (CompactMessageHistoryList.this) {
+                return nodes[index];
+            }
+        }
+
+        @Override
+        public long getTime() {
+            synchronized (CompactMessageHistoryList.this) {
+                return times[index];
+            }
+        }
+
+        @Override
+        public long getElapsed() {
+            synchronized (CompactMessageHistoryList.this) {
+                return Math.max(0, elapsed[index]);
+            }
+        }
+
+        @Override
+        public void nodeProcessingDone() {
+            synchronized (CompactMessageHistoryList.this) {
+                if (elapsed[index] < 0) {
+                    long timestamp = times[index];
+                    elapsed[index] = timestamp > 0 ? System.currentTimeMillis() - timestamp : 0;
+                }
+            }
+        }
+
+        @Override
+        public Message getMessage() {
+            synchronized (CompactMessageHistoryList.this) {
+                return messages != null ? messages[index] : null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MessageHistory[routeId=" + getRouteId() + ", node=" + getNode().getId() + ']';
+        }
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,15 +35,47 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.SizedThreadPerTaskExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * When running on JDK 19 or newer then thread pool profiles can be configured to use virtual threads, which creates
+ * thread pools that start a new virtual thread per task. The max pool size and max queue size of the profile are then
+ * the upper limit of tasks in flight, and the rejected policy is applied when this limit is reached. Scheduled thread
+ * pools always use platform threads.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
+    // virtual threads requires JDK 19 or newer, so we need to use reflection
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        ThreadFactory factory = null;
+        Method method = null;
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (Throwable e) {
+            // virtual threads is not supported (or is a preview feature which is not enabled)
+            factory = null;
+            method = null;
+        }
+        VIRTUAL_THREAD_FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = method;
+    }
+
     private CamelContext camelContext;
 
     @Override
@@ -60,8 +93,33 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return Executors.newCachedThreadPool(threadFactory);
     }
 
+    /**
+     * Whether virtual threads is supported by the JVM
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            // a thread pool with max 1 thread is expected to run the tasks in order, so it must use a platform thread
+            boolean single = profile.getMaxPoolSize() != null && profile.getMaxPoolSize() == 1;
+            if (!single) {
+                ExecutorService answer = newVirtualThreadPerTaskExecutor(factory);
+                if (answer != null) {
+                    // there is no task queue so the pool and queue size is the upper limit of tasks in flight
+                    int maxTasks = 0;
+                    Integer maxQueueSize = profile.getMaxQueueSize();
+                    if (maxQueueSize != null && maxQueueSize > 0 && maxQueueSize < Integer.MAX_VALUE) {
+                        int maxPoolSize = profile.getMaxPoolSize() != null ? profile.getMaxPoolSize() : 0;
+                        maxTasks = (int) Math.min(Integer.MAX_VALUE, (long) maxPoolSize + maxQueueSize);
+                    }
+                    return new SizedThreadPerTaskExecutorService(answer, maxTasks, profile.getRejectedPolicy());
+                }
+            }
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -74,6 +132,34 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                 factory);
     }
 
+    /**
+     * Creates an executor that starts a new virtual thread per task.
+     *
+     * @param  threadFactory factory for creating threads, which is used for naming the virtual threads
+     * @return               the executor, or <tt>null</tt> if virtual threads is not supported by the JVM
+     */
+    public ExecutorService newVirtualThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        if (!isVirtualThreadsSupported()) {
+            LOG.warn("Virtual threads requires JDK 19 or newer (and preview features enabled on JDK 19 and 20)."
+                     + " Will use platform threads instead.");
+            return null;
+        }
+
+        ThreadFactory factory = runnable -> {
+            Thread thread = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            if (threadFactory instanceof CamelThreadFactory) {
+                CamelThreadFactory ctf = (CamelThreadFactory) threadFactory;
+                thread.setName(ThreadHelper.resolveThreadName(ctf.getPattern(), ctf.getName()));
+            }
+            return thread;
+        };
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (Exception e) {
+            throw new IllegalStateException("Error creating virtual thread per task executor", e);
+        }
+    }
+
     public ExecutorService newThreadPool(
             int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit timeUnit, int maxQueueSize,
             boolean allowCoreThreadTimeOut,
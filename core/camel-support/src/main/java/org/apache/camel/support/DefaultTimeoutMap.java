@@ -19,17 +19,24 @@ package org.apache.camel.support;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.timer.Timer;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +55,10 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * If a {@link Timer} is set, then a timeout is scheduled on the timer for each entry instead of periodically checking
+ * all the entries, and the scheduler is only used to purge the entries which are due. This scales to a large number of
+ * entries.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -58,6 +69,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    private Timer timer;
+    // the entries which are due when using a timer
+    private final Queue<TimeoutMapEntry<K, V>> due = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean purgeScheduled = new AtomicBoolean();
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -103,6 +118,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            cancelTimeout(result);
+            scheduleTimeout(entry, entry.getTimeout());
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -119,6 +136,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                scheduleTimeout(entry, entry.getTimeout());
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -133,7 +153,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            cancelTimeout(entry);
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -154,6 +176,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private void purgeTask() {
         // only purge if allowed
         if (!isRunAllowed()) {
+            purgeScheduled.set(false);
             log.trace("Purge task not allowed to run");
             return;
         }
@@ -168,6 +191,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     }
 
     protected void purge() {
+        if (timer != null) {
+            purgeDue();
+            return;
+        }
+
         log.trace("There are {} in the timeout map", map.size());
         if (map.isEmpty()) {
             return;
@@ -206,9 +234,102 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
     }
 
+    /**
+     * Purges the entries which are due when using a timer
+     */
+    private void purgeDue() {
+        purgeScheduled.set(false);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        long now = currentTime();
+
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            TimeoutMapEntry<K, V> entry;
+            while ((entry = due.poll()) != null) {
+                if (map.get(entry.getKey()) != entry) {
+                    // removed or replaced
+                    continue;
+                }
+                long remaining = entry.getExpireTime() - now;
+                if (remaining > 0) {
+                    // the expire time has been updated
+                    scheduleTimeout(entry, remaining);
+                } else if (isValidForEviction(entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
+                } else {
+                    // check again later
+                    scheduleTimeout(entry, purgePollTime);
+                }
+            }
+
+            if (!expired.isEmpty()) {
+                // sort according to the expired time so we got the first expired first
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                for (TimeoutMapEntry<K, V> e : expired) {
+                    map.remove(e.getKey());
+                }
+            }
+        } finally {
+            lock.unlock();
+            for (TimeoutMapEntry<K, V> entry : expired) {
+                emitEvent(Evict, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void scheduleTimeout(TimeoutMapEntry<K, V> entry, long delay) {
+        if (timer != null) {
+            entry.timerTimeout = timer.schedule(() -> onTimeout(entry), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelTimeout(TimeoutMapEntry<K, V> entry) {
+        if (entry != null && entry.timerTimeout != null) {
+            entry.timerTimeout.cancel();
+            entry.timerTimeout = null;
+        }
+    }
+
+    /**
+     * Called by the timer thread when the entry is due, which hands over the purge to the executor
+     */
+    private void onTimeout(TimeoutMapEntry<K, V> entry) {
+        due.add(entry);
+        schedulePurge();
+    }
+
+    private void schedulePurge() {
+        if (purgeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::purgeTask);
+            } catch (RejectedExecutionException e) {
+                purgeScheduled.set(false);
+                log.debug("Cannot purge timeout map as the executor is shutdown");
+            }
+        }
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Sets a {@link Timer} to use for scheduling a timeout per entry, instead of periodically checking all the entries.
+     * <p/>
+     * Must be set before entries are added.
+     */
+    public void setTimer(Timer timer) {
+        this.timer = timer;
+    }
+
     public long getPurgePollTime() {
         return purgePollTime;
     }
@@ -267,7 +388,21 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         if (executor.isShutdown()) {
             throw new IllegalStateException("The ScheduledExecutorService is shutdown");
         }
-        schedulePoll();
+        if (timer != null) {
+            // start the thread for purging up front, the same way as when polling
+            if (executor instanceof SizedScheduledExecutorService) {
+                ((SizedScheduledExecutorService) executor).getScheduledThreadPoolExecutor().prestartCoreThread();
+            } else if (executor instanceof ThreadPoolExecutor) {
+                ((ThreadPoolExecutor) executor).prestartCoreThread();
+            }
+            // purge the entries which may have been due before we were started
+            purgeScheduled.set(false);
+            if (!due.isEmpty()) {
+                schedulePurge();
+            }
+        } else {
+            schedulePoll();
+        }
     }
 
     @Override
@@ -277,6 +412,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
+        if (timer != null) {
+            map.values().forEach(this::cancelTimeout);
+            due.clear();
+        }
         map.clear();
     }
 
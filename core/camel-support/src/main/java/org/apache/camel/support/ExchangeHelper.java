@@ -847,7 +847,9 @@ public final class ExchangeHelper {
         // safe copy message history using a defensive copy
         List<MessageHistory> history
                 = (List<MessageHistory>) exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY);
-        if (history != null) {
+        if (history instanceof CompactMessageHistoryList) {
+            answer.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, ((CompactMessageHistoryList) history).copy());
+        } else if (history != null) {
             // use thread-safe list as message history may be accessed concurrently
             answer.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, new CopyOnWriteArrayList<>(history));
         }
@@ -114,7 +114,27 @@ public final class RestConsumerContextPathMatcher {
      * @return               the best matched consumer, or <tt>null</tt> if none could be determined.
      */
     public static ConsumerPath matchBestPath(String requestMethod, String requestPath, List<ConsumerPath> consumerPaths) {
+        return matchBestPath(requestMethod, requestPath, consumerPaths,
+                (candidates, anyMethod) -> candidates.stream().allMatch(p -> countWildcards(p.getConsumerPath()) == 0));
+    }
+
+    /**
+     * Finds the best matching of the list of consumer paths that should service the incoming request.
+     * <p/>
+     * The list of consumer paths can be reduced up front to the consumer paths that can match the request path, as
+     * long as the order is kept, and the given {@link WildcardsLookup} tells whether any of all the consumer paths have
+     * wildcards.
+     *
+     * @param  requestMethod   the incoming request HTTP method
+     * @param  requestPath     the incoming request context path
+     * @param  consumerPaths   the list of consumer context path details
+     * @param  wildcardsLookup whether there are no wildcards among the candidates
+     * @return                 the best matched consumer, or <tt>null</tt> if none could be determined.
+     */
+    static ConsumerPath matchBestPath(
+            String requestMethod, String requestPath, List<ConsumerPath> consumerPaths, WildcardsLookup wildcardsLookup) {
         ConsumerPath answer = null;
+        boolean anyMethod = false;
 
         List<ConsumerPath> candidates = new ArrayList<>();
 
@@ -137,6 +157,7 @@ public final class RestConsumerContextPathMatcher {
 
         // we could not find a direct match, and if the request is OPTIONS then we need all candidates
         if (answer == null && isOptionsMethod(requestMethod)) {
+            anyMethod = true;
             candidates.clear();
             candidates.addAll(consumerPaths);
 
@@ -152,7 +173,7 @@ public final class RestConsumerContextPathMatcher {
         }
 
         // if there are no wildcards, then select the matching with the longest path
-        boolean noWildcards = candidates.stream().allMatch(p -> countWildcards(p.getConsumerPath()) == 0);
+        boolean noWildcards = wildcardsLookup.noWildcards(candidates, anyMethod);
         if (noWildcards) {
             // grab first which is the longest that matched the request path
             answer = candidates.stream()
@@ -210,7 +231,7 @@ public final class RestConsumerContextPathMatcher {
      * @param  restrict the consumer configured HTTP restrict method
      * @return          <tt>true</tt> if matched, <tt>false</tt> otherwise
      */
-    private static boolean matchRestMethod(String method, String restrict) {
+    static boolean matchRestMethod(String method, String restrict) {
         if (restrict == null) {
             return true;
         }
@@ -243,24 +264,8 @@ public final class RestConsumerContextPathMatcher {
             return false;
         }
 
-        // remove starting/ending slashes
-        if (requestPath.startsWith("/")) {
-            requestPath = requestPath.substring(1);
-        }
-        if (requestPath.endsWith("/")) {
-            requestPath = requestPath.substring(0, requestPath.length() - 1);
-        }
-        // remove starting/ending slashes
-        if (consumerPath.startsWith("/")) {
-            consumerPath = consumerPath.substring(1);
-        }
-        if (consumerPath.endsWith("/")) {
-            consumerPath = consumerPath.substring(0, consumerPath.length() - 1);
-        }
-
-        // split using single char / is optimized in the jdk
-        String[] requestPaths = requestPath.split("/");
-        String[] consumerPaths = consumerPath.split("/");
+        String[] requestPaths = splitPath(requestPath);
+        String[] consumerPaths = splitPath(consumerPath);
 
         // must be same number of path's
         if (requestPaths.length != consumerPaths.length) {
@@ -271,7 +276,7 @@ public final class RestConsumerContextPathMatcher {
             String p1 = requestPaths[i];
             String p2 = consumerPaths[i];
 
-            if (wildcard && p2.startsWith("{") && p2.endsWith("}")) {
+            if (wildcard && isWildcard(p2)) {
                 // always matches
                 continue;
             }
@@ -291,20 +296,12 @@ public final class RestConsumerContextPathMatcher {
      * @param  consumerPath the consumer path which may use { } tokens
      * @return              number of wildcards, or <tt>0</tt> if no wildcards
      */
-    private static int countWildcards(String consumerPath) {
+    static int countWildcards(String consumerPath) {
         int wildcards = 0;
 
-        // remove starting/ending slashes
-        if (consumerPath.startsWith("/")) {
-            consumerPath = consumerPath.substring(1);
-        }
-        if (consumerPath.endsWith("/")) {
-            consumerPath = consumerPath.substring(0, consumerPath.length() - 1);
-        }
-
-        String[] consumerPaths = consumerPath.split("/");
+        String[] consumerPaths = splitPath(consumerPath);
         for (String p2 : consumerPaths) {
-            if (p2.startsWith("{") && p2.endsWith("}")) {
+            if (isWildcard(p2)) {
                 wildcards++;
             }
         }
@@ -312,4 +309,41 @@ public final class RestConsumerContextPathMatcher {
         return wildcards;
     }
 
+    /**
+     * Splits the path into its segments, without starting/ending slashes
+     *
+     * @param  path the path
+     * @return      the segments of the path
+     */
+    static String[] splitPath(String path) {
+        // remove starting/ending slashes
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        // split using single char / is optimized in the jdk
+        return path.split("/");
+    }
+
+    /**
+     * Is the path segment a wildcard using { } tokens
+     */
+    static boolean isWildcard(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    /**
+     * Tells whether there are no wildcards among the candidates, which are either the consumer paths matching the
+     * request method, or any consumer paths when the request is OPTIONS.
+     */
+    @FunctionalInterface
+    interface WildcardsLookup {
+
+        boolean noWildcards(List<ConsumerPath> candidates, boolean anyMethod);
+
+    }
+
 }
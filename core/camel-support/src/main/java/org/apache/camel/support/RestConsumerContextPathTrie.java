@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.support.RestConsumerContextPathMatcher.ConsumerPath;
+
+/**
+ * A prebuilt index of the consumer paths when using rest-dsl, which finds the same best matching consumer path as
+ * {@link RestConsumerContextPathMatcher#matchBestPath(String, String, java.util.List)} without matching the request
+ * against every consumer path.
+ * <p/>
+ * The consumer paths are kept in a trie by their path segments, where each node has the literal segments, and a single
+ * node for all the <tt>{ }</tt> wildcard segments. Consumer paths which match on uri prefix are always candidates. The
+ * candidates are then matched in the same order as the given consumer paths, so the best match is the same as when
+ * matching all the consumer paths.
+ * <p/>
+ * The trie is immutable, so the components should create a new trie when consumers are added or removed.
+ */
+public final class RestConsumerContextPathTrie<T> {
+
+    private static final int MAX_CACHED_METHODS = 32;
+
+    private final List<ConsumerPath<T>> consumerPaths;
+    private final Node root = new Node();
+    private final BitSet alwaysCandidates = new BitSet();
+    private final List<String> wildcardRestrictMethods = new ArrayList<>();
+    private final Map<String, Boolean> noWildcardsByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a trie of the given consumer paths.
+     *
+     * @param consumerPaths the consumer context path details, in the order they should be matched
+     */
+    public RestConsumerContextPathTrie(Collection<? extends ConsumerPath<T>> consumerPaths) {
+        this.consumerPaths = new ArrayList<>(consumerPaths);
+
+        for (int i = 0; i < this.consumerPaths.size(); i++) {
+            ConsumerPath<T> entry = this.consumerPaths.get(i);
+            String consumerPath = entry.getConsumerPath();
+            if (consumerPath == null || entry.isMatchOnUriPrefix()) {
+                alwaysCandidates.set(i);
+            }
+            if (consumerPath == null) {
+                continue;
+            }
+
+            Node node = root;
+            boolean wildcards = false;
+            for (String segment : RestConsumerContextPathMatcher.splitPath(consumerPath)) {
+                if (RestConsumerContextPathMatcher.isWildcard(segment)) {
+                    wildcards = true;
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else {
+                    node = node.literals.computeIfAbsent(foldCase(segment), k -> new Node());
+                }
+            }
+            node.consumerPaths.add(i);
+            if (wildcards) {
+                wildcardRestrictMethods.add(entry.getRestrictMethod());
+            }
+        }
+    }
+
+    /**
+     * The consumer paths in this trie.
+     */
+    public List<ConsumerPath<T>> getConsumerPaths() {
+        return Collections.unmodifiableList(consumerPaths);
+    }
+
+    /**
+     * Finds the best matching consumer path that should service the incoming request.
+     *
+     * @param  requestMethod the incoming request HTTP method
+     * @param  requestPath   the incoming request context path
+     * @return               the best matched consumer, or <tt>null</tt> if none could be determined.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ConsumerPath<T> matchBestPath(String requestMethod, String requestPath) {
+        List<ConsumerPath> candidates;
+        if (requestPath == null) {
+            candidates = new ArrayList<>(consumerPaths);
+        } else {
+            BitSet matches = (BitSet) alwaysCandidates.clone();
+            collect(root, RestConsumerContextPathMatcher.splitPath(requestPath), 0, matches);
+            candidates = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                candidates.add(consumerPaths.get(i));
+            }
+        }
+
+        return RestConsumerContextPathMatcher.matchBestPath(requestMethod, requestPath, candidates,
+                (paths, anyMethod) -> noWildcards(requestMethod, anyMethod));
+    }
+
+    private static void collect(Node node, String[] segments, int index, BitSet matches) {
+        if (index == segments.length) {
+            for (int i : node.consumerPaths) {
+                matches.set(i);
+            }
+            return;
+        }
+        Node literal = node.literals.get(foldCase(segments[index]));
+        if (literal != null) {
+            collect(literal, segments, index + 1, matches);
+        }
+        if (node.wildcard != null) {
+            collect(node.wildcard, segments, index + 1, matches);
+        }
+    }
+
+    private boolean noWildcards(String method, boolean anyMethod) {
+        if (wildcardRestrictMethods.isEmpty()) {
+            return true;
+        }
+        if (anyMethod) {
+            // all the consumer paths are candidates, including those with wildcards
+            return false;
+        }
+        if (method == null) {
+            return noWildcardsForMethod(null);
+        }
+        Boolean answer = noWildcardsByMethod.get(method);
+        if (answer == null) {
+            answer = noWildcardsForMethod(method);
+            // do not let unknown methods grow the cache
+            if (noWildcardsByMethod.size() < MAX_CACHED_METHODS) {
+                noWildcardsByMethod.put(method, answer);
+            }
+        }
+        return answer;
+    }
+
+    private boolean noWildcardsForMethod(String method) {
+        for (String restrict : wildcardRestrictMethods) {
+            if (RestConsumerContextPathMatcher.matchRestMethod(method, restrict)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds the case of the path segment, so segments which are {@link String#equalsIgnoreCase(String)} have the same
+     * key.
+     */
+    private static String foldCase(String segment) {
+        boolean folded = true;
+        for (int i = 0; i < segment.length() && folded; i++) {
+            char ch = segment.charAt(i);
+            folded = ch < 'A' || ch > 'Z' && ch < 128;
+        }
+        if (folded) {
+            return segment;
+        }
+        StringBuilder sb = new StringBuilder(segment.length());
+        segment.codePoints().forEach(c -> sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+        return sb.toString();
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Integer> consumerPaths = new ArrayList<>(1);
+        private Node wildcard;
+
+    }
+}
@@ -19,11 +19,14 @@ package org.apache.camel.support;
 import java.util.Map;
 
 import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.timer.Timeout;
 
 /**
  * Represents an entry in a {@link TimeoutMap}
  */
 public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V> {
+    // the timer timeout when using a timer in the timeout map
+    volatile Timeout timerTimeout;
     private K key;
     private V value;
     private long timeout;
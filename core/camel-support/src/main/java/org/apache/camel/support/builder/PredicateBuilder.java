@@ -149,28 +149,7 @@ public class PredicateBuilder {
     public static Predicate in(final Predicate... predicates) {
         notNull(predicates, "predicates");
 
-        return new Predicate() {
-            public boolean matches(Exchange exchange) {
-                for (Predicate in : predicates) {
-                    if (in.matches(exchange)) {
-                        return true;
-                    }
-                }
-                return false;
-            }
-
-            @Override
-            public void init(CamelContext camelContext) {
-                for (Predicate in : predicates) {
-                    in.initPredicate(camelContext);
-                }
-            }
-
-            @Override
-            public String toString() {
-                return "in (" + Arrays.asList(predicates) + ")";
-            }
-        };
+        return new InPredicate(predicates);
     }
 
     /**
@@ -578,4 +557,42 @@ public class PredicateBuilder {
             }
         };
     }
+
+    /**
+     * A predicate which matches if any of the predicates matches, which exposes the predicates so the predicate can be
+     * optimized, such as the equality tests in the Choice EIP.
+     */
+    public static final class InPredicate implements Predicate {
+
+        private final Predicate[] predicates;
+
+        InPredicate(Predicate[] predicates) {
+            this.predicates = predicates;
+        }
+
+        public List<Predicate> getPredicates() {
+            return Arrays.asList(predicates);
+        }
+
+        public boolean matches(Exchange exchange) {
+            for (Predicate in : predicates) {
+                if (in.matches(exchange)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void init(CamelContext camelContext) {
+            for (Predicate in : predicates) {
+                in.initPredicate(camelContext);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "in (" + Arrays.asList(predicates) + ")";
+        }
+    }
 }
@@ -0,0 +1,817 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in a memory
+ * mapped append-only log file, and indexes the keys in an off-heap hash table.
+ * <p/>
+ * Unlike the {@link FileIdempotentRepository} the file is never scanned or rewritten when adding, checking or removing
+ * keys. Adding a key appends a record to the log, and removing a key appends a tombstone record. The keys are looked up
+ * in the index, which only holds the hash and the position of each key in the log (the key itself is compared in the
+ * memory mapped log), so all the keys can be indexed without using heap memory. Lookups only hold a read lock and do
+ * not block each other.
+ * <p/>
+ * When the removed keys and tombstones take up more than {@link #getCompactionRatio()} of the log (and at least
+ * {@link #getCompactionMinSize()} bytes), then the log is compacted by copying the live keys to a new log file, which
+ * replaces the current log file when done. The compaction runs in the background when a {@link CamelContext} is set,
+ * and only blocks adding and removing keys while the keys added during the compaction are copied.
+ * <p/>
+ * The log file is limited to {@link #getMaxFileStoreSize()} bytes (and at most 2gb). When adding a key would exceed the
+ * limit, then the log is compacted right away, and if the live keys still take up too much space, then the
+ * {@link #getDropOldestFileStore()} oldest keys are dropped, the same way as the {@link FileIdempotentRepository}.
+ */
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MemoryMappedIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedIdempotentRepository.class);
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // the type and the length of the key
+    private static final int HEADER_SIZE = 5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private CamelContext camelContext;
+    private volatile ExecutorService executorService;
+    private File fileStore;
+    private int initialFileStoreSize = 1024 * 1024;
+    private long maxFileStoreSize = 32 * 1024 * 1000L; // 32mb store file
+    private long dropOldestFileStore = 1000;
+    private int initialIndexCapacity = 1024;
+    private double compactionRatio = 0.5;
+    private long compactionMinSize = 1024 * 1024;
+    private Log log;
+    private Index index;
+    // number of bytes in the log used by removed keys and tombstones
+    private long deadBytes;
+    private long compactions;
+
+    public MemoryMappedIdempotentRepository() {
+    }
+
+    public MemoryMappedIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore) {
+        return new MemoryMappedIdempotentRepository(fileStore);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes);
+        lock.writeLock().lock();
+        try {
+            if (index.find(log, hash, bytes) >= 0) {
+                return false;
+            }
+            int size = HEADER_SIZE + bytes.length;
+            if (log.position + size > getMaxLogSize()) {
+                trunkStore(size);
+            }
+            int offset = log.append(ADD, bytes);
+            index.put(hash, offset);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes);
+        lock.readLock().lock();
+        try {
+            return index.find(log, hash, bytes) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            int slot = index.find(log, hash, bytes);
+            if (slot < 0) {
+                return false;
+            }
+            index.removeAt(slot);
+            log.append(REMOVE, bytes);
+            // both the added key and the tombstone are now dead
+            deadBytes += 2L * (HEADER_SIZE + bytes.length);
+            compact = isCompactionNeeded() && compacting.compareAndSet(false, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            ExecutorService executor = executorService;
+            if (executor != null) {
+                try {
+                    executor.submit(this::doCompact);
+                } catch (RejectedExecutionException e) {
+                    // the repository is being stopped, so skip compacting
+                    LOG.debug("Cannot compact idempotent filestore: {} as the repository is stopping", fileStore);
+                    compacting.set(false);
+                }
+            } else if (isRunAllowed()) {
+                doCompact();
+            } else {
+                compacting.set(false);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            if (log != null) {
+                log.close(0);
+                FileUtil.deleteFile(fileStore);
+                log = Log.open(fileStore, initialFileStoreSize);
+                index = new Index(initialIndexCapacity);
+                deadBytes = 0;
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the log file now, by copying the live keys to a new log file.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            doCompact();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The initial size in bytes of the file store")
+    public int getInitialFileStoreSize() {
+        return initialFileStoreSize;
+    }
+
+    /**
+     * Sets the initial size in bytes of the file store, which is memory mapped and then doubled in size when needed.
+     * <p/>
+     * The default is 1mb.
+     */
+    public void setInitialFileStoreSize(int initialFileStoreSize) {
+        this.initialFileStoreSize = initialFileStoreSize;
+    }
+
+    @ManagedAttribute(description = "The maximum file size for the file store in bytes")
+    public long getMaxFileStoreSize() {
+        return maxFileStoreSize;
+    }
+
+    /**
+     * Sets the maximum file size for the file store in bytes. You can set the value to 0 or negative to turn this off,
+     * in which case the file store is limited to 2gb, which is also the limit when setting a bigger value.
+     * <p/>
+     * The default is 32mb.
+     */
+    @ManagedAttribute(description = "The maximum file size for the file store in bytes")
+    public void setMaxFileStoreSize(long maxFileStoreSize) {
+        this.maxFileStoreSize = maxFileStoreSize;
+    }
+
+    @ManagedAttribute(description = "Number of oldest elements to drop from file store if maximum file size reached")
+    public long getDropOldestFileStore() {
+        return dropOldestFileStore;
+    }
+
+    /**
+     * Sets the number of oldest entries to drop from the file store when the maximum capacity is hit, and the file
+     * store is still too big after removing the removed keys, to allow room for new entries. More entries are dropped
+     * if needed to make room for the new entry.
+     * <p/>
+     * The default is 1000.
+     */
+    @ManagedAttribute(description = "Number of oldest elements to drop from file store if maximum file size reached")
+    public void setDropOldestFileStore(long dropOldestFileStore) {
+        this.dropOldestFileStore = dropOldestFileStore;
+    }
+
+    public int getInitialIndexCapacity() {
+        return initialIndexCapacity;
+    }
+
+    /**
+     * Sets the initial number of slots in the index, which is doubled in size when more than half full.
+     * <p/>
+     * The default is 1024.
+     */
+    public void setInitialIndexCapacity(int initialIndexCapacity) {
+        this.initialIndexCapacity = initialIndexCapacity;
+    }
+
+    @ManagedAttribute(description = "Ratio of the file store used by removed keys before the file store is compacted")
+    public double getCompactionRatio() {
+        return compactionRatio;
+    }
+
+    /**
+     * Sets the ratio of the file store which can be used by removed keys (and their tombstones) before the file store
+     * is compacted.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionRatio(double compactionRatio) {
+        this.compactionRatio = compactionRatio;
+    }
+
+    @ManagedAttribute(description = "Minimum bytes used by removed keys before the file store is compacted")
+    public long getCompactionMinSize() {
+        return compactionMinSize;
+    }
+
+    /**
+     * Sets the minimum number of bytes used by removed keys (and their tombstones) before the file store is compacted,
+     * which avoids compacting small file stores too often.
+     * <p/>
+     * The default is 1mb.
+     */
+    public void setCompactionMinSize(long compactionMinSize) {
+        this.compactionMinSize = compactionMinSize;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.size : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current size in bytes of the file store")
+    public long getFileStoreSize() {
+        lock.readLock().lock();
+        try {
+            return log != null ? log.position : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current bytes in the file store used by removed keys")
+    public long getDeadBytes() {
+        lock.readLock().lock();
+        try {
+            return deadBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of times the file store has been compacted")
+    public long getCompactions() {
+        lock.readLock().lock();
+        try {
+            return compactions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long getMaxLogSize() {
+        return maxFileStoreSize > 0 ? Math.min(maxFileStoreSize, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Makes room for a new record when the log has reached the maximum size, by compacting the log, and dropping the
+     * oldest keys if the live keys still take up too much space. Must be called while holding the write lock.
+     *
+     * @param needed the size of the new record
+     */
+    private void trunkStore(int needed) {
+        long max = getMaxLogSize();
+        int[] offsets = index.offsets();
+        long live = log.position - deadBytes;
+        int drop = 0;
+        if (live + needed > max) {
+            drop = (int) Math.min(Math.max(dropOldestFileStore, 0), offsets.length);
+            for (int i = 0; i < drop; i++) {
+                live -= log.recordSize(offsets[i]);
+            }
+            while (drop < offsets.length && live + needed > max) {
+                live -= log.recordSize(offsets[drop++]);
+            }
+            LOG.warn("Maximum capacity of file store: {} hit at {} bytes. Dropping {} oldest entries from the file store",
+                    fileStore, max, drop);
+        }
+
+        // a background compaction uses another file, and is discarded as the log is replaced
+        File trunkFile = new File(fileStore.getPath() + ".trunk");
+        try {
+            FileUtil.deleteFile(trunkFile);
+            Log trunked = Log.open(trunkFile, (int) Math.max(initialFileStoreSize, Math.min(live + needed, max)));
+            Index trunkedIndex = new Index(initialIndexCapacity);
+            for (int i = drop; i < offsets.length; i++) {
+                byte[] key = log.key(offsets[i]);
+                trunkedIndex.put(hash(key), trunked.append(ADD, key));
+            }
+            replaceLog(trunked, trunkedIndex, 0, trunkFile);
+        } catch (IOException e) {
+            FileUtil.deleteFile(trunkFile);
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Replaces the current log with the compacted log. Must be called while holding the write lock.
+     */
+    private void replaceLog(Log compacted, Index compactedIndex, long dead, File compactFile) throws IOException {
+        compacted.force();
+        Files.move(compactFile.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, log.position, compacted.position);
+        log.close(-1);
+        log = compacted;
+        index = compactedIndex;
+        deadBytes = dead;
+        compactions++;
+    }
+
+    private boolean isCompactionNeeded() {
+        return deadBytes >= compactionMinSize && deadBytes >= log.position * compactionRatio;
+    }
+
+    private void doCompact() {
+        File compactFile = new File(fileStore.getPath() + ".compact");
+        try {
+            Log current;
+            int end;
+            long dead;
+            lock.readLock().lock();
+            try {
+                current = log;
+                if (current == null) {
+                    return;
+                }
+                end = current.position;
+                dead = deadBytes;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // the log is append-only, so the records up to the end can be read without locking while
+            // keys are being added and removed, and replaying them gives the keys which are live
+            Index live = new Index(initialIndexCapacity);
+            current.replay(0, end, live, null);
+
+            // copy the live keys (in the order they were added) to the new log
+            FileUtil.deleteFile(compactFile);
+            Log compacted = Log.open(compactFile, Math.max(initialFileStoreSize, end - (int) Math.min(dead, end)));
+            Index compactedIndex = new Index(initialIndexCapacity);
+            for (int offset : live.offsets()) {
+                byte[] key = current.key(offset);
+                compactedIndex.put(hash(key), compacted.append(ADD, key));
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (log != current) {
+                    // the store was cleared or stopped in the meantime
+                    compacted.close(compacted.position);
+                    FileUtil.deleteFile(compactFile);
+                    return;
+                }
+                // copy the keys added and removed during the compaction
+                dead = current.replay(end, current.position, compactedIndex, compacted);
+                replaceLog(compacted, compactedIndex, dead, compactFile);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                    e.getMessage(), e);
+            FileUtil.deleteFile(compactFile);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            log = Log.open(fileStore, initialFileStoreSize);
+            index = new Index(initialIndexCapacity);
+            deadBytes = log.replay(0, log.position, index, null);
+            LOG.debug("Loaded {} keys from idempotent filestore: {}", index.size, fileStore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (camelContext != null && executorService == null) {
+            // reject (instead of discarding) compactions when the thread pool is shutdown
+            ThreadPoolProfile profile = new ThreadPoolProfile("MemoryMappedIdempotentRepositoryCompaction");
+            profile.setPoolSize(1);
+            profile.setMaxPoolSize(1);
+            profile.setMaxQueueSize(-1);
+            profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this,
+                    "MemoryMappedIdempotentRepositoryCompaction", profile);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            executorService = null;
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (log != null) {
+                // truncate the file to the records, as it was extended when memory mapped
+                log.close(log.position);
+                log = null;
+                index = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int hash(byte[] key) {
+        int h = 1;
+        for (byte b : key) {
+            h = 31 * h + b;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The memory mapped append-only log, where each record is the type (add or remove), the length of the key, and the
+     * key. The type is written last, so a record is only visible when it has been fully written, and the end of the log
+     * is the first record without a type, as the file is extended with zeros when memory mapped.
+     */
+    private static final class Log {
+
+        private final FileChannel channel;
+        private volatile MappedByteBuffer buffer;
+        private int position;
+
+        private Log(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Log open(File file, int initialSize) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IOException("Idempotent filestore: " + file + " is bigger than 2gb");
+            }
+            int capacity = Math.max(initialSize, (int) size);
+            Log log = new Log(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            // find the end of the log
+            int pos = 0;
+            while (pos + HEADER_SIZE <= capacity && log.buffer.get(pos) != 0) {
+                pos += HEADER_SIZE + log.buffer.getInt(pos + 1);
+            }
+            log.position = pos;
+            return log;
+        }
+
+        int append(byte type, byte[] key) {
+            int offset = position;
+            int size = HEADER_SIZE + key.length;
+            ensureCapacity((long) offset + size);
+            MappedByteBuffer b = buffer;
+            b.putInt(offset + 1, key.length);
+            ByteBuffer dup = b.duplicate();
+            dup.position(offset + HEADER_SIZE);
+            dup.put(key);
+            b.put(offset, type);
+            position = offset + size;
+            return offset;
+        }
+
+        boolean keyEquals(int offset, byte[] key) {
+            MappedByteBuffer b = buffer;
+            if (b.getInt(offset + 1) != key.length) {
+                return false;
+            }
+            int start = offset + HEADER_SIZE;
+            for (int i = 0; i < key.length; i++) {
+                if (b.get(start + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int recordSize(int offset) {
+            return HEADER_SIZE + buffer.getInt(offset + 1);
+        }
+
+        byte[] key(int offset) {
+            MappedByteBuffer b = buffer;
+            byte[] key = new byte[b.getInt(offset + 1)];
+            ByteBuffer dup = b.duplicate();
+            dup.position(offset + HEADER_SIZE);
+            dup.get(key);
+            return key;
+        }
+
+        /**
+         * Replays the records into the index, and optionally copies the records to the target log.
+         *
+         * @return the number of bytes used by removed keys and tombstones
+         */
+        long replay(int from, int to, Index index, Log target) {
+            long dead = 0;
+            int pos = from;
+            while (pos < to) {
+                byte type = buffer.get(pos);
+                byte[] key = key(pos);
+                int size = HEADER_SIZE + key.length;
+                int hash = hash(key);
+                int slot = index.find(target != null ? target : this, hash, key);
+                if (type == ADD) {
+                    if (slot < 0) {
+                        index.put(hash, target != null ? target.append(ADD, key) : pos);
+                    } else {
+                        // duplicate key
+                        dead += size;
+                    }
+                } else {
+                    if (slot >= 0) {
+                        index.removeAt(slot);
+                        if (target != null) {
+                            target.append(REMOVE, key);
+                        }
+                        dead += size;
+                    }
+                    dead += size;
+                }
+                pos += size;
+            }
+            return dead;
+        }
+
+        private void ensureCapacity(long needed) {
+            int capacity = buffer.capacity();
+            if (needed <= capacity) {
+                return;
+            }
+            long newCapacity = capacity;
+            while (newCapacity < needed) {
+                newCapacity *= 2;
+            }
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Idempotent filestore is full as it cannot be bigger than 2gb");
+            }
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(newCapacity, Integer.MAX_VALUE));
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        /**
+         * Closes the log
+         *
+         * @param truncate the size to truncate the file to, or <tt>-1</tt> to keep the file as-is
+         */
+        void close(int truncate) {
+            try {
+                buffer.force();
+                if (truncate >= 0) {
+                    channel.truncate(truncate);
+                }
+            } catch (Exception e) {
+                // the file cannot be truncated on some platforms while it is memory mapped
+                LOG.debug("Error truncating idempotent filestore due to {}. This exception is ignored.", e.getMessage(), e);
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Off-heap open addressing hash index, where each slot holds the hash of the key and the position of the key in the
+     * log.
+     */
+    private static final class Index {
+
+        private static final long DELETED = -1L;
+
+        private ByteBuffer table;
+        private int capacity;
+        private int size;
+        private int deleted;
+
+        Index(int initialCapacity) {
+            int c = 16;
+            while (c < initialCapacity) {
+                c <<= 1;
+            }
+            this.capacity = c;
+            this.table = ByteBuffer.allocateDirect(c * 8);
+        }
+
+        int find(Log log, int hash, byte[] key) {
+            int mask = capacity - 1;
+            int i = hash & mask;
+            for (;;) {
+                long v = table.getLong(i << 3);
+                if (v == 0) {
+                    return -1;
+                }
+                if (v != DELETED && (int) (v >>> 32) == hash && log.keyEquals(offset(v), key)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        void put(int hash, int offset) {
+            if ((size + deleted + 1) * 2 > capacity) {
+                rehash(size * 4 > capacity ? capacity * 2 : capacity);
+            }
+            insert(hash, offset);
+        }
+
+        void removeAt(int slot) {
+            table.putLong(slot << 3, DELETED);
+            size--;
+            deleted++;
+        }
+
+        /**
+         * The positions of the keys in the log, in the order they were added
+         */
+        int[] offsets() {
+            int[] answer = new int[size];
+            int n = 0;
+            for (int i = 0; i < capacity; i++) {
+                long v = table.getLong(i << 3);
+                if (v != 0 && v != DELETED) {
+                    answer[n++] = offset(v);
+                }
+            }
+            Arrays.sort(answer);
+            return answer;
+        }
+
+        private void insert(int hash, int offset) {
+            int mask = capacity - 1;
+            int i = hash & mask;
+            for (;;) {
+                long v = table.getLong(i << 3);
+                if (v == 0 || v == DELETED) {
+                    if (v == DELETED) {
+                        deleted--;
+                    }
+                    table.putLong(i << 3, ((long) hash << 32) | ((offset + 1) & 0xFFFFFFFFL));
+                    size++;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void rehash(int newCapacity) {
+            ByteBuffer old = table;
+            int oldCapacity = capacity;
+            table = ByteBuffer.allocateDirect(newCapacity * 8);
+            capacity = newCapacity;
+            size = 0;
+            deleted = 0;
+            for (int i = 0; i < oldCapacity; i++) {
+                long v = old.getLong(i << 3);
+                if (v != 0 && v != DELETED) {
+                    insert((int) (v >>> 32), offset(v));
+                }
+            }
+        }
+
+        private static int offset(long v) {
+            return (int) (v & 0xFFFFFFFFL) - 1;
+        }
+    }
+
+}
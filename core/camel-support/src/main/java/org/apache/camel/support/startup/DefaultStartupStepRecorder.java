@@ -73,7 +73,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // each thread keeps its own stack of steps, and steps handed over to other threads (such as when starting routes
+    // in parallel) are attached explicitly so the steps begun on those threads are nested under them
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -82,10 +84,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -151,21 +149,22 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
+            Deque<StartupStep> steps = currentSteps.get();
+            StartupStep parent = steps.peekFirst();
+            int level = parent != null ? parent.getLevel() + 1 : 0;
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
+            int pid = parent != null ? parent.getId() : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
             onBeginStep(step);
-            currentSteps.offerFirst(id);
+            steps.offerFirst(step);
             return step;
         } else {
             return DISABLED_STEP;
@@ -174,12 +173,40 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            pollStep();
             step.endStep();
             onEndStep(step);
         }
     }
 
+    @Override
+    public StartupStep getCurrentStep() {
+        return currentSteps.get().peekFirst();
+    }
+
+    @Override
+    public void attachStep(StartupStep step) {
+        if (step != null && step != DISABLED_STEP) {
+            currentSteps.get().offerFirst(step);
+        }
+    }
+
+    @Override
+    public void detachStep(StartupStep step) {
+        if (step != null && step != DISABLED_STEP) {
+            pollStep();
+        }
+    }
+
+    private void pollStep() {
+        Deque<StartupStep> steps = currentSteps.get();
+        steps.pollFirst();
+        if (steps.isEmpty()) {
+            // do not keep the stack on threads that are done with the steps, such as pooled threads
+            currentSteps.remove();
+        }
+    }
+
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
         return new DefaultStartupStep(type, name, description, id, parentId, level, System.currentTimeMillis());
     }
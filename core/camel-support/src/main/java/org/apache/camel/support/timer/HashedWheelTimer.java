@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Timer} using a hashed wheel, which is an array of buckets (linked lists) of timeouts, where the timer thread
+ * moves to the next bucket every tick and executes the timeouts in the bucket which are due.
+ * <p/>
+ * Scheduling and cancelling a timeout is O(1), and a timeout only takes a few bytes of memory, so it can handle a large
+ * number of pending timeouts, at the cost of the timeouts only being as accurate as the tick duration (10 millis by
+ * default). Timeouts which are longer than a full turn of the wheel stay in their bucket for more rounds.
+ * <p/>
+ * Use {@link #sharedTimer(CamelContext)} to get the timer which is shared by the {@link CamelContext}, so there is only
+ * one timer thread per context.
+ */
+public class HashedWheelTimer extends ServiceSupport implements Timer, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimer.class);
+    private static final Object SHARED_LOCK = new Object();
+
+    private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private CamelContext camelContext;
+    private String name = "HashedWheelTimer";
+    private long tickDuration = 10;
+    private int ticksPerWheel = 512;
+    private Bucket[] wheel;
+    private long tickNanos;
+    private volatile long startTime;
+    private volatile boolean running;
+    private Thread worker;
+
+    public HashedWheelTimer() {
+    }
+
+    public HashedWheelTimer(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * Gets the timer shared by the given {@link CamelContext}, which is created and added as a service to the context
+     * the first time.
+     */
+    public static Timer sharedTimer(CamelContext camelContext) {
+        synchronized (SHARED_LOCK) {
+            HashedWheelTimer timer = camelContext.hasService(HashedWheelTimer.class);
+            if (timer == null) {
+                timer = new HashedWheelTimer(camelContext);
+                try {
+                    camelContext.addService(timer, true, true);
+                } catch (Exception e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            }
+            // the timer may be used before the context is started, or after the context has been restarted
+            ServiceHelper.startService(timer);
+            return timer;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Name of the timer thread
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * The duration in millis between ticks, which is the accuracy of the timer. The default is 10 millis.
+     */
+    public void setTickDuration(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * The number of buckets in the wheel, which is rounded up to a power of two. The default is 512.
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new RejectedExecutionException("Timer is not started: " + this);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startTime;
+        if (deadline < 0) {
+            // overflow
+            deadline = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        startTime = System.nanoTime();
+        running = true;
+
+        if (camelContext != null) {
+            worker = camelContext.getExecutorServiceManager().newThread(name, this::run);
+        } else {
+            worker = new Thread(this::run, name);
+            worker.setDaemon(true);
+        }
+        worker.start();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            if (worker != Thread.currentThread()) {
+                worker.join(5000);
+            }
+            worker = null;
+        }
+        // the pending timeouts are discarded
+        pending.clear();
+        cancelled.clear();
+        pendingTimeouts.set(0);
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+            processCancelled();
+            transferPending(tick);
+            wheel[(int) (tick & (wheel.length - 1))].expire(deadline);
+            tick++;
+        }
+        for (Bucket bucket : wheel) {
+            bucket.clear();
+        }
+        LOG.debug("Timer thread {} stopped", name);
+    }
+
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long now = System.nanoTime() - startTime;
+            long sleep = (deadline - now + 999999) / 1000000;
+            if (sleep <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void transferPending(long tick) {
+        // limit the number of timeouts to transfer in one tick, so the timer cannot be stalled
+        for (int i = 0; i < 100000; i++) {
+            WheelTimeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != WheelTimeout.INIT) {
+                continue;
+            }
+            long ticks = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            // if the deadline is in the past then expire in the current tick
+            wheel[(int) (Math.max(ticks, tick) & (wheel.length - 1))].add(timeout);
+        }
+    }
+
+    private void processCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+            pendingTimeouts.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelTimer[" + name + "]";
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE
+                = AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state;
+        private long remainingRounds;
+        // only accessed by the timer thread
+        private Bucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+
+        WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE.compareAndSet(this, INIT, CANCELLED)) {
+                // removed from the bucket by the timer thread
+                timer.cancelled.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.warn("Error executing timer task: {} due to {}. This exception is ignored.", task, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * A bucket in the wheel, which is a doubly linked list of timeouts, so timeouts can be removed in O(1).
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    if (timeout.deadline <= deadline) {
+                        remove(timeout);
+                        timeout.expire();
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.timer;
+
+/**
+ * A task scheduled with a {@link Timer}.
+ */
+public interface Timeout {
+
+    /**
+     * Cancels the task, which is then not executed.
+     *
+     * @return <tt>true</tt> if cancelled, or <tt>false</tt> if the task is already executed or cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Whether the task has been cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Whether the task has been executed (or is being executed).
+     */
+    boolean isExpired();
+
+}
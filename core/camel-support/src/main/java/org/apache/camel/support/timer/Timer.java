@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A timer which executes tasks once after a delay, which is used for timeouts, delays and redeliveries.
+ * <p/>
+ * The tasks are executed by the timer thread, which is shared by all the tasks, so the tasks must be short and must not
+ * block, for example by handing over the work to a thread pool.
+ *
+ * @see HashedWheelTimer
+ */
+public interface Timer {
+
+    /**
+     * Schedules the task to be executed once after the given delay.
+     *
+     * @param  task                                            the task
+     * @param  delay                                           the delay
+     * @param  unit                                            the unit of the delay
+     * @return                                                 the timeout, which can be used to cancel the task
+     * @throws java.util.concurrent.RejectedExecutionException if the timer is not started
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Number of tasks which are scheduled and not yet executed or cancelled.
+     */
+    long getPendingTimeouts();
+
+}
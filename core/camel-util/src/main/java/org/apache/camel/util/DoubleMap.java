@@ -16,158 +16,261 @@
  */
 package org.apache.camel.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
 
 import org.apache.camel.util.function.TriConsumer;
 
+/**
+ * A map with a pair of keys (compared by identity) which is optimized for concurrent and read-mostly usage.
+ * <p/>
+ * Lookups are lock-free. Each bucket holds an immutable chain of entries which is replaced as a whole (copy-on-write)
+ * using compare-and-set, so updates only contend when they hit the same bucket. When the map grows (or is cleared) then
+ * the buckets are moved to a new table one at a time, and lookups and updates which hit a moved bucket are forwarded to
+ * the new table.
+ */
 @SuppressWarnings("unchecked")
 public class DoubleMap<K1, K2, V> {
 
     private static final double MAX_LOAD_FACTOR = 1.2;
-    private static final int MAX_TABLE_SIZE = 32768;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
     private static final int C1 = 0xcc9e2d51;
     private static final int C2 = 0x1b873593;
 
     static class Entry {
-        Object k1;
-        Object k2;
-        Object v;
-        Entry next;
+        final Object k1;
+        final Object k2;
+        final Object v;
+        final Entry next;
+
+        Entry(Object k1, Object k2, Object v, Entry next) {
+            this.k1 = k1;
+            this.k2 = k2;
+            this.v = v;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Marks a bucket which has been moved to the next table while resizing.
+     */
+    static final class Forward extends Entry {
+        final AtomicReferenceArray<Entry> table;
+
+        Forward(AtomicReferenceArray<Entry> table) {
+            super(null, null, null, null);
+            this.table = table;
+        }
     }
 
-    private Entry[] table;
-    private int mask;
+    private volatile AtomicReferenceArray<Entry> table;
+    private final AtomicInteger size = new AtomicInteger();
 
     public DoubleMap(int size) {
-        table = new Entry[closedTableSize(size)];
-        mask = table.length - 1;
+        table = new AtomicReferenceArray<>(closedTableSize(size));
     }
 
     public V get(K1 k1, K2 k2) {
-        Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
-        for (Entry entry = table[index]; entry != null; entry = entry.next) {
-            if (k1 == entry.k1 && k2 == entry.k2) {
-                return (V) entry.v;
-            }
-        }
-        return null;
+        Entry entry = find(k1, k2);
+        return entry != null ? (V) entry.v : null;
     }
 
     public void forEach(TriConsumer<K1, K2, V> consumer) {
-        Entry[] table = this.table;
-        for (Entry entry : table) {
-            while (entry != null) {
-                consumer.accept((K1) entry.k1, (K2) entry.k2, (V) entry.v);
-                entry = entry.next;
-            }
+        AtomicReferenceArray<Entry> table = this.table;
+        for (int i = 0; i < table.length(); i++) {
+            forEach(table, i, consumer);
         }
     }
 
     public boolean containsKey(K1 k1, K2 k2) {
-        Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
-        for (Entry entry = table[index]; entry != null; entry = entry.next) {
-            if (k1 == entry.k1 && k2 == entry.k2) {
-                return true;
+        return find(k1, k2) != null;
+    }
+
+    public void put(K1 k1, K2 k2, V v) {
+        int hash = hash(k1, k2);
+        AtomicReferenceArray<Entry> table = this.table;
+        for (;;) {
+            int index = hash & (table.length() - 1);
+            Entry head = table.get(index);
+            if (head instanceof Forward) {
+                table = ((Forward) head).table;
+                continue;
+            }
+            Entry oldEntry = head;
+            while (oldEntry != null && (oldEntry.k1 != k1 || oldEntry.k2 != k2)) {
+                oldEntry = oldEntry.next;
+            }
+            Entry newHead;
+            if (oldEntry != null) {
+                newHead = copyAndReplace(head, oldEntry, new Entry(k1, k2, v, oldEntry.next));
+            } else {
+                newHead = new Entry(k1, k2, v, head);
+            }
+            if (table.compareAndSet(index, head, newHead)) {
+                if (oldEntry == null && size.incrementAndGet() > (int) (MAX_LOAD_FACTOR * table.length())) {
+                    resize(table);
+                }
+                return;
             }
         }
-        return false;
     }
 
-    public synchronized void put(K1 k1, K2 k2, V v) {
-        Entry[] table = this.table;
-        int size = size() + 1;
-        int realSize = closedTableSize(size);
-        if (realSize <= table.length) {
-            realSize = table.length;
-            int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
-            for (Entry oldEntry = table[index]; oldEntry != null; oldEntry = oldEntry.next) {
-                if (oldEntry.k1 == k1 && oldEntry.k2 == k2) {
-                    oldEntry.v = v;
-                    return;
-                }
+    public boolean remove(K1 k1, K2 k2) {
+        int hash = hash(k1, k2);
+        AtomicReferenceArray<Entry> table = this.table;
+        for (;;) {
+            int index = hash & (table.length() - 1);
+            Entry head = table.get(index);
+            if (head instanceof Forward) {
+                table = ((Forward) head).table;
+                continue;
             }
-            Entry entry = new Entry();
-            entry.k1 = k1;
-            entry.k2 = k2;
-            entry.v = v;
-            entry.next = table[index];
-            table[index] = entry;
-        } else {
-            Entry[] newT = new Entry[realSize];
-            int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
-            Entry entry = new Entry();
-            newT[index] = entry;
-            entry.k1 = k1;
-            entry.k2 = k2;
-            entry.v = v;
-            for (Entry oldEntry : table) {
-                while (oldEntry != null) {
-                    if (k1 != oldEntry.k1 || k2 != oldEntry.k2) {
-                        index = smear(oldEntry.k1.hashCode() * 31 + oldEntry.k2.hashCode()) & (realSize - 1);
-                        Entry newEntry = new Entry();
-                        newEntry.k1 = oldEntry.k1;
-                        newEntry.k2 = oldEntry.k2;
-                        newEntry.v = oldEntry.v;
-                        newEntry.next = newT[index];
-                        newT[index] = newEntry;
-                    }
-                    oldEntry = oldEntry.next;
-                }
+            Entry oldEntry = head;
+            while (oldEntry != null && (oldEntry.k1 != k1 || oldEntry.k2 != k2)) {
+                oldEntry = oldEntry.next;
             }
-            this.table = newT;
-            this.mask = realSize - 1;
-        }
-    }
-
-    public synchronized boolean remove(K1 k1, K2 k2) {
-        Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
-        Entry prevEntry = null;
-        for (Entry oldEntry = table[index]; oldEntry != null; prevEntry = oldEntry, oldEntry = oldEntry.next) {
-            if (oldEntry.k1 == k1 && oldEntry.k2 == k2) {
-                if (prevEntry == null) {
-                    table[index] = oldEntry.next;
-                } else {
-                    prevEntry.next = oldEntry.next;
-                }
+            if (oldEntry == null) {
+                return false;
+            }
+            if (table.compareAndSet(index, head, copyAndReplace(head, oldEntry, oldEntry.next))) {
+                size.decrementAndGet();
                 return true;
             }
         }
-        return false;
     }
 
     public V getFirst(Predicate<K1> p1, Predicate<K2> p2) {
-        for (Entry entry : table) {
-            while (entry != null) {
-                if (p1.test((K1) entry.k1) && p2.test((K2) entry.k2)) {
-                    return (V) entry.v;
-                }
-                entry = entry.next;
+        AtomicReferenceArray<Entry> table = this.table;
+        for (int i = 0; i < table.length(); i++) {
+            Entry entry = getFirst(table, i, p1, p2);
+            if (entry != null) {
+                return (V) entry.v;
             }
         }
         return null;
     }
 
     public int size() {
-        Entry[] table = this.table;
-        int n = 0;
-        if (table != null) {
-            for (Entry e : table) {
-                for (Entry c = e; c != null; c = c.next) {
-                    n++;
+        return size.get();
+    }
+
+    public synchronized void clear() {
+        AtomicReferenceArray<Entry> table = this.table;
+        AtomicReferenceArray<Entry> next = new AtomicReferenceArray<>(table.length());
+        // mark each bucket as moved to the new empty table, so updates which race with clearing the map are either
+        // cleared (and subtracted from the size) or forwarded to the new table, but never lost or left behind
+        Forward forward = new Forward(next);
+        for (int i = 0; i < table.length(); i++) {
+            for (;;) {
+                Entry head = table.get(i);
+                if (table.compareAndSet(i, head, forward)) {
+                    int removed = 0;
+                    for (Entry entry = head; entry != null; entry = entry.next) {
+                        removed++;
+                    }
+                    if (removed > 0) {
+                        size.addAndGet(-removed);
+                    }
+                    break;
                 }
             }
         }
-        return n;
+        this.table = next;
     }
 
-    public synchronized void clear() {
-        this.table = new Entry[table.length];
+    private Entry find(Object k1, Object k2) {
+        int hash = hash(k1, k2);
+        AtomicReferenceArray<Entry> table = this.table;
+        Entry entry = table.get(hash & (table.length() - 1));
+        while (entry instanceof Forward) {
+            table = ((Forward) entry).table;
+            entry = table.get(hash & (table.length() - 1));
+        }
+        for (; entry != null; entry = entry.next) {
+            if (k1 == entry.k1 && k2 == entry.k2) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void forEach(AtomicReferenceArray<Entry> table, int index, TriConsumer<K1, K2, V> consumer) {
+        Entry entry = table.get(index);
+        if (entry instanceof Forward) {
+            // the bucket has been split into two buckets in the next table (unless the map has been cleared)
+            AtomicReferenceArray<Entry> next = ((Forward) entry).table;
+            forEach(next, index, consumer);
+            if (next.length() > table.length()) {
+                forEach(next, index + table.length(), consumer);
+            }
+            return;
+        }
+        for (; entry != null; entry = entry.next) {
+            consumer.accept((K1) entry.k1, (K2) entry.k2, (V) entry.v);
+        }
+    }
+
+    private Entry getFirst(AtomicReferenceArray<Entry> table, int index, Predicate<K1> p1, Predicate<K2> p2) {
+        Entry entry = table.get(index);
+        if (entry instanceof Forward) {
+            // the bucket has been split into two buckets in the next table (unless the map has been cleared)
+            AtomicReferenceArray<Entry> next = ((Forward) entry).table;
+            Entry answer = getFirst(next, index, p1, p2);
+            if (answer == null && next.length() > table.length()) {
+                answer = getFirst(next, index + table.length(), p1, p2);
+            }
+            return answer;
+        }
+        for (; entry != null; entry = entry.next) {
+            if (p1.test((K1) entry.k1) && p2.test((K2) entry.k2)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void resize(AtomicReferenceArray<Entry> table) {
+        if (table != this.table || table.length() >= MAX_TABLE_SIZE) {
+            // another thread has already resized (or cleared) the table
+            return;
+        }
+        int length = table.length();
+        AtomicReferenceArray<Entry> next = new AtomicReferenceArray<>(length << 1);
+        Forward forward = new Forward(next);
+        for (int i = 0; i < length; i++) {
+            for (;;) {
+                // split the bucket in two buckets in the next table, which are not visible to other threads
+                // until the bucket is marked as moved
+                Entry head = table.get(i);
+                Entry low = null;
+                Entry high = null;
+                for (Entry entry = head; entry != null; entry = entry.next) {
+                    if ((hash(entry.k1, entry.k2) & length) == 0) {
+                        low = new Entry(entry.k1, entry.k2, entry.v, low);
+                    } else {
+                        high = new Entry(entry.k1, entry.k2, entry.v, high);
+                    }
+                }
+                next.set(i, low);
+                next.set(i + length, high);
+                if (table.compareAndSet(i, head, forward)) {
+                    break;
+                }
+            }
+        }
+        this.table = next;
+    }
+
+    private static Entry copyAndReplace(Entry head, Entry oldEntry, Entry replacement) {
+        if (head == oldEntry) {
+            return replacement;
+        }
+        return new Entry(head.k1, head.k2, head.v, copyAndReplace(head.next, oldEntry, replacement));
+    }
+
+    static int hash(Object k1, Object k2) {
+        return smear(k1.hashCode() * 31 + k2.hashCode());
     }
 
     static int smear(int hashCode) {
@@ -51,6 +51,10 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    public String getPattern() {
+        return pattern;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
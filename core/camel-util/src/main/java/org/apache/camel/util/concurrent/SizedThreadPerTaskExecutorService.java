@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sized {@link ExecutorService} which limits the number of tasks in flight for an executor that starts a new thread
+ * per task (such as virtual threads).
+ * <p/>
+ * An executor that starts a new thread per task has no task queue, and would therefore accept any number of tasks. This
+ * class wraps such an executor to apply the {@link ThreadPoolRejectedPolicy} when the upper limit of tasks in flight
+ * has been reached, the same way as a regular thread pool does when its task queue is full.
+ * <p/>
+ * As there is no task queue, then the {@link ThreadPoolRejectedPolicy#DiscardOldest} policy cannot discard an older
+ * task, and therefore discards the new task instead.
+ */
+public class SizedThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SizedThreadPerTaskExecutorService.class);
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxTasks;
+    private final ThreadPoolRejectedPolicy rejectedPolicy;
+
+    /**
+     * Creates a new sized {@link ExecutorService} with the given upper limit of tasks in flight.
+     *
+     * @param delegate       the delegate which starts a new thread per task
+     * @param maxTasks       the upper limit of tasks in flight, use 0 or negative value for unlimited
+     * @param rejectedPolicy the policy to apply for tasks which are rejected, or <tt>null</tt> to use
+     *                       {@link ThreadPoolRejectedPolicy#CallerRuns}
+     */
+    public SizedThreadPerTaskExecutorService(ExecutorService delegate, int maxTasks,
+                                             ThreadPoolRejectedPolicy rejectedPolicy) {
+        this.delegate = delegate;
+        this.maxTasks = maxTasks;
+        this.permits = maxTasks > 0 ? new Semaphore(maxTasks) : null;
+        this.rejectedPolicy = rejectedPolicy != null ? rejectedPolicy : ThreadPoolRejectedPolicy.CallerRuns;
+    }
+
+    /**
+     * Gets the wrapped {@link ExecutorService}
+     */
+    public ExecutorService getExecutorService() {
+        return delegate;
+    }
+
+    /**
+     * The upper limit of tasks in flight, or 0 or negative value for unlimited
+     */
+    public int getMaxTasks() {
+        return maxTasks;
+    }
+
+    /**
+     * The number of tasks currently in flight
+     */
+    public int getActiveCount() {
+        return permits != null ? maxTasks - permits.availablePermits() : -1;
+    }
+
+    public ThreadPoolRejectedPolicy getRejectedPolicy() {
+        return rejectedPolicy;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (permits == null) {
+            delegate.execute(task);
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            LOG.trace("Task rejected due max tasks limit {} reached", maxTasks);
+            rejectedExecution(task);
+            return;
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    protected void rejectedExecution(Runnable task) {
+        switch (rejectedPolicy) {
+            case CallerRuns:
+                if (!isShutdown()) {
+                    task.run();
+                }
+                break;
+            case Discard:
+            case DiscardOldest:
+                if (task instanceof Rejectable) {
+                    ((Rejectable) task).reject();
+                }
+                break;
+            default:
+                if (task instanceof Rejectable) {
+                    ((Rejectable) task).reject();
+                } else {
+                    throw new RejectedExecutionException("Task " + task + " rejected from " + this);
+                }
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, timeUnit);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "[maxTasks=" + maxTasks + ", rejectedPolicy=" + rejectedPolicy + "]";
+    }
+}
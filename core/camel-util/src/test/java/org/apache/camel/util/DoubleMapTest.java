@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        DoubleMap<String, String, Integer> map = new DoubleMap<>(4);
+        String a = "a";
+        String b = "b";
+
+        map.put(a, b, 1);
+        assertEquals(1, map.get(a, b));
+        assertTrue(map.containsKey(a, b));
+        assertNull(map.get(b, a));
+        assertEquals(1, map.size());
+
+        // replace existing value
+        map.put(a, b, 2);
+        assertEquals(2, map.get(a, b));
+        assertEquals(1, map.size());
+
+        assertTrue(map.remove(a, b));
+        assertFalse(map.remove(a, b));
+        assertFalse(map.containsKey(a, b));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testGrow() {
+        DoubleMap<Integer, Integer, Integer> map = new DoubleMap<>(2);
+        Integer[] keys = new Integer[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], keys[keys.length - 1 - i], i);
+        }
+        assertEquals(keys.length, map.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i], keys[keys.length - 1 - i]));
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        map.forEach((k1, k2, v) -> count.incrementAndGet());
+        assertEquals(keys.length, count.get());
+
+        assertEquals(500, map.getFirst(k1 -> k1 == 500, k2 -> true));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(keys[0], keys[keys.length - 1]));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        DoubleMap<Integer, Integer, Integer> map = new DoubleMap<>(2);
+        Integer[] keys = new Integer[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                tasks.add(() -> {
+                    // each thread adds its own keys while the map is growing, and reads back all keys it has added
+                    for (int i = offset; i < keys.length; i += threads) {
+                        map.put(keys[i], keys[offset], i);
+                        for (int j = offset; j <= i; j += threads) {
+                            if (map.get(keys[j], keys[offset]) == null) {
+                                throw new IllegalStateException("Lost entry " + j);
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(keys.length, map.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i], keys[i % threads]));
+        }
+    }
+
+    @Test
+    public void testConcurrentClear() throws Exception {
+        DoubleMap<Integer, Integer, Integer> map = new DoubleMap<>(2);
+        Integer[] keys = new Integer[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            AtomicBoolean done = new AtomicBoolean();
+            Future<?> clearer = executor.submit(() -> {
+                while (!done.get()) {
+                    map.clear();
+                }
+            });
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                tasks.add(() -> {
+                    for (int i = offset; i < keys.length; i += threads) {
+                        map.put(keys[i], keys[offset], i);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+            done.set(true);
+            clearer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the size must match the entries which survived clearing
+        AtomicInteger count = new AtomicInteger();
+        map.forEach((k1, k2, v) -> count.incrementAndGet());
+        assertEquals(count.get(), map.size());
+
+        // and entries added after clearing must not be lost
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], keys[i % threads], i);
+        }
+        assertEquals(keys.length, map.size());
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(keys[0], keys[0]));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SizedThreadPerTaskExecutorServiceTest {
+
+    @Test
+    public void testAbort() throws Exception {
+        SizedThreadPerTaskExecutorService sized = new SizedThreadPerTaskExecutorService(
+                Executors.newCachedThreadPool(), 2, ThreadPoolRejectedPolicy.Abort);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?> f1 = sized.submit(() -> awaitLatch(latch));
+        Future<?> f2 = sized.submit(() -> awaitLatch(latch));
+        assertEquals(2, sized.getActiveCount());
+
+        assertThrows(RejectedExecutionException.class, () -> sized.submit(() -> awaitLatch(latch)));
+
+        latch.countDown();
+        f1.get(5, TimeUnit.SECONDS);
+        f2.get(5, TimeUnit.SECONDS);
+
+        sized.shutdownNow();
+        assertTrue(sized.isShutdown(), "Should be shutdown");
+    }
+
+    @Test
+    public void testCallerRuns() throws Exception {
+        SizedThreadPerTaskExecutorService sized = new SizedThreadPerTaskExecutorService(
+                Executors.newCachedThreadPool(), 1, null);
+        assertEquals(ThreadPoolRejectedPolicy.CallerRuns, sized.getRejectedPolicy());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        sized.submit(() -> awaitLatch(latch));
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        sized.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        assertEquals(Thread.currentThread(), thread.get(), "Should run in caller thread");
+
+        latch.countDown();
+        sized.shutdownNow();
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        SizedThreadPerTaskExecutorService sized = new SizedThreadPerTaskExecutorService(
+                Executors.newCachedThreadPool(), 1, ThreadPoolRejectedPolicy.Discard);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        sized.execute(() -> awaitLatch(latch));
+
+        CountDownLatch discarded = new CountDownLatch(1);
+        sized.execute(discarded::countDown);
+        latch.countDown();
+
+        assertEquals(1, discarded.getCount(), "Task should be discarded");
+        sized.shutdownNow();
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -95,6 +95,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
@@ -1331,6 +1332,8 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "inflightOrdered": def.setInflightOrdered(val); break;
+                case "maxInflight": def.setMaxInflight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -1366,6 +1369,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); break;
                 case "rejectedPolicy": def.setRejectedPolicy(val); break;
                 case "timeUnit": def.setTimeUnit(val); break;
+                case "virtualThreads": def.setVirtualThreads(val); break;
                 default: return optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1393,8 +1397,10 @@ public class ModelParser extends BaseParser {
         return doParse(new ThrottleDefinition(), (def, key, val) -> {
             switch (key) {
                 case "asyncDelayed": def.setAsyncDelayed(val); break;
+                case "burstCapacity": def.setBurstCapacity(val); break;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "mode": def.setMode(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -1827,6 +1833,7 @@ public class ModelParser extends BaseParser {
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); break;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); break;
                 case "rejectOld": def.setRejectOld(val); break;
+                case "ringBuffer": def.setRingBuffer(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return false;
             }
@@ -801,6 +801,31 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * Number of worker threads used for processing the polled records in
+         * parallel, with an ordered lane per partition. The records of a
+         * partition are still processed one at a time in the order they were
+         * polled, but a slow partition no longer holds back the other
+         * partitions assigned to the consumer. When auto commit is enabled,
+         * only the highest contiguous offset that has been processed is
+         * committed for each partition, and the auto commit of the Kafka client
+         * itself is turned off. When using manual commits, then the async
+         * commit factory must be used, as the Kafka consumer cannot be accessed
+         * from the worker threads. The default is 0, which processes the
+         * records on the consumer thread.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitionWorkerPoolSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder partitionWorkerPoolSize(
+                int partitionWorkerPoolSize) {
+            doSetProperty("partitionWorkerPoolSize", partitionWorkerPoolSize);
+            return this;
+        }
         /**
          * To use a custom strategy with the consumer to control how to handle
          * exceptions thrown from the Kafka broker while pooling messages.
@@ -2047,6 +2072,7 @@ public interface KafkaComponentBuilderFactory {
             case "topicIsPattern": getOrCreateConfiguration((KafkaComponent) component).setTopicIsPattern((boolean) value); return true;
             case "valueDeserializer": getOrCreateConfiguration((KafkaComponent) component).setValueDeserializer((java.lang.String) value); return true;
             case "kafkaManualCommitFactory": ((KafkaComponent) component).setKafkaManualCommitFactory((org.apache.camel.component.kafka.consumer.KafkaManualCommitFactory) value); return true;
+            case "partitionWorkerPoolSize": getOrCreateConfiguration((KafkaComponent) component).setPartitionWorkerPoolSize((int) value); return true;
             case "pollExceptionStrategy": ((KafkaComponent) component).setPollExceptionStrategy((org.apache.camel.component.kafka.PollExceptionStrategy) value); return true;
             case "bufferMemorySize": getOrCreateConfiguration((KafkaComponent) component).setBufferMemorySize((java.lang.Integer) value); return true;
             case "compressionCodec": getOrCreateConfiguration((KafkaComponent) component).setCompressionCodec((java.lang.String) value); return true;
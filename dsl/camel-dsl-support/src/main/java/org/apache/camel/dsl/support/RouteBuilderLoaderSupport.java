@@ -57,20 +57,52 @@ public abstract class RouteBuilderLoaderSupport extends RoutesBuilderLoaderSuppo
 
     @Override
     public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
-        final RouteBuilder builder = doLoadRouteBuilder(resource);
-        CamelContextAware.trySetCamelContext(builder, getCamelContext());
-        builder.setResource(resource);
-
+        final RouteBuilder builder;
         if (recorder != null) {
+            // the resource may be parsed in parallel with other resources, so the step is ended by the same thread
             StartupStep step = recorder.beginStep(
                     getClass(),
                     resource.getLocation(),
-                    "Loading route from: " + resource.getLocation());
+                    "Parsing route from: " + resource.getLocation());
+            try {
+                builder = doLoadRouteBuilder(resource);
+            } finally {
+                recorder.endStep(step);
+            }
+        } else {
+            builder = doLoadRouteBuilder(resource);
+        }
+        CamelContextAware.trySetCamelContext(builder, getCamelContext());
+        builder.setResource(resource);
 
+        if (recorder != null) {
+            final Class<?> type = getClass();
             builder.addLifecycleInterceptor(new RouteBuilderLifecycleStrategy() {
+                private StartupStep step;
+
+                @Override
+                public void beforeConfigure(RouteBuilder builder) {
+                    step = recorder.beginStep(
+                            type,
+                            resource.getLocation(),
+                            "Loading route from: " + resource.getLocation());
+                }
+
                 @Override
                 public void afterConfigure(RouteBuilder builder) {
-                    step.endStep();
+                    endStep();
+                }
+
+                @Override
+                public void onConfigureFailure(RouteBuilder builder, Exception cause) {
+                    endStep();
+                }
+
+                private void endStep() {
+                    if (step != null) {
+                        recorder.endStep(step);
+                        step = null;
+                    }
                 }
             });
         }
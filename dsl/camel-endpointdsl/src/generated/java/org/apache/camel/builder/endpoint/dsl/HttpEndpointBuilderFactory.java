@@ -987,6 +987,49 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("httpBinding", httpBinding);
             return this;
         }
+        /**
+         * Whether the producer should send requests using the non blocking JDK
+         * HttpClient, instead of the blocking Apache HttpClient. The producer
+         * then completes the exchange asynchronously when the response is
+         * received, so no thread is blocked while waiting for slow servers. The
+         * number of concurrent requests is limited by maxTotalConnections.
+         * Notice the Apache HttpClient specific options such as
+         * httpClientConfigurer, httpContext and cookieStore are not in use.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(boolean asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should send requests using the non blocking JDK
+         * HttpClient, instead of the blocking Apache HttpClient. The producer
+         * then completes the exchange asynchronously when the response is
+         * received, so no thread is blocked while waiting for slow servers. The
+         * number of concurrent requests is limited by maxTotalConnections.
+         * Notice the Apache HttpClient specific options such as
+         * httpClientConfigurer, httpContext and cookieStore are not in use.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(String asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
         /**
          * Configure a cookie handler to maintain a HTTP session.
          * 
@@ -1890,6 +1890,56 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * Number of worker threads used for processing the polled records in
+         * parallel, with an ordered lane per partition. The records of a
+         * partition are still processed one at a time in the order they were
+         * polled, but a slow partition no longer holds back the other
+         * partitions assigned to the consumer. When auto commit is enabled,
+         * only the highest contiguous offset that has been processed is
+         * committed for each partition, and the auto commit of the Kafka client
+         * itself is turned off. When using manual commits, then the async
+         * commit factory must be used, as the Kafka consumer cannot be accessed
+         * from the worker threads. The default is 0, which processes the
+         * records on the consumer thread.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitionWorkerPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder partitionWorkerPoolSize(
+                int partitionWorkerPoolSize) {
+            doSetProperty("partitionWorkerPoolSize", partitionWorkerPoolSize);
+            return this;
+        }
+        /**
+         * Number of worker threads used for processing the polled records in
+         * parallel, with an ordered lane per partition. The records of a
+         * partition are still processed one at a time in the order they were
+         * polled, but a slow partition no longer holds back the other
+         * partitions assigned to the consumer. When auto commit is enabled,
+         * only the highest contiguous offset that has been processed is
+         * committed for each partition, and the auto commit of the Kafka client
+         * itself is turned off. When using manual commits, then the async
+         * commit factory must be used, as the Kafka consumer cannot be accessed
+         * from the worker threads. The default is 0, which processes the
+         * records on the consumer thread.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitionWorkerPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder partitionWorkerPoolSize(
+                String partitionWorkerPoolSize) {
+            doSetProperty("partitionWorkerPoolSize", partitionWorkerPoolSize);
+            return this;
+        }
         /**
          * Factory to use for creating
          * org.apache.kafka.clients.consumer.KafkaConsumer and
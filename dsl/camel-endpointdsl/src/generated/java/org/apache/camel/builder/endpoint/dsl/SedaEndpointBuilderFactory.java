@@ -165,6 +165,128 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether to process a batch as a single exchange, which has a
+         * java.util.List of the queued exchanges as message body, instead of
+         * processing the queued exchanges one by one. The queued exchanges are
+         * completed (or failed) when the batch exchange is done. Queued
+         * exchanges with InOut pattern are failed, as the batch exchange cannot
+         * reply to each of them. This option is only in use when batchSize is
+         * higher than 1.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchExchange the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchExchange(
+                boolean batchExchange) {
+            doSetProperty("batchExchange", batchExchange);
+            return this;
+        }
+        /**
+         * Whether to process a batch as a single exchange, which has a
+         * java.util.List of the queued exchanges as message body, instead of
+         * processing the queued exchanges one by one. The queued exchanges are
+         * completed (or failed) when the batch exchange is done. Queued
+         * exchanges with InOut pattern are failed, as the batch exchange cannot
+         * reply to each of them. This option is only in use when batchSize is
+         * higher than 1.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchExchange the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchExchange(
+                String batchExchange) {
+            doSetProperty("batchExchange", batchExchange);
+            return this;
+        }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue at once, which are then processed one after the other (in the
+         * order they were queued) by the same thread. This reduces the overhead
+         * of polling the queue when there are many small messages. The messages
+         * are processed as a batch with the batch exchange properties
+         * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue at once, which are then processed one after the other (in the
+         * order they were queued) by the same thread. This reduces the overhead
+         * of polling the queue when there are many small messages. The messages
+         * are processed as a batch with the batch exchange properties
+         * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(
+                String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The time (in milliseconds) a consumer thread waits for more messages
+         * to arrive when the batch has not been filled up to the batchSize. By
+         * default the consumer does not wait, and processes the messages that
+         * were on the queue.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                int batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The time (in milliseconds) a consumer thread waits for more messages
+         * to arrive when the batch has not been filled up to the batchSize. By
+         * default the consumer does not wait, and processes the messages that
+         * were on the queue.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -16,7 +16,10 @@
  */
 package org.apache.camel.dsl.xml.io;
 
+import java.util.Optional;
+
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.builder.RouteConfigurationBuilder;
@@ -25,7 +28,9 @@ import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.RouteConfigurationDefinition;
 import org.apache.camel.model.RouteConfigurationsDefinition;
 import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplatesDefinition;
 import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.annotations.RoutesLoader;
 import org.apache.camel.xml.in.ModelParser;
@@ -40,37 +45,39 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
         super(EXTENSION);
     }
 
+    @Override
+    public boolean isParallelLoadingSupported() {
+        // the resources are parsed into the model without using the CamelContext
+        return true;
+    }
+
     @Override
     public RouteBuilder doLoadRouteBuilder(Resource resource) throws Exception {
+        // when loading resources in parallel then parse the routes up front by the loading thread,
+        // otherwise the routes are parsed when the builder is configured
+        final boolean parallel = isParallelLoading();
+        final XmlDefinitions parsed = parallel ? new XmlDefinitions(resource) : null;
+        final Optional<RouteConfigurationsDefinition> parsedConfigurations
+                = parallel ? new ModelParser(resource).parseRouteConfigurationsDefinition() : null;
+
         return new RouteConfigurationBuilder() {
             @Override
             public void configure() throws Exception {
                 // we use configure to load the routes (with namespace and without namespace)
-                new ModelParser(resource, NAMESPACE)
-                        .parseRouteTemplatesDefinition()
-                        .ifPresent(this::setRouteTemplateCollection);
-                new ModelParser(resource, NAMESPACE)
-                        .parseRestsDefinition()
-                        .ifPresent(this::setRestCollection);
-                new ModelParser(resource, NAMESPACE)
-                        .parseRoutesDefinition()
-                        .ifPresent(this::addRoutes);
-                new ModelParser(resource)
-                        .parseRouteTemplatesDefinition()
-                        .ifPresent(this::setRouteTemplateCollection);
-                new ModelParser(resource)
-                        .parseRestsDefinition()
-                        .ifPresent(this::setRestCollection);
-                new ModelParser(resource)
-                        .parseRoutesDefinition()
-                        .ifPresent(this::addRoutes);
+                XmlDefinitions xml = parsed != null ? parsed : new XmlDefinitions(resource);
+                xml.templatesNs.ifPresent(this::setRouteTemplateCollection);
+                xml.restsNs.ifPresent(this::setRestCollection);
+                xml.routesNs.ifPresent(this::addRoutes);
+                xml.templates.ifPresent(this::setRouteTemplateCollection);
+                xml.rests.ifPresent(this::setRestCollection);
+                xml.routes.ifPresent(this::addRoutes);
             }
 
             @Override
             public void configuration() throws Exception {
-                new ModelParser(resource)
-                        .parseRouteConfigurationsDefinition()
-                        .ifPresent(this::addConfigurations);
+                Optional<RouteConfigurationsDefinition> configurations = parsedConfigurations != null
+                        ? parsedConfigurations : new ModelParser(resource).parseRouteConfigurationsDefinition();
+                configurations.ifPresent(this::addConfigurations);
             }
 
             private void addRoutes(RoutesDefinition routes) {
@@ -91,4 +98,30 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
             }
         };
     }
+
+    private boolean isParallelLoading() {
+        return getCamelContext() != null
+                && getCamelContext().adapt(ExtendedCamelContext.class).getRoutesLoader().isParallelLoading();
+    }
+
+    /**
+     * The templates, rests and routes parsed from the resource (with namespace and without namespace).
+     */
+    private static final class XmlDefinitions {
+        private final Optional<RouteTemplatesDefinition> templatesNs;
+        private final Optional<RestsDefinition> restsNs;
+        private final Optional<RoutesDefinition> routesNs;
+        private final Optional<RouteTemplatesDefinition> templates;
+        private final Optional<RestsDefinition> rests;
+        private final Optional<RoutesDefinition> routes;
+
+        XmlDefinitions(Resource resource) throws Exception {
+            templatesNs = new ModelParser(resource, NAMESPACE).parseRouteTemplatesDefinition();
+            restsNs = new ModelParser(resource, NAMESPACE).parseRestsDefinition();
+            routesNs = new ModelParser(resource, NAMESPACE).parseRoutesDefinition();
+            templates = new ModelParser(resource).parseRouteTemplatesDefinition();
+            rests = new ModelParser(resource).parseRestsDefinition();
+            routes = new ModelParser(resource).parseRoutesDefinition();
+        }
+    }
 }
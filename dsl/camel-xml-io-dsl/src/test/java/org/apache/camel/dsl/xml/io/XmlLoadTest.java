@@ -16,15 +16,40 @@
  */
 package org.apache.camel.dsl.xml.io;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.ResourceSupport;
+import org.apache.camel.support.RoutesBuilderLoaderSupport;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class XmlLoadTest {
     @Test
@@ -92,4 +117,236 @@ public class XmlLoadTest {
             bar.assertIsSatisfied();
         }
     }
+
+    @Test
+    public void testLoadRoutesBuilderFromXmlParallel() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.start();
+
+            // load routes from XML in parallel and add them to the existing camel context
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            ecc.getRoutesLoader().setParallelLoading(true);
+            Resource bar = ecc.getResourceLoader().resolveResource(
+                    "/org/apache/camel/dsl/xml/io/barRoute.xml");
+            Resource bar2 = ecc.getResourceLoader().resolveResource(
+                    "/org/apache/camel/dsl/xml/io/bar2.xml");
+
+            ecc.getRoutesLoader().loadRoutes(bar, bar2);
+
+            assertEquals(2, context.getRoutes().size());
+            // the routes are added in the same order as the resources
+            ModelCamelContext mcc = context.adapt(ModelCamelContext.class);
+            assertEquals("bar", mcc.getRouteDefinitions().get(0).getRouteId());
+            assertEquals("bar2", mcc.getRouteDefinitions().get(1).getRouteId());
+
+            // test that loaded routes works
+            MockEndpoint mock = context.getEndpoint("mock:bar", MockEndpoint.class);
+            mock.expectedBodiesReceived("Bye World");
+            MockEndpoint mock2 = context.getEndpoint("mock:bar2", MockEndpoint.class);
+            mock2.expectedBodiesReceived("Hi World");
+            context.createProducerTemplate().sendBody("direct:bar", "Bye World");
+            context.createProducerTemplate().sendBody("direct:bar2", "Hi World");
+            mock.assertIsSatisfied();
+            mock2.assertIsSatisfied();
+        }
+    }
+
+    @Test
+    public void testLoadRoutesBuilderFromXmlParallelConcurrently() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.start();
+
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            ecc.getRoutesLoader().setParallelLoading(true);
+            ecc.getRoutesLoader().setParallelLoadingPoolSize(2);
+
+            // each resource waits for the other resource to be read, so they must be loaded at the same time
+            CountDownLatch latch = new CountDownLatch(2);
+            AtomicBoolean overlapped = new AtomicBoolean(true);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            Resource[] resources = new Resource[2];
+            for (int i = 0; i < resources.length; i++) {
+                AtomicBoolean first = new AtomicBoolean(true);
+                resources[i] = new TestResource("route" + i + ".xml", routeXml("route" + i)) {
+                    @Override
+                    protected void onRead() throws IOException {
+                        if (first.compareAndSet(true, false)) {
+                            threads.add(Thread.currentThread().getName());
+                            latch.countDown();
+                            try {
+                                if (!latch.await(10, TimeUnit.SECONDS)) {
+                                    overlapped.set(false);
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IOException(e);
+                            }
+                        }
+                    }
+                };
+            }
+
+            ecc.getRoutesLoader().loadRoutes(resources);
+
+            assertTrue(overlapped.get(), "The resources should be loaded concurrently");
+            assertEquals(2, threads.size());
+            assertFalse(threads.contains(Thread.currentThread().getName()));
+            assertEquals(List.of("route0", "route1"), routeIds(context));
+        }
+    }
+
+    @Test
+    public void testLoadRoutesBuilderParallelMixedLoaders() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            // a loader which does not support parallel loading
+            List<String> callers = new CopyOnWriteArrayList<>();
+            context.getRegistry().bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + "test",
+                    new RoutesBuilderLoaderSupport() {
+                        @Override
+                        public String getSupportedExtension() {
+                            return "test";
+                        }
+
+                        @Override
+                        public RoutesBuilder loadRoutesBuilder(Resource resource) {
+                            callers.add(Thread.currentThread().getName());
+                            String id = resource.getLocation().substring(0, resource.getLocation().indexOf('.'));
+                            return new RouteBuilder() {
+                                @Override
+                                public void configure() {
+                                    from("direct:" + id).routeId(id).to("mock:" + id);
+                                }
+                            };
+                        }
+                    });
+            context.start();
+
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            ecc.getRoutesLoader().setParallelLoading(true);
+
+            ecc.getRoutesLoader().loadRoutes(
+                    new TestResource("a.xml", routeXml("a")),
+                    new TestResource("b.test", ""),
+                    new TestResource("c.xml", routeXml("c")),
+                    new TestResource("d.test", ""),
+                    new TestResource("e.xml", routeXml("e")));
+
+            // the routes are added in the same order as the resources
+            assertEquals(List.of("a", "b", "c", "d", "e"), routeIds(context));
+            // and the resources of the other loader are loaded by the caller
+            assertEquals(List.of(Thread.currentThread().getName(), Thread.currentThread().getName()), callers);
+        }
+    }
+
+    @Test
+    public void testLoadRoutesBuilderFromXmlParallelFailure() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.start();
+
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            ecc.getRoutesLoader().setParallelLoading(true);
+
+            // the first resource fails after the second resource
+            Resource first = new TestResource("first.xml", routeXml("first")) {
+                @Override
+                protected void onRead() throws IOException {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("Cannot read first.xml");
+                }
+            };
+            Resource second = new TestResource("second.xml", routeXml("second")) {
+                @Override
+                protected void onRead() throws IOException {
+                    throw new IOException("Cannot read second.xml");
+                }
+            };
+
+            // the error of the first resource in order is thrown
+            IOException e = assertThrows(IOException.class,
+                    () -> ecc.getRoutesLoader().loadRoutes(first, new TestResource("ok.xml", routeXml("ok")), second));
+            assertEquals("Cannot read first.xml", e.getMessage());
+            assertEquals(0, context.getRoutes().size());
+        }
+    }
+
+    @Test
+    public void testLoadRoutesBuilderFromXmlParsedWhenParallel() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.start();
+
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            AtomicInteger reads = new AtomicInteger();
+            Resource resource = new TestResource("lazy.xml", routeXml("lazy")) {
+                @Override
+                protected void onRead() {
+                    reads.incrementAndGet();
+                }
+            };
+
+            // the resource is not parsed until the builder is configured
+            ecc.getRoutesLoader().findRoutesBuilders(resource);
+            assertEquals(0, reads.get());
+
+            // when loading in parallel then the resource is parsed up front by the loading thread
+            ecc.getRoutesLoader().setParallelLoading(true);
+            ecc.getRoutesLoader().findRoutesBuilders(resource);
+            assertTrue(reads.get() > 0);
+        }
+    }
+
+    @Test
+    public void testLoadRoutesBuilderFromXmlFailureEndsStep() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+            StartupStepRecorder recorder = ecc.getStartupStepRecorder();
+            recorder.setEnabled(true);
+            context.start();
+
+            // the resource is parsed when the builder is configured which then fails
+            Resource resource = new TestResource("invalid.xml", "<routes><route id=\"invalid\"><unknown/></route></routes>");
+            assertThrows(Exception.class, () -> ecc.getRoutesLoader().loadRoutes(resource));
+
+            // the step for loading the routes is ended
+            assertNull(recorder.getCurrentStep());
+        }
+    }
+
+    private static String routeXml(String id) {
+        return "<routes><route id=\"" + id + "\"><from uri=\"direct:" + id + "\"/><to uri=\"mock:" + id
+               + "\"/></route></routes>";
+    }
+
+    private static List<String> routeIds(DefaultCamelContext context) {
+        return context.adapt(ModelCamelContext.class).getRouteDefinitions().stream()
+                .map(RouteDefinition::getRouteId)
+                .collect(Collectors.toList());
+    }
+
+    private static class TestResource extends ResourceSupport {
+        private final String content;
+
+        TestResource(String location, String content) {
+            super("mem", location);
+            this.content = content;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            onRead();
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        protected void onRead() throws IOException {
+            // noop
+        }
+    }
 }
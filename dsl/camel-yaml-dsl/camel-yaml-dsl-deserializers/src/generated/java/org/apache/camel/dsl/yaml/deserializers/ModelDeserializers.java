@@ -320,6 +320,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "ignore-invalid-correlation-keys", type = "boolean"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "lock-stripes", type = "number"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -449,6 +450,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "lock-stripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimistic-lock-retry-policy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -14965,7 +14971,9 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executor-service-ref", type = "string"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "inflight-ordered", type = "boolean"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-inflight", type = "number"),
                     @YamlProperty(name = "on-prepare-ref", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -15009,11 +15017,21 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "inflight-ordered": {
+                    String val = asText(node);
+                    target.setInflightOrdered(val);
+                    break;
+                }
                 case "inherit-error-handler": {
                     String val = asText(node);
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-inflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "on-prepare-ref": {
                     String val = asText(node);
                     target.setOnPrepareRef(val);
@@ -15300,6 +15318,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "delivery-attempt-interval", type = "string"),
                     @YamlProperty(name = "ignore-invalid-exchanges", type = "boolean"),
                     @YamlProperty(name = "reject-old", type = "boolean"),
+                    @YamlProperty(name = "ring-buffer", type = "boolean"),
                     @YamlProperty(name = "timeout", type = "string")
             }
     )
@@ -15342,6 +15361,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setRejectOld(val);
                     break;
                 }
+                case "ring-buffer": {
+                    String val = asText(node);
+                    target.setRingBuffer(val);
+                    break;
+                }
                 case "timeout": {
                     String val = asText(node);
                     target.setTimeout(val);
@@ -15467,7 +15491,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "max-queue-size", type = "number"),
                     @YamlProperty(name = "pool-size", type = "number"),
                     @YamlProperty(name = "rejected-policy", type = "string"),
-                    @YamlProperty(name = "time-unit", type = "string")
+                    @YamlProperty(name = "time-unit", type = "string"),
+                    @YamlProperty(name = "virtual-threads", type = "boolean")
             }
     )
     public static class ThreadPoolProfileDefinitionDeserializer extends YamlDeserializerBase<ThreadPoolProfileDefinition> {
@@ -15524,6 +15549,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeUnit(val);
                     break;
                 }
+                case "virtual-threads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -15715,6 +15745,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             properties = {
                     @YamlProperty(name = "__extends", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "async-delayed", type = "boolean"),
+                    @YamlProperty(name = "burst-capacity", type = "number"),
                     @YamlProperty(name = "caller-runs-when-rejected", type = "boolean"),
                     @YamlProperty(name = "correlation-expression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition"),
                     @YamlProperty(name = "description", type = "string"),
@@ -15722,6 +15753,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "mode", type = "string"),
                     @YamlProperty(name = "reject-execution", type = "boolean"),
                     @YamlProperty(name = "time-period-millis", type = "string")
             }
@@ -15745,6 +15777,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setAsyncDelayed(val);
                     break;
                 }
+                case "burst-capacity": {
+                    String val = asText(node);
+                    target.setBurstCapacity(val);
+                    break;
+                }
                 case "caller-runs-when-rejected": {
                     String val = asText(node);
                     target.setCallerRunsWhenRejected(val);
@@ -15770,6 +15807,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "mode": {
+                    String val = asText(node);
+                    target.setMode(val);
+                    break;
+                }
                 case "reject-execution": {
                     String val = asText(node);
                     target.setRejectExecution(val);
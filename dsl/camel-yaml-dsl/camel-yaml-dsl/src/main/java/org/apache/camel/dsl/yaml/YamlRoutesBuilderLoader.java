@@ -77,6 +77,12 @@ public class YamlRoutesBuilderLoader extends YamlRoutesBuilderLoaderSupport {
         super(EXTENSION);
     }
 
+    @Override
+    public boolean isParallelLoadingSupported() {
+        // the resources are parsed into yaml nodes which are only deserialized when the builder is configured
+        return true;
+    }
+
     protected RouteBuilder builder(final Node root, final Resource resource) {
 
         // we need to keep track of already configured items as the yaml-dsl returns a
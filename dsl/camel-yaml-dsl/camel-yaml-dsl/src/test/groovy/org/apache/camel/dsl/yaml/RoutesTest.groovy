@@ -186,4 +186,26 @@ class RoutesTest extends YamlTestSupport {
             }
         }
     }
+
+    def "load routes in parallel"() {
+        setup:
+            context.routesLoader.parallelLoading = true
+            context.routesLoader.parallelLoadingPoolSize = 2
+        when:
+            loadRoutes((1..8).collect {
+                """
+                - route:
+                    id: route-${it}
+                    from:
+                      uri: "direct:${it}"
+                      steps:
+                        - log: "${it}"
+                """
+            } as String[])
+        then:
+            context.routeDefinitions.size() == 8
+
+            // the routes are added in the same order as the resources
+            context.routeDefinitions.collect { it.routeId } == (1..8).collect { "route-${it}".toString() }
+    }
 }